@@ -1080,6 +1080,9 @@ CONF_Int16(jdbc_minimum_idle_connections, "1");
 // this setting only applies when jdbc_minimum_idle_connections is less than jdbc_connection_pool_size.
 // The minimum allowed value is 10000(10 seconds).
 CONF_Int32(jdbc_connection_idle_timeout_ms, "600000");
+// whether the jdbc scanner fetches primitive and string columns by typed getters into off-heap buffers,
+// instead of boxing every value into java objects.
+CONF_mBool(jdbc_scanner_enable_off_heap_fetch, "false");
 
 // spill dirs
 CONF_String(spill_local_storage_dir, "${STARROCKS_HOME}/spill");
@@ -78,7 +78,11 @@ static std::string get_jdbc_sql(const Slice jdbc_url, const std::string& table,
 }
 
 JDBCDataSource::JDBCDataSource(const JDBCDataSourceProvider* provider, const TScanRange& scan_range)
-        : _provider(provider) {}
+        : _provider(provider) {
+    if (scan_range.__isset.jdbc_scan_range && scan_range.jdbc_scan_range.__isset.partition_filter) {
+        _partition_filter = scan_range.jdbc_scan_range.partition_filter;
+    }
+}
 
 std::string JDBCDataSource::name() const {
     return "JDBCDataSource";
@@ -150,8 +154,13 @@ Status JDBCDataSource::_create_scanner(RuntimeState* state) {
     scan_ctx.jdbc_url = jdbc_table->jdbc_url();
     scan_ctx.user = jdbc_table->jdbc_user();
     scan_ctx.passwd = jdbc_table->jdbc_passwd();
-    scan_ctx.sql = get_jdbc_sql(scan_ctx.jdbc_url, jdbc_scan_node.table_name, jdbc_scan_node.columns,
-                                jdbc_scan_node.filters, _read_limit);
+    // a scan split into key ranges by FE reads only the rows of its own range
+    std::vector<std::string> filters = jdbc_scan_node.filters;
+    if (!_partition_filter.empty()) {
+        filters.emplace_back(_partition_filter);
+    }
+    scan_ctx.sql = get_jdbc_sql(scan_ctx.jdbc_url, jdbc_scan_node.table_name, jdbc_scan_node.columns, filters,
+                                _read_limit);
     _scanner = _pool->add(new JDBCScanner(scan_ctx, _tuple_desc, _runtime_profile));
 
     RETURN_IF_ERROR(_scanner->open(state));
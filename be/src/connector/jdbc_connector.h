@@ -76,6 +76,7 @@ private:
     ObjectPool* _pool = &_obj_pool;
     RuntimeState* _runtime_state = nullptr;
     JDBCScanner* _scanner = nullptr;
+    std::string _partition_filter;
     int64_t _rows_read = 0;
     int64_t _bytes_read = 0;
 };
@@ -15,16 +15,20 @@
 #include "exec/jdbc_scanner.h"
 
 #include <memory>
+#include <set>
 
 #include "column/column_helper.h"
 #include "column/column_viewer.h"
 #include "column/nullable_column.h"
+#include "column/type_traits.h"
 #include "column/vectorized_fwd.h"
+#include "common/config.h"
 #include "common/statusor.h"
 #include "exprs/cast_expr.h"
 #include "exprs/clone_expr.h"
 #include "exprs/expr.h"
 #include "exprs/expr_context.h"
+#include "gutil/strings/split.h"
 #include "runtime/types.h"
 #include "types/logical_type.h"
 #include "types/type_checker_manager.h"
@@ -56,6 +60,8 @@ Status JDBCScanner::open(RuntimeState* state) {
 
     RETURN_IF_ERROR(_init_jdbc_util());
 
+    RETURN_IF_ERROR(_init_off_heap_columns());
+
     return Status::OK();
 }
 
@@ -269,6 +275,175 @@ Status JDBCScanner::_init_jdbc_util() {
     return Status::OK();
 }
 
+// the type of the off-heap column vector which the java scanner fetches a result column into,
+// nullptr if the column must be fetched as boxed objects.
+static const char* off_heap_column_type(const std::string& java_class, LogicalType type) {
+    static const std::set<std::string> primitive_classes = {"java.lang.Boolean", "java.lang.Byte",
+                                                            "java.lang.Short",   "java.lang.Integer",
+                                                            "java.lang.Long",    "java.lang.Float",
+                                                            "java.lang.Double"};
+    if (primitive_classes.count(java_class) > 0) {
+        switch (type) {
+        case TYPE_BOOLEAN:
+            return "boolean";
+        case TYPE_TINYINT:
+            return "tinyint";
+        case TYPE_SMALLINT:
+            return "smallint";
+        case TYPE_INT:
+            return "int";
+        case TYPE_BIGINT:
+            return "bigint";
+        case TYPE_FLOAT:
+            return "float";
+        case TYPE_DOUBLE:
+            return "double";
+        default:
+            return nullptr;
+        }
+    }
+    if (java_class == "java.lang.String" && type == TYPE_VARCHAR) {
+        return "string";
+    }
+    if ((java_class == "[B" || java_class == "byte[]") && type == TYPE_VARBINARY) {
+        return "binary";
+    }
+    return nullptr;
+}
+
+Status JDBCScanner::_init_off_heap_columns() {
+    _off_heap_columns.assign(_column_class_names.size(), false);
+    if (!config::jdbc_scanner_enable_off_heap_fetch) {
+        return Status::OK();
+    }
+    std::string types;
+    bool has_candidates = false;
+    for (size_t i = 0; i < _column_class_names.size(); i++) {
+        if (i > 0) {
+            types.append(",");
+        }
+        const char* type = off_heap_column_type(_column_class_names[i], _result_column_types[i]);
+        if (type != nullptr) {
+            types.append(type);
+            has_candidates = true;
+        }
+    }
+    if (!has_candidates) {
+        return Status::OK();
+    }
+
+    auto* env = JVMFunctionHelper::getInstance().getEnv();
+    jmethodID set_off_heap_column_types = env->GetMethodID(_jdbc_scanner_cls->clazz(), "setOffHeapColumnTypes",
+                                                           "(Ljava/lang/String;)Ljava/lang/String;");
+    DCHECK(set_off_heap_column_types != nullptr);
+    _scanner_get_off_heap_chunk_meta = env->GetMethodID(_jdbc_scanner_cls->clazz(), "getOffHeapChunkMeta", "()J");
+    DCHECK(_scanner_get_off_heap_chunk_meta != nullptr);
+    _scanner_release_off_heap_chunk = env->GetMethodID(_jdbc_scanner_cls->clazz(), "releaseOffHeapChunk", "()V");
+    DCHECK(_scanner_release_off_heap_chunk != nullptr);
+
+    jstring jtypes = env->NewStringUTF(types.c_str());
+    LOCAL_REF_GUARD_ENV(env, jtypes);
+    auto jaccepted_types = (jstring)env->CallObjectMethod(_jdbc_scanner.handle(), set_off_heap_column_types, jtypes);
+    CHECK_JAVA_EXCEPTION(env, "set JDBCScanner off-heap column types failed")
+    LOCAL_REF_GUARD_ENV(env, jaccepted_types);
+
+    // the scanner keeps the boxed path for the columns whose values need conversions, e.g. by the driver.
+    std::vector<std::string> accepted_types =
+            strings::Split(JVMFunctionHelper::getInstance().to_string(jaccepted_types), ",");
+    if (accepted_types.size() != _column_class_names.size()) {
+        return Status::InternalError(fmt::format("expect {} off-heap column types, but got {}",
+                                                 _column_class_names.size(), accepted_types.size()));
+    }
+    for (size_t i = 0; i < accepted_types.size(); i++) {
+        if (!accepted_types[i].empty()) {
+            _off_heap_columns[i] = true;
+            _has_off_heap_columns = true;
+        }
+    }
+    return Status::OK();
+}
+
+template <LogicalType LT>
+static void copy_fixed_length_column(const void* data, size_t num_rows, Column* column) {
+    auto* runtime_column = down_cast<RunTimeColumnType<LT>*>(column);
+    runtime_column->resize_uninitialized(num_rows);
+    memcpy(runtime_column->get_data().data(), data, num_rows * sizeof(RunTimeCppType<LT>));
+}
+
+template <LogicalType LT>
+static void copy_binary_column(const uint32_t* offsets, const uint8_t* data, size_t num_rows, Column* column) {
+    auto* runtime_column = down_cast<RunTimeColumnType<LT>*>(column);
+    Bytes& bytes = runtime_column->get_bytes();
+    Offsets& column_offsets = runtime_column->get_offset();
+    column_offsets.resize(num_rows + 1);
+    memcpy(column_offsets.data(), offsets, (num_rows + 1) * sizeof(uint32_t));
+    bytes.resize(offsets[num_rows]);
+    memcpy(bytes.data(), data, offsets[num_rows]);
+}
+
+Status JDBCScanner::_fill_off_heap_columns(size_t num_rows) {
+    auto* env = JVMFunctionHelper::getInstance().getEnv();
+    jlong meta_address = env->CallLongMethod(_jdbc_scanner.handle(), _scanner_get_off_heap_chunk_meta);
+    CHECK_JAVA_EXCEPTION(env, "getOffHeapChunkMeta failed")
+    DeferOp release([&]() { env->CallVoidMethod(_jdbc_scanner.handle(), _scanner_release_off_heap_chunk); });
+
+    // see OffHeapTable for the layout of the meta
+    const auto* meta = reinterpret_cast<const int64_t*>(meta_address);
+    if (static_cast<size_t>(*meta++) != num_rows) {
+        return Status::InternalError("the number of rows of the off-heap chunk mismatches");
+    }
+    for (size_t i = 0; i < _off_heap_columns.size(); i++) {
+        if (!_off_heap_columns[i]) {
+            continue;
+        }
+        auto* nullable_column = down_cast<NullableColumn*>(_result_chunk->columns()[i].get());
+        NullData& null_data = nullable_column->null_column_data();
+        null_data.resize(num_rows);
+        memcpy(null_data.data(), reinterpret_cast<const void*>(*meta++), num_rows);
+        Column* data_column = nullable_column->data_column().get();
+
+        switch (_result_column_types[i]) {
+        case TYPE_BOOLEAN:
+            copy_fixed_length_column<TYPE_BOOLEAN>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_TINYINT:
+            copy_fixed_length_column<TYPE_TINYINT>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_SMALLINT:
+            copy_fixed_length_column<TYPE_SMALLINT>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_INT:
+            copy_fixed_length_column<TYPE_INT>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_BIGINT:
+            copy_fixed_length_column<TYPE_BIGINT>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_FLOAT:
+            copy_fixed_length_column<TYPE_FLOAT>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_DOUBLE:
+            copy_fixed_length_column<TYPE_DOUBLE>(reinterpret_cast<const void*>(*meta++), num_rows, data_column);
+            break;
+        case TYPE_VARCHAR: {
+            const auto* offsets = reinterpret_cast<const uint32_t*>(*meta++);
+            const auto* data = reinterpret_cast<const uint8_t*>(*meta++);
+            copy_binary_column<TYPE_VARCHAR>(offsets, data, num_rows, data_column);
+            break;
+        }
+        case TYPE_VARBINARY: {
+            const auto* offsets = reinterpret_cast<const uint32_t*>(*meta++);
+            const auto* data = reinterpret_cast<const uint8_t*>(*meta++);
+            copy_binary_column<TYPE_VARBINARY>(offsets, data, num_rows, data_column);
+            break;
+        }
+        default:
+            return Status::InternalError(
+                    fmt::format("unsupported off-heap column type: {}", type_to_string(_result_column_types[i])));
+        }
+    }
+    return Status::OK();
+}
+
 Status JDBCScanner::_has_next(bool* result) {
     auto* env = JVMFunctionHelper::getInstance().getEnv();
     jboolean ret = env->CallBooleanMethod(_jdbc_scanner.handle(), _scanner_has_next);
@@ -315,13 +490,18 @@ Status JDBCScanner::_fill_chunk(jobject jchunk, size_t num_rows, ChunkPtr* chunk
         COUNTER_UPDATE(_profile.rows_read_counter, num_rows);
         (*chunk)->reset();
 
+        if (_has_off_heap_columns) {
+            RETURN_IF_ERROR(_fill_off_heap_columns(num_rows));
+        }
         for (size_t i = 0; i < _slot_descs.size(); i++) {
-            jobject jcolumn = helper.list_get(jchunk, i);
-            LOCAL_REF_GUARD_ENV(env, jcolumn);
             auto& result_column = _result_chunk->columns()[i];
-            auto st =
-                    helper.get_result_from_boxed_array(_result_column_types[i], result_column.get(), jcolumn, num_rows);
-            RETURN_IF_ERROR(st);
+            if (!_off_heap_columns[i]) {
+                jobject jcolumn = helper.list_get(jchunk, i);
+                LOCAL_REF_GUARD_ENV(env, jcolumn);
+                auto st = helper.get_result_from_boxed_array(_result_column_types[i], result_column.get(), jcolumn,
+                                                             num_rows);
+                RETURN_IF_ERROR(st);
+            }
             down_cast<NullableColumn*>(result_column.get())->update_has_null();
         }
     }
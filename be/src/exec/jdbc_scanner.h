@@ -77,12 +77,17 @@ private:
 
     Status _init_jdbc_util();
 
+    Status _init_off_heap_columns();
+
     Status _has_next(bool* result);
 
     Status _get_next_chunk(jobject* chunk, size_t* num_rows);
 
     Status _fill_chunk(jobject jchunk, size_t num_rows, ChunkPtr* chunk);
 
+    // copy the columns fetched into off-heap buffers by the java scanner
+    Status _fill_off_heap_columns(size_t num_rows);
+
     Status _close_jdbc_scanner();
 
     JDBCScanContext _scan_ctx;
@@ -91,6 +96,9 @@ private:
     // java class name for each result column
     std::vector<std::string> _column_class_names;
     std::vector<LogicalType> _result_column_types;
+    // whether each result column is fetched into off-heap buffers instead of a boxed array
+    std::vector<bool> _off_heap_columns;
+    bool _has_off_heap_columns = false;
     std::vector<ExprContext*> _cast_exprs;
     ChunkPtr _result_chunk;
 
@@ -102,6 +110,8 @@ private:
     jmethodID _scanner_get_next_chunk;
     jmethodID _scanner_result_rows;
     jmethodID _scanner_close;
+    jmethodID _scanner_get_off_heap_chunk_meta = nullptr;
+    jmethodID _scanner_release_off_heap_chunk = nullptr;
     // JDBCUtil method
     jmethodID _util_format_date;
     jmethodID _util_format_localdatetime;
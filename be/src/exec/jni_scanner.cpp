@@ -56,12 +56,40 @@ Status JniScanner::do_open(RuntimeState* state) {
     return Status::OK();
 }
 
+void JniScanner::do_update_counter(HdfsScanProfile* profile) {
+    if (_jni_scanner_obj == nullptr || _jni_scanner_get_allocated_bytes == nullptr ||
+        _jni_scanner_get_reused_bytes == nullptr) {
+        return;
+    }
+    JNIEnv* env = JVMFunctionHelper::getInstance().getEnv();
+    jlong allocated_bytes = env->CallLongMethod(_jni_scanner_obj, _jni_scanner_get_allocated_bytes);
+    jlong reused_bytes = env->CallLongMethod(_jni_scanner_obj, _jni_scanner_get_reused_bytes);
+    if (!_check_jni_exception(env, "Failed to get the off-heap memory stats of scanner.").ok()) {
+        return;
+    }
+
+    const std::string prefix = "JNI";
+    RuntimeProfile* root_profile = profile->runtime_profile;
+    ADD_COUNTER(root_profile, prefix, TUnit::NONE);
+    RuntimeProfile::Counter* allocated_bytes_counter = root_profile->add_child_counter(
+            "OffHeapAllocatedBytes", TUnit::BYTES, RuntimeProfile::Counter::create_strategy(TCounterAggregateType::SUM),
+            prefix);
+    RuntimeProfile::Counter* reused_bytes_counter = root_profile->add_child_counter(
+            "OffHeapReusedBytes", TUnit::BYTES, RuntimeProfile::Counter::create_strategy(TCounterAggregateType::SUM),
+            prefix);
+    COUNTER_UPDATE(allocated_bytes_counter, allocated_bytes);
+    COUNTER_UPDATE(reused_bytes_counter, reused_bytes);
+}
+
 void JniScanner::do_close(RuntimeState* runtime_state) noexcept {
     JNIEnv* env = JVMFunctionHelper::getInstance().getEnv();
     if (_jni_scanner_obj != nullptr) {
         if (_jni_scanner_close != nullptr) {
             env->CallVoidMethod(_jni_scanner_obj, _jni_scanner_close);
         }
+        if (_jni_scanner_release_memory_pool != nullptr) {
+            env->CallVoidMethod(_jni_scanner_obj, _jni_scanner_release_memory_pool);
+        }
         env->DeleteLocalRef(_jni_scanner_obj);
         _jni_scanner_obj = nullptr;
     }
@@ -87,6 +115,25 @@ Status JniScanner::_init_jni_method(JNIEnv* env) {
 
     _jni_scanner_release_table = env->GetMethodID(_jni_scanner_cls, "releaseOffHeapTable", "()V");
     RETURN_IF_ERROR(_check_jni_exception(env, "Failed to get `releaseOffHeapTable` jni method"));
+
+    // the memory pool methods are optional, scanners built against an older jni-connector don't pool buffers.
+    _jni_scanner_release_memory_pool = env->GetMethodID(_jni_scanner_cls, "releaseOffHeapMemoryPool", "()V");
+    if (env->ExceptionCheck()) {
+        env->ExceptionClear();
+        _jni_scanner_release_memory_pool = nullptr;
+    }
+
+    _jni_scanner_get_allocated_bytes = env->GetMethodID(_jni_scanner_cls, "getOffHeapAllocatedBytes", "()J");
+    if (env->ExceptionCheck()) {
+        env->ExceptionClear();
+        _jni_scanner_get_allocated_bytes = nullptr;
+    }
+
+    _jni_scanner_get_reused_bytes = env->GetMethodID(_jni_scanner_cls, "getOffHeapReusedBytes", "()J");
+    if (env->ExceptionCheck()) {
+        env->ExceptionClear();
+        _jni_scanner_get_reused_bytes = nullptr;
+    }
     return Status::OK();
 }
 
@@ -32,6 +32,51 @@ const AggregateFunction* getJavaUDAFFunction(bool input_nullable) {
     return &no_nullable_udaf_func;
 }
 
+// UDAF with off-heap states:
+//   int stateSize()
+//   void updateBatch(long[] states, T1[] input1, ...)
+//   void mergeBatch(long[] states, long[] serialized)
+//   R[] finalizeBatch(long[] states)
+// a state address in the arrays is 0 if the row should be skipped.
+static Status init_udaf_offheap_context(ClassAnalyzer* analyzer, FunctionContext* context) {
+    auto* udaf_ctx = context->udaf_ctxs();
+    jclass udaf_clazz = udaf_ctx->udaf_class.clazz();
+    JNIEnv* env = JVMFunctionHelper::getInstance().getEnv();
+
+    std::string state_size_sign;
+    std::string update_batch_sign;
+    std::string merge_batch_sign;
+    std::string finalize_batch_sign;
+    RETURN_IF_ERROR(analyzer->get_signature(udaf_clazz, "stateSize", &state_size_sign));
+    RETURN_IF_ERROR(analyzer->get_signature(udaf_clazz, "updateBatch", &update_batch_sign));
+    RETURN_IF_ERROR(analyzer->get_signature(udaf_clazz, "mergeBatch", &merge_batch_sign));
+    RETURN_IF_ERROR(analyzer->get_signature(udaf_clazz, "finalizeBatch", &finalize_batch_sign));
+    std::vector<LogicalType> arg_types;
+    for (const auto& arg_type : context->get_arg_types()) {
+        arg_types.push_back(arg_type.type);
+    }
+    LogicalType return_type = context->get_return_type().type;
+    RETURN_IF_ERROR(check_udaf_offheap_signatures(state_size_sign, update_batch_sign, merge_batch_sign,
+                                                  finalize_batch_sign, arg_types, return_type));
+
+    ASSIGN_OR_RETURN(JavaGlobalRef state_size_method, analyzer->get_method_object(udaf_clazz, "stateSize"));
+    jmethodID state_size_id = env->FromReflectedMethod(state_size_method.handle());
+    int state_size = env->CallIntMethod(udaf_ctx->handle.handle(), state_size_id);
+    RETURN_ERROR_IF_JNI_EXCEPTION(env);
+    if (state_size <= 0) {
+        return Status::InternalError(fmt::format("invalid UDAF state size:{}", state_size));
+    }
+
+    ASSIGN_OR_RETURN(udaf_ctx->update_batch, analyzer->get_method_object(udaf_clazz, "updateBatch"));
+    ASSIGN_OR_RETURN(udaf_ctx->merge_batch, analyzer->get_method_object(udaf_clazz, "mergeBatch"));
+    ASSIGN_OR_RETURN(udaf_ctx->finalize_batch, analyzer->get_method_object(udaf_clazz, "finalizeBatch"));
+    // the results are read from the String[] returned by finalizeBatch
+    udaf_ctx->finalize_batch_type = is_string_type(return_type) ? TYPE_VARCHAR : return_type;
+
+    udaf_ctx->offheap_states = std::make_unique<UDAFOffHeapStates>(state_size);
+    return Status::OK();
+}
+
 Status init_udaf_context(int64_t id, const std::string& url, const std::string& checksum, const std::string& symbol,
                          FunctionContext* context) {
     RETURN_IF_ERROR(detect_java_runtime());
@@ -44,6 +89,14 @@ Status init_udaf_context(int64_t id, const std::string& url, const std::string&
     RETURN_IF_ERROR(udf_classloader->init());
 
     ASSIGN_OR_RETURN(udaf_ctx->udaf_class, udf_classloader->getClass(symbol));
+
+    bool has_state_size = false;
+    RETURN_IF_ERROR(analyzer->has_method(udaf_ctx->udaf_class.clazz(), "stateSize", &has_state_size));
+    if (has_state_size) {
+        ASSIGN_OR_RETURN(udaf_ctx->handle, udaf_ctx->udaf_class.newInstance());
+        return init_udaf_offheap_context(analyzer.get(), context);
+    }
+
     ASSIGN_OR_RETURN(udaf_ctx->udaf_state_class, udf_classloader->getClass(state));
     ASSIGN_OR_RETURN(udaf_ctx->handle, udaf_ctx->udaf_class.newInstance());
 
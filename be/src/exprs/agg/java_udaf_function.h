@@ -14,6 +14,8 @@
 
 #pragma once
 
+#include <fmt/format.h>
+
 #include <cstring>
 #include <limits>
 #include <memory>
@@ -46,6 +48,10 @@ public:
     }
 
     void merge(FunctionContext* ctx, const Column* column, AggDataPtr __restrict state, size_t row_num) const final {
+        if (is_offheap(ctx)) {
+            _offheap_add_pending_merge(ctx, state, column, row_num);
+            return;
+        }
         // TODO merge
         const BinaryColumn* input_column = nullptr;
         if (column->is_nullable()) {
@@ -80,8 +86,14 @@ public:
             column = down_cast<BinaryColumn*>(to);
         }
 
-        size_t old_size = column->get_bytes().size();
         auto* udaf_ctx = ctx->udaf_ctxs();
+        if (is_offheap(ctx)) {
+            _offheap_flush_merges(ctx);
+            auto* states = udaf_ctx->offheap_states.get();
+            column->append(Slice(states->address(this->data(state).handle), states->state_size()));
+            return;
+        }
+        size_t old_size = column->get_bytes().size();
         int serialize_size = udaf_ctx->_func->serialize_size(this->data(state).handle);
         if (udaf_ctx->buffer->capacity() < serialize_size) {
             udaf_ctx->buffer_data.resize(serialize_size);
@@ -100,6 +112,17 @@ public:
     void finalize_to_column([[maybe_unused]] FunctionContext* ctx, ConstAggDataPtr __restrict state,
                             Column* to) const final {
         auto* udaf_ctx = ctx->udaf_ctxs();
+        if (is_offheap(ctx)) {
+            AggDataPtr states[1] = {const_cast<AggDataPtr>(state)};
+            auto result = ColumnHelper::create_column(TypeDescriptor(udaf_ctx->finalize_batch_type), true);
+            _offheap_finalize(ctx, states, 0, 1, result.get());
+            if (to->is_nullable()) {
+                to->append(*result);
+            } else {
+                to->append(*down_cast<NullableColumn*>(result.get())->data_column());
+            }
+            return;
+        }
         jvalue val = udaf_ctx->_func->finalize(this->data(state).handle);
         append_jvalue(udaf_ctx->finalize->method_desc[0], to, val);
         release_jvalue(udaf_ctx->finalize->method_desc[0].is_box, val);
@@ -110,6 +133,10 @@ public:
         auto& helper = JVMFunctionHelper::getInstance();
         auto* env = helper.getEnv();
         auto* udf_ctxs = ctx->udaf_ctxs();
+        if (is_offheap(ctx)) {
+            _offheap_convert_to_serialize_format(ctx, src, batch_size, dst);
+            return;
+        }
         // 1 convert input as state
         // 1.1 create state list
         auto rets = helper.batch_call(ctx, udf_ctxs->handle.handle(), udf_ctxs->create->method.handle(), batch_size);
@@ -178,11 +205,21 @@ public:
     // jclass
     // newInstance -> handle
     void create(FunctionContext* ctx, AggDataPtr __restrict ptr) const override {
+        if (is_offheap(ctx)) {
+            new (ptr) State(ctx->udaf_ctxs()->offheap_states->allocate());
+            return;
+        }
         new (ptr) State(ctx->udaf_ctxs()->_func->create());
     }
 
     // Call Destroy method
     void destroy(FunctionContext* ctx, AggDataPtr __restrict ptr) const override {
+        if (is_offheap(ctx)) {
+            _offheap_flush_merges(ctx);
+            ctx->udaf_ctxs()->offheap_states->free(data(ptr).handle);
+            data(ptr).~State();
+            return;
+        }
         ctx->udaf_ctxs()->_func->destroy(data(ptr).handle);
         data(ptr).~State();
     }
@@ -195,6 +232,10 @@ public:
 
     void update_batch(FunctionContext* ctx, size_t batch_size, size_t state_offset, const Column** columns,
                       AggDataPtr* states) const override {
+        if (is_offheap(ctx)) {
+            _offheap_update(ctx, states, state_offset, nullptr, columns, batch_size);
+            return;
+        }
         auto& helper = JVMFunctionHelper::getInstance();
         std::vector<DirectByteBuffer> buffers;
         std::vector<jobject> args;
@@ -215,6 +256,10 @@ public:
 
     void update_batch_selectively(FunctionContext* ctx, size_t batch_size, size_t state_offset, const Column** columns,
                                   AggDataPtr* states, const Filter& filter) const override {
+        if (is_offheap(ctx)) {
+            _offheap_update(ctx, states, state_offset, filter.data(), columns, batch_size);
+            return;
+        }
         auto [env, helper] = JVMFunctionHelper::getInstanceWithEnv();
         std::vector<DirectByteBuffer> buffers;
         std::vector<jobject> args;
@@ -236,6 +281,11 @@ public:
 
     void update_batch_single_state(FunctionContext* ctx, size_t batch_size, const Column** columns,
                                    AggDataPtr __restrict state) const override {
+        if (is_offheap(ctx)) {
+            std::vector<AggDataPtr> states(batch_size, state);
+            _offheap_update(ctx, states.data(), 0, nullptr, columns, batch_size);
+            return;
+        }
         auto& helper = JVMFunctionHelper::getInstance();
         auto* env = helper.getEnv();
         std::vector<jobject> args;
@@ -300,6 +350,10 @@ public:
 
     void merge_batch(FunctionContext* ctx, size_t batch_size, size_t state_offset, const Column* column,
                      AggDataPtr* states) const override {
+        if (is_offheap(ctx)) {
+            _offheap_merge(ctx, states, state_offset, nullptr, column, 0, batch_size);
+            return;
+        }
         // batch merge
         auto& helper = JVMFunctionHelper::getInstance();
         auto* env = helper.getEnv();
@@ -321,6 +375,10 @@ public:
 
     void merge_batch_selectively(FunctionContext* ctx, size_t batch_size, size_t state_offset, const Column* column,
                                  AggDataPtr* states, const Filter& filter) const override {
+        if (is_offheap(ctx)) {
+            _offheap_merge(ctx, states, state_offset, filter.data(), column, 0, batch_size);
+            return;
+        }
         // batch merge
         auto& helper = JVMFunctionHelper::getInstance();
 
@@ -339,6 +397,10 @@ public:
 
     void merge_batch_single_state(FunctionContext* ctx, AggDataPtr __restrict state, const Column* column, size_t start,
                                   size_t size) const override {
+        if (is_offheap(ctx)) {
+            _offheap_merge_single(ctx, state, column, start, size);
+            return;
+        }
         auto& helper = JVMFunctionHelper::getInstance();
         auto* env = helper.getEnv();
         auto provider = [&]() {
@@ -361,6 +423,19 @@ public:
         auto* env = helper.getEnv();
         auto* udf_ctxs = ctx->udaf_ctxs();
 
+        if (is_offheap(ctx)) {
+            // the serialized format of an off-heap state is its memory
+            _offheap_flush_merges(ctx);
+            auto* offheap_states = udf_ctxs->offheap_states.get();
+            std::vector<Slice> slices(batch_size);
+            for (size_t i = 0; i < batch_size; ++i) {
+                int handle = data(agg_states[i] + state_offset).handle;
+                slices[i] = Slice(offheap_states->address(handle), offheap_states->state_size());
+            }
+            CHECK(to->append_strings(slices));
+            return;
+        }
+
         const size_t origin_chunk_size = to->size();
         auto defer = DeferOp([&]() {
             // we must keep column num_rows equals with expected numbers
@@ -426,6 +501,13 @@ public:
             }
         });
 
+        if (is_offheap(ctx)) {
+            CHECK(to->empty());
+            auto states = const_cast<AggDataPtr*>(agg_states.data());
+            _offheap_finalize(ctx, states, state_offset, batch_size, to);
+            return;
+        }
+
         // 1. get state list
         auto states = const_cast<AggDataPtr*>(agg_states.data());
         auto state_id_list = JavaDataTypeConverter::convert_to_states(ctx, states, state_offset, batch_size);
@@ -456,5 +538,208 @@ public:
     }
 
     std::string get_name() const override { return "java_udaf"; }
+
+protected:
+    static bool is_offheap(FunctionContext* ctx) { return ctx->udaf_ctxs()->offheap_states != nullptr; }
+
+private:
+    // call void updateBatch(long[] states, T1[] input1, ...)
+    void _offheap_update(FunctionContext* ctx, AggDataPtr* states, size_t state_offset, const uint8_t* filter,
+                         const Column** columns, size_t batch_size) const {
+        auto& helper = JVMFunctionHelper::getInstance();
+        auto* env = helper.getEnv();
+        auto* udaf_ctx = ctx->udaf_ctxs();
+        int num_cols = ctx->get_num_args();
+        std::vector<DirectByteBuffer> buffers;
+        std::vector<jobject> args;
+        _offheap_flush_merges(ctx);
+        env->PushLocalFrame(num_cols * 3 + 2);
+        auto defer = DeferOp([env = env]() { env->PopLocalFrame(nullptr); });
+
+        auto addresses =
+                JavaDataTypeConverter::convert_to_state_addresses(ctx, states, state_offset, filter, batch_size);
+        RETURN_IF_UNLIKELY_NULL(addresses, (void)0);
+        args.emplace_back(addresses);
+        auto st = JavaDataTypeConverter::convert_to_boxed_array(ctx, &buffers, columns, num_cols, batch_size, &args);
+        RETURN_IF_UNLIKELY(!st.ok(), (void)0);
+
+        std::vector<jvalue> jni_inputs(args.size());
+        for (size_t i = 0; i < args.size(); ++i) {
+            jni_inputs[i].l = args[i];
+        }
+        env->CallVoidMethodA(udaf_ctx->handle.handle(), env->FromReflectedMethod(udaf_ctx->update_batch.handle()),
+                             jni_inputs.data());
+        CHECK_UDF_CALL_EXCEPTION(env, ctx);
+    }
+
+    // call void mergeBatch(long[] states, long[] serialized) with rows [start, start + size) of column
+    void _offheap_merge(FunctionContext* ctx, AggDataPtr* states, size_t state_offset, const uint8_t* filter,
+                        const Column* column, size_t start, size_t size) const {
+        auto* offheap_states = ctx->udaf_ctxs()->offheap_states.get();
+        size_t state_size = offheap_states->state_size();
+        auto* serialized_column = down_cast<const BinaryColumn*>(ColumnHelper::get_data_column(column));
+        _offheap_flush_merges(ctx);
+
+        std::vector<jlong> addresses(size);
+        std::vector<jlong> serialized(size);
+        for (size_t i = 0; i < size; ++i) {
+            if (filter != nullptr && filter[i] != 0) {
+                continue;
+            }
+            Slice slice = serialized_column->get_slice(start + i);
+            if (slice.size == 0) {
+                // null row
+                continue;
+            }
+            if (UNLIKELY(slice.size != state_size)) {
+                _set_invalid_state_size_error(ctx, slice.size, state_size);
+                return;
+            }
+            int handle = data(states[i] + state_offset).handle;
+            addresses[i] = reinterpret_cast<jlong>(offheap_states->address(handle));
+            serialized[i] = reinterpret_cast<jlong>(slice.data);
+        }
+        _call_merge_batch(ctx, addresses, serialized);
+    }
+
+    void _offheap_merge_single(FunctionContext* ctx, AggDataPtr __restrict state, const Column* column, size_t start,
+                               size_t size) const {
+        std::vector<AggDataPtr> states(size, state);
+        _offheap_merge(ctx, states.data(), 0, nullptr, column, start, size);
+    }
+
+    // merge() is called for a single row, buffer it and pass the buffered rows to mergeBatch together
+    void _offheap_add_pending_merge(FunctionContext* ctx, AggDataPtr __restrict state, const Column* column,
+                                    size_t row_num) const {
+        auto* offheap_states = ctx->udaf_ctxs()->offheap_states.get();
+        if (column->is_null(row_num)) {
+            return;
+        }
+        auto* serialized_column = down_cast<const BinaryColumn*>(ColumnHelper::get_data_column(column));
+        Slice slice = serialized_column->get_slice(row_num);
+        if (slice.size == 0) {
+            return;
+        }
+        if (UNLIKELY(slice.size != offheap_states->state_size())) {
+            _set_invalid_state_size_error(ctx, slice.size, offheap_states->state_size());
+            return;
+        }
+        if (offheap_states->add_pending_merge(data(state).handle, slice)) {
+            _offheap_flush_merges(ctx);
+        }
+    }
+
+    // must be called before the states are read, updated or freed
+    void _offheap_flush_merges(FunctionContext* ctx) const {
+        auto* offheap_states = ctx->udaf_ctxs()->offheap_states.get();
+        if (offheap_states->num_pending_merges() == 0) {
+            return;
+        }
+        std::vector<jlong> addresses;
+        std::vector<jlong> serialized;
+        offheap_states->get_pending_merges(&addresses, &serialized);
+        // the serialized states are in the pending buffer, clear it after the call
+        auto defer = DeferOp([offheap_states]() { offheap_states->clear_pending_merges(); });
+        _call_merge_batch(ctx, addresses, serialized);
+    }
+
+    // the address of a state is 0 if the row should be skipped
+    void _call_merge_batch(FunctionContext* ctx, const std::vector<jlong>& addresses,
+                           const std::vector<jlong>& serialized) const {
+        auto& helper = JVMFunctionHelper::getInstance();
+        auto* env = helper.getEnv();
+        auto* udaf_ctx = ctx->udaf_ctxs();
+        size_t size = addresses.size();
+
+        env->PushLocalFrame(2);
+        auto defer = DeferOp([env = env]() { env->PopLocalFrame(nullptr); });
+        jlongArray addresses_arr = env->NewLongArray(size);
+        jlongArray serialized_arr = env->NewLongArray(size);
+        if (UNLIKELY(addresses_arr == nullptr || serialized_arr == nullptr)) {
+            ctx->set_error("OOM may happened in Java Heap");
+            return;
+        }
+        env->SetLongArrayRegion(addresses_arr, 0, size, addresses.data());
+        env->SetLongArrayRegion(serialized_arr, 0, size, serialized.data());
+
+        jvalue jni_inputs[2];
+        jni_inputs[0].l = addresses_arr;
+        jni_inputs[1].l = serialized_arr;
+        env->CallVoidMethodA(udaf_ctx->handle.handle(), env->FromReflectedMethod(udaf_ctx->merge_batch.handle()),
+                             jni_inputs);
+        CHECK_UDF_CALL_EXCEPTION(env, ctx);
+    }
+
+    static void _set_invalid_state_size_error(FunctionContext* ctx, size_t size, size_t state_size) {
+        ctx->set_error(fmt::format("invalid serialized UDAF state size:{}, expected:{}", size, state_size).c_str());
+    }
+
+    void _offheap_convert_to_serialize_format(FunctionContext* ctx, const Columns& src, size_t batch_size,
+                                              ColumnPtr* dst) const {
+        auto* offheap_states = ctx->udaf_ctxs()->offheap_states.get();
+        // one temporary state for each row
+        std::vector<State> row_states;
+        row_states.reserve(batch_size);
+        std::vector<AggDataPtr> states(batch_size);
+        for (size_t i = 0; i < batch_size; ++i) {
+            row_states.emplace_back(offheap_states->allocate());
+            states[i] = reinterpret_cast<AggDataPtr>(&row_states[i]);
+        }
+        auto defer = DeferOp([&]() {
+            for (auto& row_state : row_states) {
+                offheap_states->free(row_state.handle);
+            }
+        });
+
+        std::vector<const Column*> raw_input_ptrs(src.size());
+        for (size_t i = 0; i < src.size(); ++i) {
+            raw_input_ptrs[i] = src[i].get();
+        }
+        _offheap_update(ctx, states.data(), 0, nullptr, raw_input_ptrs.data(), batch_size);
+
+        std::vector<Slice> slices(batch_size);
+        for (size_t i = 0; i < batch_size; ++i) {
+            slices[i] = Slice(offheap_states->address(row_states[i].handle), offheap_states->state_size());
+        }
+        CHECK((*dst)->append_strings(slices));
+    }
+
+    // call R[] finalizeBatch(long[] states), to must be empty
+    void _offheap_finalize(FunctionContext* ctx, AggDataPtr* states, size_t state_offset, size_t batch_size,
+                           Column* to) const {
+        auto& helper = JVMFunctionHelper::getInstance();
+        auto* env = helper.getEnv();
+        auto* udaf_ctx = ctx->udaf_ctxs();
+        auto defer_size = DeferOp([&]() {
+            // we must keep column num_rows equals with expected numbers
+            if (to->size() != batch_size) {
+                DCHECK(ctx->has_error());
+                to->append_default(batch_size - to->size());
+            }
+        });
+
+        _offheap_flush_merges(ctx);
+        env->PushLocalFrame(2);
+        auto defer = DeferOp([env = env]() { env->PopLocalFrame(nullptr); });
+        auto addresses =
+                JavaDataTypeConverter::convert_to_state_addresses(ctx, states, state_offset, nullptr, batch_size);
+        RETURN_IF_UNLIKELY_NULL(addresses, (void)0);
+        jvalue jni_inputs[1];
+        jni_inputs[0].l = addresses;
+        jobject res = env->CallObjectMethodA(udaf_ctx->handle.handle(),
+                                             env->FromReflectedMethod(udaf_ctx->finalize_batch.handle()), jni_inputs);
+        CHECK_UDF_CALL_EXCEPTION(env, ctx);
+        RETURN_IF_UNLIKELY_NULL(res, (void)0);
+
+        LogicalType type = udaf_ctx->finalize_batch_type;
+        if (!to->is_nullable()) {
+            ColumnPtr wrapper(const_cast<Column*>(to), [](auto p) {});
+            auto output = NullableColumn::create(wrapper, NullColumn::create());
+            helper.get_result_from_boxed_array(ctx, type, output.get(), res, batch_size);
+        } else {
+            helper.get_result_from_boxed_array(ctx, type, to, res, batch_size);
+            down_cast<NullableColumn*>(to)->update_has_null();
+        }
+    }
 };
 } // namespace starrocks
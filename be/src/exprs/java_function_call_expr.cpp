@@ -14,6 +14,7 @@
 
 #include "exprs/java_function_call_expr.h"
 
+#include <algorithm>
 #include <any>
 #include <memory>
 #include <sstream>
@@ -60,6 +61,12 @@ struct UDFFunctionCallHelper {
             }
         }
 
+        if (fn_desc->vectorized_call_stub != nullptr) {
+            if (auto res = call_vectorized(ctx, columns, size); res != nullptr) {
+                return res;
+            }
+        }
+
         for (const auto& col : columns) {
             input_cols.emplace_back(col.get());
         }
@@ -81,6 +88,43 @@ struct UDFFunctionCallHelper {
         return result_cols;
     }
 
+    // call evaluateBatch with primitive arrays copied from the columns, no value is boxed.
+    // return nullptr if some input rows are null, the caller falls back to the boxed evaluate.
+    ColumnPtr call_vectorized(FunctionContext* ctx, const Columns& columns, size_t size) {
+        for (const auto& column : columns) {
+            if (column->has_null()) {
+                return nullptr;
+            }
+        }
+        auto& helper = JVMFunctionHelper::getInstance();
+        JNIEnv* env = helper.getEnv();
+        // each input arguments as a local reference, result column as a ref
+        env->PushLocalFrame(columns.size() + 1);
+        auto defer = DeferOp([env]() { env->PopLocalFrame(nullptr); });
+
+        std::vector<jobject> input_arrays;
+        for (size_t i = 0; i < columns.size(); ++i) {
+            const Column* data_column = ColumnHelper::get_data_column(columns[i].get());
+            jobject arr = helper.create_primitive_array(call_desc->method_desc[i + 1].type, size,
+                                                        data_column->raw_data());
+            RETURN_IF_UNLIKELY_NULL(arr, ColumnHelper::create_const_null_column(size));
+            input_arrays.emplace_back(arr);
+        }
+
+        jobject res = helper.batch_call(fn_desc->vectorized_call_stub.get(), input_arrays.data(), input_arrays.size(),
+                                        size);
+        RETURN_IF_UNLIKELY_NULL(res, ColumnHelper::create_const_null_column(size));
+
+        TypeDescriptor type_desc(call_desc->method_desc[0].type);
+        auto data_column = ColumnHelper::create_column(type_desc, false);
+        auto st = helper.get_result_from_primitive_array(type_desc.type, data_column.get(), res, size);
+        if (!st.ok()) {
+            ctx->set_error(st.to_string().c_str());
+            return ColumnHelper::create_const_null_column(size);
+        }
+        return NullableColumn::create(std::move(data_column), NullColumn::create(size, 0));
+    }
+
     ColumnPtr get_boxed_result(FunctionContext* ctx, jobject result, size_t num_rows) {
         if (result == nullptr) {
             return ColumnHelper::create_const_null_column(num_rows);
@@ -206,6 +250,41 @@ StatusOr<std::shared_ptr<JavaUDFContext>> JavaFunctionCallExpr::_build_udf_func_
     desc->call_stub = std::make_unique<BatchEvaluateStub>(
             function_ctx, desc->udf_handle.handle(), std::move(update_stub_clazz), JavaGlobalRef(std::move(method)));
 
+    // the optional evaluateBatch takes and returns primitive arrays, it can only be used when evaluate
+    // has arguments and all the arguments and the result of evaluate are boxed primitive types.
+    bool has_evaluate_batch = false;
+    RETURN_IF_ERROR(desc->analyzer->has_method(udf_clazz, "evaluateBatch", &has_evaluate_batch));
+    auto is_primitive = [](const MethodTypeDescriptor& type_desc) {
+        switch (type_desc.type) {
+        case TYPE_BOOLEAN:
+        case TYPE_TINYINT:
+        case TYPE_SMALLINT:
+        case TYPE_INT:
+        case TYPE_BIGINT:
+        case TYPE_FLOAT:
+        case TYPE_DOUBLE:
+            return true;
+        default:
+            return false;
+        }
+    };
+    const auto& evaluate_desc = desc->evaluate->method_desc;
+    bool vectorizable =
+            evaluate_desc.size() > 1 && std::all_of(evaluate_desc.begin(), evaluate_desc.end(), is_primitive);
+    if (has_evaluate_batch && vectorizable) {
+        JavaGlobalRef evaluate_batch = nullptr;
+        ASSIGN_OR_RETURN(evaluate_batch, desc->analyzer->get_method_object(udf_clazz, "evaluateBatch"));
+        ASSIGN_OR_RETURN(auto vectorized_stub_clazz,
+                         desc->udf_classloader->genCallStub(BatchEvaluateStub::vectorized_stub_clazz_name, udf_clazz,
+                                                            evaluate_batch.handle(),
+                                                            ClassLoader::BATCH_EVALUATE_VECTORIZED));
+        ASSIGN_OR_RETURN(auto vectorized_method,
+                         desc->analyzer->get_method_object(vectorized_stub_clazz.clazz(), stub_method_name));
+        desc->vectorized_call_stub = std::make_unique<BatchEvaluateStub>(
+                function_ctx, desc->udf_handle.handle(), std::move(vectorized_stub_clazz),
+                JavaGlobalRef(std::move(vectorized_method)));
+    }
+
     if (desc->prepare != nullptr) {
         // we only support fragment local scope to call prepare
         if (scope == FunctionContext::FRAGMENT_LOCAL) {
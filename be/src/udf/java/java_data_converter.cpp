@@ -318,6 +318,27 @@ jobject JavaDataTypeConverter::convert_to_states_with_filter(FunctionContext* ct
     return arr;
 }
 
+jobject JavaDataTypeConverter::convert_to_state_addresses(FunctionContext* ctx, uint8_t** data, size_t offset,
+                                                          const uint8_t* filter, int num_rows) {
+    auto& helper = JVMFunctionHelper::getInstance();
+    auto* env = helper.getEnv();
+    auto* states = ctx->udaf_ctxs()->offheap_states.get();
+    std::vector<jlong> addresses(num_rows);
+    jlongArray arr = env->NewLongArray(num_rows);
+    if (UNLIKELY(arr == nullptr)) {
+        ctx->set_error("OOM may happened in Java Heap");
+        return nullptr;
+    }
+    for (int i = 0; i < num_rows; ++i) {
+        if (filter == nullptr || filter[i] == 0) {
+            int handle = reinterpret_cast<JavaUDAFState*>(data[i] + offset)->handle;
+            addresses[i] = reinterpret_cast<jlong>(states->address(handle));
+        }
+    }
+    env->SetLongArrayRegion(arr, 0, num_rows, addresses.data());
+    return arr;
+}
+
 Status JavaDataTypeConverter::convert_to_boxed_array(FunctionContext* ctx, std::vector<DirectByteBuffer>* buffers,
                                                      const Column** columns, int num_cols, int num_rows,
                                                      std::vector<jobject>* res) {
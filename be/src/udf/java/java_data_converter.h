@@ -54,6 +54,10 @@ public:
     static jobject convert_to_states(FunctionContext* ctx, uint8_t** data, size_t offset, int num_rows);
     static jobject convert_to_states_with_filter(FunctionContext* ctx, uint8_t** data, size_t offset,
                                                  const uint8_t* filter, int num_rows);
+    // convert states to the addresses of their off-heap memory (long[]),
+    // the address is 0 if the row is filtered out. filter could be nullptr
+    static jobject convert_to_state_addresses(FunctionContext* ctx, uint8_t** data, size_t offset,
+                                              const uint8_t* filter, int num_rows);
 
     static Status convert_to_boxed_array(FunctionContext* ctx, std::vector<DirectByteBuffer>* buffers,
                                          const Column** columns, int num_cols, int num_rows, std::vector<jobject>* res);
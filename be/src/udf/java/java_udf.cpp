@@ -14,6 +14,7 @@
 
 #include "udf/java/java_udf.h"
 
+#include <cstring>
 #include <iterator>
 #include <memory>
 #include <sstream>
@@ -370,6 +371,60 @@ Status JVMFunctionHelper::get_result_from_boxed_array(int type, Column* col, job
     return Status::OK();
 }
 
+#define PRIMITIVE_ARRAY_CASE(LT, JTYPE, NAME)                                                     \
+    case LT: {                                                                                    \
+        auto arr = _env->New##NAME##Array(num_rows);                                              \
+        if (arr != nullptr) {                                                                     \
+            _env->Set##NAME##ArrayRegion(arr, 0, num_rows, reinterpret_cast<const JTYPE*>(data)); \
+        }                                                                                         \
+        return arr;                                                                               \
+    }
+
+jobject JVMFunctionHelper::create_primitive_array(LogicalType type, int num_rows, const uint8_t* data) {
+    switch (type) {
+        PRIMITIVE_ARRAY_CASE(TYPE_BOOLEAN, jboolean, Boolean)
+        PRIMITIVE_ARRAY_CASE(TYPE_TINYINT, jbyte, Byte)
+        PRIMITIVE_ARRAY_CASE(TYPE_SMALLINT, jshort, Short)
+        PRIMITIVE_ARRAY_CASE(TYPE_INT, jint, Int)
+        PRIMITIVE_ARRAY_CASE(TYPE_BIGINT, jlong, Long)
+        PRIMITIVE_ARRAY_CASE(TYPE_FLOAT, jfloat, Float)
+        PRIMITIVE_ARRAY_CASE(TYPE_DOUBLE, jdouble, Double)
+    default:
+        return nullptr;
+    }
+}
+#undef PRIMITIVE_ARRAY_CASE
+
+#define PRIMITIVE_RESULT_CASE(LT, JTYPE, NAME)                            \
+    case LT: {                                                            \
+        auto* dst = reinterpret_cast<JTYPE*>(col->mutable_raw_data());    \
+        _env->Get##NAME##ArrayRegion((JTYPE##Array)jarray, 0, rows, dst); \
+        break;                                                            \
+    }
+
+Status JVMFunctionHelper::get_result_from_primitive_array(LogicalType type, Column* col, jobject jarray, int rows) {
+    int num_results = _env->GetArrayLength((jarray)jarray);
+    if (num_results != rows) {
+        return Status::InternalError(
+                fmt::format("vectorized UDF should return {} rows but got {}", rows, num_results));
+    }
+    col->resize(rows);
+    switch (type) {
+        PRIMITIVE_RESULT_CASE(TYPE_BOOLEAN, jboolean, Boolean)
+        PRIMITIVE_RESULT_CASE(TYPE_TINYINT, jbyte, Byte)
+        PRIMITIVE_RESULT_CASE(TYPE_SMALLINT, jshort, Short)
+        PRIMITIVE_RESULT_CASE(TYPE_INT, jint, Int)
+        PRIMITIVE_RESULT_CASE(TYPE_BIGINT, jlong, Long)
+        PRIMITIVE_RESULT_CASE(TYPE_FLOAT, jfloat, Float)
+        PRIMITIVE_RESULT_CASE(TYPE_DOUBLE, jdouble, Double)
+    default:
+        return Status::NotSupported(fmt::format("unsupported vectorized UDF type:{}", type_to_string(type)));
+    }
+    RETURN_ERROR_IF_JNI_EXCEPTION(_env);
+    return Status::OK();
+}
+#undef PRIMITIVE_RESULT_CASE
+
 jobject JVMFunctionHelper::list_get(jobject obj, int idx) {
     return _env->CallObjectMethod(obj, _list_get, idx);
 }
@@ -867,6 +922,143 @@ jobject BatchEvaluateStub::batch_evaluate(int num_rows, jobject* input, int cols
     return res;
 }
 
+int UDAFOffHeapStates::allocate() {
+    int handle;
+    if (!_free_handles.empty()) {
+        handle = _free_handles.back();
+        _free_handles.pop_back();
+    } else {
+        handle = _num_states++;
+        if (handle / STATES_PER_PAGE == _pages.size()) {
+            _pages.emplace_back(std::make_unique<uint8_t[]>(STATES_PER_PAGE * _state_size));
+        }
+    }
+    memset(address(handle), 0, _state_size);
+    return handle;
+}
+
+void UDAFOffHeapStates::free(int handle) {
+    _free_handles.push_back(handle);
+}
+
+bool UDAFOffHeapStates::add_pending_merge(int handle, const Slice& serialized) {
+    DCHECK_EQ(serialized.size, _state_size);
+    _pending_handles.push_back(handle);
+    _pending_serialized.insert(_pending_serialized.end(), serialized.data, serialized.data + serialized.size);
+    return _pending_handles.size() >= MAX_PENDING_MERGES;
+}
+
+void UDAFOffHeapStates::get_pending_merges(std::vector<jlong>* states, std::vector<jlong>* serialized) const {
+    size_t num_merges = _pending_handles.size();
+    states->resize(num_merges);
+    serialized->resize(num_merges);
+    for (size_t i = 0; i < num_merges; ++i) {
+        (*states)[i] = reinterpret_cast<jlong>(address(_pending_handles[i]));
+        (*serialized)[i] = reinterpret_cast<jlong>(_pending_serialized.data() + i * _state_size);
+    }
+}
+
+void UDAFOffHeapStates::clear_pending_merges() {
+    _pending_handles.clear();
+    _pending_serialized.clear();
+}
+
+// split a method signature into the types of its parameters and its return type,
+// eg: ([J[Ljava/lang/Long;)V -> {[J, [Ljava/lang/Long;}, V
+static bool split_method_signature(const std::string& sign, std::vector<std::string>* params, std::string* ret) {
+    if (sign.empty() || sign[0] != '(') {
+        return false;
+    }
+    size_t i = 1;
+    auto next_type = [&]() -> std::string {
+        size_t start = i;
+        while (i < sign.size() && sign[i] == '[') {
+            i++;
+        }
+        if (i >= sign.size()) {
+            return "";
+        }
+        if (sign[i] == 'L') {
+            size_t end = sign.find(';', i);
+            if (end == std::string::npos) {
+                return "";
+            }
+            i = end;
+        }
+        i++;
+        return sign.substr(start, i - start);
+    };
+    while (i < sign.size() && sign[i] != ')') {
+        std::string type = next_type();
+        if (type.empty()) {
+            return false;
+        }
+        params->emplace_back(std::move(type));
+    }
+    if (i >= sign.size()) {
+        return false;
+    }
+    i++;
+    *ret = next_type();
+    return !ret->empty() && i == sign.size();
+}
+
+// the type of the elements of a boxed array, eg: [Ljava/lang/Long; -> TYPE_BIGINT
+static LogicalType boxed_array_element_type(const std::string& type) {
+    if (type.size() < 2 || type[0] != '[' || type[1] != 'L') {
+        return TYPE_UNKNOWN;
+    }
+    std::vector<MethodTypeDescriptor> desc;
+    if (!ClassAnalyzer().get_udaf_method_desc(type.substr(1), &desc).ok() || desc.size() != 1) {
+        return TYPE_UNKNOWN;
+    }
+    return desc[0].type;
+}
+
+static bool is_same_udf_type(LogicalType java_type, LogicalType type) {
+    return java_type == type || (is_string_type(java_type) && is_string_type(type));
+}
+
+Status check_udaf_offheap_signatures(const std::string& state_size_sign, const std::string& update_batch_sign,
+                                     const std::string& merge_batch_sign, const std::string& finalize_batch_sign,
+                                     const std::vector<LogicalType>& arg_types, LogicalType return_type) {
+    if (state_size_sign != "()I") {
+        return Status::InternalError(fmt::format("stateSize should be int stateSize(), signature:{}", state_size_sign));
+    }
+    if (merge_batch_sign != "([J[J)V") {
+        return Status::InternalError(fmt::format(
+                "mergeBatch should be void mergeBatch(long[], long[]), signature:{}", merge_batch_sign));
+    }
+
+    std::vector<std::string> params;
+    std::string ret;
+    if (!split_method_signature(update_batch_sign, &params, &ret) || ret != "V" || params.empty() ||
+        params[0] != "[J" || params.size() != arg_types.size() + 1) {
+        return Status::InternalError(fmt::format(
+                "updateBatch should be void updateBatch(long[], T1[] input1, ...) with {} inputs, signature:{}",
+                arg_types.size(), update_batch_sign));
+    }
+    for (size_t i = 0; i < arg_types.size(); ++i) {
+        LogicalType java_type = boxed_array_element_type(params[i + 1]);
+        if (!is_same_udf_type(java_type, arg_types[i])) {
+            return Status::InternalError(fmt::format("updateBatch input {} doesn't match the argument type {}: {}",
+                                                     i + 1, type_to_string(arg_types[i]), update_batch_sign));
+        }
+    }
+
+    params.clear();
+    if (!split_method_signature(finalize_batch_sign, &params, &ret) || params.size() != 1 || params[0] != "[J") {
+        return Status::InternalError(fmt::format(
+                "finalizeBatch should be R[] finalizeBatch(long[]), signature:{}", finalize_batch_sign));
+    }
+    LogicalType result_type = boxed_array_element_type(ret);
+    if (!is_same_udf_type(result_type, return_type)) {
+        return Status::InternalError(fmt::format("finalizeBatch result doesn't match the return type {}: {}",
+                                                 type_to_string(return_type), finalize_batch_sign));
+    }
+    return Status::OK();
+}
+
 void UDAFFunction::update(jvalue* val) {
     auto [env, helper] = JVMFunctionHelper::getInstanceWithEnv();
     jmethodID update = _ctx->update->get_method_id();
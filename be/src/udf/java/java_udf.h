@@ -15,6 +15,7 @@
 #pragma once
 #include <memory>
 #include <utility>
+#include <vector>
 
 #include "common/status.h"
 #include "common/statusor.h"
@@ -108,6 +109,14 @@ public:
 
     Status get_result_from_boxed_array(int type, Column* col, jobject jcolumn, int rows);
 
+    // copy fixed length column data to a Java primitive array (int[]/long[]...)
+    // return a local ref, nullptr if the type is not a primitive type
+    jobject create_primitive_array(LogicalType type, int num_rows, const uint8_t* data);
+
+    // copy a Java primitive array back to a fixed length column
+    // col: data column of type, jarray must have exactly rows elements
+    Status get_result_from_primitive_array(LogicalType type, Column* col, jobject jarray, int rows);
+
     // convert int handle to jobject
     // return a local ref
     jobject convert_handle_to_jobject(FunctionContext* ctx, int state);
@@ -345,6 +354,7 @@ private:
 class BatchEvaluateStub {
 public:
     static inline const char* stub_clazz_name = "com.starrocks.udf.gen.CallStub";
+    static inline const char* vectorized_stub_clazz_name = "com.starrocks.udf.gen.VectorizedCallStub";
     static inline const char* batch_evaluate_method_name = "batchCallV";
 
     BatchEvaluateStub(FunctionContext* ctx, jobject caller, JVMClass&& clazz, JavaGlobalRef&& method)
@@ -401,12 +411,68 @@ private:
     jmethodID _clear_method_id;
 };
 
+// Fixed width UDAF states in off-heap memory, a state handle is the index of the state.
+// Used when the UDAF declares stateSize(), then no Java object is created for a group and
+// the UDAF accesses the states by their addresses in updateBatch/mergeBatch/finalizeBatch.
+// The serialized format of a state is its memory.
+// Not thread safe
+class UDAFOffHeapStates {
+public:
+    static constexpr int STATES_PER_PAGE = 4096;
+
+    UDAFOffHeapStates(size_t state_size) : _state_size(state_size) {}
+
+    size_t state_size() const { return _state_size; }
+
+    // allocate a zero filled state, return the handle
+    int allocate();
+
+    void free(int handle);
+
+    uint8_t* address(int handle) const {
+        return _pages[handle / STATES_PER_PAGE].get() + (handle % STATES_PER_PAGE) * _state_size;
+    }
+
+    // merges of a single row are buffered and passed to mergeBatch together, they must be
+    // flushed before a state is read, updated or freed
+    static constexpr size_t MAX_PENDING_MERGES = 4096;
+
+    // buffer the merge of a serialized state into the state, return true if the buffer is full.
+    // the serialized state is copied, serialized.size must be state_size
+    bool add_pending_merge(int handle, const Slice& serialized);
+
+    size_t num_pending_merges() const { return _pending_handles.size(); }
+
+    // the addresses of the states and of their serialized states to merge, in the order they were added
+    void get_pending_merges(std::vector<jlong>* states, std::vector<jlong>* serialized) const;
+
+    void clear_pending_merges();
+
+private:
+    size_t _state_size;
+    int _num_states = 0;
+    // pages are never moved, so the address of a state is stable
+    std::vector<std::unique_ptr<uint8_t[]>> _pages;
+    std::vector<int> _free_handles;
+
+    std::vector<int> _pending_handles;
+    std::vector<uint8_t> _pending_serialized;
+};
+
+// Check the signatures of the methods of a UDAF with off-heap states against the arguments and
+// the return type of the function, eg: stateSize "()I", updateBatch "([J[Ljava/lang/Long;)V",
+// mergeBatch "([J[J)V" and finalizeBatch "([J)[Ljava/lang/Long;"
+Status check_udaf_offheap_signatures(const std::string& state_size_sign, const std::string& update_batch_sign,
+                                     const std::string& merge_batch_sign, const std::string& finalize_batch_sign,
+                                     const std::vector<LogicalType>& arg_types, LogicalType return_type);
+
 // For loading UDF Class
 // Not thread safe
 class ClassLoader {
 public:
     static const inline int BATCH_SINGLE_UPDATE = 1;
     static const inline int BATCH_EVALUATE = 2;
+    static const inline int BATCH_EVALUATE_VECTORIZED = 3;
     // Handle
     ClassLoader(std::string path) : _path(std::move(path)) {}
     ~ClassLoader();
@@ -462,6 +528,9 @@ struct JavaUDFContext {
     std::unique_ptr<ClassLoader> udf_classloader;
     std::unique_ptr<ClassAnalyzer> analyzer;
     std::unique_ptr<BatchEvaluateStub> call_stub;
+    // call stub of the optional evaluateBatch(int[], long[]...) method,
+    // used when none of the input columns have null values
+    std::unique_ptr<BatchEvaluateStub> vectorized_call_stub;
 
     JVMClass udf_class = nullptr;
     JavaGlobalRef udf_handle = nullptr;
@@ -526,6 +595,16 @@ struct JavaUDAFContext {
     std::unique_ptr<JavaMethodDescriptor> window_update;
     std::unique_ptr<JavaMethodDescriptor> get_values;
 
+    // only set if the UDAF keeps its states off-heap
+    std::unique_ptr<UDAFOffHeapStates> offheap_states;
+    // void updateBatch(long[] states, T1[] input1, ...)
+    JavaGlobalRef update_batch = nullptr;
+    // void mergeBatch(long[] states, long[] serialized)
+    JavaGlobalRef merge_batch = nullptr;
+    // R[] finalizeBatch(long[] states)
+    JavaGlobalRef finalize_batch = nullptr;
+    LogicalType finalize_batch_type = TYPE_UNKNOWN;
+
     std::unique_ptr<DirectByteBuffer> buffer;
     // handle for UDAF object
     JavaGlobalRef handle = nullptr;
@@ -0,0 +1,128 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+#include <gtest/gtest.h>
+
+#include <cstring>
+
+#include "testutil/assert.h"
+#include "udf/java/java_udf.h"
+
+namespace starrocks {
+
+TEST(UDAFOffHeapStatesTest, test_allocate_and_free) {
+    UDAFOffHeapStates states(16);
+    ASSERT_EQ(16, states.state_size());
+
+    std::vector<int> handles;
+    for (int i = 0; i < UDAFOffHeapStates::STATES_PER_PAGE + 10; ++i) {
+        handles.push_back(states.allocate());
+    }
+    for (int i = 0; i < handles.size(); ++i) {
+        ASSERT_EQ(i, handles[i]);
+        // states don't overlap, even across pages
+        memset(states.address(handles[i]), i % 128, states.state_size());
+    }
+    uint8_t* address = states.address(handles[5]);
+    ASSERT_EQ(5, address[15]);
+    ASSERT_EQ(6, states.address(handles[6])[0]);
+
+    // a freed state is reused and zero filled again
+    states.free(handles[5]);
+    ASSERT_EQ(5, states.allocate());
+    ASSERT_EQ(address, states.address(5));
+    for (int i = 0; i < states.state_size(); ++i) {
+        ASSERT_EQ(0, address[i]);
+    }
+    ASSERT_EQ(UDAFOffHeapStates::STATES_PER_PAGE + 10, states.allocate());
+}
+
+TEST(UDAFOffHeapStatesTest, test_pending_merges) {
+    UDAFOffHeapStates states(8);
+    int handle0 = states.allocate();
+    int handle1 = states.allocate();
+
+    std::string serialized0(8, 'a');
+    std::string serialized1(8, 'b');
+    ASSERT_FALSE(states.add_pending_merge(handle1, Slice(serialized0)));
+    ASSERT_FALSE(states.add_pending_merge(handle0, Slice(serialized1)));
+    ASSERT_FALSE(states.add_pending_merge(handle1, Slice(serialized1)));
+    ASSERT_EQ(3, states.num_pending_merges());
+    // the serialized states are copied, the input column could be released before the merges are flushed
+    serialized0.assign(8, 'c');
+
+    std::vector<jlong> addresses;
+    std::vector<jlong> serialized;
+    states.get_pending_merges(&addresses, &serialized);
+    ASSERT_EQ(3, addresses.size());
+    ASSERT_EQ(3, serialized.size());
+    // in the order they were added
+    ASSERT_EQ(reinterpret_cast<jlong>(states.address(handle1)), addresses[0]);
+    ASSERT_EQ(reinterpret_cast<jlong>(states.address(handle0)), addresses[1]);
+    ASSERT_EQ(reinterpret_cast<jlong>(states.address(handle1)), addresses[2]);
+    ASSERT_EQ(std::string(8, 'a'), std::string(reinterpret_cast<const char*>(serialized[0]), 8));
+    ASSERT_EQ(std::string(8, 'b'), std::string(reinterpret_cast<const char*>(serialized[1]), 8));
+    ASSERT_EQ(std::string(8, 'b'), std::string(reinterpret_cast<const char*>(serialized[2]), 8));
+
+    states.clear_pending_merges();
+    ASSERT_EQ(0, states.num_pending_merges());
+
+    // the buffer is full after MAX_PENDING_MERGES merges
+    for (size_t i = 0; i + 1 < UDAFOffHeapStates::MAX_PENDING_MERGES; ++i) {
+        ASSERT_FALSE(states.add_pending_merge(handle0, Slice(serialized1)));
+    }
+    ASSERT_TRUE(states.add_pending_merge(handle0, Slice(serialized1)));
+}
+
+TEST(UDAFOffHeapStatesTest, test_check_signatures) {
+    std::vector<LogicalType> arg_types = {TYPE_BIGINT, TYPE_VARCHAR};
+    const std::string update_batch = "([J[Ljava/lang/Long;[Ljava/lang/String;)V";
+    const std::string finalize_batch = "([J)[Ljava/lang/Long;";
+    ASSERT_OK(check_udaf_offheap_signatures("()I", update_batch, "([J[J)V", finalize_batch, arg_types, TYPE_BIGINT));
+    // char arguments are passed as String
+    ASSERT_OK(check_udaf_offheap_signatures("()I", update_batch, "([J[J)V", finalize_batch, {TYPE_BIGINT, TYPE_CHAR},
+                                            TYPE_BIGINT));
+    ASSERT_OK(check_udaf_offheap_signatures("()I", update_batch, "([J[J)V", "([J)[Ljava/lang/String;", arg_types,
+                                            TYPE_VARCHAR));
+
+    // stateSize returns a long
+    ASSERT_ERROR(
+            check_udaf_offheap_signatures("()J", update_batch, "([J[J)V", finalize_batch, arg_types, TYPE_BIGINT));
+    // mergeBatch takes the serialized states as byte[]
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", update_batch, "([J[[B)V", finalize_batch, arg_types,
+                                               TYPE_BIGINT));
+    // updateBatch misses an input
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", "([J[Ljava/lang/Long;)V", "([J[J)V", finalize_batch,
+                                               arg_types, TYPE_BIGINT));
+    // updateBatch takes a primitive array
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", "([J[J[Ljava/lang/String;)V", "([J[J)V", finalize_batch,
+                                               arg_types, TYPE_BIGINT));
+    // updateBatch input type doesn't match the argument type
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", "([J[Ljava/lang/Integer;[Ljava/lang/String;)V", "([J[J)V",
+                                               finalize_batch, arg_types, TYPE_BIGINT));
+    // updateBatch doesn't take the states first
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", "([Ljava/lang/Long;[Ljava/lang/String;[J)V", "([J[J)V",
+                                               finalize_batch, arg_types, TYPE_BIGINT));
+    // finalizeBatch returns a single value
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", update_batch, "([J[J)V", "([J)Ljava/lang/Long;", arg_types,
+                                               TYPE_BIGINT));
+    // finalizeBatch result doesn't match the return type
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", update_batch, "([J[J)V", "([J)[Ljava/lang/Double;", arg_types,
+                                               TYPE_BIGINT));
+    // malformed signature
+    ASSERT_ERROR(check_udaf_offheap_signatures("()I", "([J[Ljava/lang/Long", "([J[J)V", finalize_batch, arg_types,
+                                               TYPE_BIGINT));
+}
+
+} // namespace starrocks
@@ -80,6 +80,7 @@ public class EsTable extends Table implements GsonPostProcessable {
     public static final String KEY_DOC_VALUE_SCAN = "enable_docvalue_scan";
     public static final String KEY_KEYWORD_SNIFF = "enable_keyword_sniff";
     public static final String KEY_MAX_DOCVALUE_FIELDS = "max_docvalue_fields";
+    public static final String KEY_MAX_SCROLL_SLICES_PER_SHARD = "max_scroll_slices_per_shard";
 
     public static final String KEY_WAN_ONLY = "es.nodes.wan.only";
     public static final String KEY_ES_NET_SSL = "es.net.ssl";
@@ -126,6 +127,10 @@ public class EsTable extends Table implements GsonPostProcessable {
     // @see `MAX_DOCVALUE_FIELDS`
     private static final int DEFAULT_MAX_DOCVALUE_FIELDS = 20;
 
+    // a shard is scanned by up to this many sliced scrolls in parallel, one per compute node at most,
+    // so an index of a few large shards is not scanned by a few scanners only.
+    private int maxScrollSlicesPerShard = 1;
+
     private boolean wanOnly = false;
     private boolean sslEnabled = false;
     private String timeZone = null;
@@ -171,6 +176,10 @@ public class EsTable extends Table implements GsonPostProcessable {
         return maxDocValueFields;
     }
 
+    public int maxScrollSlicesPerShard() {
+        return maxScrollSlicesPerShard;
+    }
+
     public boolean isDocValueScanEnable() {
         return enableDocValueScan;
     }
@@ -297,6 +306,19 @@ public class EsTable extends Table implements GsonPostProcessable {
             }
         }
 
+        if (properties.containsKey(KEY_MAX_SCROLL_SLICES_PER_SHARD)) {
+            String value = properties.get(KEY_MAX_SCROLL_SLICES_PER_SHARD).trim();
+            try {
+                maxScrollSlicesPerShard = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                maxScrollSlicesPerShard = 0;
+            }
+            if (maxScrollSlicesPerShard < 1) {
+                throw new DdlException(KEY_MAX_SCROLL_SLICES_PER_SHARD + " of ES table must be a positive integer,"
+                        + " but value is " + value);
+            }
+        }
+
         if (properties.containsKey(KEY_WAN_ONLY)) {
             try {
                 wanOnly = Boolean.parseBoolean(properties.get(KEY_WAN_ONLY).trim());
@@ -334,6 +356,7 @@ public class EsTable extends Table implements GsonPostProcessable {
         tableContext.put("enableDocValueScan", String.valueOf(enableDocValueScan));
         tableContext.put("enableKeywordSniff", String.valueOf(enableKeywordSniff));
         tableContext.put("maxDocValueFields", String.valueOf(maxDocValueFields));
+        tableContext.put("maxScrollSlicesPerShard", String.valueOf(maxScrollSlicesPerShard));
         tableContext.put("es.nodes.wan.only", String.valueOf(wanOnly));
         tableContext.put(KEY_ES_NET_SSL, String.valueOf(sslEnabled));
     }
@@ -405,6 +428,13 @@ public class EsTable extends Table implements GsonPostProcessable {
                 maxDocValueFields = DEFAULT_MAX_DOCVALUE_FIELDS;
             }
         }
+        if (tableContext.containsKey("maxScrollSlicesPerShard")) {
+            try {
+                maxScrollSlicesPerShard = Integer.parseInt(tableContext.get("maxScrollSlicesPerShard"));
+            } catch (Exception e) {
+                maxScrollSlicesPerShard = 1;
+            }
+        }
         if (tableContext.containsKey(KEY_WAN_ONLY)) {
             wanOnly = Boolean.parseBoolean(tableContext.get(KEY_WAN_ONLY));
         } else {
@@ -2223,6 +2223,39 @@ public class Config extends ConfigBase {
     @ConfField
     public static int remote_file_metadata_load_concurrency = 32;
 
+    /**
+     * The maximum number of directories listed concurrently on one file system or object storage bucket,
+     * shared by all the catalogs and queries.
+     */
+    @ConfField
+    public static int remote_file_listing_concurrency_per_filesystem = 64;
+
+    /**
+     * The local directory the remote file caches of the external catalogs are persisted to, so that a restarted
+     * FE warms them up instead of listing all the partitions on the storage again. Empty to disable it.
+     */
+    @ConfField
+    public static String external_metadata_cache_persist_dir = "";
+
+    /**
+     * The interval of persisting the remote file caches of the external catalogs.
+     */
+    @ConfField
+    public static long external_metadata_cache_persist_interval_s = 600;
+
+    /**
+     * The maximum number of hudi tables whose file system view of the latest instant is kept across queries
+     * of one catalog, 0 to build the view for every query.
+     */
+    @ConfField
+    public static int hudi_file_system_view_cache_max_size = 128;
+
+    /**
+     * The time a cached hudi file system view is kept after it was last used.
+     */
+    @ConfField
+    public static long hudi_file_system_view_cache_ttl_s = 600;
+
     /**
      * Hive MetaStore Client socket timeout in seconds.
      */
@@ -2434,6 +2467,13 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static long query_detail_cache_time_nanosecond = 30000000000L;
 
+    /**
+     * Capacity of the fe resident result cache of short circuit point lookups, in bytes.
+     * Only used when session variable `enable_short_circuit_result_cache` is true.
+     */
+    @ConfField
+    public static long short_circuit_result_cache_capacity = 134217728L;
+
     /**
      * Min lag of routine load job to show in metrics
      * Only show the routine load job whose lag is larger than min_routine_load_lag_for_metrics
@@ -3187,6 +3227,10 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static long jdbc_meta_default_cache_expire_sec = 600L;
 
+    // timeout of the MIN/MAX query on the remote table that bounds the key a JDBC scan is split on
+    @ConfField(mutable = true)
+    public static int jdbc_split_key_query_timeout_sec = 10;
+
     // the retention time for host disconnection events
     @ConfField(mutable = true)
     public static long black_host_history_sec = 2 * 60; // 2min
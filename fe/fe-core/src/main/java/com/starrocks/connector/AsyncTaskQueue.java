@@ -75,6 +75,8 @@ public class AsyncTaskQueue<T> {
     Condition outputQueueCondition = outputQueueLock.newCondition();
     ArrayList<T> outputQueue = new ArrayList<>();
     AtomicInteger outputQueueSize = new AtomicInteger();
+    // the peak size of output queue, to observe the back pressure of consumer.
+    AtomicInteger peakOutputQueueSize = new AtomicInteger();
     boolean hasMoreOutput = true;
 
     // task queue
@@ -192,6 +194,14 @@ public class AsyncTaskQueue<T> {
         return outputs;
     }
 
+    public int getOutputQueueSize() {
+        return outputQueueSize.get();
+    }
+
+    public int getPeakOutputQueueSize() {
+        return peakOutputQueueSize.get();
+    }
+
     public boolean hasMoreOutput() {
         // update end of stream state
         tryGetOutputs(null, 0);
@@ -206,7 +216,8 @@ public class AsyncTaskQueue<T> {
             for (T output : outputs) {
                 size += computeOutputSize(output);
             }
-            outputQueueSize.addAndGet(size);
+            int currentSize = outputQueueSize.addAndGet(size);
+            peakOutputQueueSize.accumulateAndGet(currentSize, Math::max);
             outputQueueCondition.signal();
         } finally {
             outputQueueLock.unlock();
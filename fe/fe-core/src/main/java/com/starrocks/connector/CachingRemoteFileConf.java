@@ -23,6 +23,8 @@ public class CachingRemoteFileConf {
     private final long cacheTtlSec;
     private final long cacheRefreshIntervalSec;
     private long cacheMaxSize = 1000000L;
+    // the cache is bounded by the estimated bytes of the remote files instead of the number of paths if positive.
+    private final long cacheMaxBytes;
     private final int perQueryCacheMaxSize = 10000;
     private final int refreshMaxThreadNum;
 
@@ -32,6 +34,7 @@ public class CachingRemoteFileConf {
         this.cacheRefreshIntervalSec = Long.parseLong(conf.getOrDefault("remote_file_cache_refresh_interval_sec",
                 String.valueOf(Config.remote_file_cache_refresh_interval_s)));
         this.cacheMaxSize = Long.parseLong(conf.getOrDefault("remote_file_cache_max_num", String.valueOf(cacheMaxSize)));
+        this.cacheMaxBytes = Long.parseLong(conf.getOrDefault("remote_file_cache_max_bytes", "-1"));
         this.refreshMaxThreadNum = Integer.parseInt(conf.getOrDefault("async_refresh_max_thread_num", "32"));
     }
 
@@ -47,6 +50,10 @@ public class CachingRemoteFileConf {
         return cacheMaxSize;
     }
 
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
     public int getPerQueryCacheMaxSize() {
         return perQueryCacheMaxSize;
     }
@@ -41,6 +41,8 @@ public class CachingRemoteFileIO implements RemoteFileIO {
 
     public static final long NEVER_EVICT = -1;
     public static final long NEVER_REFRESH = -1;
+    // rough heap footprint of one cached path without its files.
+    static final long PATH_BYTES = 256;
     private final RemoteFileIO fileIO;
     private final LoadingCache<RemotePathKey, List<RemoteFileDesc>> cache;
 
@@ -49,16 +51,32 @@ public class CachingRemoteFileIO implements RemoteFileIO {
                                   long expireAfterWriteSec,
                                   long refreshIntervalSec,
                                   long maxSize) {
+        this(fileIO, executor, expireAfterWriteSec, refreshIntervalSec, maxSize, -1);
+    }
+
+    protected CachingRemoteFileIO(RemoteFileIO fileIO,
+                                  Executor executor,
+                                  long expireAfterWriteSec,
+                                  long refreshIntervalSec,
+                                  long maxSize,
+                                  long maxBytes) {
         this.fileIO = fileIO;
-        this.cache = newCacheBuilder(expireAfterWriteSec, refreshIntervalSec, maxSize)
-                .build(asyncReloading(new CacheLoader<RemotePathKey, List<RemoteFileDesc>>() {
+        CacheLoader<RemotePathKey, List<RemoteFileDesc>> loader =
+                asyncReloading(new CacheLoader<RemotePathKey, List<RemoteFileDesc>>() {
                     @Override
                     public List<RemoteFileDesc> load(RemotePathKey key) throws Exception {
                         List<RemoteFileDesc> res = loadRemoteFiles(key);
                         key.drop();
                         return res;
                     }
-                }, executor));
+                }, executor);
+        // a partition may hold one file or hundreds of thousands of them, so bound the cache by the estimated
+        // bytes of the files if configured, instead of by the number of paths.
+        if (maxBytes > 0) {
+            this.cache = newWeightedCacheBuilder(expireAfterWriteSec, refreshIntervalSec, maxBytes).build(loader);
+        } else {
+            this.cache = newCacheBuilder(expireAfterWriteSec, refreshIntervalSec, maxSize).build(loader);
+        }
     }
 
     public static CachingRemoteFileIO createCatalogLevelInstance(RemoteFileIO fileIO, Executor executor,
@@ -66,6 +84,12 @@ public class CachingRemoteFileIO implements RemoteFileIO {
         return new CachingRemoteFileIO(fileIO, executor, expireAfterWrite, refreshInterval, maxSize);
     }
 
+    public static CachingRemoteFileIO createCatalogLevelInstance(RemoteFileIO fileIO, Executor executor,
+                                                                 long expireAfterWrite, long refreshInterval, long maxSize,
+                                                                 long maxBytes) {
+        return new CachingRemoteFileIO(fileIO, executor, expireAfterWrite, refreshInterval, maxSize, maxBytes);
+    }
+
     public static CachingRemoteFileIO createQueryLevelInstance(RemoteFileIO fileIO, long maxSize) {
         return new CachingRemoteFileIO(
                 fileIO,
@@ -119,6 +143,17 @@ public class CachingRemoteFileIO implements RemoteFileIO {
         pathKey.drop();
     }
 
+    public Map<RemotePathKey, List<RemoteFileDesc>> getCachedRemoteFiles() {
+        return ImmutableMap.copyOf(cache.asMap());
+    }
+
+    /**
+     * Put the remote files of the paths not cached yet, the files listed since the warm-up started are newer.
+     */
+    public void warmUp(Map<RemotePathKey, List<RemoteFileDesc>> remoteFiles) {
+        remoteFiles.forEach(cache.asMap()::putIfAbsent);
+    }
+
     public synchronized void invalidateAll() {
         cache.invalidateAll();
     }
@@ -149,6 +184,33 @@ public class CachingRemoteFileIO implements RemoteFileIO {
         return cacheBuilder;
     }
 
+    private static CacheBuilder<RemotePathKey, List<RemoteFileDesc>> newWeightedCacheBuilder(long expiresAfterWriteSec,
+                                                                                              long refreshSec,
+                                                                                              long maximumBytes) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        if (expiresAfterWriteSec >= 0) {
+            cacheBuilder.expireAfterWrite(expiresAfterWriteSec, SECONDS);
+        }
+
+        if (refreshSec > 0 && expiresAfterWriteSec > refreshSec) {
+            cacheBuilder.refreshAfterWrite(refreshSec, SECONDS);
+        }
+
+        return cacheBuilder.maximumWeight(maximumBytes)
+                .weigher((RemotePathKey key, List<RemoteFileDesc> files) -> weigh(files));
+    }
+
+    /**
+     * The weight of a remote file cache entry in bytes.
+     */
+    public static int weigh(List<RemoteFileDesc> files) {
+        long bytes = PATH_BYTES;
+        for (RemoteFileDesc file : files) {
+            bytes += file.estimateSize();
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
     @Override
     public FileStatus[] getFileStatus(Path... files) throws IOException {
         return fileIO.getFileStatus(files);
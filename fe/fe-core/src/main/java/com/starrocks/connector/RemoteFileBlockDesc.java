@@ -49,6 +49,10 @@ public class RemoteFileBlockDesc {
         return remoteFileIO.getHdfsDataNodeIp(hostId);
     }
 
+    public String getReplicaHost(long hostId) {
+        return remoteFileIO == null ? null : remoteFileIO.getBlockHost(hostId);
+    }
+
     @Override
     public String toString() {
         final StringBuffer sb = new StringBuffer("RemoteFileBlockDesc{");
@@ -0,0 +1,232 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector;
+
+import com.google.common.collect.ImmutableList;
+import com.starrocks.connector.hive.HiveRemoteFileIO;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A local file holding the remote files cached by a catalog, so that a restarted FE warms its remote file cache
+ * up instead of listing every partition on the storage again.
+ * <p>
+ * The file starts with a magic number, the format version and the time it was written, and ends with a CRC32 of
+ * all the bytes before it. It is read through a memory mapping, and a file of another version, a corrupted one
+ * or one older than the cache ttl is ignored. Only the files listed by {@link HiveRemoteFileIO} are persisted.
+ */
+public class RemoteFileCacheSnapshot {
+    private static final Logger LOG = LogManager.getLogger(RemoteFileCacheSnapshot.class);
+    private static final int MAGIC = 0x53524643;
+    static final int VERSION = 1;
+    // magic, version and write time.
+    private static final int HEADER_BYTES = 16;
+    private static final int CHECKSUM_BYTES = 8;
+
+    /**
+     * Write the remote files to the file, replacing the previous snapshot atomically.
+     */
+    public static void save(File file, Map<RemotePathKey, List<RemoteFileDesc>> remoteFiles) throws IOException {
+        File tmpFile = getTmpFile(file);
+        CRC32 checksum = new CRC32();
+        try (CheckedOutputStream checkedOut = new CheckedOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmpFile)), checksum);
+                DataOutputStream out = new DataOutputStream(checkedOut)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(System.currentTimeMillis());
+
+            List<Map.Entry<RemotePathKey, List<RemoteFileDesc>>> entries = new ArrayList<>();
+            for (Map.Entry<RemotePathKey, List<RemoteFileDesc>> entry : remoteFiles.entrySet()) {
+                if (entry.getValue().stream().allMatch(desc -> desc.getClass() == RemoteFileDesc.class)) {
+                    entries.add(entry);
+                }
+            }
+            out.writeInt(entries.size());
+            for (Map.Entry<RemotePathKey, List<RemoteFileDesc>> entry : entries) {
+                writeString(out, entry.getKey().getPath());
+                out.writeBoolean(entry.getKey().isRecursive());
+                out.writeInt(entry.getValue().size());
+                for (RemoteFileDesc desc : entry.getValue()) {
+                    writeFile(out, desc);
+                }
+            }
+            out.flush();
+            out.writeLong(checksum.getValue());
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Delete the snapshot and the partial file of an unfinished save.
+     *
+     * @return whether a file was deleted.
+     */
+    public static boolean delete(File file) {
+        boolean deleted = getTmpFile(file).delete();
+        return file.delete() || deleted;
+    }
+
+    private static File getTmpFile(File file) {
+        return new File(file.getPath() + ".tmp");
+    }
+
+    private static void writeFile(DataOutputStream out, RemoteFileDesc desc) throws IOException {
+        writeString(out, desc.getFileName());
+        writeString(out, desc.getFullPath());
+        writeString(out, desc.getCompression());
+        out.writeLong(desc.getLength());
+        out.writeLong(desc.getModificationTime());
+        List<RemoteFileBlockDesc> blockDescs = desc.getBlockDescs() == null ? ImmutableList.of() : desc.getBlockDescs();
+        out.writeInt(blockDescs.size());
+        for (RemoteFileBlockDesc blockDesc : blockDescs) {
+            out.writeLong(blockDesc.getOffset());
+            out.writeLong(blockDesc.getLength());
+            List<String> hosts = new ArrayList<>();
+            for (long hostId : blockDesc.getReplicaHostIds()) {
+                String host = blockDesc.getReplicaHost(hostId);
+                if (host != null) {
+                    hosts.add(host);
+                }
+            }
+            out.writeInt(hosts.size());
+            for (String host : hosts) {
+                writeString(out, host);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read the remote files from the file, or an empty map if it does not exist or can not be used.
+     *
+     * @param maxAgeSec the snapshot is ignored if it was written longer ago than this
+     * @param fileIO the file io building the block descriptions, which maps the block hosts to its own ids
+     */
+    public static Map<RemotePathKey, List<RemoteFileDesc>> load(File file, long maxAgeSec, HiveRemoteFileIO fileIO) {
+        Map<RemotePathKey, List<RemoteFileDesc>> remoteFiles = new HashMap<>();
+        if (!file.exists()) {
+            return remoteFiles;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES + CHECKSUM_BYTES) {
+                LOG.warn("Ignore the truncated remote file cache snapshot {}", file);
+                return remoteFiles;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int dataBytes = buffer.capacity() - CHECKSUM_BYTES;
+            CRC32 checksum = new CRC32();
+            ByteBuffer data = buffer.duplicate();
+            data.limit(dataBytes);
+            checksum.update(data);
+            if (checksum.getValue() != buffer.getLong(dataBytes)) {
+                LOG.warn("Ignore the remote file cache snapshot {} with a mismatched checksum", file);
+                return remoteFiles;
+            }
+
+            int version = buffer.getInt(4);
+            long writeTime = buffer.getLong(8);
+            if (buffer.getInt(0) != MAGIC || version != VERSION) {
+                LOG.warn("Ignore the remote file cache snapshot {} of version {}", file, version);
+                return remoteFiles;
+            }
+            if (maxAgeSec >= 0 && System.currentTimeMillis() - writeTime > TimeUnit.SECONDS.toMillis(maxAgeSec)) {
+                LOG.info("Ignore the remote file cache snapshot {} written at {}", file, writeTime);
+                return remoteFiles;
+            }
+
+            buffer.position(HEADER_BYTES);
+            buffer.limit(dataBytes);
+            int pathCount = buffer.getInt();
+            for (int i = 0; i < pathCount; i++) {
+                RemotePathKey pathKey = RemotePathKey.of(readString(buffer), buffer.get() != 0);
+                int fileCount = buffer.getInt();
+                List<RemoteFileDesc> descs = new ArrayList<>(fileCount);
+                for (int j = 0; j < fileCount; j++) {
+                    descs.add(readFile(buffer, fileIO));
+                }
+                remoteFiles.put(pathKey, ImmutableList.copyOf(descs));
+            }
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            LOG.warn("Failed to read the remote file cache snapshot {}", file, e);
+            remoteFiles.clear();
+        }
+        return remoteFiles;
+    }
+
+    private static RemoteFileDesc readFile(ByteBuffer buffer, HiveRemoteFileIO fileIO) {
+        String fileName = readString(buffer);
+        String fullPath = readString(buffer);
+        String compression = readString(buffer);
+        long length = buffer.getLong();
+        long modificationTime = buffer.getLong();
+        int blockCount = buffer.getInt();
+        ImmutableList.Builder<RemoteFileBlockDesc> blockDescs = ImmutableList.builder();
+        for (int i = 0; i < blockCount; i++) {
+            long offset = buffer.getLong();
+            long blockLength = buffer.getLong();
+            String[] hosts = new String[buffer.getInt()];
+            for (int j = 0; j < hosts.length; j++) {
+                hosts[j] = readString(buffer);
+            }
+            blockDescs.add(fileIO.buildRemoteFileBlockDesc(offset, blockLength, fileIO.getReplicaHostIds(hosts)));
+        }
+        RemoteFileDesc desc = new RemoteFileDesc(fileName, compression, length, modificationTime, blockDescs.build());
+        if (fullPath != null) {
+            desc.setFullPath(fullPath);
+        }
+        return desc;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
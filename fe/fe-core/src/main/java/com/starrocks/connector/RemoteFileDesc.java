@@ -85,6 +85,27 @@ public class RemoteFileDesc {
         return this;
     }
 
+    /**
+     * Rough heap footprint of the file in bytes. The file name is relative to the cached path, and the block
+     * descriptions only hold primitive offsets, lengths and host ids.
+     */
+    public long estimateSize() {
+        long size = 96;
+        if (fileName != null) {
+            size += 40 + 2L * fileName.length();
+        }
+        if (fullPath != null) {
+            size += 40 + 2L * fullPath.length();
+        }
+        if (blockDescs != null) {
+            for (RemoteFileBlockDesc blockDesc : blockDescs) {
+                long[] hostIds = blockDesc.getReplicaHostIds();
+                size += 48 + (hostIds == null ? 0 : 16 + 8L * hostIds.length);
+            }
+        }
+        return size;
+    }
+
     @Override
     public String toString() {
         return "RemoteFileDesc{" + "fileName='" + fileName + '\'' +
@@ -58,6 +58,7 @@ public class RemoteFileOperations {
     public static final String HMS_PARTITIONS_REMOTE_FILES = "HMS.PARTITIONS.LIST_FS_PARTITIONS";
     public static final String HMS_PARTITIONS_LIST_FIES_ASYNC_GET = "HMS.PARTITIONS.LIST_FS_ASYNC.GET";
     public static final String HMS_PARTITIONS_LIST_FILES_ASYNC_WAIT = "HMS.PARTITIONS.LIST_FS_ASYNC.WAIT";
+    public static final String HMS_PARTITIONS_LIST_FILES_ASYNC_QUEUE_PEAK = "HMS.PARTITIONS.LIST_FS_ASYNC.QUEUE_PEAK";
     protected CachingRemoteFileIO remoteFileIO;
     private final ExecutorService pullRemoteFileExecutor;
     private final Executor updateRemoteFilesExecutor;
@@ -167,7 +168,10 @@ public class RemoteFileOperations {
             @Override
             public List<RemoteFileInfo> getOutputs(int maxSize) {
                 try (Timer ignored = Tracers.watchScope(Tracers.Module.EXTERNAL, HMS_PARTITIONS_LIST_FIES_ASYNC_GET)) {
-                    return super.getOutputs(maxSize);
+                    List<RemoteFileInfo> outputs = super.getOutputs(maxSize);
+                    Tracers.record(Tracers.Module.EXTERNAL, HMS_PARTITIONS_LIST_FILES_ASYNC_QUEUE_PEAK,
+                            String.valueOf(getPeakOutputQueueSize()));
+                    return outputs;
                 }
             }
 
@@ -27,6 +27,9 @@ public class DeltaLakeCatalogProperties {
     public static final String DELTA_LAKE_CHECKPOINT_META_CACHE_TTL = "deltalake_checkpoint_meta_cache_ttl_sec";
     public static final String DELTA_LAKE_CHECKPOINT_META_CACHE_MEMORY_USAGE_RATIO =
             "deltalake_checkpoint_meta_cache_memory_usage_ratio";
+    public static final String ENABLE_DELTA_LAKE_SCAN_FILE_CACHE = "enable_deltalake_scan_file_cache";
+    public static final String DELTA_LAKE_SCAN_FILE_CACHE_TTL = "deltalake_scan_file_cache_ttl_sec";
+    public static final String DELTA_LAKE_SCAN_FILE_CACHE_MEMORY_USAGE_RATIO = "deltalake_scan_file_cache_memory_usage_ratio";
 
     private final Map<String, String> properties;
     private boolean enableDeltaLakeTableCache;
@@ -36,6 +39,9 @@ public class DeltaLakeCatalogProperties {
     private double deltaLakeJsonMetaCacheMemoryUsageRatio;
     private long deltaLakeCheckpointMetaCacheTtlSec;
     private double deltaLakeCheckpointMetaCacheMemoryUsageRatio;
+    private boolean enableDeltaLakeScanFileCache;
+    private long deltaLakeScanFileCacheTtlSec;
+    private double deltaLakeScanFileCacheMemoryUsageRatio;
 
     public DeltaLakeCatalogProperties(Map<String, String> properties) {
         this.properties = properties;
@@ -57,6 +63,12 @@ public class DeltaLakeCatalogProperties {
                 PropertyUtil.propertyAsLong(properties, DELTA_LAKE_CHECKPOINT_META_CACHE_TTL, 48 * 60 * 60);
         this.deltaLakeCheckpointMetaCacheMemoryUsageRatio =
                 PropertyUtil.propertyAsDouble(properties, DELTA_LAKE_CHECKPOINT_META_CACHE_MEMORY_USAGE_RATIO, 0.1);
+        this.enableDeltaLakeScanFileCache =
+                PropertyUtil.propertyAsBoolean(properties, ENABLE_DELTA_LAKE_SCAN_FILE_CACHE, true);
+        this.deltaLakeScanFileCacheTtlSec =
+                PropertyUtil.propertyAsLong(properties, DELTA_LAKE_SCAN_FILE_CACHE_TTL, 48 * 60 * 60);
+        this.deltaLakeScanFileCacheMemoryUsageRatio =
+                PropertyUtil.propertyAsDouble(properties, DELTA_LAKE_SCAN_FILE_CACHE_MEMORY_USAGE_RATIO, 0.1);
     }
 
     public boolean isEnableDeltaLakeTableCache() {
@@ -87,6 +99,18 @@ public class DeltaLakeCatalogProperties {
         return deltaLakeCheckpointMetaCacheMemoryUsageRatio;
     }
 
+    public boolean isEnableDeltaLakeScanFileCache() {
+        return enableDeltaLakeScanFileCache;
+    }
+
+    public long getDeltaLakeScanFileCacheTtlSec() {
+        return deltaLakeScanFileCacheTtlSec;
+    }
+
+    public double getDeltaLakeScanFileCacheMemoryUsageRatio() {
+        return deltaLakeScanFileCacheMemoryUsageRatio;
+    }
+
     public Map<String, String> getProperties() {
         return properties;
     }
@@ -33,15 +33,23 @@ public class DeltaLakeEngine extends DefaultEngine {
     private final LoadingCache<Pair<DeltaLakeFileStatus, StructType>, List<ColumnarBatch>> checkpointCache;
     // Cache for json metadata, key is file path, value is list of JsonNode
     private final LoadingCache<DeltaLakeFileStatus, List<JsonNode>> jsonCache;
+    // Cache for planned add files across queries, null if disabled
+    private final DeltaLakeScanFileCache scanFileCache;
 
     protected DeltaLakeEngine(Configuration hadoopConf, DeltaLakeCatalogProperties properties,
                               LoadingCache<Pair<DeltaLakeFileStatus, StructType>, List<ColumnarBatch>> checkpointCache,
-                              LoadingCache<DeltaLakeFileStatus, List<JsonNode>> jsonCache) {
+                              LoadingCache<DeltaLakeFileStatus, List<JsonNode>> jsonCache,
+                              DeltaLakeScanFileCache scanFileCache) {
         super(hadoopConf);
         this.hadoopConf = hadoopConf;
         this.properties = properties;
         this.checkpointCache = checkpointCache;
         this.jsonCache = jsonCache;
+        this.scanFileCache = scanFileCache;
+    }
+
+    public DeltaLakeScanFileCache getScanFileCache() {
+        return scanFileCache;
     }
 
     @Override
@@ -58,7 +66,8 @@ public class DeltaLakeEngine extends DefaultEngine {
 
     public static DeltaLakeEngine create(Configuration hadoopConf, DeltaLakeCatalogProperties properties,
                                          LoadingCache<Pair<DeltaLakeFileStatus, StructType>, List<ColumnarBatch>> checkpointCache,
-                                         LoadingCache<DeltaLakeFileStatus, List<JsonNode>> jsonCache) {
-        return new DeltaLakeEngine(hadoopConf, properties, checkpointCache, jsonCache);
+                                         LoadingCache<DeltaLakeFileStatus, List<JsonNode>> jsonCache,
+                                         DeltaLakeScanFileCache scanFileCache) {
+        return new DeltaLakeEngine(hadoopConf, properties, checkpointCache, jsonCache, scanFileCache);
     }
 }
@@ -58,7 +58,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -231,7 +233,43 @@ public class DeltaLakeMetadata implements ConnectorMetadata {
         List<FileScanTask> files = Lists.newArrayList();
 
         long estimateRowSize = table.getColumns().stream().mapToInt(column -> column.getType().getTypeSize()).sum();
+        boolean needStats = enableCollectColumnStatistics(connectContext);
+
+        DeltaLakeScanFileCache scanFileCache = engine instanceof DeltaLakeEngine ?
+                ((DeltaLakeEngine) engine).getScanFileCache() : null;
+        String tableLocation = deltaLakeTable.getTableLocation();
+        long version = snapshot.getVersion(engine);
+        List<Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> scanFiles = null;
+        if (scanFileCache != null) {
+            scanFiles = scanFileCache.get(tableLocation, metadata.getId(), version, deltaLakePredicate, needStats,
+                    estimateRowSize);
+        }
+        if (scanFiles == null) {
+            LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> plannedFiles =
+                    planScanFiles(engine, scan, needStats, estimateRowSize);
+            if (scanFileCache != null) {
+                scanFileCache.put(tableLocation, metadata.getId(), version, deltaLakePredicate, needStats, plannedFiles);
+            }
+            scanFiles = new ArrayList<>(plannedFiles.values());
+        }
+
+        for (Pair<FileScanTask, DeltaLakeAddFileStatsSerDe> pair : scanFiles) {
+            files.add(pair.first);
+            String scope = needStats ? "DELTA_LAKE.updateDeltaLakeFileStats" : "DELTA_LAKE.updateDeltaLakeCardinality";
+            try (Timer ignored = Tracers.watchScope(EXTERNAL, scope)) {
+                statisticProvider.updateFileStats(deltaLakeTable, key, pair.first, pair.second,
+                        nonPartitionPrimitiveColumns, partitionPrimitiveColumns);
+            }
+        }
+
+        splitTasks.put(key, files);
+        scannedTables.add(key);
+    }
 
+    // the planned files keyed by the add file path recorded in the delta log.
+    private LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> planScanFiles(
+            Engine engine, ScanImpl scan, boolean needStats, long estimateRowSize) {
+        LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files = new LinkedHashMap<>();
         try (CloseableIterator<FilteredColumnarBatch> scanFilesAsBatches = scan.getScanFiles(engine, true)) {
             while (scanFilesAsBatches.hasNext()) {
                 FilteredColumnarBatch scanFileBatch = scanFilesAsBatches.next();
@@ -244,25 +282,8 @@ public class DeltaLakeMetadata implements ConnectorMetadata {
                                     "Delta table feature [deletion vectors] is not supported");
                         }
 
-                        if (enableCollectColumnStatistics(connectContext)) {
-                            Pair<FileScanTask, DeltaLakeAddFileStatsSerDe> pair =
-                                    ScanFileUtils.convertFromRowToFileScanTask(true, scanFileRow, estimateRowSize);
-                            files.add(pair.first);
-
-                            try (Timer ignored = Tracers.watchScope(EXTERNAL, "DELTA_LAKE.updateDeltaLakeFileStats")) {
-                                statisticProvider.updateFileStats(deltaLakeTable, key, pair.first, pair.second,
-                                        nonPartitionPrimitiveColumns, partitionPrimitiveColumns);
-                            }
-                        } else {
-                            Pair<FileScanTask, DeltaLakeAddFileStatsSerDe> pair =
-                                    ScanFileUtils.convertFromRowToFileScanTask(false, scanFileRow, estimateRowSize);
-                            files.add(pair.first);
-
-                            try (Timer ignored = Tracers.watchScope(EXTERNAL, "DELTA_LAKE.updateDeltaLakeCardinality")) {
-                                statisticProvider.updateFileStats(deltaLakeTable, key, pair.first, pair.second,
-                                        nonPartitionPrimitiveColumns, partitionPrimitiveColumns);
-                            }
-                        }
+                        files.put(ScanFileUtils.getAddFilePath(scanFileRow),
+                                ScanFileUtils.convertFromRowToFileScanTask(needStats, scanFileRow, estimateRowSize));
                     }
                 }
             }
@@ -270,9 +291,7 @@ public class DeltaLakeMetadata implements ConnectorMetadata {
             LOG.error("Failed to get delta lake scan files", e);
             throw new StarRocksConnectorException("Failed to get delta lake scan files", e);
         }
-
-        splitTasks.put(key, files);
-        scannedTables.add(key);
+        return files;
     }
 
     public boolean enableCollectColumnStatistics(ConnectContext context) {
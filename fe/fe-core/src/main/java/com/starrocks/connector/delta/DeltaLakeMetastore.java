@@ -58,6 +58,7 @@ public abstract class DeltaLakeMetastore implements IDeltaLakeMetastore {
 
     private final LoadingCache<Pair<DeltaLakeFileStatus, StructType>, List<ColumnarBatch>> checkpointCache;
     private final LoadingCache<DeltaLakeFileStatus, List<JsonNode>> jsonCache;
+    private final DeltaLakeScanFileCache scanFileCache;
 
     public DeltaLakeMetastore(String catalogName, IMetastore metastore, Configuration hdfsConfiguration,
                               DeltaLakeCatalogProperties properties) {
@@ -94,6 +95,11 @@ public abstract class DeltaLakeMetastore implements IDeltaLakeMetastore {
                         return DeltaLakeJsonHandler.readJsonFile(fileStatus.getPath(), hdfsConfiguration);
                     }
                 });
+
+        long scanFileCacheSize = Math.round(Runtime.getRuntime().maxMemory() *
+                properties.getDeltaLakeScanFileCacheMemoryUsageRatio());
+        this.scanFileCache = new DeltaLakeScanFileCache(hdfsConfiguration,
+                properties.getDeltaLakeScanFileCacheTtlSec(), scanFileCacheSize);
     }
 
     @Override
@@ -122,7 +128,8 @@ public abstract class DeltaLakeMetastore implements IDeltaLakeMetastore {
         String path = metastoreTable.getTableLocation();
         long createTime = metastoreTable.getCreateTime();
 
-        Engine deltaLakeEngine = DeltaLakeEngine.create(hdfsConfiguration, properties, checkpointCache, jsonCache);
+        Engine deltaLakeEngine = DeltaLakeEngine.create(hdfsConfiguration, properties, checkpointCache, jsonCache,
+                properties.isEnableDeltaLakeScanFileCache() ? scanFileCache : null);
         return DeltaUtils.convertDeltaToSRTable(catalogName, dbName, tableName, path, deltaLakeEngine, createTime);
     }
 
@@ -173,11 +180,13 @@ public abstract class DeltaLakeMetastore implements IDeltaLakeMetastore {
     public void invalidateAll() {
         checkpointCache.invalidateAll();
         jsonCache.invalidateAll();
+        scanFileCache.invalidateAll();
     }
 
     @Override
     public Map<String, Long> estimateCount() {
-        return Map.of("checkpointCache", checkpointCache.size(), "jsonCache", jsonCache.size());
+        return Map.of("checkpointCache", checkpointCache.size(), "jsonCache", jsonCache.size(),
+                "scanFileCache", scanFileCache.fileCount());
     }
 
     @Override
@@ -192,7 +201,10 @@ public abstract class DeltaLakeMetastore implements IDeltaLakeMetastore {
                 .limit(MEMORY_META_SAMPLES)
                 .collect(Collectors.toList());
 
+        List<Object> scanFileSamples = scanFileCache.getSamples(MEMORY_META_SAMPLES);
+
         return Lists.newArrayList(Pair.create(jsonSamples, jsonCache.size()),
-                Pair.create(checkpointSamples, checkpointCache.size()));
+                Pair.create(checkpointSamples, checkpointCache.size()),
+                Pair.create(scanFileSamples, scanFileCache.fileCount()));
     }
 }
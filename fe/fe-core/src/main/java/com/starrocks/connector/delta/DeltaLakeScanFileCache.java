@@ -0,0 +1,210 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.delta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.starrocks.common.Pair;
+import io.delta.kernel.expressions.Predicate;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-query cache of the add files planned for delta lake tables.
+ * <p>
+ * The json and checkpoint files are cached by {@link DeltaLakeMetastore}, but every query still replays them
+ * and parses the stats of every add file again. This cache keeps the planned files of the latest version seen
+ * for each table and predicate, and a newer version is derived from them by applying only the commits in between.
+ * <p>
+ * The add files of the applied commits are not evaluated against the predicate, so the derived files may be
+ * a superset of what a full replay returns. The predicate is still evaluated when the files are scanned.
+ */
+public class DeltaLakeScanFileCache {
+    private static final Logger LOG = LogManager.getLogger(DeltaLakeScanFileCache.class);
+    // beyond this many commits the replay from the latest checkpoint is not much slower.
+    private static final int MAX_INCREMENTAL_COMMITS = 100;
+    // rough heap footprint of one cached file, with and without the parsed column statistics.
+    private static final long FILE_BYTES = 512;
+    private static final long FILE_WITH_STATS_BYTES = 2048;
+
+    private final Configuration hadoopConf;
+    private final Cache<ScanKey, ScanFiles> cache;
+
+    public DeltaLakeScanFileCache(Configuration hadoopConf, long expireAfterWriteSec, long maxBytes) {
+        this.hadoopConf = hadoopConf;
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(expireAfterWriteSec, TimeUnit.SECONDS)
+                .weigher((ScanKey key, ScanFiles value) -> value.weight())
+                .maximumWeight(maxBytes)
+                .build();
+    }
+
+    /**
+     * Get the planned files of the table at the version, or null if they are not cached and can not be derived
+     * from the cached files of an older version.
+     *
+     * @param tableId the id in the delta metadata, which changes if the table is recreated at the same location
+     */
+    public List<Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> get(String tableLocation, String tableId, long version,
+                                                                    Predicate predicate, boolean needStats,
+                                                                    long estimateRowSize) {
+        ScanKey key = new ScanKey(tableLocation, tableId, predicate, needStats);
+        ScanFiles cached = cache.getIfPresent(key);
+        if (cached == null || cached.version > version) {
+            return null;
+        }
+        if (cached.version < version) {
+            cached = advance(cached, tableLocation, version, needStats, estimateRowSize);
+            if (cached == null) {
+                return null;
+            }
+            put(key, cached);
+        }
+        return new ArrayList<>(cached.files.values());
+    }
+
+    /**
+     * Cache the files planned for the table at the version.
+     *
+     * @param files add file path as recorded in the delta log -> planned file
+     */
+    public void put(String tableLocation, String tableId, long version, Predicate predicate, boolean needStats,
+                    LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files) {
+        put(new ScanKey(tableLocation, tableId, predicate, needStats), new ScanFiles(version, needStats, files));
+    }
+
+    private void put(ScanKey key, ScanFiles files) {
+        // keep the newest version if the queries on different versions race.
+        cache.asMap().merge(key, files, (oldFiles, newFiles) -> oldFiles.version > newFiles.version ? oldFiles : newFiles);
+    }
+
+    private ScanFiles advance(ScanFiles cached, String tableLocation, long version, boolean needStats,
+                              long estimateRowSize) {
+        if (version - cached.version > MAX_INCREMENTAL_COMMITS) {
+            return null;
+        }
+
+        LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files = new LinkedHashMap<>(cached.files);
+        Path logPath = new Path(tableLocation, "_delta_log");
+        try {
+            for (long commit = cached.version + 1; commit <= version; commit++) {
+                String commitFile = new Path(logPath, String.format("%020d.json", commit)).toString();
+                for (JsonNode action : DeltaLakeJsonHandler.readJsonFile(commitFile, hadoopConf)) {
+                    // the schema, partition columns or table features may change, replay the whole log.
+                    if (action.has("metaData") || action.has("protocol")) {
+                        return null;
+                    }
+                    JsonNode remove = action.get("remove");
+                    if (remove != null) {
+                        files.remove(remove.get("path").asText());
+                    }
+                    JsonNode add = action.get("add");
+                    if (add != null) {
+                        JsonNode deletionVector = add.get("deletionVector");
+                        if (deletionVector != null && !deletionVector.isNull()) {
+                            return null;
+                        }
+                        files.put(add.get("path").asText(), ScanFileUtils.convertFromJsonToFileScanTask(
+                                needStats, add, tableLocation, estimateRowSize));
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to apply the commits of delta table {} from version {} to {}, replay the whole log",
+                    tableLocation, cached.version, version, e);
+            return null;
+        }
+        return new ScanFiles(version, needStats, files);
+    }
+
+    public long fileCount() {
+        return cache.asMap().values().stream().mapToLong(files -> files.files.size()).sum();
+    }
+
+    public List<Object> getSamples(int limit) {
+        List<Object> samples = new ArrayList<>();
+        for (ScanFiles files : cache.asMap().values()) {
+            if (samples.size() >= limit) {
+                break;
+            }
+            files.files.values().stream().limit(limit - samples.size()).forEach(samples::add);
+        }
+        return samples;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static class ScanKey {
+        private final String tableLocation;
+        private final String tableId;
+        private final String predicate;
+        private final boolean needStats;
+
+        private ScanKey(String tableLocation, String tableId, Predicate predicate, boolean needStats) {
+            this.tableLocation = tableLocation;
+            this.tableId = tableId;
+            this.predicate = String.valueOf(predicate);
+            this.needStats = needStats;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ScanKey that = (ScanKey) o;
+            return needStats == that.needStats && Objects.equals(tableLocation, that.tableLocation) &&
+                    Objects.equals(tableId, that.tableId) && Objects.equals(predicate, that.predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tableLocation, tableId, predicate, needStats);
+        }
+    }
+
+    private static class ScanFiles {
+        private final long version;
+        private final boolean needStats;
+        private final LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files;
+
+        private ScanFiles(long version, boolean needStats,
+                          LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files) {
+            this.version = version;
+            this.needStats = needStats;
+            this.files = files;
+        }
+
+        private int weight() {
+            long bytes = Math.max(1, files.size()) * (needStats ? FILE_WITH_STATS_BYTES : FILE_BYTES);
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -14,13 +14,17 @@
 
 package com.starrocks.connector.delta;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.gson.annotations.SerializedName;
 import com.starrocks.common.Pair;
 import com.starrocks.persist.gson.GsonUtils;
 import io.delta.kernel.data.Row;
 import io.delta.kernel.internal.InternalScanFileUtils;
 import io.delta.kernel.utils.FileStatus;
+import org.apache.hadoop.fs.Path;
 
+import java.net.URI;
+import java.util.HashMap;
 import java.util.Map;
 
 import static io.delta.kernel.internal.InternalScanFileUtils.ADD_FILE_ORDINAL;
@@ -33,7 +37,10 @@ public class ScanFileUtils {
     }
 
     public static long getFileRows(Row file, FileStatus fileStatus, long estimateRowSize) {
-        String stats = file.getString(ADD_FILE_STATS_ORDINAL);
+        return getFileRows(file.getString(ADD_FILE_STATS_ORDINAL), fileStatus, estimateRowSize);
+    }
+
+    private static long getFileRows(String stats, FileStatus fileStatus, long estimateRowSize) {
         if (stats != null) {
             Records records = GsonUtils.GSON.fromJson(stats, Records.class);
             if (records != null) {
@@ -46,7 +53,11 @@ public class ScanFileUtils {
 
     public static DeltaLakeAddFileStatsSerDe getColumnStatistics(Row file, FileStatus fileStatus,
                                                                  long estimateRowSize) {
-        String stats = file.getString(ADD_FILE_STATS_ORDINAL);
+        return getColumnStatistics(file.getString(ADD_FILE_STATS_ORDINAL), fileStatus, estimateRowSize);
+    }
+
+    private static DeltaLakeAddFileStatsSerDe getColumnStatistics(String stats, FileStatus fileStatus,
+                                                                  long estimateRowSize) {
         if (stats != null) {
             DeltaLakeAddFileStatsSerDe fileStatsSerDe = GsonUtils.GSON.fromJson(
                     stats, DeltaLakeAddFileStatsSerDe.class);
@@ -66,20 +77,57 @@ public class ScanFileUtils {
         return scanFileInfo.getStruct(ADD_FILE_ORDINAL);
     }
 
+    /**
+     * The path of the add file as recorded in the delta log, which is what a `remove` action refers to.
+     */
+    public static String getAddFilePath(Row file) {
+        Row addFileRow = getAddFileEntry(file);
+        return addFileRow.getString(addFileRow.getSchema().indexOf("path"));
+    }
+
     public static Pair<FileScanTask, DeltaLakeAddFileStatsSerDe> convertFromRowToFileScanTask(
             boolean needStats, Row file, long estimateRowSize) {
         FileStatus fileStatus = InternalScanFileUtils.getAddFileStatus(file);
         Map<String, String> partitionValues = InternalScanFileUtils.getPartitionValues(file);
         Row addFileRow = getAddFileEntry(file);
 
+        return toFileScanTask(needStats, addFileRow.getString(ADD_FILE_STATS_ORDINAL), fileStatus, partitionValues,
+                estimateRowSize);
+    }
+
+    /**
+     * Convert the `add` action of a commit json to a FileScanTask, the same way as a scan file row of the kernel.
+     */
+    public static Pair<FileScanTask, DeltaLakeAddFileStatsSerDe> convertFromJsonToFileScanTask(
+            boolean needStats, JsonNode addFile, String tableRoot, long estimateRowSize) {
+        String path = addFile.get("path").asText();
+        // resolve the path against the table root like the kernel does for the scan file rows.
+        String absolutePath = new Path(new Path(URI.create(tableRoot)), new Path(URI.create(path))).toString();
+        FileStatus fileStatus = FileStatus.of(absolutePath, addFile.get("size").asLong(),
+                addFile.get("modificationTime").asLong());
+
+        Map<String, String> partitionValues = new HashMap<>();
+        JsonNode partitionValuesNode = addFile.get("partitionValues");
+        if (partitionValuesNode != null) {
+            partitionValuesNode.fields().forEachRemaining(entry -> partitionValues.put(entry.getKey(),
+                    entry.getValue().isNull() ? null : entry.getValue().asText()));
+        }
+
+        JsonNode stats = addFile.get("stats");
+        return toFileScanTask(needStats, stats == null || stats.isNull() ? null : stats.asText(), fileStatus,
+                partitionValues, estimateRowSize);
+    }
+
+    private static Pair<FileScanTask, DeltaLakeAddFileStatsSerDe> toFileScanTask(
+            boolean needStats, String stats, FileStatus fileStatus, Map<String, String> partitionValues,
+            long estimateRowSize) {
         FileScanTask fileScanTask;
         if (needStats) {
-            DeltaLakeAddFileStatsSerDe stats = ScanFileUtils.getColumnStatistics(
-                    addFileRow, fileStatus, estimateRowSize);
-            fileScanTask = new FileScanTask(fileStatus, stats.numRecords, partitionValues);
-            return new Pair<>(fileScanTask, stats);
+            DeltaLakeAddFileStatsSerDe fileStats = getColumnStatistics(stats, fileStatus, estimateRowSize);
+            fileScanTask = new FileScanTask(fileStatus, fileStats.numRecords, partitionValues);
+            return new Pair<>(fileScanTask, fileStats);
         } else {
-            long records = ScanFileUtils.getFileRows(addFileRow, fileStatus, estimateRowSize);
+            long records = getFileRows(stats, fileStatus, estimateRowSize);
             fileScanTask = new FileScanTask(fileStatus, records, partitionValues);
             return new Pair<>(fileScanTask, null);
         }
@@ -67,9 +67,9 @@ public class QueryConverter implements AstVisitor<QueryBuilders.QueryBuilder, Vo
         QueryBuilders.BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
 
         for (Expr conjunct : conjuncts) {
-            // maybe use filter is better, but at this time we keep consistent with BE's logic
+            // the documents are not scored, BE puts the conjuncts into the filter context which ES can cache
             try {
-                boolQueryBuilder.must(visit(conjunct));
+                boolQueryBuilder.filter(visit(conjunct));
                 remoteConjuncts.add(conjunct.clone());
             } catch (Exception e) {
                 localConjuncts.add(conjunct.clone());
@@ -88,7 +88,7 @@ public class QueryConverter implements AstVisitor<QueryBuilders.QueryBuilder, Vo
                 QueryBuilders.QueryBuilder left = node.getChild(0).accept(this, context);
                 QueryBuilders.QueryBuilder right = node.getChild(1).accept(this, context);
                 if (left != null && right != null) {
-                    return QueryBuilders.boolQuery().must(left).must(right);
+                    return QueryBuilders.boolQuery().filter(left).filter(right);
                 }
                 throw new StarRocksConnectorException("process compound and failure ");
             }
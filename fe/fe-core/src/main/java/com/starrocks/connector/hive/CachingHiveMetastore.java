@@ -17,6 +17,7 @@ package com.starrocks.connector.hive;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -51,6 +52,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -92,8 +94,26 @@ public class CachingHiveMetastore extends CachingMetastore implements IHiveMetas
         return new CachingHiveMetastore(metastore, executor, expireAfterWrite, refreshInterval, maxSize, enableListNamesCache);
     }
 
+    /**
+     * @param partitionCacheMaxBytes if positive, the partition and partition statistics caches are each bounded by
+     *                               the estimated memory of their entries instead of maxSize.
+     */
+    public static CachingHiveMetastore createCatalogLevelInstance(IHiveMetastore metastore, Executor executor,
+                                                                  long expireAfterWrite, long refreshInterval,
+                                                                  long maxSize, long partitionCacheMaxBytes,
+                                                                  boolean enableListNamesCache) {
+        return new CachingHiveMetastore(metastore, executor, expireAfterWrite, refreshInterval, maxSize,
+                partitionCacheMaxBytes, enableListNamesCache);
+    }
+
     protected CachingHiveMetastore(IHiveMetastore metastore, Executor executor, long expireAfterWriteSec,
                                    long refreshIntervalSec, long maxSize, boolean enableListNamesCache) {
+        this(metastore, executor, expireAfterWriteSec, refreshIntervalSec, maxSize, -1, enableListNamesCache);
+    }
+
+    protected CachingHiveMetastore(IHiveMetastore metastore, Executor executor, long expireAfterWriteSec,
+                                   long refreshIntervalSec, long maxSize, long partitionCacheMaxBytes,
+                                   boolean enableListNamesCache) {
         super(executor, expireAfterWriteSec, refreshIntervalSec, maxSize);
         this.metastore = metastore;
         this.enableListNameCache = enableListNamesCache;
@@ -108,8 +128,8 @@ public class CachingHiveMetastore extends CachingMetastore implements IHiveMetas
                     .build(asyncReloading(CacheLoader.from(this::loadPartitionKeys), executor));
         }
 
-        partitionCache = newCacheBuilder(expireAfterWriteSec, NEVER_REFRESH, maxSize)
-                .build(asyncReloading(new CacheLoader<HivePartitionName, Partition>() {
+        partitionCache = newPartitionCache(expireAfterWriteSec, maxSize, partitionCacheMaxBytes, Partition::estimateSize,
+                asyncReloading(new CacheLoader<HivePartitionName, Partition>() {
                     @Override
                     public Partition load(@NotNull HivePartitionName key) {
                         return loadPartition(key);
@@ -125,8 +145,8 @@ public class CachingHiveMetastore extends CachingMetastore implements IHiveMetas
         tableStatsCache = newCacheBuilder(expireAfterWriteSec, refreshIntervalSec, maxSize)
                 .build(asyncReloading(CacheLoader.from(this::loadTableStatistics), executor));
 
-        partitionStatsCache = newCacheBuilder(expireAfterWriteSec, NEVER_REFRESH, maxSize)
-                .build(asyncReloading(new CacheLoader<HivePartitionName, HivePartitionStats>() {
+        partitionStatsCache = newPartitionCache(expireAfterWriteSec, maxSize, partitionCacheMaxBytes,
+                HivePartitionStats::estimateSize, asyncReloading(new CacheLoader<HivePartitionName, HivePartitionStats>() {
                     @Override
                     public HivePartitionStats load(@NotNull HivePartitionName key) {
                         return loadPartitionStatistics(key);
@@ -140,6 +160,17 @@ public class CachingHiveMetastore extends CachingMetastore implements IHiveMetas
                 }, executor));
     }
 
+    private static <V> LoadingCache<HivePartitionName, V> newPartitionCache(long expireAfterWriteSec, long maxSize,
+                                                                          long maxBytes, ToLongFunction<V> estimateSize,
+                                                                          CacheLoader<HivePartitionName, V> loader) {
+        if (maxBytes <= 0) {
+            return newCacheBuilder(expireAfterWriteSec, NEVER_REFRESH, maxSize).build(loader);
+        }
+        Weigher<HivePartitionName, V> weigher = (name, value) ->
+                (int) Math.min(estimateSize.applyAsLong(value), Integer.MAX_VALUE);
+        return newWeightedCacheBuilder(expireAfterWriteSec, NEVER_REFRESH, maxBytes, weigher).build(loader);
+    }
+
     public List<String> getAllDatabaseNames() {
         return get(databaseNamesCache, "");
     }
@@ -693,6 +724,16 @@ public class CachingHiveMetastore extends CachingMetastore implements IHiveMetas
         partitionStatsCache.put(hivePartitionName, updatedPartitionStats);
     }
 
+    public synchronized void addPartitionByEvent(HivePartitionName hivePartitionName, Partition partition) {
+        DatabaseTableName databaseTableName = DatabaseTableName.of(hivePartitionName.getDatabaseName(),
+                hivePartitionName.getTableName());
+        partitionKeysCache.asMap().keySet().stream().filter(hivePartitionValue -> hivePartitionValue.getHiveTableName().
+                equals(databaseTableName)).forEach(partitionKeysCache::invalidate);
+        partitionCache.put(hivePartitionName, partition);
+        // the statistics of a partition dropped and added again may still be cached, they are loaded on demand.
+        partitionStatsCache.invalidate(hivePartitionName);
+    }
+
     private HivePartitionStats createPartitionStats(HiveCommonStats commonStats, Map<String, HiveColumnStats> columnStats) {
         long totalRowNums = commonStats.getRowNums();
         if (totalRowNums == -1) {
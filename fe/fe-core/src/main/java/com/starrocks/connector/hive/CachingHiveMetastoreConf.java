@@ -23,6 +23,8 @@ public class CachingHiveMetastoreConf {
     private final long cacheTtlSec;
     private final long cacheRefreshIntervalSec;
     private long cacheMaxNum = 1000000;
+    // bound the partition and partition statistics caches by their estimated memory instead of the entry count.
+    private long partitionCacheMaxBytes = -1;
     private final int perQueryCacheMaxNum = 10000;
     private final int cacheRefreshThreadMaxNum = 20;
 
@@ -37,6 +39,8 @@ public class CachingHiveMetastoreConf {
         this.enableListNamesCache = Boolean.parseBoolean(conf.getOrDefault("enable_cache_list_names",
                 enableListNamesCacheDefaultValue));
         this.cacheMaxNum = Long.parseLong(conf.getOrDefault("metastore_cache_max_num", String.valueOf(cacheMaxNum)));
+        this.partitionCacheMaxBytes = Long.parseLong(conf.getOrDefault("metastore_partition_cache_max_bytes",
+                String.valueOf(partitionCacheMaxBytes)));
     }
 
     public long getCacheTtlSec() {
@@ -51,6 +55,10 @@ public class CachingHiveMetastoreConf {
         return cacheMaxNum;
     }
 
+    public long getPartitionCacheMaxBytes() {
+        return partitionCacheMaxBytes;
+    }
+
     public int getCacheRefreshThreadMaxNum() {
         return cacheRefreshThreadMaxNum;
     }
@@ -64,6 +64,8 @@ public class HiveCacheUpdateProcessor implements CacheUpdateProcessor {
 
     // Record the latest synced event id when processing hive events
     private long lastSyncedEventId = -1;
+    // the latest event id of the metastore, seen by the last pull.
+    private volatile long latestEventId = -1;
 
     private final Map<BasePartitionInfo, Long> partitionUpdatedTimes;
 
@@ -334,6 +336,14 @@ public class HiveCacheUpdateProcessor implements CacheUpdateProcessor {
         }
     }
 
+    public void addPartitionByEvent(HivePartitionName hivePartitionName, Partition partition) {
+        ((CachingHiveMetastore) metastore).addPartitionByEvent(hivePartitionName, partition);
+        // the files of a partition dropped and added again at the same location may still be cached.
+        if (remoteFileIO.isPresent() && partition.getFullPath() != null) {
+            remoteFileIO.get().invalidatePartition(RemotePathKey.of(partition.getFullPath(), isRecursive));
+        }
+    }
+
     public void invalidateAll() {
         metastore.invalidateAll();
         remoteFileIO.ifPresent(CachingRemoteFileIO::invalidateAll);
@@ -378,6 +388,16 @@ public class HiveCacheUpdateProcessor implements CacheUpdateProcessor {
         this.lastSyncedEventId = lastSyncedEventId;
     }
 
+    /**
+     * The number of metastore events not applied to the cache yet, as of the last pull.
+     */
+    public long getEventLag() {
+        if (lastSyncedEventId == -1 || latestEventId == -1) {
+            return 0;
+        }
+        return Math.max(0, latestEventId - lastSyncedEventId);
+    }
+
     public NotificationEventResponse getNextEventResponse(String catalogName, final boolean getAllEvents)
             throws MetastoreNotificationFetchException {
         if (lastSyncedEventId == -1) {
@@ -387,6 +407,7 @@ public class HiveCacheUpdateProcessor implements CacheUpdateProcessor {
         }
 
         long currentEventId = metastore.getCurrentEventId();
+        latestEventId = currentEventId;
         if (currentEventId == lastSyncedEventId) {
             LOG.info("Event id not updated when pulling events on catalog [{}]", catalogName);
             return null;
@@ -15,6 +15,7 @@
 package com.starrocks.connector.hive;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.starrocks.common.Config;
@@ -24,20 +25,31 @@ import com.starrocks.connector.CachingRemoteFileIO;
 import com.starrocks.connector.HdfsEnvironment;
 import com.starrocks.connector.MetastoreType;
 import com.starrocks.connector.ReentrantExecutor;
+import com.starrocks.connector.RemoteFileCacheSnapshot;
+import com.starrocks.connector.RemoteFileDesc;
 import com.starrocks.connector.RemoteFileIO;
+import com.starrocks.connector.RemotePathKey;
 import com.starrocks.sql.analyzer.SemanticException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static com.starrocks.connector.CachingRemoteFileIO.NEVER_REFRESH;
 import static com.starrocks.connector.hive.HiveConnector.HIVE_METASTORE_TYPE;
 import static com.starrocks.connector.hive.HiveConnector.HIVE_METASTORE_URIS;
 
 public class HiveConnectorInternalMgr {
+    private static final Logger LOG = LogManager.getLogger(HiveConnectorInternalMgr.class);
+    // a save of a large cache takes a few seconds, the catalog is not kept waiting longer than this.
+    private static final long PERSIST_SHUTDOWN_TIMEOUT_SEC = 10;
     public static final List<String> SUPPORTED_METASTORE_TYPE = Lists.newArrayList("hive", "glue", "dlf");
     private final String catalogName;
     private final HdfsEnvironment hdfsEnvironment;
@@ -53,6 +65,7 @@ public class HiveConnectorInternalMgr {
     private ExecutorService pullRemoteFileExecutor;
     private ExecutorService updateRemoteFilesExecutor;
     private ExecutorService updateStatisticsExecutor;
+    private ScheduledExecutorService persistRemoteFileExecutor;
 
     private final boolean isRecursive;
     private final int loadRemoteFileMetadataThreadNum;
@@ -106,6 +119,22 @@ public class HiveConnectorInternalMgr {
         if (pullRemoteFileExecutor != null) {
             pullRemoteFileExecutor.shutdown();
         }
+        if (persistRemoteFileExecutor != null) {
+            persistRemoteFileExecutor.shutdownNow();
+            // a save in progress is not interrupted by the file io, wait for it so that it doesn't write the
+            // snapshot again after it is deleted.
+            try {
+                if (!persistRemoteFileExecutor.awaitTermination(PERSIST_SHUTDOWN_TIMEOUT_SEC, TimeUnit.SECONDS)) {
+                    LOG.warn("Timed out waiting for the remote file cache of catalog {} to be persisted", catalogName);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // the catalog is dropped or altered, its cached files are not used any more.
+            if (!RemoteFileCacheSnapshot.delete(getRemoteFileCacheSnapshotFile())) {
+                LOG.debug("No remote file cache snapshot of catalog {} to delete", catalogName);
+            }
+        }
     }
 
     public IHiveMetastore createHiveMetastore() {
@@ -124,6 +153,7 @@ public class HiveConnectorInternalMgr {
                     hmsConf.getCacheTtlSec(),
                     enableHmsEventsIncrementalSync ? NEVER_REFRESH : hmsConf.getCacheRefreshIntervalSec(),
                     hmsConf.getCacheMaxNum(),
+                    hmsConf.getPartitionCacheMaxBytes(),
                     hmsConf.enableListNamesCache());
         }
 
@@ -146,12 +176,48 @@ public class HiveConnectorInternalMgr {
                     new ReentrantExecutor(refreshRemoteFileExecutor, remoteFileConf.getRefreshMaxThreadNum()),
                     remoteFileConf.getCacheTtlSec(),
                     enableHmsEventsIncrementalSync ? NEVER_REFRESH : remoteFileConf.getCacheRefreshIntervalSec(),
-                    remoteFileConf.getCacheMaxSize());
+                    remoteFileConf.getCacheMaxSize(),
+                    remoteFileConf.getCacheMaxBytes());
+            if (!Strings.isNullOrEmpty(Config.external_metadata_cache_persist_dir)) {
+                persistRemoteFileCache((CachingRemoteFileIO) baseRemoteFileIO, (HiveRemoteFileIO) remoteFileIO);
+            }
         }
 
         return baseRemoteFileIO;
     }
 
+    /**
+     * Warm the remote file cache up from the snapshot persisted before the restart and persist it periodically.
+     * The warmed files are revalidated by the refresh of the cache, so the cache is not warmed up if the
+     * catalog is synchronized by hms events instead, since the events of the downtime are missed.
+     */
+    private void persistRemoteFileCache(CachingRemoteFileIO cachingRemoteFileIO, HiveRemoteFileIO remoteFileIO) {
+        File snapshotFile = getRemoteFileCacheSnapshotFile();
+        persistRemoteFileExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("hive-remote-files-persist-%d").setDaemon(true).build());
+        if (!enableHmsEventsIncrementalSync) {
+            persistRemoteFileExecutor.execute(() -> {
+                Map<RemotePathKey, List<RemoteFileDesc>> remoteFiles = RemoteFileCacheSnapshot.load(
+                        snapshotFile, remoteFileConf.getCacheTtlSec(), remoteFileIO);
+                cachingRemoteFileIO.warmUp(remoteFiles);
+                LOG.info("Warmed up the remote file cache of catalog {} with {} paths", catalogName, remoteFiles.size());
+            });
+        }
+        long interval = Config.external_metadata_cache_persist_interval_s;
+        persistRemoteFileExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                snapshotFile.getParentFile().mkdirs();
+                RemoteFileCacheSnapshot.save(snapshotFile, cachingRemoteFileIO.getCachedRemoteFiles());
+            } catch (Exception e) {
+                LOG.warn("Failed to persist the remote file cache of catalog {}", catalogName, e);
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private File getRemoteFileCacheSnapshotFile() {
+        return new File(Config.external_metadata_cache_persist_dir, catalogName + ".remote_files");
+    }
+
     public ExecutorService getPullRemoteFileExecutor() {
         if (pullRemoteFileExecutor == null) {
             pullRemoteFileExecutor = Executors.newFixedThreadPool(loadRemoteFileMetadataThreadNum,
@@ -58,6 +58,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 public class HiveConnectorScanRangeSource implements ConnectorScanRangeSource {
     private static final Logger LOG = LogManager.getLogger(HiveConnectorScanRangeSource.class);
@@ -232,11 +233,7 @@ public class HiveConnectorScanRangeSource implements ConnectorScanRangeSource {
         }
 
         private void addScanRangeLocations(RemoteFileDesc fileDesc, Optional<RemoteFileBlockDesc> blockDesc) {
-            SessionVariable sv = SessionVariable.DEFAULT_SESSION_VARIABLE;
-            ConnectContext connectContext = ConnectContext.get();
-            if (connectContext != null) {
-                sv = connectContext.getSessionVariable();
-            }
+            SessionVariable sv = getSessionVariable();
 
             long totalSize = fileDesc.getLength();
             long offset = 0;
@@ -248,46 +245,16 @@ public class HiveConnectorScanRangeSource implements ConnectorScanRangeSource {
             }
 
             // assume we can not split at all.
-            long splitSize = getSplitSize(fileDesc, totalSize, sv);
+            long splitSize = getSplitSize(remoteFileInfo, fileDesc, totalSize, sv);
             boolean needSplit = (totalSize > splitSize);
             if (needSplit) {
-                splitScanRangeLocations(fileDesc, blockDesc, offset, totalSize, splitSize);
+                splitScanRangeLocations(offset, totalSize, splitSize, (splitOffset, splitLength) ->
+                        createScanRangeLocationsForSplit(fileDesc, blockDesc, splitOffset, splitLength));
             } else {
                 createScanRangeLocationsForSplit(fileDesc, blockDesc, offset, totalSize);
             }
         }
 
-        private long getSplitSize(RemoteFileDesc fileDesc, long totalSize, SessionVariable sv) {
-            long splitSize = totalSize;
-            if (fileDesc.isSplittable()) {
-                // if splittable, then use max split size.
-                splitSize = sv.getConnectorMaxSplitSize();
-                if (backendSplitFile && sv.isEnableConnectorSplitIoTasks() && remoteFileInfo.getFormat().isBackendSplittable()) {
-                    // if BE can split, use a higher threshold.
-                    splitSize = sv.getConnectorHugeFileSize();
-                }
-            }
-            return splitSize;
-        }
-
-        private void splitScanRangeLocations(RemoteFileDesc fileDesc, Optional<RemoteFileBlockDesc> blockDesc,
-                                             long offset, long length, long splitSize) {
-            long remainingBytes = length;
-            do {
-                if (remainingBytes < 2 * splitSize) {
-                    createScanRangeLocationsForSplit(fileDesc,
-                            blockDesc, offset + length - remainingBytes,
-                            remainingBytes);
-                    remainingBytes = 0;
-                } else {
-                    createScanRangeLocationsForSplit(fileDesc,
-                            blockDesc, offset + length - remainingBytes,
-                            splitSize);
-                    remainingBytes -= splitSize;
-                }
-            } while (remainingBytes > 0);
-        }
-
         private void createScanRangeLocationsForSplit(RemoteFileDesc fileDesc, Optional<RemoteFileBlockDesc> blockDesc,
                                                       long offset, long length) {
             PartitionAttachment attachment = (PartitionAttachment) remoteFileInfo.getAttachment();
@@ -342,6 +309,44 @@ public class HiveConnectorScanRangeSource implements ConnectorScanRangeSource {
         return new ScanRangeIterator(remoteFileInfo);
     }
 
+    protected static SessionVariable getSessionVariable() {
+        ConnectContext connectContext = ConnectContext.get();
+        if (connectContext != null) {
+            return connectContext.getSessionVariable();
+        }
+        return SessionVariable.DEFAULT_SESSION_VARIABLE;
+    }
+
+    protected long getSplitSize(RemoteFileInfo remoteFileInfo, RemoteFileDesc fileDesc, long totalSize,
+                                SessionVariable sv) {
+        long splitSize = totalSize;
+        if (fileDesc.isSplittable()) {
+            // if splittable, then use max split size.
+            splitSize = sv.getConnectorMaxSplitSize();
+            if (backendSplitFile && sv.isEnableConnectorSplitIoTasks() && remoteFileInfo.getFormat().isBackendSplittable()) {
+                // if BE can split, use a higher threshold.
+                splitSize = sv.getConnectorHugeFileSize();
+            }
+        }
+        return splitSize;
+    }
+
+    // calls createSplit with the offset and the length of each split, the last split takes the remaining bytes
+    // if they are less than two splits.
+    protected static void splitScanRangeLocations(long offset, long length, long splitSize,
+                                                  BiConsumer<Long, Long> createSplit) {
+        long remainingBytes = length;
+        do {
+            if (remainingBytes < 2 * splitSize) {
+                createSplit.accept(offset + length - remainingBytes, remainingBytes);
+                remainingBytes = 0;
+            } else {
+                createSplit.accept(offset + length - remainingBytes, splitSize);
+                remainingBytes -= splitSize;
+            }
+        } while (remainingBytes > 0);
+    }
+
     private void updateBackendSplitFile(RemoteFileInfo partition) {
         ConnectContext connectContext = ConnectContext.get();
         if (connectContext == null) {
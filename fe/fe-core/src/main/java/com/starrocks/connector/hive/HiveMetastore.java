@@ -16,11 +16,13 @@ package com.starrocks.connector.hive;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.starrocks.catalog.Database;
 import com.starrocks.catalog.HiveMetaStoreTable;
 import com.starrocks.catalog.HiveTable;
 import com.starrocks.catalog.Table;
 import com.starrocks.common.Config;
+import com.starrocks.common.ThreadPoolManager;
 import com.starrocks.connector.ConnectorTableId;
 import com.starrocks.connector.MetastoreType;
 import com.starrocks.connector.PartitionUtil;
@@ -40,9 +42,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.Iterables.getOnlyElement;
@@ -57,6 +63,9 @@ import static com.starrocks.connector.hive.Partition.TRANSIENT_LAST_DDL_TIME;
 public class HiveMetastore implements IHiveMetastore {
 
     private static final Logger LOG = LogManager.getLogger(CachingHiveMetastore.class);
+    // shared by the hive catalogs to fetch the partition batches of one table in parallel.
+    private static final ExecutorService PARTITION_LOADER = ThreadPoolManager.newDaemonFixedThreadPool(
+            Config.hive_meta_load_concurrency, 1024, "hive-partition-loader", true);
     private final HiveMetaClient client;
     private final String catalogName;
     private final MetastoreType metastoreType;
@@ -188,13 +197,20 @@ public class HiveMetastore implements IHiveMetastore {
 
     public Map<String, Partition> getPartitionsByNames(String dbName, String tblName, List<String> partitionNames) {
         List<org.apache.hadoop.hive.metastore.api.Partition> partitions = new ArrayList<>();
-        // fetch partitions by batch per RPC
-        for (int start = 0; start < partitionNames.size(); start += Config.max_hive_partitions_per_rpc) {
-            int end = Math.min(start + Config.max_hive_partitions_per_rpc, partitionNames.size());
-            List<String> namesPerRPC = partitionNames.subList(start, end);
-            List<org.apache.hadoop.hive.metastore.api.Partition> partsPerRPC =
-                    client.getPartitionsByNames(dbName, tblName, namesPerRPC);
-            partitions.addAll(partsPerRPC);
+        // fetch partitions by batch per RPC, the batches of a large table are fetched in parallel from the client pool
+        List<List<String>> batches = Lists.partition(partitionNames, Config.max_hive_partitions_per_rpc);
+        if (batches.size() <= 1) {
+            for (List<String> namesPerRPC : batches) {
+                partitions.addAll(client.getPartitionsByNames(dbName, tblName, namesPerRPC));
+            }
+        } else {
+            List<Future<List<org.apache.hadoop.hive.metastore.api.Partition>>> futures = new ArrayList<>();
+            for (List<String> namesPerRPC : batches) {
+                futures.add(PARTITION_LOADER.submit(() -> client.getPartitionsByNames(dbName, tblName, namesPerRPC)));
+            }
+            for (Future<List<org.apache.hadoop.hive.metastore.api.Partition>> future : futures) {
+                partitions.addAll(getBatch(future, dbName, tblName));
+            }
         }
 
         Map<String, List<String>> partitionNameToPartitionValues = partitionNames.stream()
@@ -213,6 +229,20 @@ public class HiveMetastore implements IHiveMetastore {
         return resultBuilder.build();
     }
 
+    private static <T> T getBatch(Future<T> future, String dbName, String tblName) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException("Interrupted while getting partitions on [" + dbName + "." + tblName + "]",
+                    e);
+        } catch (ExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new StarRocksConnectorException("Failed to get partitions on [" + dbName + "." + tblName + "]",
+                    e.getCause());
+        }
+    }
+
     @Override
     public void addPartitions(String dbName, String tableName, List<HivePartitionWithStats> partitions) {
         List<org.apache.hadoop.hive.metastore.api.Partition> hivePartitions = partitions.stream()
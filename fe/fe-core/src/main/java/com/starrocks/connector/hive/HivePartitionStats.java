@@ -47,6 +47,13 @@ public class HivePartitionStats {
         return columnStats;
     }
 
+    /**
+     * Rough heap footprint of the statistics, a column statistics entry takes about 96 bytes.
+     */
+    public long estimateSize() {
+        return 64 + (columnStats == null ? 0 : 96L * columnStats.size());
+    }
+
     @Override
     public String toString() {
         final StringBuffer sb = new StringBuffer("HivePartitionStats{");
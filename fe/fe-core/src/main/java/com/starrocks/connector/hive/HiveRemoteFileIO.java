@@ -16,9 +16,11 @@
 package com.starrocks.connector.hive;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.starrocks.common.Config;
 import com.starrocks.common.FeConstants;
 import com.starrocks.connector.PartitionUtil;
 import com.starrocks.connector.RemoteFileBlockDesc;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 
 public class HiveRemoteFileIO implements RemoteFileIO {
     private static final Logger LOG = LogManager.getLogger(HiveRemoteFileIO.class);
@@ -57,6 +60,10 @@ public class HiveRemoteFileIO implements RemoteFileIO {
     private final Map<Long, String> idToBlockHost = new ConcurrentHashMap<>();
     private long hostId = 0;
     private static final int UNKNOWN_STORAGE_ID = -1;
+    // shared by all the block descriptions, they never modify it.
+    private static final long[] UNKNOWN_STORAGE_IDS = new long[] {UNKNOWN_STORAGE_ID};
+    // file system scheme and authority -> permits of the directories listed on it at the same time.
+    private static final Map<String, Semaphore> LISTING_PERMITS = new ConcurrentHashMap<>();
 
     public HiveRemoteFileIO(Configuration configuration) {
         this.configuration = configuration;
@@ -78,49 +85,75 @@ public class HiveRemoteFileIO implements RemoteFileIO {
             } else {
                 fileSystem = this.fileSystem;
             }
-            List<Path> expandedPaths = Lists.newArrayList();
-            if (!expandWildCards) {
-                expandedPaths.add(new Path(uri.getPath()));
-            } else {
-                FileStatus[] status = fileSystem.globStatus(new Path(uri.getPath()));
-                for (FileStatus s : status) {
-                    expandedPaths.add(s.getPath());
-                }
-            }
-            for (Path expandedPath : expandedPaths) {
-                RemoteIterator<LocatedFileStatus> blockIterator;
-                if (!pathKey.isRecursive()) {
-                    blockIterator = fileSystem.listLocatedStatus(expandedPath);
-                } else {
-                    blockIterator = listFilesRecursive(fileSystem, expandedPath);
-                }
-                while (blockIterator.hasNext()) {
-                    LocatedFileStatus locatedFileStatus = blockIterator.next();
-                    if (!isValidDataFile(locatedFileStatus)) {
-                        continue;
-                    }
-                    String locateName = locatedFileStatus.getPath().toUri().getPath();
-                    String fileName = PartitionUtil.getSuffixName(expandedPath.toUri().getPath(), locateName);
-
-                    BlockLocation[] blockLocations = locatedFileStatus.getBlockLocations();
-                    List<RemoteFileBlockDesc> fileBlockDescs = getRemoteFileBlockDesc(blockLocations);
-                    RemoteFileDesc fileDesc = new RemoteFileDesc(fileName, "", locatedFileStatus.getLen(),
-                            locatedFileStatus.getModificationTime(), ImmutableList.copyOf(fileBlockDescs));
-                    if (expandWildCards) {
-                        fileDesc.setFullPath(locatedFileStatus.getPath().toString());
-                    }
-                    fileDescs.add(fileDesc);
-                }
+            Semaphore permits = getListingPermits(uri);
+            permits.acquire();
+            try {
+                listFiles(fileSystem, uri, pathKey.isRecursive(), expandWildCards, fileDescs);
+            } finally {
+                permits.release();
             }
         } catch (FileNotFoundException e) {
             LOG.warn("Hive remote file on path: {} not existed, ignore it", path, e);
+        } catch (InterruptedException e) {
+            // interrupted while waiting for a listing permit, this is not a metadata failure.
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException("Interrupted while listing hive remote files on path: " + path, e);
         } catch (Exception e) {
             LOG.error("Failed to get hive remote file's metadata on path: {}", path, e);
             throw new StarRocksConnectorException("Failed to get hive remote file's metadata on path: %s. msg: %s",
                     pathKey, e.getMessage());
         }
 
-        return resultPartitions.put(pathKey, fileDescs).build();
+        // the list is kept in the remote file cache, do not keep the spare capacity of the array list.
+        return resultPartitions.put(pathKey, ImmutableList.copyOf(fileDescs)).build();
+    }
+
+    private void listFiles(FileSystem fileSystem, URI uri, boolean recursive, boolean expandWildCards,
+                           List<RemoteFileDesc> fileDescs) throws IOException {
+        List<Path> expandedPaths = Lists.newArrayList();
+        if (!expandWildCards) {
+            expandedPaths.add(new Path(uri.getPath()));
+        } else {
+            FileStatus[] status = fileSystem.globStatus(new Path(uri.getPath()));
+            for (FileStatus s : status) {
+                expandedPaths.add(s.getPath());
+            }
+        }
+        for (Path expandedPath : expandedPaths) {
+            RemoteIterator<LocatedFileStatus> blockIterator;
+            if (!recursive) {
+                blockIterator = fileSystem.listLocatedStatus(expandedPath);
+            } else {
+                blockIterator = listFilesRecursive(fileSystem, expandedPath);
+            }
+            while (blockIterator.hasNext()) {
+                LocatedFileStatus locatedFileStatus = blockIterator.next();
+                if (!isValidDataFile(locatedFileStatus)) {
+                    continue;
+                }
+                String locateName = locatedFileStatus.getPath().toUri().getPath();
+                String fileName = PartitionUtil.getSuffixName(expandedPath.toUri().getPath(), locateName);
+
+                BlockLocation[] blockLocations = locatedFileStatus.getBlockLocations();
+                List<RemoteFileBlockDesc> fileBlockDescs = getRemoteFileBlockDesc(blockLocations);
+                RemoteFileDesc fileDesc = new RemoteFileDesc(fileName, "", locatedFileStatus.getLen(),
+                        locatedFileStatus.getModificationTime(), ImmutableList.copyOf(fileBlockDescs));
+                if (expandWildCards) {
+                    fileDesc.setFullPath(locatedFileStatus.getPath().toString());
+                }
+                fileDescs.add(fileDesc);
+            }
+        }
+    }
+
+    /**
+     * Object storages throttle the requests per bucket and name nodes serve all the clients, so the directories
+     * listed at the same time on one file system are bounded across all the catalogs and queries.
+     */
+    private static Semaphore getListingPermits(URI uri) {
+        String fileSystemKey = uri.getScheme() + "://" + Strings.nullToEmpty(uri.getAuthority());
+        return LISTING_PERMITS.computeIfAbsent(fileSystemKey,
+                k -> new Semaphore(Math.max(1, Config.remote_file_listing_concurrency_per_filesystem)));
     }
 
     private RemoteIterator<LocatedFileStatus> listFilesRecursive(FileSystem fileSystem, Path f)
@@ -205,7 +238,7 @@ public class HiveRemoteFileIO implements RemoteFileIO {
         return new RemoteFileBlockDesc(offset,
                 length,
                 replicaHostIds,
-                new long[] {UNKNOWN_STORAGE_ID},
+                UNKNOWN_STORAGE_IDS,
                 this);
     }
 
@@ -226,6 +259,10 @@ public class HiveRemoteFileIO implements RemoteFileIO {
         });
     }
 
+    public String getBlockHost(long hostId) {
+        return idToBlockHost.get(hostId);
+    }
+
     public String getHdfsDataNodeIp(long hostId) {
         String hostPort = idToBlockHost.get(hostId);
         return hostPort.split(":")[0];
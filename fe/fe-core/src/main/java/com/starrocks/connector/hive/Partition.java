@@ -14,6 +14,9 @@
 
 package com.starrocks.connector.hive;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.JsonObject;
 import com.starrocks.connector.PartitionInfo;
 import com.starrocks.persist.gson.GsonUtils;
@@ -25,12 +28,21 @@ import java.util.Objects;
  * Partition stores some necessary information used in the planner stage
  * such as in the cbo and building scan range stage. The purpose of caching partition instance
  * is to reduce repeated calls to the hive metastore rpc interface at each stage.
+ * <p>
+ * A table may have hundreds of thousands of cached partitions, which repeat the same parameter names, mostly
+ * the same parameter values and the table location as the prefix of their paths. These strings are interned,
+ * so each distinct one is kept once, and the path is kept as the interned parent directory plus the name.
  */
 public class Partition implements PartitionInfo {
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+    // longer parameter values, like the serialized spark statistics, are rarely shared between partitions.
+    private static final int MAX_INTERNED_VALUE_LENGTH = 64;
+
     private final Map<String, String> parameters;
     private final RemoteFileInputFormat inputFormat;
     private final TextFileFormatDesc textFileFormatDesc;
-    private final String fullPath;
+    private final String parentPath;
+    private final String pathName;
     private final boolean isSplittable;
 
     public static final String TRANSIENT_LAST_DDL_TIME = "transient_lastDdlTime";
@@ -40,13 +52,36 @@ public class Partition implements PartitionInfo {
                      TextFileFormatDesc textFileFormatDesc,
                      String fullPath,
                      boolean isSplittable) {
-        this.parameters = parameters;
+        this.parameters = internParameters(parameters);
         this.inputFormat = inputFormat;
         this.textFileFormatDesc = textFileFormatDesc;
-        this.fullPath = fullPath;
+        if (fullPath == null) {
+            this.parentPath = null;
+            this.pathName = null;
+        } else {
+            int nameStart = fullPath.lastIndexOf('/') + 1;
+            this.parentPath = INTERNER.intern(fullPath.substring(0, nameStart));
+            this.pathName = fullPath.substring(nameStart);
+        }
         this.isSplittable = isSplittable;
     }
 
+    private static Map<String, String> internParameters(Map<String, String> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        ImmutableMap.Builder<String, String> builder = ImmutableMap.builderWithExpectedSize(parameters.size());
+        for (Map.Entry<String, String> entry : parameters.entrySet()) {
+            String value = entry.getValue();
+            if (entry.getKey() == null || value == null) {
+                return parameters;
+            }
+            builder.put(INTERNER.intern(entry.getKey()),
+                    value.length() <= MAX_INTERNED_VALUE_LENGTH ? INTERNER.intern(value) : value);
+        }
+        return builder.build();
+    }
+
     public Map<String, String> getParameters() {
         return parameters;
     }
@@ -62,13 +97,26 @@ public class Partition implements PartitionInfo {
 
     @Override
     public String getFullPath() {
-        return fullPath;
+        return parentPath == null ? null : parentPath + pathName;
     }
 
     public boolean isSplittable() {
         return isSplittable;
     }
 
+    /**
+     * Rough heap footprint of the partition, not counting the interned strings shared with other partitions.
+     */
+    public long estimateSize() {
+        long size = 64 + (pathName == null ? 0 : 40L + pathName.length());
+        if (parameters != null) {
+            // the entries of the map and the values which are not interned.
+            size += 16L * parameters.size() + parameters.values().stream()
+                    .filter(value -> value.length() > MAX_INTERNED_VALUE_LENGTH).mapToLong(value -> 40L + value.length()).sum();
+        }
+        return size;
+    }
+
     @Override
     public long getModifiedTime() {
         String ddlTime = parameters.get(TRANSIENT_LAST_DDL_TIME);
@@ -90,12 +138,14 @@ public class Partition implements PartitionInfo {
                 Objects.equals(parameters, partition.parameters) &&
                 inputFormat == partition.inputFormat &&
                 Objects.equals(textFileFormatDesc, partition.textFileFormatDesc) &&
-                Objects.equals(fullPath, partition.fullPath);
+                Objects.equals(parentPath, partition.parentPath) &&
+                Objects.equals(pathName, partition.pathName);
     }
 
+    // the full path is not joined here, a path is always split at its last '/', so the parts of equal paths are equal
     @Override
     public int hashCode() {
-        return Objects.hash(parameters, inputFormat, textFileFormatDesc, fullPath, isSplittable);
+        return Objects.hash(parameters, inputFormat, textFileFormatDesc, parentPath, pathName, isSplittable);
     }
 
     @Override
@@ -104,7 +154,7 @@ public class Partition implements PartitionInfo {
         sb.append("parameters=").append(parameters);
         sb.append(", inputFormat=").append(inputFormat);
         sb.append(", textFileFormatDesc=").append(textFileFormatDesc);
-        sb.append(", fullPath='").append(fullPath).append('\'');
+        sb.append(", fullPath='").append(getFullPath()).append('\'');
         sb.append(", isSplittable=").append(isSplittable);
         sb.append('}');
         return sb.toString();
@@ -115,7 +165,7 @@ public class Partition implements PartitionInfo {
         obj.add("parameters", (GsonUtils.GSON.toJsonTree(parameters)));
         obj.add("inputFormat", (GsonUtils.GSON.toJsonTree(inputFormat)));
         obj.add("textFileFormatDesc", (GsonUtils.GSON.toJsonTree(textFileFormatDesc)));
-        obj.add("fullPath", GsonUtils.GSON.toJsonTree(fullPath));
+        obj.add("fullPath", GsonUtils.GSON.toJsonTree(getFullPath()));
         obj.add("isSplittable", GsonUtils.GSON.toJsonTree(isSplittable));
         return obj;
     }
@@ -17,7 +17,9 @@ package com.starrocks.connector.hive.events;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.starrocks.connector.DatabaseTableName;
 import com.starrocks.connector.hive.HiveCacheUpdateProcessor;
+import com.starrocks.connector.hive.HiveMetastoreApiConverter;
 import com.starrocks.connector.hive.HivePartitionName;
 import org.apache.hadoop.hive.common.FileUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
@@ -83,8 +85,51 @@ public class AddPartitionEvent extends MetastoreTableEvent {
         return addPartitionEvents;
     }
 
+    @Override
+    protected boolean canBeBatched(MetastoreEvent event) {
+        return true;
+    }
+
+    @Override
+    protected MetastoreEvent addToBatchEvents(MetastoreEvent event) {
+        BatchEvent<MetastoreTableEvent> batchEvent = new BatchEvent<>(this);
+        Preconditions.checkState(batchEvent.canBeBatched(event));
+        batchEvent.addToBatchEvents(event);
+        return batchEvent;
+    }
+
+    /**
+     * The added partition is never in the cache, but the partition names of its table may be.
+     */
+    @Override
+    protected boolean existInCache() {
+        return cache.isTablePresent(DatabaseTableName.of(dbName, tblName));
+    }
+
+    @Override
+    protected boolean isSupported() {
+        return true;
+    }
+
     @Override
     protected void process() throws MetastoreNotificationException {
-        throw new UnsupportedOperationException("Unsupported event type: " + getEventType());
+        if (!existInCache()) {
+            LOG.warn("Table [Catalog: [{}], Table: [{}.{}]] doesn't exist in cache on event id [{}]",
+                    catalogName, dbName, tblName, getEventId());
+            return;
+        }
+
+        try {
+            LOG.info("Start to process ADD_PARTITION event on {}.{}.{}.{}",
+                    catalogName, dbName, tblName, getHivePartitionName());
+            // the event carries the added partition, put it into the cache instead of loading it from the metastore.
+            cache.addPartitionByEvent(getHivePartitionName(), HiveMetastoreApiConverter.toPartition(
+                    addedPartition.getSd(), addedPartition.getParameters()));
+        } catch (Exception e) {
+            LOG.error("Failed to process {} event, event detail msg: {}",
+                    getEventType(), metastoreNotificationEvent, e);
+            throw new MetastoreNotificationException(
+                    debugString("Failed to process add partition event"));
+        }
     }
 }
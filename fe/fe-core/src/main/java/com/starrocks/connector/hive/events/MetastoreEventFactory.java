@@ -26,6 +26,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -64,6 +65,8 @@ public class MetastoreEventFactory implements EventFactory {
                 return AlterTableEvent.getEvents(event, cacheProcessor, catalogName);
             case DROP_TABLE:
                 return DropTableEvent.getEvents(event, cacheProcessor, catalogName);
+            case ADD_PARTITION:
+                return AddPartitionEvent.getEvents(event, cacheProcessor, catalogName);
             case ALTER_PARTITION:
                 return AlterPartitionEvent.getEvents(event, cacheProcessor, catalogName);
             case DROP_PARTITION:
@@ -119,12 +122,17 @@ public class MetastoreEventFactory implements EventFactory {
      * Create batch event tasks according to HivePartitionName to facilitate subsequent parallel processing.
      * For ADD_PARTITION and DROP_PARTITION, we directly override any events before that partition.
      * For a partition, it is meaningless to process any events before the drop partition.
+     * The events on a table and the events on its partitions are never batched across each other, so applying the
+     * returned events by the id of their first event applies them in the order they happened.
      */
     List<MetastoreEvent> createBatchEvents(List<MetastoreEvent> events) {
         Map<HivePartitionName, MetastoreEvent> batchEvents = Maps.newHashMap();
+        // batches no later event can be added to
+        List<MetastoreEvent> closedEvents = Lists.newArrayList();
         for (MetastoreEvent event : events) {
             MetastoreTableEvent metastoreTableEvent = (MetastoreTableEvent) event;
             HivePartitionName hivePartitionName = metastoreTableEvent.getHivePartitionName();
+            closeBatchesOfOtherLevel(batchEvents, closedEvents, hivePartitionName);
             switch (event.getEventType()) {
                 case ADD_PARTITION:
                 case DROP_PARTITION:
@@ -140,7 +148,7 @@ public class MetastoreEventFactory implements EventFactory {
                         batchEvents.put(hivePartitionName, metastoreTableEvent);
                     }
                     if (batchEvent instanceof AlterTableEvent && ((AlterTableEvent) batchEvent).isSchemaChange()) {
-                        return Lists.newArrayList(batchEvents.values());
+                        return toEvents(closedEvents, batchEvents);
                     }
                     break;
                 case DROP_TABLE:
@@ -149,12 +157,50 @@ public class MetastoreEventFactory implements EventFactory {
                     batchEvents = batchEvents.entrySet().stream()
                             .filter(entry -> !entry.getKey().approximateMatchTable(dbName, tblName))
                             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                    closedEvents.removeIf(closedEvent ->
+                            closedEvent.getDbName().equals(dbName) && closedEvent.getTblName().equals(tblName));
                     batchEvents.put(hivePartitionName, metastoreTableEvent);
-                    return Lists.newArrayList(batchEvents.values());
+                    return toEvents(closedEvents, batchEvents);
                 default:
                     LOG.warn("Failed to create batch event on {}", event);
             }
         }
-        return Lists.newArrayList(batchEvents.values());
+        return toEvents(closedEvents, batchEvents);
+    }
+
+    /**
+     * An event on a table closes the batches of the events on its partitions and the other way around,
+     * e.g. the events 1 and 3 on a partition are not batched together if the event 2 is on its table.
+     */
+    private static void closeBatchesOfOtherLevel(Map<HivePartitionName, MetastoreEvent> batchEvents,
+                                                 List<MetastoreEvent> closedEvents, HivePartitionName hivePartitionName) {
+        String dbName = hivePartitionName.getDatabaseName();
+        String tblName = hivePartitionName.getTableName();
+        if (!isTableLevel(hivePartitionName)) {
+            MetastoreEvent tableEvent = batchEvents.remove(HivePartitionName.of(dbName, tblName, Lists.newArrayList()));
+            if (tableEvent != null) {
+                closedEvents.add(tableEvent);
+            }
+            return;
+        }
+        Iterator<Map.Entry<HivePartitionName, MetastoreEvent>> iterator = batchEvents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<HivePartitionName, MetastoreEvent> entry = iterator.next();
+            if (!isTableLevel(entry.getKey()) && entry.getKey().approximateMatchTable(dbName, tblName)) {
+                closedEvents.add(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static boolean isTableLevel(HivePartitionName hivePartitionName) {
+        return hivePartitionName.getPartitionValues().isEmpty();
+    }
+
+    private static List<MetastoreEvent> toEvents(List<MetastoreEvent> closedEvents,
+                                                 Map<HivePartitionName, MetastoreEvent> batchEvents) {
+        List<MetastoreEvent> result = Lists.newArrayList(closedEvents);
+        result.addAll(batchEvents.values());
+        return result;
     }
 }
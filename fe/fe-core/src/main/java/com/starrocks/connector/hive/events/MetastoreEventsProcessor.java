@@ -15,11 +15,14 @@
 
 package com.starrocks.connector.hive.events;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.starrocks.common.Config;
 import com.starrocks.common.ThreadPoolManager;
 import com.starrocks.common.util.FrontendDaemon;
+import com.starrocks.connector.DatabaseTableName;
 import com.starrocks.connector.hive.HiveCacheUpdateProcessor;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.server.CatalogMgr;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
 import org.apache.hadoop.hive.metastore.api.NotificationEvent;
@@ -31,6 +34,8 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -156,10 +161,20 @@ public class MetastoreEventsProcessor extends FrontendDaemon {
         return getNextHMSEvents(catalogName, false, null);
     }
 
+    /**
+     * The events of different tables are applied in parallel, and the events of one table in their order,
+     * since an event on the table may change what the events on its partitions apply to.
+     */
     private void doExecuteWithPartialProgress(List<MetastoreEvent> events) {
+        Map<DatabaseTableName, List<MetastoreEvent>> eventsByTable = new LinkedHashMap<>();
+        for (MetastoreEvent event : events) {
+            eventsByTable.computeIfAbsent(DatabaseTableName.of(event.getDbName(), event.getTblName()),
+                    k -> Lists.newArrayList()).add(event);
+        }
+
         List<Future<?>> futures = Lists.newArrayList();
-        events.forEach(event -> {
-            futures.add(eventsProcessExecutor.submit(event::process));
+        eventsByTable.values().forEach(tableEvents -> {
+            futures.add(eventsProcessExecutor.submit(() -> tableEvents.forEach(MetastoreEvent::process)));
         });
 
         for (Future<?> future : futures) {
@@ -188,24 +203,57 @@ public class MetastoreEventsProcessor extends FrontendDaemon {
 
     /**
      * Process the given list of notification events. Useful for tests which provide a list of events
+     *
+     * @return the number of events applied to the cache, the events filtered out or pulled again are not counted.
      */
-    private void processEvents(List<NotificationEvent> events, String catalogName) {
+    private int processEvents(List<NotificationEvent> events, String catalogName) {
         HiveCacheUpdateProcessor cacheProcessor = cacheUpdateProcessors.get(catalogName);
         List<MetastoreEvent> filteredEvents = metastoreEventFactory.getFilteredEvents(events, cacheProcessor, catalogName);
 
+        long lastEventId = events.get(events.size() - 1).getEventId();
         if (filteredEvents.isEmpty()) {
-            cacheProcessor.setLastSyncedEventId(events.get(events.size() - 1).getEventId());
-            return;
+            cacheProcessor.setLastSyncedEventId(lastEventId);
+            return 0;
         }
 
         LOG.info("Notification events {} to be processed on catalog [{}]", events, catalogName);
+        return applyEvents(filteredEvents, cacheProcessor);
+    }
 
+    /**
+     * @return the number of notification events in the applied events.
+     */
+    @VisibleForTesting
+    int applyEvents(List<MetastoreEvent> events, HiveCacheUpdateProcessor cacheProcessor) {
+        // the batches of a table don't overlap, see MetastoreEventFactory#createBatchEvents,
+        // so they are applied in the order they happened.
+        events.sort(Comparator.comparingLong(MetastoreEventsProcessor::getFirstEventId));
         if (Config.enable_hms_parallel_process_evens) {
-            doExecuteWithPartialProgress(filteredEvents);
+            doExecuteWithPartialProgress(events);
         } else {
-            doExecute(filteredEvents, cacheProcessor);
+            doExecute(events, cacheProcessor);
+        }
+        // the batching stops at a schema change or a dropped table, the events pulled after the last batched one
+        // are not applied yet and are pulled again.
+        cacheProcessor.setLastSyncedEventId(events.stream().mapToLong(MetastoreEvent::getEventId).max().getAsLong());
+        return events.stream().mapToInt(MetastoreEvent::getNumberOfEvents).sum();
+    }
+
+    private static long getFirstEventId(MetastoreEvent event) {
+        return event instanceof BatchEvent ? ((BatchEvent<?>) event).getFirstEventId() : event.getEventId();
+    }
+
+    private void updateEventMetrics(String catalogName, int appliedEvents) {
+        if (!MetricRepo.hasInit) {
+            return;
+        }
+        HiveCacheUpdateProcessor cacheProcessor = cacheUpdateProcessors.get(catalogName);
+        if (cacheProcessor != null) {
+            MetricRepo.GAUGE_HMS_EVENTS_LAG.getMetric(catalogName).setValue(cacheProcessor.getEventLag());
+        }
+        if (appliedEvents > 0) {
+            MetricRepo.COUNTER_HMS_EVENTS_APPLIED.getMetric(catalogName).increase((long) appliedEvents);
         }
-        cacheProcessor.setLastSyncedEventId(filteredEvents.get(filteredEvents.size() - 1).getEventId());
     }
 
     @Override
@@ -219,11 +267,12 @@ public class MetastoreEventsProcessor extends FrontendDaemon {
 
         for (String catalogName : catalogs) {
             List<NotificationEvent> events = Collections.emptyList();
+            int appliedEvents = 0;
             try {
                 events = getNextHMSEvents(catalogName);
                 if (!events.isEmpty()) {
                     LOG.info("Events size are {} on catalog [{}]", events.size(), catalogName);
-                    processEvents(events, catalogName);
+                    appliedEvents = processEvents(events, catalogName);
                 }
             } catch (MetastoreNotificationFetchException e) {
                 LOG.error("Failed to fetch hms events on {}. msg: ", catalogName, e);
@@ -231,6 +280,8 @@ public class MetastoreEventsProcessor extends FrontendDaemon {
                 LOG.error("Failed to process hive metastore [{}] events " +
                                 "in the range of event id from {} to {}.", catalogName,
                         events.get(0).getEventId(), events.get(events.size() - 1).getEventId(), ex);
+            } finally {
+                updateEventMetrics(catalogName, appliedEvents);
             }
         }
     }
@@ -139,7 +139,8 @@ public class HudiConnectorInternalMgr {
                     new ReentrantExecutor(refreshRemoteFileExecutor, remoteFileConf.getRefreshMaxThreadNum()),
                     remoteFileConf.getCacheTtlSec(),
                     remoteFileConf.getCacheRefreshIntervalSec(),
-                    remoteFileConf.getCacheMaxSize());
+                    remoteFileConf.getCacheMaxSize(),
+                    remoteFileConf.getCacheMaxBytes());
         }
 
         return baseRemoteFileIO;
@@ -107,15 +107,29 @@ public class HudiConnectorScanRangeSource extends HiveConnectorScanRangeSource {
         }
 
         private void createHudiScanRangeLocations(HudiRemoteFileDesc fileDesc) {
+            // only the slices whose log files must be merged are read by the jni reader, the base files of the
+            // compacted slices are read by the native reader and split like the files of hive tables.
             boolean useJNIReader =
                     forceJNIReader || (morTable && snapshot && !fileDesc.getHudiDeltaLogs().isEmpty());
+            long length = fileDesc.getLength();
+            long splitSize = useJNIReader ? length : getSplitSize(remoteFileInfo, fileDesc, length, getSessionVariable());
+            if (length > splitSize) {
+                splitScanRangeLocations(0, length, splitSize, (splitOffset, splitLength) ->
+                        createHudiScanRangeLocations(fileDesc, false, splitOffset, splitLength));
+            } else {
+                createHudiScanRangeLocations(fileDesc, useJNIReader, 0, length);
+            }
+        }
+
+        private void createHudiScanRangeLocations(HudiRemoteFileDesc fileDesc, boolean useJNIReader,
+                                                  long offset, long length) {
             PartitionAttachment attachment = (PartitionAttachment) remoteFileInfo.getAttachment();
             TScanRangeLocations scanRangeLocations = new TScanRangeLocations();
 
             THdfsScanRange hdfsScanRange = new THdfsScanRange();
             hdfsScanRange.setRelative_path(fileDesc.getFileName());
-            hdfsScanRange.setOffset(0);
-            hdfsScanRange.setLength(fileDesc.getLength());
+            hdfsScanRange.setOffset(offset);
+            hdfsScanRange.setLength(length);
             hdfsScanRange.setPartition_id(attachment.partitionId);
             hdfsScanRange.setFile_length(fileDesc.getLength());
 
@@ -15,9 +15,14 @@
 package com.starrocks.connector.hudi;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.starrocks.common.Config;
+import com.starrocks.common.profile.Timer;
+import com.starrocks.common.profile.Tracers;
 import com.starrocks.connector.RemoteFileDesc;
 import com.starrocks.connector.RemoteFileIO;
 import com.starrocks.connector.RemoteFileScanContext;
@@ -36,6 +41,7 @@ import org.apache.hudi.common.model.HoodieLogFile;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
+import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.storage.StoragePath;
 import org.apache.hudi.storage.hadoop.HadoopStorageConfiguration;
@@ -47,6 +53,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.hudi.common.table.view.FileSystemViewManager.createInMemoryFileSystemViewWithTimeline;
@@ -54,9 +62,19 @@ import static org.apache.hudi.common.table.view.FileSystemViewManager.createInMe
 public class HudiRemoteFileIO implements RemoteFileIO {
     private static final Logger LOG = LogManager.getLogger(HudiRemoteFileIO.class);
     private final HadoopStorageConfiguration configuration;
+    // table location -> file system view of the latest completed instant, shared by the queries on the table.
+    private final Cache<String, InstantFileSystemView> fsViews;
 
     public HudiRemoteFileIO(Configuration configuration) {
         this.configuration = new HadoopStorageConfiguration(configuration);
+        if (Config.hudi_file_system_view_cache_max_size > 0) {
+            this.fsViews = CacheBuilder.newBuilder()
+                    .expireAfterAccess(Config.hudi_file_system_view_cache_ttl_s, TimeUnit.SECONDS)
+                    .maximumSize(Config.hudi_file_system_view_cache_max_size)
+                    .build();
+        } else {
+            this.fsViews = null;
+        }
     }
 
     private void createHudiContext(RemoteFileScanContext ctx) {
@@ -76,7 +94,8 @@ public class HudiRemoteFileIO implements RemoteFileIO {
             HoodieTimeline timeline = metaClient.getCommitsAndCompactionTimeline().filterCompletedInstants();
             Option<HoodieInstant> lastInstant = timeline.lastInstant();
             if (lastInstant.isPresent()) {
-                ctx.hudiFsView = createInMemoryFileSystemViewWithTimeline(engineContext, metaClient, metadataConfig, timeline);
+                ctx.hudiFsView = getFileSystemView(ctx.tableLocation, timeline,
+                        () -> createInMemoryFileSystemViewWithTimeline(engineContext, metaClient, metadataConfig, timeline));
                 ctx.hudiLastInstant = lastInstant.get();
                 ctx.hudiTimeline = timeline;
             }
@@ -86,6 +105,31 @@ public class HudiRemoteFileIO implements RemoteFileIO {
         }
     }
 
+    /**
+     * Get the file system view of the completed timeline of the table. Building it lists the file groups of the
+     * table, and the file slices of every partition are loaded lazily into it, so it is reused by the following
+     * queries until an instant is completed or rolled back.
+     */
+    @VisibleForTesting
+    HoodieTableFileSystemView getFileSystemView(String tableLocation, HoodieTimeline timeline,
+                                                Supplier<HoodieTableFileSystemView> viewBuilder) {
+        if (fsViews == null) {
+            return viewBuilder.get();
+        }
+        String instants = timeline.lastInstant().get().getTimestamp() + "/" + timeline.countInstants();
+        InstantFileSystemView cached = fsViews.getIfPresent(tableLocation);
+        if (cached != null && cached.instants.equals(instants)) {
+            Tracers.count(Tracers.Module.EXTERNAL, "HUDI.fileSystemViewCacheHit", 1);
+            return cached.fsView;
+        }
+        HoodieTableFileSystemView fsView;
+        try (Timer ignored = Tracers.watchScope(Tracers.Module.EXTERNAL, "HUDI.buildFileSystemView")) {
+            fsView = viewBuilder.get();
+        }
+        fsViews.put(tableLocation, new InstantFileSystemView(instants, fsView));
+        return fsView;
+    }
+
     @Override
     public Map<RemotePathKey, List<RemoteFileDesc>> getRemoteFiles(RemotePathKey pathKey) {
         String tableLocation = pathKey.getTableLocation();
@@ -143,4 +187,15 @@ public class HudiRemoteFileIO implements RemoteFileIO {
     public FileStatus[] getFileStatus(Path... files) {
         throw new UnsupportedOperationException("getFileStatus");
     }
+
+    private static class InstantFileSystemView {
+        // timestamp of the last completed instant and number of completed instants.
+        private final String instants;
+        private final HoodieTableFileSystemView fsView;
+
+        private InstantFileSystemView(String instants, HoodieTableFileSystemView fsView) {
+            this.instants = instants;
+            this.fsView = fsView;
+        }
+    }
 }
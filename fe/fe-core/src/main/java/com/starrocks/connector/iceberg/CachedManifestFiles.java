@@ -0,0 +1,90 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.iceberg;
+
+import org.apache.iceberg.ManifestFile;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The data or delete files of one manifest kept in the manifest cache of {@link CachingIcebergCatalog}.
+ * <p>
+ * The set is put into the cache before the manifest is read and is filled while the planning reads it,
+ * so the weight of the cache entry is estimated up front from the file counts recorded in the manifest list.
+ */
+public class CachedManifestFiles<F> extends AbstractSet<F> {
+    // rough heap footprint of one cached file, with and without the column statistics.
+    static final long FILE_BYTES = 512;
+    static final long FILE_WITH_METRICS_BYTES = 2048;
+
+    private final Set<F> files = ConcurrentHashMap.newKeySet();
+    private final long estimatedBytes;
+
+    private CachedManifestFiles(long estimatedBytes) {
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public static <F> CachedManifestFiles<F> forManifest(ManifestFile manifest, boolean withMetrics) {
+        long fileBytes = withMetrics ? FILE_WITH_METRICS_BYTES : FILE_BYTES;
+        Integer addedFiles = manifest.addedFilesCount();
+        Integer existingFiles = manifest.existingFilesCount();
+        if (addedFiles == null || existingFiles == null) {
+            // the counts are optional in v1 manifest lists, the manifest length is the best guess left.
+            return new CachedManifestFiles<>(Math.max(manifest.length(), fileBytes));
+        }
+        return new CachedManifestFiles<>(Math.max(1, addedFiles + existingFiles) * fileBytes);
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * The weight of a manifest cache entry in bytes.
+     */
+    public static int weigh(Set<?> files) {
+        long bytes = files instanceof CachedManifestFiles ?
+                ((CachedManifestFiles<?>) files).getEstimatedBytes() : Math.max(1, files.size()) * FILE_BYTES;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean add(F file) {
+        return files.add(file);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return files.contains(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return files.remove(o);
+    }
+
+    @Override
+    public Iterator<F> iterator() {
+        return files.iterator();
+    }
+
+    @Override
+    public int size() {
+        return files.size();
+    }
+}
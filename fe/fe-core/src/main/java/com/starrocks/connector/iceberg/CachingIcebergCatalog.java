@@ -53,6 +53,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -71,6 +72,7 @@ public class CachingIcebergCatalog implements IcebergCatalog {
     private final IcebergCatalog delegate;
     private final Cache<IcebergTableName, Table> tables;
     private final Cache<IcebergTableName, List<String>> partitionNames;
+    private final Cache<IcebergTableName, IcebergSnapshotPartitions> snapshotPartitions;
     private final Cache<String, Database> databases;
     private final ExecutorService backgroundExecutor;
 
@@ -92,14 +94,10 @@ public class CachingIcebergCatalog implements IcebergCatalog {
                 enableCache ? DEFAULT_CACHE_NUM : NEVER_CACHE).build();
         this.partitionNames = newCacheBuilder(icebergProperties.getIcebergMetaCacheTtlSec(),
                 enableCache ? DEFAULT_CACHE_NUM : NEVER_CACHE).build();
-        this.dataFileCache = enableCache ?
-                newCacheBuilder(
-                        icebergProperties.getIcebergMetaCacheTtlSec(), icebergProperties.getIcebergManifestCacheMaxNum()).build()
-                : null;
-        this.deleteFileCache = enableCache ?
-                newCacheBuilder(
-                        icebergProperties.getIcebergMetaCacheTtlSec(), icebergProperties.getIcebergManifestCacheMaxNum()).build()
-                : null;
+        this.snapshotPartitions = newCacheBuilder(icebergProperties.getIcebergMetaCacheTtlSec(),
+                enableCache ? DEFAULT_CACHE_NUM : NEVER_CACHE).build();
+        this.dataFileCache = enableCache ? newManifestCache() : null;
+        this.deleteFileCache = enableCache ? newManifestCache() : null;
         this.backgroundExecutor = executorService;
     }
 
@@ -195,6 +193,25 @@ public class CachingIcebergCatalog implements IcebergCatalog {
         return delegate.getView(dbName, viewName);
     }
 
+    @Override
+    public IcebergSnapshotPartitions getSnapshotPartitions(String dbName, String tableName, Table nativeTable) {
+        IcebergTableName icebergTableName = new IcebergTableName(dbName, tableName);
+        IcebergSnapshotPartitions cached = snapshotPartitions.getIfPresent(icebergTableName);
+        if (cached != null) {
+            Optional<IcebergSnapshotPartitions> advanced = cached.advance(nativeTable);
+            if (advanced.isPresent()) {
+                if (advanced.get() != cached) {
+                    snapshotPartitions.put(icebergTableName, advanced.get());
+                }
+                return advanced.get();
+            }
+        }
+
+        IcebergSnapshotPartitions partitions = delegate.getSnapshotPartitions(dbName, tableName, nativeTable);
+        snapshotPartitions.put(icebergTableName, partitions);
+        return partitions;
+    }
+
     @Override
     public List<String> listPartitionNames(String dbName, String tableName, long snapshotId, ExecutorService executorService) {
         IcebergTableName icebergTableName = new IcebergTableName(dbName, tableName, snapshotId);
@@ -362,6 +379,7 @@ public class CachingIcebergCatalog implements IcebergCatalog {
     public void invalidateCache(IcebergTableName icebergTableName) {
         tables.invalidate(icebergTableName);
         partitionNames.invalidate(icebergTableName);
+        snapshotPartitions.invalidate(icebergTableName);
     }
 
     @Override
@@ -387,6 +405,22 @@ public class CachingIcebergCatalog implements IcebergCatalog {
         return cacheBuilder;
     }
 
+    private <F> Cache<String, Set<F>> newManifestCache() {
+        long maxBytes = icebergProperties.getIcebergManifestCacheMaxBytes();
+        if (maxBytes <= 0) {
+            return newCacheBuilder(icebergProperties.getIcebergMetaCacheTtlSec(),
+                    icebergProperties.getIcebergManifestCacheMaxNum()).build();
+        }
+
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        if (icebergProperties.getIcebergMetaCacheTtlSec() >= 0) {
+            cacheBuilder.expireAfterWrite(icebergProperties.getIcebergMetaCacheTtlSec(), SECONDS);
+        }
+        return cacheBuilder.maximumWeight(maxBytes)
+                .weigher((String path, Set<F> files) -> CachedManifestFiles.weigh(files))
+                .build();
+    }
+
     public static class IcebergTableName {
         private final String dbName;
         private final String tableName;
@@ -481,6 +515,10 @@ public class CachingIcebergCatalog implements IcebergCatalog {
                 .stream()
                 .mapToLong(List::size)
                 .sum());
+        counter.put("SnapshotPartitions", snapshotPartitions.asMap().values()
+                .stream()
+                .mapToLong(partitions -> partitions.getLastUpdatedTimes().size())
+                .sum());
         counter.put("ManifestOfDataFile",  dataFileCache.asMap().values()
                 .stream()
                 .mapToLong(Set::size)
@@ -61,6 +61,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -83,6 +86,8 @@ public class IcebergApiConverter {
     private static final Pattern ICEBERG_BUCKET_PATTERN = Pattern.compile("bucket\\[(\\d+)]");
     private static final Pattern ICEBERG_TRUNCATE_PATTERN = Pattern.compile("truncate\\[(\\d+)]");
     private static final int FAKE_FIELD_ID = -1;
+    // evaluating the partition summaries of a manifest is cheap, only fan out for thousands of manifests.
+    private static final int FILTER_MANIFESTS_BATCH_SIZE = 1000;
 
     public static IcebergTable toIcebergTable(Table nativeTbl, String catalogName, String remoteDbName,
                                               String remoteTableName, String nativeCatalogType) {
@@ -325,6 +330,43 @@ public class IcebergApiConverter {
                                                org.apache.iceberg.Table table, Expression filter) {
         Map<Integer, ManifestEvaluator> evalCache = specCache(table, filter);
 
+        return filterManifests(manifests, evalCache);
+    }
+
+    /**
+     * Same as {@link #filterManifests(List, org.apache.iceberg.Table, Expression)}, but the manifests are evaluated
+     * by the executor in batches if there are many of them. The order of the manifests is kept.
+     */
+    public static List<ManifestFile> filterManifests(List<ManifestFile> manifests, org.apache.iceberg.Table table,
+                                                     Expression filter, ExecutorService executor) {
+        if (executor == null || manifests.size() <= FILTER_MANIFESTS_BATCH_SIZE) {
+            return filterManifests(manifests, table, filter);
+        }
+
+        Map<Integer, ManifestEvaluator> evalCache = specCache(table, filter);
+        List<Future<List<ManifestFile>>> futures = new ArrayList<>();
+        for (List<ManifestFile> batch : Lists.partition(manifests, FILTER_MANIFESTS_BATCH_SIZE)) {
+            futures.add(executor.submit(() -> filterManifests(batch, evalCache)));
+        }
+
+        List<ManifestFile> matchingManifests = new ArrayList<>();
+        try {
+            for (Future<List<ManifestFile>> future : futures) {
+                matchingManifests.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new StarRocksConnectorException("Interrupted while filtering manifests of table " + table.name(), e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new StarRocksConnectorException("Failed to filter manifests of table " + table.name(), e.getCause());
+        }
+        return matchingManifests;
+    }
+
+    private static List<ManifestFile> filterManifests(List<ManifestFile> manifests,
+                                                      Map<Integer, ManifestEvaluator> evalCache) {
         return manifests.stream()
                 .filter(manifest -> manifest.hasAddedFiles() || manifest.hasExistingFiles())
                 .filter(manifest -> evalCache.get(manifest.partitionSpecId()).eval(manifest))
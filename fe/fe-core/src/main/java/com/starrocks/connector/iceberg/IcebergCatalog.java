@@ -125,6 +125,10 @@ public interface IcebergCatalog extends MemoryTrackable {
         return new ArrayList<>(partitionNames);
     }
 
+    default IcebergSnapshotPartitions getSnapshotPartitions(String dbName, String tableName, Table nativeTable) {
+        return IcebergSnapshotPartitions.load(nativeTable);
+    }
+
     default void deleteUncommittedDataFiles(List<String> fileLocations) {
     }
 
@@ -39,6 +39,7 @@ public class IcebergCatalogProperties {
     public static final String BACKGROUND_ICEBERG_JOB_PLANNING_THREAD_NUM = "background_iceberg_job_planning_thread_num";
     public static final String ICEBERG_MANIFEST_CACHE_WITH_COLUMN_STATISTICS = "iceberg_manifest_cache_with_column_statistics";
     public static final String ICEBERG_MANIFEST_CACHE_MAX_NUM = "iceberg_manifest_cache_max_num";
+    public static final String ICEBERG_MANIFEST_CACHE_MAX_BYTES = "iceberg_manifest_cache_max_bytes";
 
     // internal config
     public static final String ICEBERG_TABLE_CACHE_TTL = "iceberg_table_cache_ttl_sec";
@@ -59,6 +60,7 @@ public class IcebergCatalogProperties {
     private boolean icebergManifestCacheWithColumnStatistics;
     private long icebergTableCacheTtlSec;
     private long icebergManifestCacheMaxNum;
+    private long icebergManifestCacheMaxBytes;
     private long refreshIcebergManifestMinLength;
     private long localPlanningMaxSlotBytes;
     private boolean enableDistributedPlanLoadColumnStatsWithEqDelete;
@@ -94,6 +96,8 @@ public class IcebergCatalogProperties {
         this.icebergMetaCacheTtlSec = PropertyUtil.propertyAsLong(properties, ICEBERG_META_CACHE_TTL, 48 * 60 * 60);
         this.icebergTableCacheTtlSec = PropertyUtil.propertyAsLong(properties, ICEBERG_TABLE_CACHE_TTL, 1800L);
         this.icebergManifestCacheMaxNum = PropertyUtil.propertyAsLong(properties, ICEBERG_MANIFEST_CACHE_MAX_NUM, 100000);
+        // evict the cached manifests by their estimated memory footprint instead of their number if it is positive.
+        this.icebergManifestCacheMaxBytes = PropertyUtil.propertyAsLong(properties, ICEBERG_MANIFEST_CACHE_MAX_BYTES, -1);
         this.icebergManifestCacheWithColumnStatistics = PropertyUtil.propertyAsBoolean(
                 properties, ICEBERG_MANIFEST_CACHE_WITH_COLUMN_STATISTICS, false);
         this.refreshIcebergManifestMinLength = PropertyUtil.propertyAsLong(properties, REFRESH_ICEBERG_MANIFEST_MIN_LENGTH,
@@ -160,6 +164,10 @@ public class IcebergCatalogProperties {
         return icebergManifestCacheMaxNum;
     }
 
+    public long getIcebergManifestCacheMaxBytes() {
+        return icebergManifestCacheMaxBytes;
+    }
+
     public long getRefreshIcebergManifestMinLength() {
         return refreshIcebergManifestMinLength;
     }
@@ -115,7 +115,6 @@ import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.SerializationUtil;
-import org.apache.iceberg.util.StructProjection;
 import org.apache.iceberg.util.TableScanUtil;
 import org.apache.iceberg.view.View;
 import org.apache.logging.log4j.LogManager;
@@ -511,10 +510,10 @@ public class IcebergMetadata implements ConnectorMetadata {
     public List<PartitionInfo> getPartitions(Table table, List<String> partitionNames) {
         Map<String, Partition> partitionMap = Maps.newHashMap();
         IcebergTable icebergTable = (IcebergTable) table;
-        PartitionsTable partitionsTable = (PartitionsTable) MetadataTableUtils.
-                createMetadataTableInstance(icebergTable.getNativeTable(), org.apache.iceberg.MetadataTableType.PARTITIONS);
 
         if (icebergTable.isUnPartitioned()) {
+            PartitionsTable partitionsTable = (PartitionsTable) MetadataTableUtils.
+                    createMetadataTableInstance(icebergTable.getNativeTable(), org.apache.iceberg.MetadataTableType.PARTITIONS);
             try (CloseableIterable<FileScanTask> tasks = partitionsTable.newScan().planFiles()) {
                 for (FileScanTask task : tasks) {
                     // partitionsTable Table schema :
@@ -547,44 +546,12 @@ public class IcebergMetadata implements ConnectorMetadata {
                 throw new StarRocksConnectorException("Failed to get partitions for table: " + table.getName(), e);
             }
         } else {
-            // For partition table, we need to get all partitions from PartitionsTable.
-            try (CloseableIterable<FileScanTask> tasks = partitionsTable.newScan().planFiles()) {
-                for (FileScanTask task : tasks) {
-                    // partitionsTable Table schema :
-                    // partition,
-                    // spec_id,
-                    // record_count,
-                    // file_count,
-                    // total_data_file_size_in_bytes,
-                    // position_delete_record_count,
-                    // position_delete_file_count,
-                    // equality_delete_record_count,
-                    // equality_delete_file_count,
-                    // last_updated_at,
-                    // last_updated_snapshot_id
-                    CloseableIterable<StructLike> rows = task.asDataTask().rows();
-                    for (StructLike row : rows) {
-                        // Get the partition data/spec id/last updated time according to the table schema
-                        StructProjection partitionData = row.get(0, StructProjection.class);
-                        int specId = row.get(1, Integer.class);
-                        PartitionSpec spec = icebergTable.getNativeTable().specs().get(specId);
-                        String partitionName =
-                                PartitionUtil.convertIcebergPartitionToPartitionName(spec, partitionData);
-
-                        long lastUpdated = -1;
-                        try {
-                            lastUpdated = row.get(9, Long.class);
-                        } catch (NullPointerException e) {
-                            LOG.error("The table [{}.{}] snapshot [{}] has been expired",
-                                    icebergTable.getRemoteDbName(), icebergTable.getRemoteTableName(), partitionName, e);
-                        }
-                        Partition partition = new Partition(lastUpdated);
-                        partitionMap.put(partitionName, partition);
-                    }
-                }
-            } catch (IOException e) {
-                throw new StarRocksConnectorException("Failed to get partitions for table: " + table.getName(), e);
-            }
+            // For partition table, we need the last updated time of all partitions, which is derived incrementally
+            // from the previous snapshot if the catalog has cached it.
+            IcebergSnapshotPartitions snapshotPartitions = icebergCatalog.getSnapshotPartitions(
+                    icebergTable.getRemoteDbName(), icebergTable.getRemoteTableName(), icebergTable.getNativeTable());
+            snapshotPartitions.getLastUpdatedTimes().forEach((partitionName, lastUpdated) ->
+                    partitionMap.put(partitionName, new Partition(lastUpdated)));
         }
         ImmutableList.Builder<PartitionInfo> partitions = ImmutableList.builder();
         partitionNames.forEach(partitionName -> partitions.add(partitionMap.get(partitionName)));
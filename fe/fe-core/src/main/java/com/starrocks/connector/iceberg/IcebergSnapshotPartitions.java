@@ -0,0 +1,171 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.iceberg;
+
+import com.google.common.collect.Lists;
+import com.starrocks.connector.exception.StarRocksConnectorException;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataTableType;
+import org.apache.iceberg.MetadataTableUtils;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionsTable;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotSummary;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.apache.iceberg.util.StructProjection;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.starrocks.connector.PartitionUtil.convertIcebergPartitionToPartitionName;
+
+/**
+ * The last updated time of every partition of a partitioned iceberg table as of one snapshot.
+ * <p>
+ * Loading it reads all the manifests of the snapshot through the partitions metadata table. A table ingested
+ * by streaming commits a new snapshot every few minutes, and most of those snapshots only add files, so the
+ * partitions of a newer snapshot are derived from the cached ones by reading only the manifests added since.
+ */
+public class IcebergSnapshotPartitions {
+    private static final Logger LOG = LogManager.getLogger(IcebergSnapshotPartitions.class);
+    // beyond this many new snapshots reading the whole partitions table is not much slower.
+    private static final int MAX_INCREMENTAL_SNAPSHOTS = 100;
+
+    private final long snapshotId;
+    // partition name -> last updated time in microseconds, -1 if the snapshot updating it has been expired.
+    private final Map<String, Long> lastUpdatedTimes;
+
+    private IcebergSnapshotPartitions(long snapshotId, Map<String, Long> lastUpdatedTimes) {
+        this.snapshotId = snapshotId;
+        this.lastUpdatedTimes = lastUpdatedTimes;
+    }
+
+    public long getSnapshotId() {
+        return snapshotId;
+    }
+
+    public Map<String, Long> getLastUpdatedTimes() {
+        return Collections.unmodifiableMap(lastUpdatedTimes);
+    }
+
+    /**
+     * Load the partitions of the current snapshot of the table from the partitions metadata table.
+     */
+    public static IcebergSnapshotPartitions load(Table table) {
+        Snapshot snapshot = table.currentSnapshot();
+        Map<String, Long> lastUpdatedTimes = new HashMap<>();
+        PartitionsTable partitionsTable = (PartitionsTable) MetadataTableUtils.
+                createMetadataTableInstance(table, MetadataTableType.PARTITIONS);
+        try (CloseableIterable<FileScanTask> tasks = partitionsTable.newScan().planFiles()) {
+            for (FileScanTask task : tasks) {
+                // partitionsTable Table schema :
+                // partition,
+                // spec_id,
+                // record_count,
+                // file_count,
+                // total_data_file_size_in_bytes,
+                // position_delete_record_count,
+                // position_delete_file_count,
+                // equality_delete_record_count,
+                // equality_delete_file_count,
+                // last_updated_at,
+                // last_updated_snapshot_id
+                CloseableIterable<StructLike> rows = task.asDataTask().rows();
+                for (StructLike row : rows) {
+                    // Get the partition data/spec id/last updated time according to the table schema
+                    StructProjection partitionData = row.get(0, StructProjection.class);
+                    int specId = row.get(1, Integer.class);
+                    PartitionSpec spec = table.specs().get(specId);
+                    String partitionName = convertIcebergPartitionToPartitionName(spec, partitionData);
+
+                    long lastUpdated = -1;
+                    try {
+                        lastUpdated = row.get(9, Long.class);
+                    } catch (NullPointerException e) {
+                        LOG.error("The table [{}] snapshot [{}] has been expired", table.name(), partitionName, e);
+                    }
+                    lastUpdatedTimes.put(partitionName, lastUpdated);
+                }
+            }
+        } catch (IOException e) {
+            throw new StarRocksConnectorException("Failed to get partitions for table: " + table.name(), e);
+        }
+        return new IcebergSnapshotPartitions(snapshot == null ? -1 : snapshot.snapshotId(), lastUpdatedTimes);
+    }
+
+    /**
+     * Derive the partitions of the current snapshot of the table from these ones, by applying the files added
+     * by every snapshot committed since. Returns empty if the current snapshot does not descend from this one,
+     * or if any snapshot in between removed files, since the last updated time of a partition is the time its
+     * newest live file was added and cannot be recomputed without the files left in the partition.
+     */
+    public Optional<IcebergSnapshotPartitions> advance(Table table) {
+        Snapshot current = table.currentSnapshot();
+        if (current == null || snapshotId == -1) {
+            return Optional.empty();
+        }
+        if (current.snapshotId() == snapshotId) {
+            return Optional.of(this);
+        }
+        // the partition names of different specs are not comparable with the ones of the partitions table.
+        if (table.specs().size() != 1 || !SnapshotUtil.isAncestorOf(table, current.snapshotId(), snapshotId)) {
+            return Optional.empty();
+        }
+
+        List<Snapshot> snapshots = Lists.newArrayList(
+                SnapshotUtil.ancestorsBetween(table, current.snapshotId(), snapshotId));
+        if (snapshots.size() > MAX_INCREMENTAL_SNAPSHOTS || !snapshots.stream().allMatch(
+                IcebergSnapshotPartitions::onlyAddsFiles)) {
+            return Optional.empty();
+        }
+
+        Map<String, Long> updatedTimes = new HashMap<>(lastUpdatedTimes);
+        for (Snapshot snapshot : snapshots) {
+            long timestamp = TimeUnit.MILLISECONDS.toMicros(snapshot.timestampMillis());
+            for (ContentFile<?> file : snapshot.addedDataFiles(table.io())) {
+                updateTime(table, updatedTimes, file, timestamp);
+            }
+            for (ContentFile<?> file : snapshot.addedDeleteFiles(table.io())) {
+                updateTime(table, updatedTimes, file, timestamp);
+            }
+        }
+        return Optional.of(new IcebergSnapshotPartitions(current.snapshotId(), updatedTimes));
+    }
+
+    private static void updateTime(Table table, Map<String, Long> updatedTimes, ContentFile<?> file, long timestamp) {
+        String partitionName = convertIcebergPartitionToPartitionName(table.specs().get(file.specId()), file.partition());
+        updatedTimes.merge(partitionName, timestamp, Math::max);
+    }
+
+    private static boolean onlyAddsFiles(Snapshot snapshot) {
+        Map<String, String> summary = snapshot.summary();
+        if (summary == null) {
+            return false;
+        }
+        return "0".equals(summary.getOrDefault(SnapshotSummary.DELETED_FILES_PROP, "0")) &&
+                "0".equals(summary.getOrDefault(SnapshotSummary.REMOVED_DELETE_FILES_PROP, "0"));
+    }
+}
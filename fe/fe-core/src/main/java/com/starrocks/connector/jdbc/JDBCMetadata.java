@@ -28,8 +28,11 @@ import com.starrocks.common.Config;
 import com.starrocks.common.DdlException;
 import com.starrocks.connector.ConnectorMetadata;
 import com.starrocks.connector.ConnectorTableId;
+import com.starrocks.connector.GetRemoteFilesParams;
 import com.starrocks.connector.PartitionInfo;
 import com.starrocks.connector.PartitionUtil;
+import com.starrocks.connector.RemoteFileDesc;
+import com.starrocks.connector.RemoteFileInfo;
 import com.starrocks.connector.TableVersionRange;
 import com.starrocks.connector.exception.StarRocksConnectorException;
 import com.zaxxer.hikari.HikariConfig;
@@ -40,6 +43,7 @@ import org.apache.logging.log4j.Logger;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -57,6 +61,7 @@ public class JDBCMetadata implements ConnectorMetadata {
     private JDBCMetaCache<JDBCTableName, Integer> tableIdCache;
     private JDBCMetaCache<JDBCTableName, Table> tableInstanceCache;
     private JDBCMetaCache<JDBCTableName, List<Partition>> partitionInfoCache;
+    private JDBCMetaCache<JDBCTableName, List<RemoteFileDesc>> splitKeyCache;
 
     private HikariDataSource dataSource;
 
@@ -122,6 +127,7 @@ public class JDBCMetadata implements ConnectorMetadata {
         tableIdCache = new JDBCMetaCache<>(properties, true);
         tableInstanceCache = new JDBCMetaCache<>(properties, false);
         partitionInfoCache = new JDBCMetaCache<>(properties, false);
+        splitKeyCache = new JDBCMetaCache<>(properties, false);
     }
 
     public void checkAndSetSupportPartitionInformation() {
@@ -289,6 +295,81 @@ public class JDBCMetadata implements ConnectorMetadata {
         return list.build();
     }
 
+    /**
+     * A jdbc table has no files, the returned file describes the bounds of the integer key the scan of the table
+     * can be split on, see {@link JDBCRemoteFileDesc}. Nothing is returned if the table has no such key.
+     */
+    @Override
+    public List<RemoteFileInfo> getRemoteFiles(Table table, GetRemoteFilesParams params) {
+        JDBCTable jdbcTable = (JDBCTable) table;
+        List<RemoteFileDesc> files;
+        try {
+            files = splitKeyCache.get(
+                    new JDBCTableName(null, jdbcTable.getDbName(), jdbcTable.getName()),
+                    k -> getSplitKey(jdbcTable));
+        } catch (StarRocksConnectorException e) {
+            // the failure is not cached, the bounds are looked up again by the next scan
+            LOG.warn("get split key of table {}.{} for JDBC catalog fail!", jdbcTable.getDbName(),
+                    jdbcTable.getName(), e);
+            return Lists.newArrayList();
+        }
+        if (files.isEmpty()) {
+            return Lists.newArrayList();
+        }
+        RemoteFileInfo remoteFileInfo = new RemoteFileInfo();
+        remoteFileInfo.setFiles(files);
+        return Lists.newArrayList(remoteFileInfo);
+    }
+
+    private List<RemoteFileDesc> getSplitKey(JDBCTable table) {
+        try (Connection connection = getConnection()) {
+            Column splitColumn = getSplitColumn(connection, table);
+            if (splitColumn == null) {
+                return Lists.newArrayList();
+            }
+            String sql = schemaResolver.getKeyRangeQuery(table.getDbName(), table.getName(), splitColumn.getName());
+            try (Statement statement = connection.createStatement()) {
+                // the query runs during planning, don't let a slow remote table hold the planner
+                statement.setQueryTimeout(Config.jdbc_split_key_query_timeout_sec);
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                    if (!resultSet.next()) {
+                        return Lists.newArrayList();
+                    }
+                    long lowerBound = resultSet.getLong(1);
+                    // the table is empty
+                    if (resultSet.wasNull()) {
+                        return Lists.newArrayList();
+                    }
+                    long upperBound = resultSet.getLong(2);
+                    return Lists.newArrayList(JDBCRemoteFileDesc.createJDBCRemoteFileDesc(splitColumn.getName(),
+                            lowerBound, upperBound));
+                }
+            }
+        } catch (SQLException e) {
+            throw new StarRocksConnectorException(e.getMessage(), e);
+        }
+    }
+
+    // a single column integer primary key, or a single column integer partition key of the remote table
+    private Column getSplitColumn(Connection connection, JDBCTable table) throws SQLException {
+        List<String> candidates = Lists.newArrayList();
+        List<String> primaryKeyColumns =
+                schemaResolver.listPrimaryKeyColumns(connection, table.getDbName(), table.getName());
+        if (primaryKeyColumns.size() == 1) {
+            candidates.add(primaryKeyColumns.get(0));
+        }
+        if (table.getPartitionColumns() != null && table.getPartitionColumns().size() == 1) {
+            candidates.add(table.getPartitionColumns().get(0).getName());
+        }
+        for (String candidate : candidates) {
+            Column column = table.getColumn(candidate);
+            if (column != null && column.getType().isIntegerType()) {
+                return column;
+            }
+        }
+        return null;
+    }
+
     @Override
     public void refreshTable(String srDbName, Table table, List<String> partitionNames, boolean onlyCachedPartitions) {
         JDBCTable jdbcTable = (JDBCTable) table;
@@ -298,6 +379,7 @@ public class JDBCMetadata implements ConnectorMetadata {
         }
         partitionNamesCache.invalidate(jdbcTableName);
         partitionInfoCache.invalidate(jdbcTableName);
+        splitKeyCache.invalidate(jdbcTableName);
     }
 
     public void refreshCache(Map<String, String> properties) {
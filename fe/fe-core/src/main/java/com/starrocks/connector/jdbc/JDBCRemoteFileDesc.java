@@ -0,0 +1,57 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.jdbc;
+
+import com.starrocks.connector.RemoteFileDesc;
+
+/**
+ * Bounds of the integer key a jdbc table scan is split on, a jdbc table has no files.
+ */
+public class JDBCRemoteFileDesc extends RemoteFileDesc {
+    private final String splitColumn;
+    private final long lowerBound;
+    private final long upperBound;
+
+    private JDBCRemoteFileDesc(String splitColumn, long lowerBound, long upperBound) {
+        super(null, null, 0, 0, null);
+        this.splitColumn = splitColumn;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public static JDBCRemoteFileDesc createJDBCRemoteFileDesc(String splitColumn, long lowerBound, long upperBound) {
+        return new JDBCRemoteFileDesc(splitColumn, lowerBound, upperBound);
+    }
+
+    public String getSplitColumn() {
+        return splitColumn;
+    }
+
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    public long getUpperBound() {
+        return upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return "JDBCRemoteFileDesc{" + "splitColumn='" + splitColumn + '\'' +
+                ", lowerBound=" + lowerBound +
+                ", upperBound=" + upperBound +
+                '}';
+    }
+}
@@ -61,6 +61,32 @@ public abstract class JDBCSchemaResolver {
         return connection.getMetaData().getColumns(dbName, null, tblName, "%");
     }
 
+    public ResultSet getPrimaryKeys(Connection connection, String dbName, String tblName) throws SQLException {
+        return connection.getMetaData().getPrimaryKeys(dbName, null, tblName);
+    }
+
+    public List<String> listPrimaryKeyColumns(Connection connection, String dbName, String tblName)
+            throws SQLException {
+        try (ResultSet resultSet = getPrimaryKeys(connection, dbName, tblName)) {
+            List<String> primaryKeyColumns = Lists.newArrayList();
+            while (resultSet.next()) {
+                primaryKeyColumns.add(resultSet.getString("COLUMN_NAME"));
+            }
+            return primaryKeyColumns;
+        }
+    }
+
+    public String quoteIdentifier(String identifier) {
+        return "\"" + identifier + "\"";
+    }
+
+    // query returning the min and max value of a column, used to split a scan into key ranges
+    public String getKeyRangeQuery(String dbName, String tblName, String columnName) {
+        String column = quoteIdentifier(columnName);
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s.%s", column, column,
+                quoteIdentifier(dbName), quoteIdentifier(tblName));
+    }
+
     public Table getTable(long id, String name, List<Column> schema, String dbName,
                           String catalogName, Map<String, String> properties) throws DdlException {
         return new JDBCTable(id, name, schema, dbName, catalogName, properties);
@@ -57,6 +57,11 @@ public class MysqlSchemaResolver extends JDBCSchemaResolver {
         }
     }
 
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "`" + identifier + "`";
+    }
+
     @Override
     public boolean checkAndSetSupportPartitionInformation(Connection connection) {
         String catalogSchema = "information_schema";
@@ -35,6 +35,8 @@ import com.starrocks.connector.exception.StarRocksConnectorException;
 import com.starrocks.connector.hive.HivePartitionStats;
 import com.starrocks.connector.hive.IHiveMetastore;
 import com.starrocks.credential.CloudConfiguration;
+import com.starrocks.qe.ConnectContext;
+import com.starrocks.qe.SessionVariable;
 import com.starrocks.sql.optimizer.OptimizerContext;
 import com.starrocks.sql.optimizer.Utils;
 import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
@@ -271,6 +273,10 @@ public class KuduMetadata implements ConnectorMetadata {
         builder.setProjectedColumnNames(params.getFieldNames());
         if (params.getLimit() > 0) {
             builder.limit(params.getLimit());
+        } else {
+            // split the tablets into scan tokens of about the split size, so that a large tablet is scanned
+            // by several scanners instead of one. A query with a limit reads few rows and keeps one per tablet.
+            builder.setSplitSizeBytes(getSplitSizeBytes());
         }
         addConstraintPredicates(nativeTable, builder, params.getPredicate());
         List<KuduScanToken> tokens = builder.build();
@@ -280,6 +286,13 @@ public class KuduMetadata implements ConnectorMetadata {
         return Lists.newArrayList(remoteFileInfo);
     }
 
+    private static long getSplitSizeBytes() {
+        if (ConnectContext.get() != null) {
+            return ConnectContext.get().getSessionVariable().getConnectorMaxSplitSize();
+        }
+        return SessionVariable.DEFAULT_SESSION_VARIABLE.getConnectorMaxSplitSize();
+    }
+
     private void addConstraintPredicates(org.apache.kudu.client.KuduTable table,
                                          KuduScanToken.KuduScanTokenBuilder builder,
                                          ScalarOperator predicate) {
@@ -16,6 +16,7 @@ package com.starrocks.connector.kudu;
 
 import com.google.common.collect.Lists;
 import com.starrocks.analysis.BinaryType;
+import com.starrocks.sql.optimizer.Utils;
 import com.starrocks.sql.optimizer.operator.scalar.BinaryPredicateOperator;
 import com.starrocks.sql.optimizer.operator.scalar.CastOperator;
 import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
@@ -69,20 +70,50 @@ public class KuduPredicateConverter extends ScalarOperatorVisitor<List<KuduPredi
         if (op == CompoundPredicateOperator.CompoundType.NOT) {
             return Lists.newArrayList();
         }
-        Optional<List<KuduPredicate>> left = Optional.ofNullable(operator.getChild(0).accept(this, null));
-        Optional<List<KuduPredicate>> right = Optional.ofNullable(operator.getChild(1).accept(this, null));
         if (op == CompoundPredicateOperator.CompoundType.OR) {
-            if (left.isPresent() && right.isPresent()) {
-                return Lists.newArrayList();
-            }
-            return left.orElse(right.orElse(Lists.newArrayList()));
+            return convertDisjunction(operator);
         }
+        Optional<List<KuduPredicate>> left = Optional.ofNullable(operator.getChild(0).accept(this, null));
+        Optional<List<KuduPredicate>> right = Optional.ofNullable(operator.getChild(1).accept(this, null));
         return Stream.of(left, right)
                 .filter(Optional::isPresent)
                 .flatMap(e -> e.get().stream())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * A disjunction can only be pushed down as a whole. Kudu has no OR predicate, but the equalities and in lists
+     * on the same column, e.g. {@code a = 1 OR a IN (2, 3)}, are pushed down as one in list.
+     */
+    private List<KuduPredicate> convertDisjunction(CompoundPredicateOperator operator) {
+        String columnName = null;
+        List<Object> literalValues = new ArrayList<>();
+        for (ScalarOperator disjunct : Utils.extractDisjunctive(operator)) {
+            List<ScalarOperator> valueOperators;
+            if (disjunct instanceof BinaryPredicateOperator &&
+                    ((BinaryPredicateOperator) disjunct).getBinaryType() == BinaryType.EQ) {
+                valueOperators = Lists.newArrayList(disjunct.getChild(1));
+            } else if (disjunct instanceof InPredicateOperator && !((InPredicateOperator) disjunct).isNotIn()) {
+                valueOperators = ((InPredicateOperator) disjunct).getListChildren();
+            } else {
+                return Lists.newArrayList();
+            }
+            String disjunctColumnName = getColumnName(disjunct.getChild(0));
+            if (disjunctColumnName == null || (columnName != null && !columnName.equals(disjunctColumnName))) {
+                return Lists.newArrayList();
+            }
+            columnName = disjunctColumnName;
+            for (ScalarOperator valueOperator : valueOperators) {
+                Object literal = getLiteral(valueOperator);
+                if (literal == null) {
+                    return Lists.newArrayList();
+                }
+                literalValues.add(literal);
+            }
+        }
+        return Lists.newArrayList(KuduPredicate.newInListPredicate(schema.getColumn(columnName), literalValues));
+    }
+
     @Override
     public List<KuduPredicate> visitIsNullPredicate(IsNullPredicateOperator operator, Void context) {
         String columnName = getColumnName(operator.getChild(0));
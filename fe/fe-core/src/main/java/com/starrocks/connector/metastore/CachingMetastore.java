@@ -17,6 +17,7 @@ package com.starrocks.connector.metastore;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.starrocks.catalog.Database;
@@ -75,6 +76,20 @@ public abstract class CachingMetastore {
         return cacheBuilder;
     }
 
+    protected static <K, V> CacheBuilder<K, V> newWeightedCacheBuilder(long expiresAfterWriteSec, long refreshSec,
+                                                                       long maximumWeight, Weigher<K, V> weigher) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        if (expiresAfterWriteSec >= 0) {
+            cacheBuilder.expireAfterWrite(expiresAfterWriteSec, SECONDS);
+        }
+
+        if (refreshSec > 0 && expiresAfterWriteSec > refreshSec) {
+            cacheBuilder.refreshAfterWrite(refreshSec, SECONDS);
+        }
+
+        return cacheBuilder.maximumWeight(maximumWeight).weigher(weigher);
+    }
+
     protected abstract List<String> loadAllDatabaseNames();
 
     protected abstract List<String> loadAllTableNames(String dbName);
@@ -31,6 +31,8 @@ import com.aliyun.odps.table.read.split.InputSplitAssigner;
 import com.aliyun.odps.table.read.split.InputSplitWithRowRange;
 import com.aliyun.odps.table.read.split.impl.RowRangeInputSplitAssigner;
 import com.aliyun.odps.utils.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -45,6 +47,8 @@ import com.starrocks.catalog.Database;
 import com.starrocks.catalog.OdpsTable;
 import com.starrocks.catalog.PartitionKey;
 import com.starrocks.catalog.Table;
+import com.starrocks.common.profile.Timer;
+import com.starrocks.common.profile.Tracers;
 import com.starrocks.connector.ConnectorMetadata;
 import com.starrocks.connector.ConnectorTableId;
 import com.starrocks.connector.GetRemoteFilesParams;
@@ -56,11 +60,14 @@ import com.starrocks.connector.exception.StarRocksConnectorException;
 import com.starrocks.credential.CloudConfiguration;
 import com.starrocks.credential.aliyun.AliyunCloudConfiguration;
 import com.starrocks.credential.aliyun.AliyunCloudCredential;
+import com.starrocks.qe.ConnectContext;
+import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.sql.optimizer.OptimizerContext;
 import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
 import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
 import com.starrocks.sql.optimizer.statistics.ColumnStatistic;
 import com.starrocks.sql.optimizer.statistics.Statistics;
+import com.starrocks.system.SystemInfoService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -68,11 +75,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -82,10 +91,12 @@ import java.util.stream.Collectors;
 import static com.google.common.cache.CacheLoader.asyncReloading;
 import static com.starrocks.connector.PartitionUtil.toHivePartitionName;
 import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class OdpsMetadata implements ConnectorMetadata {
     private static final Logger LOG = LogManager.getLogger(OdpsMetadata.class);
     public static final long NEVER_CACHE = 0;
+    private static final long MIN_ROWS_PER_SPLIT = 64 * 1024L;
     private final Odps odps;
     private final String catalogName;
     private final EnvironmentSettings settings;
@@ -96,6 +107,8 @@ public class OdpsMetadata implements ConnectorMetadata {
     private LoadingCache<String, Set<String>> tableNameCache;
     private LoadingCache<OdpsTableName, OdpsTable> tableCache;
     private LoadingCache<OdpsTableName, List<Partition>> partitionCache;
+    // null if the read sessions are created for every scan.
+    private Cache<SplitKey, OdpsSplitsInfo> splitCache;
 
     public OdpsMetadata(Odps odps, String catalogName, AliyunCloudCredential aliyunCloudCredential,
                         OdpsProperties properties) {
@@ -114,6 +127,7 @@ public class OdpsMetadata implements ConnectorMetadata {
         }
         settings = settingsBuilder.build();
         initMetaCache();
+        initSplitCache();
     }
 
     private void initMetaCache() {
@@ -145,6 +159,15 @@ public class OdpsMetadata implements ConnectorMetadata {
         }
     }
 
+    private void initSplitCache() {
+        if (Boolean.parseBoolean(properties.get(OdpsProperties.ENABLE_SPLIT_CACHE))) {
+            splitCache = CacheBuilder.newBuilder()
+                    .expireAfterWrite(Long.parseLong(properties.get(OdpsProperties.SPLIT_CACHE_EXPIRE_TIME)), SECONDS)
+                    .maximumSize(Long.parseLong(properties.get(OdpsProperties.SPLIT_CACHE_SIZE)))
+                    .build();
+        }
+    }
+
     @Override
     public Table.TableType getTableType() {
         return Table.TableType.ODPS;
@@ -342,31 +365,63 @@ public class OdpsMetadata implements ConnectorMetadata {
         try {
             LOG.info("get remote file infos, project:{}, table:{}, columns:{}", odpsTable.getDbName(),
                     odpsTable.getTableName(), params.getFieldNames());
+            OdpsSplitsInfo odpsSplitsInfo;
+            // row ranges are sized for the scan drivers of the cluster, size based splits don't depend on them.
+            int parallelism = OdpsProperties.ROW_OFFSET.equals(properties.get(OdpsProperties.SPLIT_POLICY)) ?
+                    getScanParallelism() : 0;
+            Long lastDataModifiedTime = splitCache == null ? null : getLastDataModifiedTime(odpsTable);
+            if (lastDataModifiedTime == null) {
+                odpsSplitsInfo = createSplitsInfo(odpsTable, orderedColumnNames, partitionSpecs, params.getLimit(),
+                        parallelism, scanBuilder);
+            } else {
+                // the read session of the same columns and partitions is reused until the table is written,
+                // or the row ranges would be split for another parallelism.
+                SplitKey key = new SplitKey(odpsTable.getDbName(), odpsTable.getTableName(), lastDataModifiedTime,
+                        orderedColumnNames, partitionSpecs, params.getLimit(), parallelism);
+                odpsSplitsInfo = splitCache.get(key, () -> createSplitsInfo(odpsTable, orderedColumnNames,
+                        partitionSpecs, params.getLimit(), parallelism, scanBuilder));
+            }
+            OdpsRemoteFileDesc odpsRemoteFileDesc = OdpsRemoteFileDesc.createOdpsRemoteFileDesc(odpsSplitsInfo);
+            List<RemoteFileDesc> remoteFileDescs = ImmutableList.of(odpsRemoteFileDesc);
+            remoteFileInfo.setFiles(remoteFileDescs);
+            return Lists.newArrayList(remoteFileInfo);
+        } catch (Exception e) {
+            LOG.error("getRemoteFiles error", e);
+        }
+        return Collections.emptyList();
+    }
+
+    private OdpsSplitsInfo createSplitsInfo(OdpsTable odpsTable, List<String> orderedColumnNames,
+                                            List<PartitionSpec> partitionSpecs, long limit, int parallelism,
+                                            TableReadSessionBuilder scanBuilder) throws IOException {
+        try (Timer ignored = Tracers.watchScope(Tracers.Module.EXTERNAL, "ODPS.createReadSession")) {
             TableReadSessionBuilder tableReadSessionBuilder =
                     scanBuilder.identifier(TableIdentifier.of(odpsTable.getDbName(), odpsTable.getTableName()))
                             .withSettings(settings)
                             .requiredDataColumns(orderedColumnNames)
                             .requiredPartitions(partitionSpecs);
-            OdpsSplitsInfo odpsSplitsInfo;
             switch (properties.get(OdpsProperties.SPLIT_POLICY)) {
                 case OdpsProperties.ROW_OFFSET:
-                    odpsSplitsInfo = callRowOffsetSplitsInfo(tableReadSessionBuilder, params.getLimit());
-                    break;
+                    return callRowOffsetSplitsInfo(tableReadSessionBuilder, limit, parallelism);
                 case OdpsProperties.SIZE:
-                    odpsSplitsInfo = callSizeSplitsInfo(tableReadSessionBuilder);
-                    break;
+                    return callSizeSplitsInfo(tableReadSessionBuilder);
                 default:
                     throw new StarRocksConnectorException(
                             "unsupported split policy: " + properties.get(OdpsProperties.SPLIT_POLICY));
             }
-            OdpsRemoteFileDesc odpsRemoteFileDesc = OdpsRemoteFileDesc.createOdpsRemoteFileDesc(odpsSplitsInfo);
-            List<RemoteFileDesc> remoteFileDescs = ImmutableList.of(odpsRemoteFileDesc);
-            remoteFileInfo.setFiles(remoteFileDescs);
-            return Lists.newArrayList(remoteFileInfo);
+        }
+    }
+
+    private Long getLastDataModifiedTime(OdpsTable odpsTable) {
+        try {
+            Date lastDataModifiedTime =
+                    odps.tables().get(odpsTable.getDbName(), odpsTable.getTableName()).getLastDataModifiedTime();
+            return lastDataModifiedTime == null ? null : lastDataModifiedTime.getTime();
         } catch (Exception e) {
-            LOG.error("getRemoteFiles error", e);
+            LOG.warn("Failed to get the last data modified time of {}.{}, create a new read session",
+                    odpsTable.getDbName(), odpsTable.getTableName(), e);
+            return null;
         }
-        return Collections.emptyList();
     }
 
     private OdpsSplitsInfo callSizeSplitsInfo(TableReadSessionBuilder tableReadSessionBuilder)
@@ -384,8 +439,8 @@ public class OdpsMetadata implements ConnectorMetadata {
         return odpsSplitsInfo;
     }
 
-    private OdpsSplitsInfo callRowOffsetSplitsInfo(TableReadSessionBuilder tableReadSessionBuilder, long limit)
-            throws IOException {
+    private OdpsSplitsInfo callRowOffsetSplitsInfo(TableReadSessionBuilder tableReadSessionBuilder, long limit,
+                                                   int parallelism) throws IOException {
         Map<String, String> splitProperties = new HashMap<>();
         splitProperties.put("tunnel_endpoint", properties.get(OdpsProperties.TUNNEL_ENDPOINT));
         splitProperties.put("quota_name", properties.get(OdpsProperties.TUNNEL_QUOTA));
@@ -396,11 +451,12 @@ public class OdpsMetadata implements ConnectorMetadata {
                 .buildBatchReadSession();
         RowRangeInputSplitAssigner inputSplitAssigner =
                 (RowRangeInputSplitAssigner) rowScan.getInputSplitAssigner();
-        long rowsPerSplit = Long.parseLong(properties.get(OdpsProperties.SPLIT_ROW_COUNT));
         long totalRowCount = inputSplitAssigner.getTotalRowCount();
         if (limit != -1) {
             totalRowCount = Math.min(inputSplitAssigner.getTotalRowCount(), limit);
         }
+        long rowsPerSplit = getRowsPerSplit(Long.parseLong(properties.get(OdpsProperties.SPLIT_ROW_COUNT)),
+                totalRowCount, parallelism);
         long numRecord = 0;
         for (long i = rowsPerSplit; i < totalRowCount; i += rowsPerSplit) {
             InputSplitWithRowRange splitByRowOffset =
@@ -416,6 +472,24 @@ public class OdpsMetadata implements ConnectorMetadata {
         return odpsSplitsInfo;
     }
 
+    /**
+     * Use smaller row ranges than configured if the table is too small to give every scan driver of the cluster
+     * one range, but not so small that opening the readers dominates reading the rows.
+     */
+    @VisibleForTesting
+    static long getRowsPerSplit(long configuredRowsPerSplit, long totalRowCount, int parallelism) {
+        long balancedRowsPerSplit = (totalRowCount + parallelism - 1) / parallelism;
+        long minRowsPerSplit = Math.min(configuredRowsPerSplit, MIN_ROWS_PER_SPLIT);
+        return Math.max(Math.min(configuredRowsPerSplit, balancedRowsPerSplit), minRowsPerSplit);
+    }
+
+    private static int getScanParallelism() {
+        SystemInfoService clusterInfo = GlobalStateMgr.getCurrentState().getNodeMgr().getClusterInfo();
+        int nodes = clusterInfo.getAliveBackendNumber() + clusterInfo.getAliveComputeNodeNumber();
+        int dop = ConnectContext.get() != null ? ConnectContext.get().getSessionVariable().getDegreeOfParallelism() : 1;
+        return Math.max(1, nodes) * Math.max(1, dop);
+    }
+
     @Override
     public CloudConfiguration getCloudConfiguration() {
         AliyunCloudConfiguration configuration = new AliyunCloudConfiguration(aliyunCloudCredential);
@@ -423,6 +497,48 @@ public class OdpsMetadata implements ConnectorMetadata {
         return configuration;
     }
 
+    private static class SplitKey {
+        private final String projectName;
+        private final String tableName;
+        private final long lastDataModifiedTime;
+        private final List<String> columnNames;
+        private final List<String> partitionSpecs;
+        private final long limit;
+        private final int parallelism;
+
+        private SplitKey(String projectName, String tableName, long lastDataModifiedTime, List<String> columnNames,
+                         List<PartitionSpec> partitionSpecs, long limit, int parallelism) {
+            this.projectName = projectName;
+            this.tableName = tableName;
+            this.lastDataModifiedTime = lastDataModifiedTime;
+            this.columnNames = columnNames;
+            this.partitionSpecs = partitionSpecs.stream().map(PartitionSpec::toString).collect(Collectors.toList());
+            this.limit = limit;
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SplitKey that = (SplitKey) o;
+            return lastDataModifiedTime == that.lastDataModifiedTime && limit == that.limit &&
+                    parallelism == that.parallelism && Objects.equals(projectName, that.projectName) &&
+                    Objects.equals(tableName, that.tableName) &&
+                    Objects.equals(columnNames, that.columnNames) && Objects.equals(partitionSpecs, that.partitionSpecs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectName, tableName, lastDataModifiedTime, columnNames, partitionSpecs, limit,
+                    parallelism);
+        }
+    }
+
     private static CacheBuilder<Object, Object> newCacheBuilder(long expiresAfterWriteSec, long maximumSize) {
         CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
         if (expiresAfterWriteSec >= 0) {
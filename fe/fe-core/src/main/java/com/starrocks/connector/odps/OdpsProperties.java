@@ -40,6 +40,10 @@ public class OdpsProperties {
     public static final String ENABLE_TABLE_NAME_CACHE = "odps.cache.table-name.enable";
     public static final String TABLE_NAME_CACHE_EXPIRE_TIME = "odps.cache.table-name.expire";
     public static final String PROJECT_CACHE_SIZE = "odps.cache.table-name.size";
+    public static final String ENABLE_SPLIT_CACHE = "odps.cache.split.enable";
+    // in seconds, a read session can not be used after it expires on the server.
+    public static final String SPLIT_CACHE_EXPIRE_TIME = "odps.cache.split.expire";
+    public static final String SPLIT_CACHE_SIZE = "odps.cache.split.size";
 
     public static final String ROW_OFFSET = "row_offset";
     public static final String SIZE = "size";
@@ -67,6 +71,9 @@ public class OdpsProperties {
         newProperty(ENABLE_TABLE_NAME_CACHE).withDefaultValue(false);
         newProperty(TABLE_NAME_CACHE_EXPIRE_TIME).withDefaultValue(86400);
         newProperty(PROJECT_CACHE_SIZE).withDefaultValue(1000);
+        newProperty(ENABLE_SPLIT_CACHE).withDefaultValue(true);
+        newProperty(SPLIT_CACHE_EXPIRE_TIME).withDefaultValue(3600);
+        newProperty(SPLIT_CACHE_SIZE).withDefaultValue(1000);
     }
 
     public OdpsProperties(Map<String, String> properties) {
@@ -42,6 +42,7 @@ public class OdpsSplitsInfo {
     private final Map<String, String> properties;
     private final TableBatchReadSession session;
     private final SplitPolicy splitPolicy;
+    private volatile String serializedSession;
 
     public OdpsSplitsInfo(List<InputSplit> splits, TableBatchReadSession session, SplitPolicy splitPolicy,
                           Map<String, String> properties) {
@@ -72,11 +73,15 @@ public class OdpsSplitsInfo {
     }
 
     public String getSerializeSession() {
-        try {
-            return serialize(session);
-        } catch (IOException e) {
-            throw new StarRocksConnectorException("Serialize odps read session failed", e);
+        // the splits info may be shared by the scans of several queries, serialize the session only once.
+        if (serializedSession == null) {
+            try {
+                serializedSession = serialize(session);
+            } catch (IOException e) {
+                throw new StarRocksConnectorException("Serialize odps read session failed", e);
+            }
         }
+        return serializedSession;
     }
 
     private String serialize(Serializable object) throws IOException {
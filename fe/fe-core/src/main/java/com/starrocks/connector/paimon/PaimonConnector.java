@@ -28,6 +28,7 @@ import com.starrocks.credential.aliyun.AliyunCloudCredential;
 import com.starrocks.credential.aws.AwsCloudConfiguration;
 import com.starrocks.credential.aws.AwsCloudCredential;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.catalog.CatalogFactory;
@@ -46,10 +47,14 @@ public class PaimonConnector implements Connector {
     private static final String PAIMON_CATALOG_WAREHOUSE = "paimon.catalog.warehouse";
     private static final String HIVE_METASTORE_URIS = "hive.metastore.uris";
     private static final String DLF_CATGALOG_ID = "dlf.catalog.id";
+    public static final String ENABLE_PAIMON_SPLIT_CACHE = "enable_paimon_split_cache";
+    public static final String PAIMON_SPLIT_CACHE_TTL = "paimon_split_cache_ttl_sec";
+    public static final String PAIMON_SPLIT_CACHE_MEMORY_USAGE_RATIO = "paimon_split_cache_memory_usage_ratio";
     private final HdfsEnvironment hdfsEnvironment;
     private Catalog paimonNativeCatalog;
     private final String catalogName;
     private final Options paimonOptions;
+    private final PaimonSplitCache splitCache;
 
     public PaimonConnector(ConnectorContext context) {
         Map<String, String> properties = context.getProperties();
@@ -91,6 +96,15 @@ public class PaimonConnector implements Connector {
             String key = k.substring(keyPrefix.length());
             paimonOptions.setString(key, properties.get(k));
         }
+
+        if (PropertyUtil.propertyAsBoolean(properties, ENABLE_PAIMON_SPLIT_CACHE, true)) {
+            long maxBytes = Math.round(Runtime.getRuntime().maxMemory() *
+                    PropertyUtil.propertyAsDouble(properties, PAIMON_SPLIT_CACHE_MEMORY_USAGE_RATIO, 0.05));
+            this.splitCache = new PaimonSplitCache(
+                    PropertyUtil.propertyAsLong(properties, PAIMON_SPLIT_CACHE_TTL, 60 * 60), maxBytes);
+        } else {
+            this.splitCache = null;
+        }
     }
 
     public void initFsOption(CloudConfiguration cloudConfiguration) {
@@ -139,6 +153,6 @@ public class PaimonConnector implements Connector {
 
     @Override
     public ConnectorMetadata getMetadata() {
-        return new PaimonMetadata(catalogName, hdfsEnvironment, getPaimonNativeCatalog());
+        return new PaimonMetadata(catalogName, hdfsEnvironment, getPaimonNativeCatalog(), splitCache);
     }
 }
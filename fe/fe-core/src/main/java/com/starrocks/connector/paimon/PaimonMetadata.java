@@ -22,6 +22,8 @@ import com.starrocks.catalog.PaimonTable;
 import com.starrocks.catalog.PartitionKey;
 import com.starrocks.catalog.Table;
 import com.starrocks.catalog.Type;
+import com.starrocks.common.profile.Timer;
+import com.starrocks.common.profile.Tracers;
 import com.starrocks.connector.ColumnTypeConverter;
 import com.starrocks.connector.ConnectorMetadata;
 import com.starrocks.connector.GetRemoteFilesParams;
@@ -77,11 +79,19 @@ public class PaimonMetadata implements ConnectorMetadata {
     private final Map<String, Database> databases = new ConcurrentHashMap<>();
     private final Map<PaimonFilter, PaimonSplitsInfo> paimonSplits = new ConcurrentHashMap<>();
     private final Map<String, Long> partitionInfos = new ConcurrentHashMap<>();
+    // shared by the metadata of all the queries on the catalog, null if disabled.
+    private final PaimonSplitCache splitCache;
 
     public PaimonMetadata(String catalogName, HdfsEnvironment hdfsEnvironment, Catalog paimonNativeCatalog) {
+        this(catalogName, hdfsEnvironment, paimonNativeCatalog, null);
+    }
+
+    public PaimonMetadata(String catalogName, HdfsEnvironment hdfsEnvironment, Catalog paimonNativeCatalog,
+                          PaimonSplitCache splitCache) {
         this.paimonNativeCatalog = paimonNativeCatalog;
         this.hdfsEnvironment = hdfsEnvironment;
         this.catalogName = catalogName;
+        this.splitCache = splitCache;
     }
 
     @Override
@@ -239,11 +249,8 @@ public class PaimonMetadata implements ConnectorMetadata {
         PaimonFilter filter = new PaimonFilter(paimonTable.getDbName(), paimonTable.getTableName(), params.getPredicate(),
                 params.getFieldNames());
         if (!paimonSplits.containsKey(filter)) {
-            ReadBuilder readBuilder = paimonTable.getNativeTable().newReadBuilder();
-            int[] projected =
-                    params.getFieldNames().stream().mapToInt(name -> (paimonTable.getFieldNames().indexOf(name))).toArray();
             List<Predicate> predicates = extractPredicates(paimonTable, params.getPredicate());
-            List<Split> splits = readBuilder.withFilter(predicates).withProjection(projected).newScan().plan().splits();
+            List<Split> splits = getSplits(paimonTable, predicates, params.getFieldNames());
             PaimonSplitsInfo paimonSplitsInfo = new PaimonSplitsInfo(predicates, splits);
             paimonSplits.put(filter, paimonSplitsInfo);
             List<RemoteFileDesc> remoteFileDescs = ImmutableList.of(
@@ -258,6 +265,31 @@ public class PaimonMetadata implements ConnectorMetadata {
         return Lists.newArrayList(remoteFileInfo);
     }
 
+    private List<Split> getSplits(PaimonTable paimonTable, List<Predicate> predicates, List<String> fieldNames) {
+        org.apache.paimon.table.Table nativeTable = paimonTable.getNativeTable();
+        Identifier identifier = new Identifier(paimonTable.getDbName(), paimonTable.getTableName());
+        Long snapshotId = splitCache == null ? null : PaimonSplitCache.latestSnapshotId(nativeTable);
+        if (snapshotId != null) {
+            List<Split> cachedSplits = splitCache.get(identifier, snapshotId, predicates);
+            if (cachedSplits != null) {
+                Tracers.count(Tracers.Module.EXTERNAL, "PAIMON.splitCacheHit", 1);
+                return cachedSplits;
+            }
+        }
+
+        List<Split> splits;
+        try (Timer ignored = Tracers.watchScope(Tracers.Module.EXTERNAL, "PAIMON.planSplits")) {
+            int[] projected = fieldNames.stream().mapToInt(name -> (paimonTable.getFieldNames().indexOf(name))).toArray();
+            ReadBuilder readBuilder = nativeTable.newReadBuilder();
+            splits = readBuilder.withFilter(predicates).withProjection(projected).newScan().plan().splits();
+        }
+        Tracers.count(Tracers.Module.EXTERNAL, "PAIMON.plannedSplits", splits.size());
+        if (snapshotId != null) {
+            splitCache.put(identifier, snapshotId, predicates, splits);
+        }
+        return splits;
+    }
+
     @Override
     public Statistics getTableStatistics(OptimizerContext session,
                                          Table table,
@@ -0,0 +1,146 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.paimon;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.table.DataTable;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-query cache of the splits planned for paimon tables.
+ * <p>
+ * Planning reads the snapshot and all its manifests, which dominates the planning time of queries on tables
+ * with many files. A snapshot never changes once committed, so the splits planned for the latest snapshot of a
+ * table and predicate are served to the following queries until a newer snapshot is committed.
+ */
+public class PaimonSplitCache {
+    // rough heap footprint of one data file of a split, including its key and value statistics.
+    private static final long FILE_BYTES = 1024;
+
+    private final Cache<SplitKey, SnapshotSplits> cache;
+
+    public PaimonSplitCache(long expireAfterAccessSec, long maxBytes) {
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterAccess(expireAfterAccessSec, TimeUnit.SECONDS)
+                .weigher((SplitKey key, SnapshotSplits value) -> value.weight())
+                .maximumWeight(maxBytes)
+                .build();
+    }
+
+    /**
+     * The id of the latest snapshot of the table, or null if the table has no snapshot or is not a data table,
+     * e.g. a system table, whose splits are not cached.
+     */
+    public static Long latestSnapshotId(Table table) {
+        if (!(table instanceof DataTable)) {
+            return null;
+        }
+        return ((DataTable) table).snapshotManager().latestSnapshotId();
+    }
+
+    /**
+     * Get the splits planned for the table at the snapshot, or null if they are not cached.
+     */
+    public List<Split> get(Identifier identifier, long snapshotId, List<Predicate> predicates) {
+        SnapshotSplits cached = cache.getIfPresent(new SplitKey(identifier, predicates));
+        if (cached == null || cached.snapshotId != snapshotId) {
+            return null;
+        }
+        return cached.splits;
+    }
+
+    /**
+     * Cache the splits planned for the table at the snapshot. They are ignored unless all of them were planned
+     * on that snapshot, since the table may have been committed to between reading its latest snapshot id and
+     * planning.
+     */
+    public void put(Identifier identifier, long snapshotId, List<Predicate> predicates, List<Split> splits) {
+        if (splits.isEmpty()) {
+            return;
+        }
+        for (Split split : splits) {
+            if (!(split instanceof DataSplit) || ((DataSplit) split).snapshotId() != snapshotId) {
+                return;
+            }
+        }
+        // keep the newest snapshot if the queries on different snapshots race.
+        cache.asMap().merge(new SplitKey(identifier, predicates), new SnapshotSplits(snapshotId, splits),
+                (oldSplits, newSplits) -> oldSplits.snapshotId > newSplits.snapshotId ? oldSplits : newSplits);
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static class SplitKey {
+        private final Identifier identifier;
+        // the projection does not change the planned splits, only the predicates do.
+        private final ImmutableList<Predicate> predicates;
+
+        private SplitKey(Identifier identifier, List<Predicate> predicates) {
+            this.identifier = identifier;
+            this.predicates = ImmutableList.copyOf(predicates);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SplitKey that = (SplitKey) o;
+            return Objects.equals(identifier, that.identifier) && Objects.equals(predicates, that.predicates);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(identifier, predicates);
+        }
+    }
+
+    private static class SnapshotSplits {
+        private final long snapshotId;
+        private final List<Split> splits;
+
+        private SnapshotSplits(long snapshotId, List<Split> splits) {
+            this.snapshotId = snapshotId;
+            this.splits = splits;
+        }
+
+        private int weight() {
+            long files = 0;
+            for (Split split : splits) {
+                files += Math.max(1, ((DataSplit) split).dataFiles().size());
+            }
+            return (int) Math.min(files * FILE_BYTES, Integer.MAX_VALUE);
+        }
+    }
+}
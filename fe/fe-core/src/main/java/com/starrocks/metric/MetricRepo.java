@@ -142,6 +142,28 @@ public final class MetricRepo {
                     () -> new LongCounterMetric("query_queue_v2_category_state", MetricUnit.REQUESTS,
                             "the current state of each category"));
 
+    public static final MetricWithLabelGroup<GaugeMetricImpl<Long>> GAUGE_HMS_EVENTS_LAG =
+            new MetricWithLabelGroup<>("catalog",
+                    () -> new GaugeMetricImpl<>("hms_events_lag", MetricUnit.NOUNIT,
+                            "the number of hive metastore events not applied to the metadata cache of each catalog"));
+    public static final MetricWithLabelGroup<LongCounterMetric> COUNTER_HMS_EVENTS_APPLIED =
+            new MetricWithLabelGroup<>("catalog",
+                    () -> new LongCounterMetric("hms_events_applied", MetricUnit.NOUNIT,
+                            "total hive metastore events applied to the metadata cache of each catalog"));
+    public static final MetricWithLabelGroup<LongCounterMetric> COUNTER_EXTERNAL_STATS_CACHE_HIT =
+            new MetricWithLabelGroup<>("catalog",
+                    () -> new LongCounterMetric("external_table_stats_cache_hit", MetricUnit.REQUESTS,
+                            "total external table statistics served from the analyzed statistics cache of each catalog"));
+    public static final MetricWithLabelGroup<LongCounterMetric> COUNTER_EXTERNAL_STATS_CONNECTOR_LOAD =
+            new MetricWithLabelGroup<>("catalog",
+                    () -> new LongCounterMetric("external_table_stats_connector_load", MetricUnit.REQUESTS,
+                            "total external table statistics estimated from the connector metadata of each catalog"));
+    public static final MetricWithLabelGroup<LongCounterMetric> COUNTER_EXTERNAL_STATS_CONNECTOR_LOAD_LATENCY =
+            new MetricWithLabelGroup<>("catalog",
+                    () -> new LongCounterMetric("external_table_stats_connector_load_latency_ms", MetricUnit.MILLISECONDS,
+                            "total time the planning of each catalog waited for external table statistics " +
+                                    "estimated from the connector metadata"));
+
     public static LongCounterMetric COUNTER_UNFINISHED_BACKUP_JOB;
     public static LongCounterMetric COUNTER_UNFINISHED_RESTORE_JOB;
 
@@ -162,6 +184,11 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_ROUTINE_LOAD_PAUSED;
     public static LongCounterMetric COUNTER_SHORTCIRCUIT_QUERY;
     public static LongCounterMetric COUNTER_SHORTCIRCUIT_RPC;
+    public static LongCounterMetric COUNTER_SHORTCIRCUIT_COALESCED;
+    public static LongCounterMetric COUNTER_SHORTCIRCUIT_RESULT_CACHE_HIT;
+    public static LongCounterMetric COUNTER_SHORTCIRCUIT_RESULT_CACHE_MISS;
+    public static LongCounterMetric COUNTER_ICEBERG_MANIFEST_CACHE_HIT;
+    public static LongCounterMetric COUNTER_ICEBERG_MANIFEST_CACHE_MISS;
 
     public static Histogram HISTO_QUERY_LATENCY;
     public static Histogram HISTO_EDIT_LOG_WRITE_LATENCY;
@@ -169,6 +196,7 @@ public final class MetricRepo {
     public static Histogram HISTO_JOURNAL_WRITE_BATCH;
     public static Histogram HISTO_JOURNAL_WRITE_BYTES;
     public static Histogram HISTO_SHORTCIRCUIT_RPC_LATENCY;
+    public static Histogram HISTO_SHORTCIRCUIT_COALESCE_BATCH;
 
     // following metrics will be updated by metric calculator
     public static GaugeMetricImpl<Double> GAUGE_QUERY_PER_SECOND;
@@ -451,6 +479,21 @@ public final class MetricRepo {
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_QUERY);
         COUNTER_SHORTCIRCUIT_RPC = new LongCounterMetric("shortcircuit_rpc", MetricUnit.REQUESTS, "total shortcircuit rpc");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_RPC);
+        COUNTER_SHORTCIRCUIT_COALESCED = new LongCounterMetric("shortcircuit_coalesced", MetricUnit.REQUESTS,
+                "total shortcircuit lookups served by an in-flight rpc of another query");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_COALESCED);
+        COUNTER_SHORTCIRCUIT_RESULT_CACHE_HIT = new LongCounterMetric("shortcircuit_result_cache_hit",
+                MetricUnit.REQUESTS, "total shortcircuit lookups served by fe result cache");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_RESULT_CACHE_HIT);
+        COUNTER_SHORTCIRCUIT_RESULT_CACHE_MISS = new LongCounterMetric("shortcircuit_result_cache_miss",
+                MetricUnit.REQUESTS, "total shortcircuit lookups missed in fe result cache");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_SHORTCIRCUIT_RESULT_CACHE_MISS);
+        COUNTER_ICEBERG_MANIFEST_CACHE_HIT = new LongCounterMetric("iceberg_manifest_cache_hit",
+                MetricUnit.NOUNIT, "total iceberg manifests planned from the parsed manifest cache");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_ICEBERG_MANIFEST_CACHE_HIT);
+        COUNTER_ICEBERG_MANIFEST_CACHE_MISS = new LongCounterMetric("iceberg_manifest_cache_miss",
+                MetricUnit.NOUNIT, "total iceberg manifests read from storage because of a manifest cache miss");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_ICEBERG_MANIFEST_CACHE_MISS);
 
         COUNTER_QUERY_ANALYSIS_ERR = new LongCounterMetric("query_analysis_err", MetricUnit.REQUESTS,
                                                            "total analysis error query");
@@ -514,6 +557,8 @@ public final class MetricRepo {
         HISTO_JOURNAL_WRITE_BYTES =
                 METRIC_REGISTER.histogram(MetricRegistry.name("journal", "write", "bytes"));
         HISTO_SHORTCIRCUIT_RPC_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("shortcircuit", "latency", "ms"));
+        HISTO_SHORTCIRCUIT_COALESCE_BATCH =
+                METRIC_REGISTER.histogram(MetricRegistry.name("shortcircuit", "coalesce", "batch"));
 
         // init system metrics
         initSystemMetrics();
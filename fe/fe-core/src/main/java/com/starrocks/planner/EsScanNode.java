@@ -198,6 +198,7 @@ public class EsScanNode extends ScanNode {
         int size = nodeList.size();
         int nodeIndex = random.nextInt(size);
         List<TScanRangeLocations> result = Lists.newArrayList();
+        int slices = getScrollSlicesPerShard(selectedIndex);
         for (EsShardPartitions indexState : selectedIndex) {
             for (List<EsShardRouting> shardRouting : indexState.getShardRoutings().values()) {
                 // get compute nodes
@@ -229,30 +230,36 @@ public class EsScanNode extends ScanNode {
                     }
                 }
 
-                // Locations
-                TScanRangeLocations locations = new TScanRangeLocations();
-                for (int i = 0; i < numNode && i < candidateNodeList.size(); ++i) {
-                    TScanRangeLocation location = new TScanRangeLocation();
-                    ComputeNode be = candidateNodeList.get(i);
-                    location.setBackend_id(be.getId());
-                    location.setServer(new TNetworkAddress(be.getHost(), be.getBePort()));
-                    locations.addToLocations(location);
-                }
+                for (int sliceId = 0; sliceId < slices; sliceId++) {
+                    // Locations, the slices of the shard start from different nodes
+                    TScanRangeLocations locations = new TScanRangeLocations();
+                    for (int i = 0; i < numNode && i < candidateNodeList.size(); ++i) {
+                        TScanRangeLocation location = new TScanRangeLocation();
+                        ComputeNode be = candidateNodeList.get((i + sliceId) % candidateNodeList.size());
+                        location.setBackend_id(be.getId());
+                        location.setServer(new TNetworkAddress(be.getHost(), be.getBePort()));
+                        locations.addToLocations(location);
+                    }
 
-                // Generate on es scan range
-                TEsScanRange esScanRange = new TEsScanRange();
-                esScanRange.setEs_hosts(shardAllocations);
-                esScanRange.setIndex(shardRouting.get(0).getIndexName());
-                if (table.getMappingType() != null) {
-                    esScanRange.setType(table.getMappingType());
+                    // Generate on es scan range
+                    TEsScanRange esScanRange = new TEsScanRange();
+                    esScanRange.setEs_hosts(shardAllocations);
+                    esScanRange.setIndex(shardRouting.get(0).getIndexName());
+                    if (table.getMappingType() != null) {
+                        esScanRange.setType(table.getMappingType());
+                    }
+                    esScanRange.setShard_id(shardRouting.get(0).getShardId());
+                    if (slices > 1) {
+                        esScanRange.setSlice_id(sliceId);
+                        esScanRange.setSlice_max(slices);
+                    }
+                    // Scan range
+                    TScanRange scanRange = new TScanRange();
+                    scanRange.setEs_scan_range(esScanRange);
+                    locations.setScan_range(scanRange);
+                    // result
+                    result.add(locations);
                 }
-                esScanRange.setShard_id(shardRouting.get(0).getShardId());
-                // Scan range
-                TScanRange scanRange = new TScanRange();
-                scanRange.setEs_scan_range(esScanRange);
-                locations.setScan_range(scanRange);
-                // result
-                result.add(locations);
             }
 
         }
@@ -267,6 +274,26 @@ public class EsScanNode extends ScanNode {
         return result;
     }
 
+    /**
+     * The number of sliced scrolls scanning each shard. An index with fewer shards than compute nodes is split
+     * into slices so that every node scans, up to the max slices of the table. A scan with limit reads a few
+     * documents only and is not sliced.
+     */
+    private int getScrollSlicesPerShard(List<EsShardPartitions> selectedIndex) {
+        if (table.maxScrollSlicesPerShard() <= 1 || hasLimit()) {
+            return 1;
+        }
+        int shards = 0;
+        for (EsShardPartitions indexState : selectedIndex) {
+            shards += indexState.getShardRoutings().size();
+        }
+        if (shards == 0) {
+            return 1;
+        }
+        int slices = (nodeList.size() + shards - 1) / shards;
+        return Math.max(1, Math.min(slices, table.maxScrollSlicesPerShard()));
+    }
+
     @Override
     protected String getNodeExplainString(String prefix, TExplainLevel detailLevel) {
         StringBuilder output = new StringBuilder();
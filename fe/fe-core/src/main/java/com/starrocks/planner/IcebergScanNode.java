@@ -31,6 +31,7 @@ import com.starrocks.catalog.Table;
 import com.starrocks.catalog.Type;
 import com.starrocks.common.AnalysisException;
 import com.starrocks.common.UserException;
+import com.starrocks.common.profile.Tracers;
 import com.starrocks.common.util.TimeUtils;
 import com.starrocks.connector.CatalogConnector;
 import com.starrocks.connector.GetRemoteFilesParams;
@@ -87,6 +88,11 @@ public class IcebergScanNode extends ScanNode {
     private final IcebergTable icebergTable;
     private final HDFSScanNodePredicates scanNodePredicates = new HDFSScanNodePredicates();
     private final List<TScanRangeLocations> result = new ArrayList<>();
+    // file scan tasks to build scan ranges, and the index of the next task to build.
+    private final List<FileScanTask> scanTasks = new ArrayList<>();
+    private int nextScanTaskIndex = 0;
+    private final Map<StructLike, Long> partitionKeyToId = Maps.newHashMap();
+    private final Map<Long, List<Integer>> idToPartitionSlots = Maps.newHashMap();
     private ScalarOperator predicate = null;
     private CloudConfiguration cloudConfiguration = null;
     private final List<Integer> deleteColumnSlotIds = new ArrayList<>();
@@ -129,7 +135,19 @@ public class IcebergScanNode extends ScanNode {
 
     @Override
     public List<TScanRangeLocations> getScanRangeLocations(long maxScanRangeLength) {
-        return result;
+        if (maxScanRangeLength == 0) {
+            // Build all the remaining scan ranges, and keep them for the following calls.
+            result.addAll(buildScanRangeLocations(Integer.MAX_VALUE));
+            return result;
+        }
+        // Incremental scan ranges: only build the next batch, so that the scan ranges of all the files
+        // are not held by FE at the same time, and the first batch can be deployed without waiting for the rest.
+        return buildScanRangeLocations((int) maxScanRangeLength);
+    }
+
+    @Override
+    public boolean hasMoreScanRanges() {
+        return nextScanTaskIndex < scanTasks.size();
     }
 
     public void setSnapshotId(Optional<Long> snapshotId) {
@@ -203,8 +221,8 @@ public class IcebergScanNode extends ScanNode {
             return;
         }
 
-        Map<StructLike, Long> partitionKeyToId = Maps.newHashMap();
-        Map<Long, List<Integer>> idToPartitionSlots = Maps.newHashMap();
+        // Only prepare the referenced partitions and the equality delete columns here, which must be known
+        // before the plan is deployed. The scan ranges are built lazily in batches when they are required.
         List<Integer> currentEqualityIds = new ArrayList<>();
         for (FileScanTask task : remoteFileDesc.getIcebergScanTasks()) {
             DataFile file = task.file();
@@ -214,9 +232,8 @@ public class IcebergScanNode extends ScanNode {
             }
 
             StructLike partition = task.file().partition();
-            long partitionId = 0;
             if (!partitionKeyToId.containsKey(partition)) {
-                partitionId = icebergTable.nextPartitionId();
+                long partitionId = icebergTable.nextPartitionId();
                 partitionKeyToId.put(partition, partitionId);
                 BiMap<Integer, PartitionField> indexToField = getIdentityPartitions(task.spec());
                 if (!indexToField.isEmpty()) {
@@ -240,79 +257,104 @@ public class IcebergScanNode extends ScanNode {
                 }
             }
 
-            partitionId = partitionKeyToId.get(partition);
-
-            TScanRangeLocations scanRangeLocations = new TScanRangeLocations();
-
-            THdfsScanRange hdfsScanRange = new THdfsScanRange();
-            if (file.path().toString().startsWith(icebergTable.getTableLocation())) {
-                hdfsScanRange.setRelative_path(file.path().toString().substring(icebergTable.getTableLocation().length()));
-            } else {
-                hdfsScanRange.setFull_path(file.path().toString());
-            }
-            hdfsScanRange.setOffset(task.start());
-            hdfsScanRange.setLength(task.length());
-            // For iceberg table we do not need partition id
-            if (!idToPartitionSlots.containsKey(partitionId)) {
-                hdfsScanRange.setPartition_id(-1);
-            } else {
-                hdfsScanRange.setPartition_id(partitionId);
-                hdfsScanRange.setIdentity_partition_slot_ids(idToPartitionSlots.get(partitionId));
-            }
-            hdfsScanRange.setFile_length(file.fileSizeInBytes());
-            // Iceberg data file cannot be overwritten
-            hdfsScanRange.setModification_time(0);
-            hdfsScanRange.setFile_format(IcebergApiConverter.getHdfsFileFormat(file.format()).toThrift());
-
-            List<TIcebergDeleteFile> deleteFiles = new ArrayList<>();
             for (DeleteFile deleteFile : task.deletes()) {
-                FileContent content = deleteFile.content();
-                if (content == FileContent.EQUALITY_DELETES) {
-                    List<Integer> taskEqualityFieldIds = deleteFile.equalityFieldIds();
-                    if (taskEqualityFieldIds.isEmpty()) {
-                        continue;
-                    }
-                    if (!currentEqualityIds.isEmpty() && !currentEqualityIds.equals(taskEqualityFieldIds)) {
-                        throw new StarRocksConnectorException("Schema change of equality columns changed is not supported");
-                    }
-
-                    if (currentEqualityIds.isEmpty()) {
-                        currentEqualityIds = taskEqualityFieldIds;
-                        prepareRequiredColumnsForDeletes(currentEqualityIds);
-                    }
+                if (deleteFile.content() != FileContent.EQUALITY_DELETES) {
+                    continue;
+                }
+                List<Integer> taskEqualityFieldIds = deleteFile.equalityFieldIds();
+                if (taskEqualityFieldIds.isEmpty()) {
+                    continue;
+                }
+                if (!currentEqualityIds.isEmpty() && !currentEqualityIds.equals(taskEqualityFieldIds)) {
+                    throw new StarRocksConnectorException("Schema change of equality columns changed is not supported");
                 }
 
-                TIcebergDeleteFile target = new TIcebergDeleteFile();
-                target.setFull_path(deleteFile.path().toString());
-                target.setFile_content(content == FileContent.EQUALITY_DELETES ? TIcebergFileContent.EQUALITY_DELETES :
-                        TIcebergFileContent.POSITION_DELETES);
-                target.setLength(deleteFile.fileSizeInBytes());
-                deleteFiles.add(target);
+                if (currentEqualityIds.isEmpty()) {
+                    currentEqualityIds = taskEqualityFieldIds;
+                    prepareRequiredColumnsForDeletes(currentEqualityIds);
+                }
             }
 
-            if (!deleteFiles.isEmpty()) {
-                hdfsScanRange.setDelete_files(deleteFiles);
-            }
+            scanTasks.add(task);
+        }
 
-            if (!deleteColumnSlotIds.isEmpty()) {
-                hdfsScanRange.setDelete_column_slot_ids(deleteColumnSlotIds);
-            }
+        if (!currentEqualityIds.isEmpty()) {
+            icebergTable.setIdentifierFieldIds(ImmutableSet.copyOf(currentEqualityIds));
+        }
+
+        scanNodePredicates.setSelectedPartitionIds(partitionKeyToId.values());
+    }
+
+    private List<TScanRangeLocations> buildScanRangeLocations(int maxSize) {
+        List<TScanRangeLocations> scanRangeLocationsList = new ArrayList<>();
+        while (scanRangeLocationsList.size() < maxSize && nextScanTaskIndex < scanTasks.size()) {
+            scanRangeLocationsList.add(buildScanRangeLocations(scanTasks.get(nextScanTaskIndex)));
+            nextScanTaskIndex++;
+        }
+
+        Tracers.count(Tracers.Module.EXTERNAL, "ICEBERG.scanRangeBatches", 1);
+        Tracers.record(Tracers.Module.EXTERNAL, "ICEBERG.pendingScanRanges",
+                String.valueOf(scanTasks.size() - nextScanTaskIndex));
+        return scanRangeLocationsList;
+    }
 
-            TScanRange scanRange = new TScanRange();
-            scanRange.setHdfs_scan_range(hdfsScanRange);
-            scanRangeLocations.setScan_range(scanRange);
+    private TScanRangeLocations buildScanRangeLocations(FileScanTask task) {
+        DataFile file = task.file();
+        long partitionId = partitionKeyToId.get(file.partition());
 
-            TScanRangeLocation scanRangeLocation = new TScanRangeLocation(new TNetworkAddress("-1", -1));
-            scanRangeLocations.addToLocations(scanRangeLocation);
+        TScanRangeLocations scanRangeLocations = new TScanRangeLocations();
 
-            result.add(scanRangeLocations);
+        THdfsScanRange hdfsScanRange = new THdfsScanRange();
+        if (file.path().toString().startsWith(icebergTable.getTableLocation())) {
+            hdfsScanRange.setRelative_path(file.path().toString().substring(icebergTable.getTableLocation().length()));
+        } else {
+            hdfsScanRange.setFull_path(file.path().toString());
+        }
+        hdfsScanRange.setOffset(task.start());
+        hdfsScanRange.setLength(task.length());
+        // For iceberg table we do not need partition id
+        if (!idToPartitionSlots.containsKey(partitionId)) {
+            hdfsScanRange.setPartition_id(-1);
+        } else {
+            hdfsScanRange.setPartition_id(partitionId);
+            hdfsScanRange.setIdentity_partition_slot_ids(idToPartitionSlots.get(partitionId));
         }
+        hdfsScanRange.setFile_length(file.fileSizeInBytes());
+        // Iceberg data file cannot be overwritten
+        hdfsScanRange.setModification_time(0);
+        hdfsScanRange.setFile_format(IcebergApiConverter.getHdfsFileFormat(file.format()).toThrift());
+
+        List<TIcebergDeleteFile> deleteFiles = new ArrayList<>();
+        for (DeleteFile deleteFile : task.deletes()) {
+            FileContent content = deleteFile.content();
+            if (content == FileContent.EQUALITY_DELETES && deleteFile.equalityFieldIds().isEmpty()) {
+                continue;
+            }
 
-        if (!currentEqualityIds.isEmpty()) {
-            icebergTable.setIdentifierFieldIds(ImmutableSet.copyOf(currentEqualityIds));
+            TIcebergDeleteFile target = new TIcebergDeleteFile();
+            target.setFull_path(deleteFile.path().toString());
+            target.setFile_content(content == FileContent.EQUALITY_DELETES ? TIcebergFileContent.EQUALITY_DELETES :
+                    TIcebergFileContent.POSITION_DELETES);
+            target.setLength(deleteFile.fileSizeInBytes());
+            deleteFiles.add(target);
         }
 
-        scanNodePredicates.setSelectedPartitionIds(partitionKeyToId.values());
+        if (!deleteFiles.isEmpty()) {
+            hdfsScanRange.setDelete_files(deleteFiles);
+        }
+
+        if (!deleteColumnSlotIds.isEmpty()) {
+            hdfsScanRange.setDelete_column_slot_ids(deleteColumnSlotIds);
+        }
+
+        TScanRange scanRange = new TScanRange();
+        scanRange.setHdfs_scan_range(hdfsScanRange);
+        scanRangeLocations.setScan_range(scanRange);
+
+        TScanRangeLocation scanRangeLocation = new TScanRangeLocation(new TNetworkAddress("-1", -1));
+        scanRangeLocations.addToLocations(scanRangeLocation);
+
+        return scanRangeLocations;
     }
 
     private void prepareRequiredColumnsForDeletes(List<Integer> equalityIds) {
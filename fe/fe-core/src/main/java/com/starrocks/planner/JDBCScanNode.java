@@ -15,6 +15,7 @@
 
 package com.starrocks.planner;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Lists;
@@ -28,16 +29,28 @@ import com.starrocks.catalog.Column;
 import com.starrocks.catalog.JDBCResource;
 import com.starrocks.catalog.JDBCTable;
 import com.starrocks.common.UserException;
+import com.starrocks.connector.GetRemoteFilesParams;
+import com.starrocks.connector.RemoteFileInfo;
+import com.starrocks.connector.jdbc.JDBCRemoteFileDesc;
+import com.starrocks.qe.ConnectContext;
 import com.starrocks.server.GlobalStateMgr;
+import com.starrocks.server.RunMode;
 import com.starrocks.sql.analyzer.AstToStringBuilder;
+import com.starrocks.system.ComputeNode;
 import com.starrocks.thrift.TExplainLevel;
 import com.starrocks.thrift.TJDBCScanNode;
+import com.starrocks.thrift.TJDBCScanRange;
+import com.starrocks.thrift.TNetworkAddress;
 import com.starrocks.thrift.TPlanNode;
 import com.starrocks.thrift.TPlanNodeType;
+import com.starrocks.thrift.TScanRange;
+import com.starrocks.thrift.TScanRangeLocation;
 import com.starrocks.thrift.TScanRangeLocations;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * full scan on JDBC table.
@@ -48,6 +61,8 @@ public class JDBCScanNode extends ScanNode {
     private final List<String> filters = new ArrayList<>();
     private String tableName;
     private JDBCTable table;
+    // null if the table is read by a single instance without scan ranges
+    private List<TScanRangeLocations> scanRangeLocations = null;
 
     public JDBCScanNode(PlanNodeId id, TupleDescriptor desc, JDBCTable tbl) {
         super(id, desc, "SCAN JDBC");
@@ -79,6 +94,9 @@ public class JDBCScanNode extends ScanNode {
         StringBuilder output = new StringBuilder();
         output.append(prefix).append("TABLE: ").append(tableName).append("\n");
         output.append(prefix).append("QUERY: ").append(getJDBCQueryStr()).append("\n");
+        if (scanRangeLocations != null) {
+            output.append(prefix).append("SCAN RANGES: ").append(scanRangeLocations.size()).append("\n");
+        }
         return output.toString();
     }
 
@@ -144,6 +162,91 @@ public class JDBCScanNode extends ScanNode {
         }
     }
 
+    /**
+     * Split the scan into at most {@code numRanges} ranges of the integer split key of the table,
+     * the ranges are read concurrently by the instances of the fragment on all alive nodes.
+     * The table is read by one range if it has no split key.
+     */
+    public void setupScanRangeLocations(int numRanges) {
+        List<String> partitionFilters = Lists.newArrayList();
+        List<RemoteFileInfo> fileInfos = GlobalStateMgr.getCurrentState().getMetadataMgr()
+                .getRemoteFiles(table, GetRemoteFilesParams.newBuilder().build());
+        if (!fileInfos.isEmpty() && !fileInfos.get(0).getFiles().isEmpty()) {
+            JDBCRemoteFileDesc splitKey = (JDBCRemoteFileDesc) fileInfos.get(0).getFiles().get(0);
+            String identifier = getIdentifierSymbol();
+            partitionFilters = createPartitionFilters(identifier + splitKey.getSplitColumn() + identifier,
+                    splitKey.getLowerBound(), splitKey.getUpperBound(), numRanges);
+        }
+        if (partitionFilters.isEmpty()) {
+            // the whole table
+            partitionFilters.add(null);
+        }
+
+        List<TScanRangeLocation> locations = Lists.newArrayList();
+        for (ComputeNode node : getAvailableNodes()) {
+            TScanRangeLocation location = new TScanRangeLocation();
+            location.setBackend_id(node.getId());
+            location.setServer(new TNetworkAddress(node.getHost(), node.getBePort()));
+            locations.add(location);
+        }
+
+        scanRangeLocations = Lists.newArrayList();
+        for (String partitionFilter : partitionFilters) {
+            TJDBCScanRange jdbcScanRange = new TJDBCScanRange();
+            if (partitionFilter != null) {
+                jdbcScanRange.setPartition_filter(partitionFilter);
+            }
+            TScanRange scanRange = new TScanRange();
+            scanRange.setJdbc_scan_range(jdbcScanRange);
+            TScanRangeLocations rangeLocations = new TScanRangeLocations();
+            rangeLocations.setScan_range(scanRange);
+            rangeLocations.setLocations(locations);
+            scanRangeLocations.add(rangeLocations);
+        }
+    }
+
+    private List<ComputeNode> getAvailableNodes() {
+        List<ComputeNode> nodeList;
+        if (RunMode.getCurrentRunMode() == RunMode.SHARED_DATA) {
+            long warehouseId = ConnectContext.get().getCurrentWarehouseId();
+            nodeList = GlobalStateMgr.getCurrentState().getWarehouseMgr().getAllComputeNodeIds(warehouseId).stream()
+                    .map(id -> GlobalStateMgr.getCurrentState().getNodeMgr().getClusterInfo().getBackendOrComputeNode(id))
+                    .collect(Collectors.toList());
+        } else {
+            nodeList = Lists.newArrayList();
+            nodeList.addAll(GlobalStateMgr.getCurrentState().getNodeMgr().getClusterInfo().getBackends());
+            nodeList.addAll(GlobalStateMgr.getCurrentState().getNodeMgr().getClusterInfo().getComputeNodes());
+        }
+        return nodeList.stream().filter(node -> node != null && node.isAlive()).collect(Collectors.toList());
+    }
+
+    /**
+     * Split [lowerBound, upperBound] into ranges of about the same width. The bounds may be stale,
+     * so the first range also takes the rows below the lower bound and nulls, the last range the rows above.
+     */
+    @VisibleForTesting
+    static List<String> createPartitionFilters(String column, long lowerBound, long upperBound, int numRanges) {
+        List<String> filters = Lists.newArrayList();
+        BigInteger lower = BigInteger.valueOf(lowerBound);
+        BigInteger width = BigInteger.valueOf(upperBound).subtract(lower).add(BigInteger.ONE);
+        if (numRanges <= 1 || width.compareTo(BigInteger.ONE) <= 0) {
+            return filters;
+        }
+        int num = width.min(BigInteger.valueOf(numRanges)).intValue();
+        long[] splitPoints = new long[num - 1];
+        for (int i = 1; i < num; i++) {
+            splitPoints[i - 1] = lower.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(num)))
+                    .longValue();
+        }
+
+        filters.add(column + " < " + splitPoints[0] + " OR " + column + " IS NULL");
+        for (int i = 1; i < splitPoints.length; i++) {
+            filters.add(column + " >= " + splitPoints[i - 1] + " AND " + column + " < " + splitPoints[i]);
+        }
+        filters.add(column + " >= " + splitPoints[splitPoints.length - 1]);
+        return filters;
+    }
+
     @Override
     public boolean canUseRuntimeAdaptiveDop() {
         return true;
@@ -162,7 +265,7 @@ public class JDBCScanNode extends ScanNode {
 
     @Override
     public List<TScanRangeLocations> getScanRangeLocations(long maxScanRangeLength) {
-        return null;
+        return scanRangeLocations;
     }
 
     @Override
@@ -273,10 +273,11 @@ public class PaimonScanNode extends ScanNode {
         hdfsScanRange.setPaimon_predicate_info(predicateInfo);
         hdfsScanRange.setFile_length(totalFileLength);
         hdfsScanRange.setLength(totalFileLength);
-        // Only uses for hasher in HDFSBackendSelector to select BE
+        // Only uses for hasher in HDFSBackendSelector to select BE. The splits of the same bucket are assigned
+        // to the same BE across queries and snapshots, so that the files of the bucket stay in its data cache.
         if (split instanceof DataSplit) {
             DataSplit dataSplit = (DataSplit) split;
-            hdfsScanRange.setRelative_path(String.valueOf(dataSplit.hashCode()));
+            hdfsScanRange.setRelative_path(getBucketPath(dataSplit));
         }
         TScanRange scanRange = new TScanRange();
         scanRange.setHdfs_scan_range(hdfsScanRange);
@@ -288,6 +289,12 @@ public class PaimonScanNode extends ScanNode {
         scanRangeLocationsList.add(scanRangeLocations);
     }
 
+    @VisibleForTesting
+    String getBucketPath(DataSplit split) {
+        return paimonTable.getDbName() + "/" + paimonTable.getTableName() + "/" + split.partition().hashCode() +
+                "/bucket-" + split.bucket();
+    }
+
     long getTotalFileLength(DataSplit split) {
         return split.dataFiles().stream().map(DataFileMeta::fileSize).reduce(0L, Long::sum);
     }
@@ -29,6 +29,7 @@ import com.starrocks.common.profile.Tracers;
 import com.starrocks.common.util.ConsistentHashRing;
 import com.starrocks.common.util.HashRing;
 import com.starrocks.common.util.RendezvousHashRing;
+import com.starrocks.datacache.DataCacheMetrics;
 import com.starrocks.planner.DeltaLakeScanNode;
 import com.starrocks.planner.FileTableScanNode;
 import com.starrocks.planner.HdfsScanNode;
@@ -54,9 +55,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Hybrid backend selector for hive table.
@@ -68,6 +71,9 @@ import java.util.Set;
  * <p>
  * If force_schedule_local variable is set, HybridBackendSelector will force to
  * assign scan ranges to local backend if there has one.
+ * <p>
+ * If enable_hdfs_backend_selector_cost_based_assignment variable is set, remote scan ranges are assigned by
+ * the cost of data cache affinity, scan range size and node load, see {@link #computeCostBasedAssignment}.
  */
 
 public class HDFSBackendSelector implements BackendSelector {
@@ -87,6 +93,11 @@ public class HDFSBackendSelector implements BackendSelector {
     // After testing, this value can ensure that the scan range size assigned to each BE is as uniform as possible,
     // and the largest scan data is not more than 1.1 times of the average value
     private final double kMaxImbalanceRatio = 1.1;
+    // The cost of each rank away from the first candidate of the hash ring, relative to the expected bytes of a node.
+    // The first candidate is the one most likely to have the scan range in its data cache.
+    private final double kCacheAffinityPenalty = 0.1;
+    // The minimum weight of a busy node, so that it can still be assigned when all the nodes are busy.
+    private final double kMinNodeWeight = 0.1;
     public static final int CONSISTENT_HASH_RING_VIRTUAL_NUMBER = 256;
 
     class HdfsScanRangeHasher {
@@ -299,18 +310,127 @@ public class HDFSBackendSelector implements BackendSelector {
         if (shuffleScanRange) {
             Collections.shuffle(remoteScanRangeLocations);
         }
-        // assign scan ranges.
-        for (int i = 0; i < remoteScanRangeLocations.size(); ++i) {
-            TScanRangeLocations scanRangeLocations = remoteScanRangeLocations.get(i);
+        if (isEnableCostBasedAssignment()) {
+            computeCostBasedAssignment(hashRing, remoteScanRangeLocations, totalSize);
+        } else {
+            // assign scan ranges.
+            for (int i = 0; i < remoteScanRangeLocations.size(); ++i) {
+                TScanRangeLocations scanRangeLocations = remoteScanRangeLocations.get(i);
+                List<ComputeNode> backends = hashRing.get(scanRangeLocations, kCandidateNumber);
+                ComputeNode node =
+                        reBalanceScanRangeForComputeNode(backends, avgNodeScanRangeBytes, scanRangeLocations);
+                if (node == null) {
+                    throw new UserException("Failed to find backend to execute");
+                }
+                recordScanRangeAssignment(node, backends, scanRangeLocations);
+            }
+        }
+
+        recordScanRangeStatistic();
+    }
+
+    private boolean isEnableCostBasedAssignment() {
+        return ConnectContext.get() != null &&
+                ConnectContext.get().getSessionVariable().isEnableHdfsBackendSelectorCostBasedAssignment();
+    }
+
+    /**
+     * Assign scan ranges to the candidates of the hash ring with the lowest cost.
+     * <p>
+     * 1. Scan ranges are assigned in descending order of size, so that the small ones can fill the gaps
+     * left by the large ones, which bounds the skew of the assigned bytes among nodes.
+     * 2. The expected bytes of each node are weighted by its cpu usage, so that a busy node gets less bytes.
+     * 3. The cost of a candidate is its assigned bytes relative to its expected bytes, plus a penalty for each rank
+     * away from the first candidate if the data cache is enabled on it.
+     * 4. If all the candidates exceed the expected bytes by kMaxImbalanceRatio, the scan range is stolen
+     * by the least loaded node to avoid stragglers.
+     */
+    private void computeCostBasedAssignment(HashRing hashRing, List<TScanRangeLocations> remoteScanRangeLocations,
+                                            long totalSize) throws UserException {
+        Map<ComputeNode, Double> expectedBytesPerComputeNode = computeExpectedBytes(totalSize);
+        TreeSet<ComputeNode> nodesByLoad = new TreeSet<>(Comparator
+                .comparingDouble((ComputeNode node) -> getLoadRatio(node, expectedBytesPerComputeNode, 0))
+                .thenComparingLong(ComputeNode::getId));
+        nodesByLoad.addAll(assignedScansPerComputeNode.keySet());
+
+        List<TScanRangeLocations> sortedScanRangeLocations = new ArrayList<>(remoteScanRangeLocations);
+        sortedScanRangeLocations.sort(Comparator.comparingLong(
+                (TScanRangeLocations scanRangeLocations) -> scanRangeLocations.scan_range.hdfs_scan_range.length)
+                .reversed());
+
+        long stolenScanRanges = 0;
+        for (TScanRangeLocations scanRangeLocations : sortedScanRangeLocations) {
             List<ComputeNode> backends = hashRing.get(scanRangeLocations, kCandidateNumber);
-            ComputeNode node = reBalanceScanRangeForComputeNode(backends, avgNodeScanRangeBytes, scanRangeLocations);
-            if (node == null) {
+            if (backends == null || backends.isEmpty()) {
                 throw new UserException("Failed to find backend to execute");
             }
+
+            long addedScans = scanRangeLocations.scan_range.hdfs_scan_range.length;
+            ComputeNode node = selectCandidateByCost(backends, expectedBytesPerComputeNode, addedScans);
+            if (node == null) {
+                node = nodesByLoad.first();
+                stolenScanRanges++;
+            }
+
+            // the order of the node in nodesByLoad changes after assignment.
+            nodesByLoad.remove(node);
             recordScanRangeAssignment(node, backends, scanRangeLocations);
+            nodesByLoad.add(node);
         }
 
-        recordScanRangeStatistic();
+        String key = String.format("Placement.%s.steal", scanNode.getTableName());
+        Tracers.count(Tracers.Module.EXTERNAL, key, stolenScanRanges);
+    }
+
+    private Map<ComputeNode, Double> computeExpectedBytes(long totalSize) {
+        Map<ComputeNode, Double> weights = Maps.newHashMap();
+        double totalWeight = 0;
+        for (ComputeNode computeNode : assignedScansPerComputeNode.keySet()) {
+            double weight = Math.max(kMinNodeWeight, 1 - computeNode.getCpuUsedPermille() / 1000.0);
+            weights.put(computeNode, weight);
+            totalWeight += weight;
+        }
+
+        Map<ComputeNode, Double> expectedBytes = Maps.newHashMap();
+        for (Map.Entry<ComputeNode, Double> entry : weights.entrySet()) {
+            expectedBytes.put(entry.getKey(), Math.max(1.0, totalSize * entry.getValue() / totalWeight));
+        }
+        return expectedBytes;
+    }
+
+    private double getLoadRatio(ComputeNode node, Map<ComputeNode, Double> expectedBytesPerComputeNode,
+                                long addedScans) {
+        return (assignedScansPerComputeNode.get(node) + addedScans) / expectedBytesPerComputeNode.get(node);
+    }
+
+    private ComputeNode selectCandidateByCost(List<ComputeNode> backends,
+                                              Map<ComputeNode, Double> expectedBytesPerComputeNode,
+                                              long addedScans) {
+        double cacheAffinityPenalty = isDataCacheEnabled(backends.get(0)) ? kCacheAffinityPenalty : 0;
+
+        ComputeNode selected = null;
+        double minCost = Double.MAX_VALUE;
+        for (int rank = 0; rank < backends.size(); rank++) {
+            ComputeNode backend = backends.get(rank);
+            double loadRatio = getLoadRatio(backend, expectedBytesPerComputeNode, addedScans);
+            if (loadRatio > kMaxImbalanceRatio) {
+                continue;
+            }
+            double cost = loadRatio + rank * cacheAffinityPenalty;
+            if (cost < minCost) {
+                minCost = cost;
+                selected = backend;
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isDataCacheEnabled(ComputeNode computeNode) {
+        // Treat the node without reported metrics as cache enabled, to keep the affinity of hash ring.
+        return computeNode.getDataCacheMetrics()
+                .map(metrics -> metrics.getStatus() == DataCacheMetrics.Status.NORMAL ||
+                        metrics.getStatus() == DataCacheMetrics.Status.UPDATING)
+                .orElse(true);
     }
 
     private void recordScanRangeAssignment(ComputeNode worker, List<ComputeNode> backends,
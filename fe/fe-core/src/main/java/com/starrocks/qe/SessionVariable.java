@@ -497,6 +497,7 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     public static final String ENABLE_FILE_METACACHE = "enable_file_metacache";
     public static final String HUDI_MOR_FORCE_JNI_READER = "hudi_mor_force_jni_reader";
     public static final String PAIMON_FORCE_JNI_READER = "paimon_force_jni_reader";
+    public static final String JDBC_SCAN_PARALLELISM = "jdbc_scan_parallelism";
     public static final String ENABLE_DYNAMIC_PRUNE_SCAN_RANGE = "enable_dynamic_prune_scan_range";
     public static final String IO_TASKS_PER_SCAN_OPERATOR = "io_tasks_per_scan_operator";
     public static final String CONNECTOR_IO_TASKS_PER_SCAN_OPERATOR = "connector_io_tasks_per_scan_operator";
@@ -543,6 +544,8 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
 
     public static final String ENABLE_PLAN_SERIALIZE_CONCURRENTLY = "enable_plan_serialize_concurrently";
 
+    public static final String ENABLE_PLAN_SERIALIZE_CACHE = "enable_plan_serialize_cache";
+
     public static final String ENABLE_STRICT_ORDER_BY = "enable_strict_order_by";
     private static final String ENABLE_FINE_GRAINED_RANGE_PREDICATE = "enable_fine_grained_range_predicate";
 
@@ -712,6 +715,8 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     public static final String WAREHOUSE_NAME = "warehouse";
 
     public static final String HDFS_BACKEND_SELECTOR_HASH_ALGORITHM = "hdfs_backend_selector_hash_algorithm";
+    public static final String ENABLE_HDFS_BACKEND_SELECTOR_COST_BASED_ASSIGNMENT =
+            "enable_hdfs_backend_selector_cost_based_assignment";
 
     public static final String CONSISTENT_HASH_VIRTUAL_NUMBER = "consistent_hash_virtual_number";
 
@@ -753,6 +758,8 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     public static final String CBO_EQ_BASE_TYPE = "cbo_eq_base_type";
 
     public static final String ENABLE_SHORT_CIRCUIT = "enable_short_circuit";
+    public static final String ENABLE_SHORT_CIRCUIT_COALESCE = "enable_short_circuit_coalesce";
+    public static final String ENABLE_SHORT_CIRCUIT_RESULT_CACHE = "enable_short_circuit_result_cache";
 
     public static final String ENABLE_PREPARE_STMT = "enable_prepare_stmt";
 
@@ -1541,6 +1548,11 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VariableMgr.VarAttr(name = CONSISTENT_HASH_VIRTUAL_NUMBER, flag = VariableMgr.INVISIBLE)
     private int consistentHashVirtualNodeNum = 256;
 
+    // Assign external scan ranges by the cost of data cache affinity, split size and node load,
+    // instead of the first candidate of the hash ring which does not exceed the average bytes.
+    @VariableMgr.VarAttr(name = ENABLE_HDFS_BACKEND_SELECTOR_COST_BASED_ASSIGNMENT)
+    private boolean enableHdfsBackendSelectorCostBasedAssignment = false;
+
     // binary, json, compact,
     @VarAttr(name = THRIFT_PLAN_PROTOCOL)
     private String thriftPlanProtocol = "binary";
@@ -1772,6 +1784,10 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VariableMgr.VarAttr(name = PAIMON_FORCE_JNI_READER)
     private boolean paimonForceJNIReader = false;
 
+    // number of key ranges a jdbc catalog table scan is split into, 1 means reading the table by one connection.
+    @VariableMgr.VarAttr(name = JDBC_SCAN_PARALLELISM)
+    private int jdbcScanParallelism = 1;
+
     @VarAttr(name = ENABLE_QUERY_CACHE)
     private boolean enableQueryCache = false;
 
@@ -2042,6 +2058,14 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VariableMgr.VarAttr(name = ENABLE_SHORT_CIRCUIT)
     private boolean enableShortCircuit = false;
 
+    // Share the in-flight rpc of an identical short circuit lookup (same backend, tablets, versions and keys)
+    // instead of sending a new one.
+    @VariableMgr.VarAttr(name = ENABLE_SHORT_CIRCUIT_COALESCE)
+    private boolean enableShortCircuitCoalesce = true;
+
+    @VariableMgr.VarAttr(name = ENABLE_SHORT_CIRCUIT_RESULT_CACHE)
+    private boolean enableShortCircuitResultCache = false;
+
     @VariableMgr.VarAttr(name = ENABLE_PREPARE_STMT)
     private boolean enablePrepareStmt = true;
 
@@ -2264,6 +2288,13 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VarAttr(name = ENABLE_PLAN_SERIALIZE_CONCURRENTLY)
     private boolean enablePlanSerializeConcurrently = true;
 
+    /**
+     * Serialize the fragment-invariant part of TExecPlanFragmentParams once per fragment,
+     * and splice the per-instance fields at byte level. Only takes effect with the binary plan protocol.
+     */
+    @VarAttr(name = ENABLE_PLAN_SERIALIZE_CACHE)
+    private boolean enablePlanSerializeCache = false;
+
     @VarAttr(name = ORC_USE_COLUMN_NAMES)
     private boolean orcUseColumnNames = false;
 
@@ -2384,6 +2415,14 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         return paimonForceJNIReader;
     }
 
+    public int getJdbcScanParallelism() {
+        return jdbcScanParallelism;
+    }
+
+    public void setJdbcScanParallelism(int jdbcScanParallelism) {
+        this.jdbcScanParallelism = jdbcScanParallelism;
+    }
+
     public void setCboCTEMaxLimit(int cboCTEMaxLimit) {
         this.cboCTEMaxLimit = cboCTEMaxLimit;
     }
@@ -2713,6 +2752,14 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         this.consistentHashVirtualNodeNum = consistentHashVirtualNodeNum;
     }
 
+    public boolean isEnableHdfsBackendSelectorCostBasedAssignment() {
+        return enableHdfsBackendSelectorCostBasedAssignment;
+    }
+
+    public void setEnableHdfsBackendSelectorCostBasedAssignment(boolean enableHdfsBackendSelectorCostBasedAssignment) {
+        this.enableHdfsBackendSelectorCostBasedAssignment = enableHdfsBackendSelectorCostBasedAssignment;
+    }
+
     // when pipeline engine is enabled
     // in case of pipeline_dop > 0: return pipeline_dop * parallelExecInstanceNum;
     // in case of pipeline_dop <= 0 and avgNumCores < 2: return 1;
@@ -4041,6 +4088,22 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         return enableShortCircuit;
     }
 
+    public void setEnableShortCircuitCoalesce(boolean enableShortCircuitCoalesce) {
+        this.enableShortCircuitCoalesce = enableShortCircuitCoalesce;
+    }
+
+    public boolean isEnableShortCircuitCoalesce() {
+        return enableShortCircuitCoalesce;
+    }
+
+    public void setEnableShortCircuitResultCache(boolean enableShortCircuitResultCache) {
+        this.enableShortCircuitResultCache = enableShortCircuitResultCache;
+    }
+
+    public boolean isEnableShortCircuitResultCache() {
+        return enableShortCircuitResultCache;
+    }
+
     public boolean isEnablePrepareStmt() {
         return enablePrepareStmt;
     }
@@ -4072,6 +4135,14 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         return enablePlanSerializeConcurrently;
     }
 
+    public boolean isEnablePlanSerializeCache() {
+        return enablePlanSerializeCache;
+    }
+
+    public void setEnablePlanSerializeCache(boolean enablePlanSerializeCache) {
+        this.enablePlanSerializeCache = enablePlanSerializeCache;
+    }
+
     public long getCrossJoinCostPenalty() {
         return crossJoinCostPenalty;
     }
@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.SetMultimap;
 import com.starrocks.analysis.Expr;
 import com.starrocks.analysis.LiteralExpr;
+import com.starrocks.common.Pair;
 import com.starrocks.common.UserException;
 import com.starrocks.common.util.RuntimeProfile;
 import com.starrocks.metric.MetricRepo;
@@ -36,7 +37,6 @@ import com.starrocks.qe.scheduler.NonRecoverableException;
 import com.starrocks.qe.scheduler.WorkerProvider;
 import com.starrocks.rpc.BrpcProxy;
 import com.starrocks.rpc.ConfigurableSerDesFactory;
-import com.starrocks.rpc.PBackendService;
 import com.starrocks.rpc.PExecShortCircuitRequest;
 import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.system.Backend;
@@ -53,16 +53,16 @@ import com.starrocks.thrift.TStatusCode;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -99,72 +99,112 @@ public class ShortCircuitHybridExecutor extends ShortCircuitExecutor {
             return;
         }
 
-        AtomicInteger i = new AtomicInteger();
         MetricRepo.COUNTER_SHORTCIRCUIT_QUERY.increase(1L);
-        MetricRepo.COUNTER_SHORTCIRCUIT_RPC.increase((long) be2ShortCircuitRequests.size());
-        be2ShortCircuitRequests.forEach((beAddress, tRequest) -> {
-            PBackendService service = BrpcProxy.getBackendService(beAddress);
-            try {
-                PExecShortCircuitRequest pRequest = new PExecShortCircuitRequest();
-                pRequest.setAttachmentProtocol(protocol);
-                pRequest.setRequest(tRequest, protocol);
-                watch.start();
-                Future<PExecShortCircuitResult> future = service.execShortCircuit(pRequest);
-                if (null == future) {
-                    return;
-                }
-                PExecShortCircuitResult shortCircuitResult = future.get(
-                        context.getSessionVariable().getQueryTimeoutS(), TimeUnit.SECONDS);
-                watch.stop();
-                long t = watch.elapsed().toMillis();
-                MetricRepo.HISTO_SHORTCIRCUIT_RPC_LATENCY.update(t);
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("exec short circuit time: " + t + "ms.");
+        // Identical lookups may share one rpc or a cached result, unless the result is per query
+        // (profile or dml sink).
+        boolean shareable = !enableProfile && planFragment.getSink() == null;
+        boolean coalesce = shareable && context.getSessionVariable().isEnableShortCircuitCoalesce();
+        boolean useResultCache = shareable && context.getSessionVariable().isEnableShortCircuitResultCache();
+        ShortCircuitResultCache resultCache = ShortCircuitResultCache.getInstance();
+        int numRequests = be2ShortCircuitRequests.keys().size();
+        int i = 0;
+        long timeoutS = context.getSessionVariable().getQueryTimeoutS();
+        ShortCircuitRequestCoalescer coalescer = ShortCircuitRequestCoalescer.getInstance();
+        List<Pair<TNetworkAddress, ShortCircuitRequestCoalescer.Lookup>> lookups = new ArrayList<>();
+        try {
+            // send the requests to all backends first, so that they are executed in parallel.
+            watch.start();
+            for (Map.Entry<TNetworkAddress, TExecShortCircuitParams> entry : be2ShortCircuitRequests.entries()) {
+                TNetworkAddress beAddress = entry.getKey();
+                try {
+                    PExecShortCircuitRequest pRequest = new PExecShortCircuitRequest();
+                    pRequest.setAttachmentProtocol(protocol);
+                    pRequest.setRequest(entry.getValue(), protocol);
+                    if (useResultCache) {
+                        byte[] cachedResult = resultCache.get(pRequest.getSerializedRequest());
+                        if (cachedResult != null) {
+                            rowBatchQueue.offer(createRowBatch(cachedResult, ++i == numRequests));
+                            continue;
+                        }
+                    }
+                    ShortCircuitRequestCoalescer.Lookup lookup = coalescer.submit(beAddress, pRequest, coalesce,
+                            request -> BrpcProxy.getBackendService(beAddress).execShortCircuit(request));
+                    lookups.add(Pair.create(beAddress, lookup));
+                    if (!lookup.isCoalesced()) {
+                        MetricRepo.COUNTER_SHORTCIRCUIT_RPC.increase(1L);
+                    }
+                } catch (Throwable e) {
+                    throw new RuntimeException("Execute short circuit failed, reason: " + e.getMessage() +
+                            " backend: " + beAddress.getHostname() + ", port:" + beAddress.getPort(), e);
                 }
+            }
 
-                TStatusCode code = TStatusCode.findByValue(shortCircuitResult.status.statusCode);
-                if (shortCircuitResult.status.errorMsgs != null && !shortCircuitResult.status.errorMsgs.isEmpty()) {
-                    throw new RuntimeException(shortCircuitResult.status.errorMsgs.get(0) + "code: " + code +
-                            " backend: " + beAddress.getHostname() + ", port:" + beAddress.getPort());
-                }
+            for (Pair<TNetworkAddress, ShortCircuitRequestCoalescer.Lookup> pair : lookups) {
+                TNetworkAddress beAddress = pair.first;
+                ShortCircuitRequestCoalescer.Lookup lookup = pair.second;
+                try {
+                    PExecShortCircuitResult shortCircuitResult = lookup.get(timeoutS, TimeUnit.SECONDS);
+                    if (null == shortCircuitResult) {
+                        continue;
+                    }
+                    long t = watch.elapsed().toMillis();
+                    MetricRepo.HISTO_SHORTCIRCUIT_RPC_LATENCY.update(t);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("exec short circuit time: " + t + "ms.");
+                    }
 
-                if (null != shortCircuitResult.affectedRows) {
-                    affectedRows.getAndAdd(shortCircuitResult.affectedRows);
-                }
+                    TStatusCode code = TStatusCode.findByValue(shortCircuitResult.status.statusCode);
+                    if (shortCircuitResult.status.errorMsgs != null && !shortCircuitResult.status.errorMsgs.isEmpty()) {
+                        throw new RuntimeException(shortCircuitResult.status.errorMsgs.get(0) + "code: " + code +
+                                " backend: " + beAddress.getHostname() + ", port:" + beAddress.getPort());
+                    }
 
-                byte[] serialResult = pRequest.getSerializedResult();
-                RowBatch rowBatch = new RowBatch();
-                rowBatch.setEos(i.incrementAndGet() == be2ShortCircuitRequests.keys().size());
-                if (serialResult != null && serialResult.length > 0) {
-                    TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
-                    TResultBatch resultBatch = new TResultBatch();
-                    deserializer.deserialize(resultBatch, serialResult);
-                    rowBatch.setBatch(resultBatch);
-                }
-                rowBatchQueue.offer(rowBatch);
-
-                if (shortCircuitResult.profile != null) {
-                    TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
-                    TRuntimeProfileTree runtimeProfileTree = new TRuntimeProfileTree();
-                    deserializer.deserialize(runtimeProfileTree, shortCircuitResult.profile);
-                    RuntimeProfile beProfile = new RuntimeProfile(beAddress.toString());
-                    beProfile.update(runtimeProfileTree);
-                    if (enableProfile) {
-                        perBeExecutionProfile.put(beAddress.toString(), beProfile);
+                    if (null != shortCircuitResult.affectedRows) {
+                        affectedRows.getAndAdd(shortCircuitResult.affectedRows);
                     }
+
+                    byte[] serialResult = lookup.getSerializedResult();
+                    rowBatchQueue.offer(createRowBatch(serialResult, ++i == numRequests));
+                    if (useResultCache && null == shortCircuitResult.affectedRows) {
+                        resultCache.put(lookup.getSerializedRequest(), serialResult);
+                    }
+
+                    if (shortCircuitResult.profile != null) {
+                        TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
+                        TRuntimeProfileTree runtimeProfileTree = new TRuntimeProfileTree();
+                        deserializer.deserialize(runtimeProfileTree, shortCircuitResult.profile);
+                        RuntimeProfile beProfile = new RuntimeProfile(beAddress.toString());
+                        beProfile.update(runtimeProfileTree);
+                        if (enableProfile) {
+                            perBeExecutionProfile.put(beAddress.toString(), beProfile);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    throw new RuntimeException("Execute short circuit failed, reason: " + e.getMessage() +
+                            " backend: " + beAddress.getHostname() + ", port:" + beAddress.getPort(), e);
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } catch (Throwable e) {
-                throw new RuntimeException("Execute short circuit failed, reason: "
-                        + e.getMessage() + " backend: " + beAddress.getHostname() + ", port:" + beAddress.getPort(), e);
             }
-
-        });
+        } finally {
+            lookups.forEach(pair -> pair.second.close());
+        }
 
         result = new ShortCircuitResult(rowBatchQueue, affectedRows.get(), runtimeProfile.get());
     }
 
+    private static RowBatch createRowBatch(byte[] serialResult, boolean eos) throws TException {
+        RowBatch rowBatch = new RowBatch();
+        rowBatch.setEos(eos);
+        if (serialResult != null && serialResult.length > 0) {
+            TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
+            TResultBatch resultBatch = new TResultBatch();
+            deserializer.deserialize(resultBatch, serialResult);
+            rowBatch.setBatch(resultBatch);
+        }
+        return rowBatch;
+    }
+
     public class TabletWithVersion {
         final long tabletId;
         final String version;
@@ -0,0 +1,229 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.starrocks.metric.MetricRepo;
+import com.starrocks.proto.PExecShortCircuitResult;
+import com.starrocks.rpc.PExecShortCircuitRequest;
+import com.starrocks.thrift.TNetworkAddress;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent short circuit lookups that would send the same request to the same backend.
+ * <p>
+ * A short circuit request pins the versions of the tablets it reads, so two requests with identical bytes
+ * always return identical results. Under a point lookup workload with hot keys, the first lookup sends the
+ * rpc and every identical lookup that arrives before all its waiters are done shares that rpc instead of
+ * sending a new one. No extra waiting window is introduced, so a lookup is never slower than its own rpc.
+ */
+public class ShortCircuitRequestCoalescer {
+
+    private static final ShortCircuitRequestCoalescer INSTANCE = new ShortCircuitRequestCoalescer();
+
+    private final ConcurrentMap<RequestKey, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+
+    public static ShortCircuitRequestCoalescer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Submit a request to the backend, or join an identical request that is in flight.
+     * The returned lookup must be closed once its result has been consumed.
+     *
+     * @param coalesce whether the request may be shared with other lookups
+     * @param sender   sends the request to the backend and returns the rpc future
+     */
+    public Lookup submit(TNetworkAddress address, PExecShortCircuitRequest request, boolean coalesce,
+                         Function<PExecShortCircuitRequest, Future<PExecShortCircuitResult>> sender) {
+        if (!coalesce) {
+            InFlightRequest inFlight = new InFlightRequest(request);
+            inFlight.send(sender);
+            return new Lookup(null, inFlight, false);
+        }
+
+        RequestKey key = new RequestKey(address, request.getSerializedRequest());
+        while (true) {
+            InFlightRequest existing = inFlightRequests.get(key);
+            if (existing != null) {
+                if (existing.tryAcquire()) {
+                    if (MetricRepo.hasInit) {
+                        MetricRepo.COUNTER_SHORTCIRCUIT_COALESCED.increase(1L);
+                    }
+                    return new Lookup(key, existing, true);
+                }
+                // all waiters of the existing request are gone, it is about to be removed.
+                inFlightRequests.remove(key, existing);
+                continue;
+            }
+
+            InFlightRequest created = new InFlightRequest(request);
+            if (inFlightRequests.putIfAbsent(key, created) == null) {
+                Lookup lookup = new Lookup(key, created, false);
+                try {
+                    created.send(sender);
+                } catch (RuntimeException e) {
+                    lookup.close();
+                    throw e;
+                }
+                return lookup;
+            }
+        }
+    }
+
+    @VisibleForTesting
+    int numInFlightRequests() {
+        return inFlightRequests.size();
+    }
+
+    private void release(RequestKey key, InFlightRequest inFlight) {
+        if (inFlight.release()) {
+            if (key != null) {
+                inFlightRequests.remove(key, inFlight);
+            }
+            if (MetricRepo.hasInit) {
+                MetricRepo.HISTO_SHORTCIRCUIT_COALESCE_BATCH.update(inFlight.numLookups.get());
+            }
+        }
+    }
+
+    public class Lookup implements AutoCloseable {
+        private final RequestKey key;
+        private final InFlightRequest inFlight;
+        private final boolean coalesced;
+        private boolean closed = false;
+
+        private Lookup(RequestKey key, InFlightRequest inFlight, boolean coalesced) {
+            this.key = key;
+            this.inFlight = inFlight;
+            this.coalesced = coalesced;
+        }
+
+        public PExecShortCircuitResult get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            long deadlineNs = System.nanoTime() + unit.toNanos(timeout);
+            Future<PExecShortCircuitResult> future = inFlight.sent.get(timeout, unit);
+            if (future == null) {
+                return null;
+            }
+            return future.get(Math.max(0, deadlineNs - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        public byte[] getSerializedRequest() {
+            return inFlight.request.getSerializedRequest();
+        }
+
+        /**
+         * The serialized result attached to the response, only valid after {@link #get} returns.
+         */
+        public byte[] getSerializedResult() {
+            return inFlight.request.getSerializedResult();
+        }
+
+        /**
+         * Whether this lookup shares the rpc sent by another lookup.
+         */
+        public boolean isCoalesced() {
+            return coalesced;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(key, inFlight);
+            }
+        }
+    }
+
+    private static class InFlightRequest {
+        private final PExecShortCircuitRequest request;
+        private final CompletableFuture<Future<PExecShortCircuitResult>> sent = new CompletableFuture<>();
+        // number of lookups which have not been closed yet, once it drops to zero no one can join.
+        private final AtomicInteger refs = new AtomicInteger(1);
+        private final AtomicInteger numLookups = new AtomicInteger(1);
+
+        private InFlightRequest(PExecShortCircuitRequest request) {
+            this.request = request;
+        }
+
+        private void send(Function<PExecShortCircuitRequest, Future<PExecShortCircuitResult>> sender) {
+            try {
+                sent.complete(sender.apply(request));
+            } catch (RuntimeException e) {
+                sent.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        private boolean tryAcquire() {
+            while (true) {
+                int current = refs.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (refs.compareAndSet(current, current + 1)) {
+                    numLookups.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+
+        private boolean release() {
+            return refs.decrementAndGet() == 0;
+        }
+    }
+
+    private static class RequestKey {
+        private final TNetworkAddress address;
+        private final byte[] serializedRequest;
+        private final int hash;
+
+        private RequestKey(TNetworkAddress address, byte[] serializedRequest) {
+            this.address = address;
+            this.serializedRequest = serializedRequest;
+            this.hash = 31 * Objects.hashCode(address) + Arrays.hashCode(serializedRequest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return hash == that.hash && Objects.equals(address, that.address) &&
+                    Arrays.equals(serializedRequest, that.serializedRequest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
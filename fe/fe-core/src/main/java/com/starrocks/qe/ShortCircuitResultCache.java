@@ -0,0 +1,81 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.starrocks.common.Config;
+import com.starrocks.metric.MetricRepo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * FE resident cache of short circuit point lookup results.
+ * <p>
+ * The key is the serialized short circuit request, which contains the descriptor table, the plan, the primary key
+ * literals and the versions of the tablets to read. A lookup on the same keys of the same table version always
+ * returns the same result, and once a new version is published the planner puts the new version into the request,
+ * so stale entries are never hit again and just age out of the cache.
+ */
+public class ShortCircuitResultCache {
+
+    private static final ShortCircuitResultCache INSTANCE =
+            new ShortCircuitResultCache(Config.short_circuit_result_cache_capacity);
+
+    private final Cache<ByteBuffer, byte[]> cache;
+
+    @VisibleForTesting
+    ShortCircuitResultCache(long capacity) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(capacity)
+                .weigher((ByteBuffer key, byte[] value) -> key.remaining() + value.length)
+                .build();
+    }
+
+    public static ShortCircuitResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the serialized result batch, an empty array if the lookup returned nothing,
+     * or null if the request is not cached.
+     */
+    public byte[] get(byte[] serializedRequest) {
+        byte[] result = cache.getIfPresent(ByteBuffer.wrap(serializedRequest));
+        if (MetricRepo.hasInit) {
+            if (result != null) {
+                MetricRepo.COUNTER_SHORTCIRCUIT_RESULT_CACHE_HIT.increase(1L);
+            } else {
+                MetricRepo.COUNTER_SHORTCIRCUIT_RESULT_CACHE_MISS.increase(1L);
+            }
+        }
+        return result;
+    }
+
+    public void put(byte[] serializedRequest, byte[] serializedResult) {
+        cache.put(ByteBuffer.wrap(serializedRequest), serializedResult == null ? new byte[0] : serializedResult);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @VisibleForTesting
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
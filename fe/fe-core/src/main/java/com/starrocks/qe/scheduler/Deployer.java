@@ -60,6 +60,7 @@ public class Deployer {
     private final TDescriptorTable emptyDescTable;
     private final long deliveryTimeoutMs;
     private boolean enablePlanSerializeConcurrently;
+    private boolean enablePlanSerializeCache;
 
     private final FailureHandler failureHandler;
     private final boolean needDeploy;
@@ -86,6 +87,7 @@ public class Deployer {
         this.failureHandler = failureHandler;
         this.needDeploy = needDeploy;
         this.enablePlanSerializeConcurrently = context.getSessionVariable().getEnablePlanSerializeConcurrently();
+        this.enablePlanSerializeCache = context.getSessionVariable().isEnablePlanSerializeCache();
     }
 
     public DeployState createFragmentExecStates(List<ExecutionFragment> concurrentFragments) {
@@ -107,9 +109,13 @@ public class Deployer {
 
         if (enablePlanSerializeConcurrently) {
             try (Timer ignored = Tracers.watchScope(Tracers.Module.SCHEDULER, "DeploySerializeConcurrencyTime")) {
-                threeStageExecutionsToDeploy.stream().parallel().forEach(
-                        executions -> executions.stream().parallel()
-                                .forEach(FragmentInstanceExecState::serializeRequest));
+                threeStageExecutionsToDeploy.stream().parallel().forEach(executions -> {
+                    if (enablePlanSerializeCache) {
+                        TFragmentInstanceSerializer.serialize(executions, jobSpec.getPlanProtocol());
+                    } else {
+                        executions.stream().parallel().forEach(FragmentInstanceExecState::serializeRequest);
+                    }
+                });
             }
         }
 
@@ -185,6 +185,11 @@ public class TFragmentInstanceFactory {
         }
     }
 
+    /**
+     * Set the fields different among the instances of a fragment.
+     * {@link TFragmentInstanceSerializer} serializes the other fields only once per fragment,
+     * so the unique fields set here must be kept in sync with it.
+     */
     private void toThriftForUniqueParams(TExecPlanFragmentParams result,
                                          FragmentInstance instance,
                                          int accTabletSinkDop) {
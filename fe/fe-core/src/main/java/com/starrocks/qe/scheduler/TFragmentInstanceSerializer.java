@@ -0,0 +1,513 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe.scheduler;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.starrocks.planner.ExportSink;
+import com.starrocks.planner.MultiCastPlanFragment;
+import com.starrocks.planner.PlanFragment;
+import com.starrocks.qe.scheduler.dag.ExecutionFragment;
+import com.starrocks.qe.scheduler.dag.FragmentInstanceExecState;
+import com.starrocks.rpc.ConfigurableSerDesFactory;
+import com.starrocks.thrift.TExecPlanFragmentParams;
+import com.starrocks.thrift.TPlanFragmentExecParams;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.thrift.TException;
+import org.apache.thrift.TFieldRequirementType;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TMap;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.protocol.TSet;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TIOStreamTransport;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Serialize the {@link TExecPlanFragmentParams} of the fragment instances to deploy.
+ *
+ * <p>The requests of the instances of a fragment only differ in the per-instance fields set by
+ * {@link TFragmentInstanceFactory}, while the plan, descriptor table and query options are identical.
+ * In the binary protocol, a struct is encoded as a sequence of self-delimited fields followed by a stop byte,
+ * and the reader does not depend on the order of fields. Therefore, the fragment-invariant fields are serialized
+ * only once per fragment, and the request of each instance is spliced from the cached bytes and the bytes of its
+ * unique fields as follows:
+ *
+ * <pre>{@code
+ * [common fields][unique fields][params field header][common params fields][unique params fields][STOP][STOP]
+ * }</pre>
+ *
+ * <p>The other protocols, and the fragments whose plan is rewritten for each instance, fall back to serialize
+ * the whole request of each instance.
+ */
+public class TFragmentInstanceSerializer {
+    private static final Logger LOG = LogManager.getLogger(TFragmentInstanceSerializer.class);
+
+    private static final short PARAMS_FIELD_ID = TExecPlanFragmentParams._Fields.PARAMS.getThriftFieldId();
+
+    /**
+     * The fields identical for all the instances of a fragment. Every field of the requests is either common or
+     * unique. A request setting a field of neither kind, e.g. a field added to the thrift definition later,
+     * is serialized as a whole instead of being spliced from the bytes of another instance.
+     */
+    @VisibleForTesting
+    static final List<TExecPlanFragmentParams._Fields> COMMON_FIELDS = ImmutableList.of(
+            TExecPlanFragmentParams._Fields.PROTOCOL_VERSION,
+            TExecPlanFragmentParams._Fields.FRAGMENT,
+            TExecPlanFragmentParams._Fields.DESC_TBL,
+            TExecPlanFragmentParams._Fields.PARAMS,
+            TExecPlanFragmentParams._Fields.COORD,
+            TExecPlanFragmentParams._Fields.QUERY_GLOBALS,
+            TExecPlanFragmentParams._Fields.QUERY_OPTIONS,
+            TExecPlanFragmentParams._Fields.ENABLE_PROFILE,
+            TExecPlanFragmentParams._Fields.RESOURCE_INFO,
+            TExecPlanFragmentParams._Fields.IMPORT_LABEL,
+            TExecPlanFragmentParams._Fields.DB_NAME,
+            TExecPlanFragmentParams._Fields.LOAD_JOB_ID,
+            TExecPlanFragmentParams._Fields.LOAD_ERROR_HUB_INFO,
+            TExecPlanFragmentParams._Fields.IS_PIPELINE,
+            TExecPlanFragmentParams._Fields.PER_SCAN_NODE_DOP,
+            TExecPlanFragmentParams._Fields.WORKGROUP,
+            TExecPlanFragmentParams._Fields.ENABLE_RESOURCE_GROUP,
+            TExecPlanFragmentParams._Fields.FUNC_VERSION,
+            TExecPlanFragmentParams._Fields.ENABLE_SHARED_SCAN,
+            TExecPlanFragmentParams._Fields.IS_STREAM_PIPELINE,
+            TExecPlanFragmentParams._Fields.ADAPTIVE_DOP_PARAM,
+            TExecPlanFragmentParams._Fields.PRED_TREE_PARAMS,
+            TExecPlanFragmentParams._Fields.EXEC_STATS_NODE_IDS);
+    @VisibleForTesting
+    static final List<TPlanFragmentExecParams._Fields> COMMON_PARAMS_FIELDS = ImmutableList.of(
+            TPlanFragmentExecParams._Fields.QUERY_ID,
+            TPlanFragmentExecParams._Fields.PER_EXCH_NUM_SENDERS,
+            TPlanFragmentExecParams._Fields.DESTINATIONS,
+            TPlanFragmentExecParams._Fields.DEBUG_NODE_ID,
+            TPlanFragmentExecParams._Fields.DEBUG_PHASE,
+            TPlanFragmentExecParams._Fields.DEBUG_ACTION,
+            TPlanFragmentExecParams._Fields.NUM_SENDERS,
+            TPlanFragmentExecParams._Fields.SEND_QUERY_STATISTICS_WITH_EVERY_BATCH,
+            TPlanFragmentExecParams._Fields.USE_VECTORIZED,
+            TPlanFragmentExecParams._Fields.RUNTIME_FILTER_PARAMS,
+            TPlanFragmentExecParams._Fields.ENABLE_EXCHANGE_PASS_THROUGH,
+            TPlanFragmentExecParams._Fields.ENABLE_EXCHANGE_PERF);
+    /**
+     * The fields set by {@link TFragmentInstanceFactory#toThriftForUniqueParams}, which must be kept in sync.
+     */
+    @VisibleForTesting
+    static final List<TExecPlanFragmentParams._Fields> UNIQUE_FIELDS = ImmutableList.of(
+            TExecPlanFragmentParams._Fields.BACKEND_NUM,
+            TExecPlanFragmentParams._Fields.PIPELINE_DOP,
+            TExecPlanFragmentParams._Fields.GROUP_EXECUTION_SCAN_DOP);
+    @VisibleForTesting
+    static final List<TPlanFragmentExecParams._Fields> UNIQUE_PARAMS_FIELDS = ImmutableList.of(
+            TPlanFragmentExecParams._Fields.INSTANCES_NUMBER,
+            TPlanFragmentExecParams._Fields.FRAGMENT_INSTANCE_ID,
+            TPlanFragmentExecParams._Fields.PER_NODE_SCAN_RANGES,
+            TPlanFragmentExecParams._Fields.NODE_TO_PER_DRIVER_SEQ_SCAN_RANGES,
+            TPlanFragmentExecParams._Fields.REPORT_WHEN_FINISH,
+            TPlanFragmentExecParams._Fields.SENDER_ID,
+            TPlanFragmentExecParams._Fields.PIPELINE_SINK_DOP);
+    /**
+     * The required fields must be set to pass the validation before writing, and they will be filtered out
+     * when writing the unique fields, if they are not unique.
+     */
+    private static final List<TPlanFragmentExecParams._Fields> REQUIRED_PARAMS_FIELDS =
+            TPlanFragmentExecParams.metaDataMap.entrySet().stream()
+                    .filter(entry -> entry.getValue().requirementType == TFieldRequirementType.REQUIRED)
+                    .map(Map.Entry::getKey)
+                    .collect(ImmutableList.toImmutableList());
+
+    private TFragmentInstanceSerializer() {
+    }
+
+    /**
+     * Serialize the requests of the executions, and then release the unserialized requests.
+     * If the serialization of an execution fails, its unserialized request is kept.
+     */
+    public static void serialize(List<FragmentInstanceExecState> executions, String protocol) {
+        if (ConfigurableSerDesFactory.Protocol.getProtocol(protocol) != ConfigurableSerDesFactory.Protocol.BINARY) {
+            executions.stream().parallel().forEach(FragmentInstanceExecState::serializeRequest);
+            return;
+        }
+
+        Map<ExecutionFragment, List<FragmentInstanceExecState>> fragmentToExecutions = executions.stream()
+                .collect(Collectors.groupingBy(execution -> execution.getFragmentInstance().getExecFragment(),
+                        LinkedHashMap::new, Collectors.toList()));
+        fragmentToExecutions.forEach((fragment, fragmentExecutions) -> {
+            SerializedFields commonFields = null;
+            if (fragmentExecutions.size() > 1 && canSplice(fragment, fragmentExecutions)) {
+                try {
+                    commonFields = serializeCommonFields(fragmentExecutions.get(0).getRequestToDeploy());
+                } catch (TException e) {
+                    LOG.warn("failed to serialize common fields of fragment {}, fallback to serialize each instance",
+                            fragment.getFragmentId(), e);
+                }
+            }
+
+            if (commonFields == null) {
+                fragmentExecutions.stream().parallel().forEach(FragmentInstanceExecState::serializeRequest);
+                return;
+            }
+
+            final SerializedFields finalCommonFields = commonFields;
+            fragmentExecutions.stream().parallel().forEach(execution -> {
+                try {
+                    execution.setSerializedRequest(serialize(finalCommonFields, execution.getRequestToDeploy()));
+                } catch (TException e) {
+                    execution.serializeRequest();
+                }
+            });
+        });
+    }
+
+    private static boolean canSplice(ExecutionFragment fragment, List<FragmentInstanceExecState> executions) {
+        // The plan of these fragments is rewritten for each instance by TFragmentInstanceFactory.
+        PlanFragment planFragment = fragment.getPlanFragment();
+        if (planFragment instanceof MultiCastPlanFragment || planFragment.getSink() instanceof ExportSink) {
+            return false;
+        }
+
+        TExecPlanFragmentParams template = executions.get(0).getRequestToDeploy();
+        if (template == null || !template.isSetParams()) {
+            return false;
+        }
+        // Instances of the same fragment at different deployment stages may use different descriptor tables.
+        return executions.stream()
+                .map(FragmentInstanceExecState::getRequestToDeploy)
+                .allMatch(request -> request != null && request.isSetParams() &&
+                        request.getDesc_tbl() == template.getDesc_tbl() && hasOnlyKnownFields(request));
+    }
+
+    @VisibleForTesting
+    static boolean hasOnlyKnownFields(TExecPlanFragmentParams request) {
+        for (TExecPlanFragmentParams._Fields field : TExecPlanFragmentParams._Fields.values()) {
+            if (request.isSet(field) && !COMMON_FIELDS.contains(field) && !UNIQUE_FIELDS.contains(field)) {
+                return false;
+            }
+        }
+        TPlanFragmentExecParams params = request.getParams();
+        for (TPlanFragmentExecParams._Fields field : TPlanFragmentExecParams._Fields.values()) {
+            if (params.isSet(field) && !COMMON_PARAMS_FIELDS.contains(field) && !UNIQUE_PARAMS_FIELDS.contains(field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @VisibleForTesting
+    static SerializedFields serializeCommonFields(TExecPlanFragmentParams template) throws TException {
+        return serializeFields(template, false);
+    }
+
+    @VisibleForTesting
+    static byte[] serialize(SerializedFields commonFields, TExecPlanFragmentParams request) throws TException {
+        SerializedFields uniqueFields = serializeFields(createUniqueView(request), true);
+
+        int length = commonFields.length() + uniqueFields.length() + 5;
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(commonFields.fields).put(uniqueFields.fields);
+        // Field header of params: type and field id in big-endian, the same as TBinaryProtocol.
+        buffer.put(TType.STRUCT).putShort(PARAMS_FIELD_ID);
+        buffer.put(commonFields.paramsFields).put(uniqueFields.paramsFields);
+        buffer.put(TType.STOP);
+        buffer.put(TType.STOP);
+        return buffer.array();
+    }
+
+    /**
+     * Create a shallow copy of the request, which only contains the unique fields and the required fields,
+     * to avoid traversing the large invariant fields such as the plan when writing the unique fields.
+     */
+    private static TExecPlanFragmentParams createUniqueView(TExecPlanFragmentParams request) {
+        TExecPlanFragmentParams view = new TExecPlanFragmentParams();
+        view.setProtocol_version(request.getProtocol_version());
+        for (TExecPlanFragmentParams._Fields field : UNIQUE_FIELDS) {
+            if (request.isSet(field)) {
+                view.setFieldValue(field, request.getFieldValue(field));
+            }
+        }
+
+        TPlanFragmentExecParams params = request.getParams();
+        TPlanFragmentExecParams viewParams = new TPlanFragmentExecParams();
+        for (TPlanFragmentExecParams._Fields field : REQUIRED_PARAMS_FIELDS) {
+            if (params.isSet(field)) {
+                viewParams.setFieldValue(field, params.getFieldValue(field));
+            }
+        }
+        for (TPlanFragmentExecParams._Fields field : UNIQUE_PARAMS_FIELDS) {
+            if (params.isSet(field)) {
+                viewParams.setFieldValue(field, params.getFieldValue(field));
+            }
+        }
+        view.setParams(viewParams);
+
+        return view;
+    }
+
+    private static SerializedFields serializeFields(TExecPlanFragmentParams request, boolean unique)
+            throws TException {
+        ByteArrayOutputStream fieldsStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream paramsFieldsStream = new ByteArrayOutputStream();
+        TProtocol fieldsProtocol = new TBinaryProtocol(new TIOStreamTransport(fieldsStream));
+        TProtocol paramsFieldsProtocol = new TBinaryProtocol(new TIOStreamTransport(paramsFieldsStream));
+
+        request.write(new FieldSplitProtocol(fieldsProtocol, paramsFieldsProtocol, unique));
+
+        return new SerializedFields(fieldsStream.toByteArray(), paramsFieldsStream.toByteArray());
+    }
+
+    private static boolean isUniqueField(short fieldId) {
+        return UNIQUE_FIELDS.stream().anyMatch(field -> field.getThriftFieldId() == fieldId);
+    }
+
+    private static boolean isUniqueParamsField(short fieldId) {
+        return UNIQUE_PARAMS_FIELDS.stream().anyMatch(field -> field.getThriftFieldId() == fieldId);
+    }
+
+    /**
+     * The serialized fields of {@link TExecPlanFragmentParams} and its {@code params} without the struct stop bytes.
+     */
+    @VisibleForTesting
+    static class SerializedFields {
+        private final byte[] fields;
+        private final byte[] paramsFields;
+
+        private SerializedFields(byte[] fields, byte[] paramsFields) {
+            this.fields = Objects.requireNonNull(fields);
+            this.paramsFields = Objects.requireNonNull(paramsFields);
+        }
+
+        private int length() {
+            return fields.length + paramsFields.length;
+        }
+    }
+
+    /**
+     * Route the fields of {@link TExecPlanFragmentParams} and its {@code params} to two separate protocols,
+     * and only keep the unique fields or the common fields.
+     * The field header of {@code params} and the stop bytes of these two structs are omitted.
+     */
+    private static class FieldSplitProtocol extends TProtocolDecorator {
+        private final TProtocol fieldsProtocol;
+        private final TProtocol paramsFieldsProtocol;
+        private final boolean unique;
+
+        private int depth = 0;
+        private boolean inParams = false;
+        // The depth of the field being skipped, or 0 if no field is being skipped.
+        private int skippedFieldDepth = 0;
+
+        private FieldSplitProtocol(TProtocol fieldsProtocol, TProtocol paramsFieldsProtocol, boolean unique) {
+            super(fieldsProtocol);
+            this.fieldsProtocol = fieldsProtocol;
+            this.paramsFieldsProtocol = paramsFieldsProtocol;
+            this.unique = unique;
+        }
+
+        private boolean isSkipping() {
+            return skippedFieldDepth > 0;
+        }
+
+        private boolean isSplitLevel() {
+            return depth == 1 || (depth == 2 && inParams);
+        }
+
+        private TProtocol current() {
+            return inParams ? paramsFieldsProtocol : fieldsProtocol;
+        }
+
+        @Override
+        public void writeMessageBegin(TMessage message) throws TException {
+            throw new UnsupportedOperationException("FieldSplitProtocol only supports writing struct");
+        }
+
+        @Override
+        public void writeMessageEnd() throws TException {
+            throw new UnsupportedOperationException("FieldSplitProtocol only supports writing struct");
+        }
+
+        @Override
+        public void writeStructBegin(TStruct struct) throws TException {
+            depth++;
+            if (!isSkipping()) {
+                current().writeStructBegin(struct);
+            }
+        }
+
+        @Override
+        public void writeStructEnd() throws TException {
+            if (!isSkipping()) {
+                current().writeStructEnd();
+            }
+            depth--;
+        }
+
+        @Override
+        public void writeFieldBegin(TField field) throws TException {
+            if (isSkipping()) {
+                return;
+            }
+
+            if (depth == 1 && field.id == PARAMS_FIELD_ID) {
+                inParams = true;
+                return;
+            }
+
+            if (isSplitLevel()) {
+                boolean isUniqueField = inParams ? isUniqueParamsField(field.id) : isUniqueField(field.id);
+                if (isUniqueField != unique) {
+                    skippedFieldDepth = depth;
+                    return;
+                }
+            }
+
+            current().writeFieldBegin(field);
+        }
+
+        @Override
+        public void writeFieldEnd() throws TException {
+            if (isSkipping()) {
+                if (depth == skippedFieldDepth) {
+                    skippedFieldDepth = 0;
+                }
+                return;
+            }
+
+            if (depth == 1 && inParams) {
+                inParams = false;
+                return;
+            }
+
+            current().writeFieldEnd();
+        }
+
+        @Override
+        public void writeFieldStop() throws TException {
+            if (!isSkipping() && !isSplitLevel()) {
+                current().writeFieldStop();
+            }
+        }
+
+        @Override
+        public void writeMapBegin(TMap map) throws TException {
+            if (!isSkipping()) {
+                current().writeMapBegin(map);
+            }
+        }
+
+        @Override
+        public void writeMapEnd() throws TException {
+            if (!isSkipping()) {
+                current().writeMapEnd();
+            }
+        }
+
+        @Override
+        public void writeListBegin(TList list) throws TException {
+            if (!isSkipping()) {
+                current().writeListBegin(list);
+            }
+        }
+
+        @Override
+        public void writeListEnd() throws TException {
+            if (!isSkipping()) {
+                current().writeListEnd();
+            }
+        }
+
+        @Override
+        public void writeSetBegin(TSet set) throws TException {
+            if (!isSkipping()) {
+                current().writeSetBegin(set);
+            }
+        }
+
+        @Override
+        public void writeSetEnd() throws TException {
+            if (!isSkipping()) {
+                current().writeSetEnd();
+            }
+        }
+
+        @Override
+        public void writeBool(boolean b) throws TException {
+            if (!isSkipping()) {
+                current().writeBool(b);
+            }
+        }
+
+        @Override
+        public void writeByte(byte b) throws TException {
+            if (!isSkipping()) {
+                current().writeByte(b);
+            }
+        }
+
+        @Override
+        public void writeI16(short i16) throws TException {
+            if (!isSkipping()) {
+                current().writeI16(i16);
+            }
+        }
+
+        @Override
+        public void writeI32(int i32) throws TException {
+            if (!isSkipping()) {
+                current().writeI32(i32);
+            }
+        }
+
+        @Override
+        public void writeI64(long i64) throws TException {
+            if (!isSkipping()) {
+                current().writeI64(i64);
+            }
+        }
+
+        @Override
+        public void writeDouble(double dub) throws TException {
+            if (!isSkipping()) {
+                current().writeDouble(dub);
+            }
+        }
+
+        @Override
+        public void writeString(String str) throws TException {
+            if (!isSkipping()) {
+                current().writeString(str);
+            }
+        }
+
+        @Override
+        public void writeBinary(ByteBuffer buf) throws TException {
+            if (!isSkipping()) {
+                current().writeBinary(buf);
+            }
+        }
+    }
+}
@@ -170,6 +170,11 @@ public class FragmentInstanceExecState {
         }
     }
 
+    public void setSerializedRequest(byte[] serializedRequest) {
+        this.serializedRequest = serializedRequest;
+        requestToDeploy = null;
+    }
+
     /**
      * Deploy the fragment instance to the worker asynchronously.
      * The state transitions to DEPLOYING.
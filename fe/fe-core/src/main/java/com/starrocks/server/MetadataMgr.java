@@ -62,6 +62,7 @@ import com.starrocks.connector.exception.StarRocksConnectorException;
 import com.starrocks.connector.metadata.MetadataTable;
 import com.starrocks.connector.metadata.MetadataTableType;
 import com.starrocks.connector.statistics.ConnectorTableColumnStats;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.sql.ast.AlterTableStmt;
 import com.starrocks.sql.ast.CleanTemporaryTableStmt;
@@ -723,8 +724,12 @@ public class MetadataMgr {
                 return internalStatistics;
             } else {
                 Optional<ConnectorMetadata> connectorMetadata = getOptionalMetadata(catalogName);
+                // the connector estimates the stats on the planning thread, e.g. it plans the files of an iceberg
+                // or delta lake table or lists the hive partitions when they aren't cached yet.
+                long startTime = System.currentTimeMillis();
                 Statistics connectorBasicStats = connectorMetadata.map(metadata -> metadata.getTableStatistics(
                         session, table, columns, partitionKeys, predicate, limit, versionRange)).orElse(null);
+                updateStatisticsMetrics(catalogName, false, System.currentTimeMillis() - startTime);
                 if (connectorBasicStats != null && internalStatistics != null &&
                         internalStatistics.getColumnStatistics().values().stream().anyMatch(
                                 columnStatistic -> columnStatistic.getHistogram() != null)) {
@@ -748,10 +753,23 @@ public class MetadataMgr {
             }
         } else {
             session.setObtainedFromInternalStatistics(true);
+            updateStatisticsMetrics(catalogName, true, 0);
             return internalStatistics;
         }
     }
 
+    private static void updateStatisticsMetrics(String catalogName, boolean cacheHit, long connectorLoadMs) {
+        if (!MetricRepo.hasInit || catalogName == null) {
+            return;
+        }
+        if (cacheHit) {
+            MetricRepo.COUNTER_EXTERNAL_STATS_CACHE_HIT.getMetric(catalogName).increase(1L);
+        } else {
+            MetricRepo.COUNTER_EXTERNAL_STATS_CONNECTOR_LOAD.getMetric(catalogName).increase(1L);
+            MetricRepo.COUNTER_EXTERNAL_STATS_CONNECTOR_LOAD_LATENCY.getMetric(catalogName).increase(connectorLoadMs);
+        }
+    }
+
     public Statistics getTableStatistics(OptimizerContext session,
                                          String catalogName,
                                          Table table,
@@ -148,7 +148,7 @@ public class CreateFunctionAnalyzer {
                 handleClass.setClazz(classLoader.loadClass(className));
                 handleClass.collectMethods();
 
-                if (stmt.isAggregate()) {
+                if (stmt.isAggregate() && needUdafStateClass(stmt, handleClass)) {
                     String stateClassName = className + "$" + CreateFunctionStmt.STATE_CLASS_NAME;
                     stateClass.setClazz(classLoader.loadClass(stateClassName));
                     stateClass.collectMethods();
@@ -212,6 +212,20 @@ public class CreateFunctionAnalyzer {
         return function;
     }
 
+    private static boolean isAnalyticFn(CreateFunctionStmt stmt) {
+        return "true".equalsIgnoreCase(stmt.getProperties().get(CreateFunctionStmt.IS_ANALYTIC_NAME));
+    }
+
+    // a UDAF declaring stateSize() keeps its states off-heap, the State class and the methods using it are
+    // only needed by window functions, which always keep the states as objects
+    private static boolean isOffHeapUdaf(JavaUDFInternalClass mainClass) {
+        return mainClass.getMethod(CreateFunctionStmt.STATE_SIZE_METHOD_NAME, false) != null;
+    }
+
+    private static boolean needUdafStateClass(CreateFunctionStmt stmt, JavaUDFInternalClass mainClass) {
+        return !isOffHeapUdaf(mainClass) || isAnalyticFn(stmt);
+    }
+
     private void checkStarrocksJarUdafStateClass(CreateFunctionStmt stmt, JavaUDFInternalClass mainClass,
                                                  JavaUDFInternalClass udafStateClass) {
         // Check internal State class
@@ -300,6 +314,46 @@ public class CreateFunctionAnalyzer {
         }
     }
 
+    private void checkStarrocksJarOffHeapUdafClass(CreateFunctionStmt stmt, JavaUDFInternalClass mainClass) {
+        FunctionArgsDef argsDef = stmt.getArgsDef();
+        TypeDef returnType = stmt.getReturnType();
+        {
+            // int stateSize()
+            Method method = mainClass.getMethod(CreateFunctionStmt.STATE_SIZE_METHOD_NAME, true);
+            mainClass.checkMethodNonStaticAndPublic(method);
+            mainClass.checkReturnJavaType(method, int.class);
+            mainClass.checkArgumentCount(method, 0);
+        }
+        {
+            // void updateBatch(long[] states, T1[] input1, ...)
+            Method method = mainClass.getMethod(CreateFunctionStmt.UPDATE_BATCH_METHOD_NAME, true);
+            mainClass.checkMethodNonStaticAndPublic(method);
+            mainClass.checkReturnJavaType(method, void.class);
+            mainClass.checkArgumentCount(method, argsDef.getArgTypes().length + 1);
+            mainClass.checkParamJavaType(method, long[].class, method.getParameters()[0]);
+            for (int i = 0; i < argsDef.getArgTypes().length; i++) {
+                mainClass.checkParamUdfArrayType(method, argsDef.getArgTypes()[i], method.getParameters()[i + 1]);
+            }
+        }
+        {
+            // void mergeBatch(long[] states, long[] serialized)
+            Method method = mainClass.getMethod(CreateFunctionStmt.MERGE_BATCH_METHOD_NAME, true);
+            mainClass.checkMethodNonStaticAndPublic(method);
+            mainClass.checkReturnJavaType(method, void.class);
+            mainClass.checkArgumentCount(method, 2);
+            mainClass.checkParamJavaType(method, long[].class, method.getParameters()[0]);
+            mainClass.checkParamJavaType(method, long[].class, method.getParameters()[1]);
+        }
+        {
+            // RETURN_TYPE[] finalizeBatch(long[] states)
+            Method method = mainClass.getMethod(CreateFunctionStmt.FINALIZE_BATCH_METHOD_NAME, true);
+            mainClass.checkMethodNonStaticAndPublic(method);
+            mainClass.checkReturnUdfArrayType(method, returnType.getType());
+            mainClass.checkArgumentCount(method, 1);
+            mainClass.checkParamJavaType(method, long[].class, method.getParameters()[0]);
+        }
+    }
+
     private Function analyzeStarrocksJarUdaf(CreateFunctionStmt stmt, String checksum,
                                                 JavaUDFInternalClass mainClass,
                                                 JavaUDFInternalClass udafStateClass) {
@@ -309,11 +363,15 @@ public class CreateFunctionAnalyzer {
         String objectFile = stmt.getProperties().get(CreateFunctionStmt.FILE_KEY);
         TypeDef intermediateType = TypeDef.createVarchar(ScalarType.getOlapMaxVarcharLength());
         ;
-        Map<String, String> properties = stmt.getProperties();
-        boolean isAnalyticFn = "true".equalsIgnoreCase(properties.get(CreateFunctionStmt.IS_ANALYTIC_NAME));
+        boolean isAnalyticFn = isAnalyticFn(stmt);
 
-        checkStarrocksJarUdafStateClass(stmt, mainClass, udafStateClass);
-        checkStarrocksJarUdafClass(stmt, mainClass, udafStateClass);
+        if (isOffHeapUdaf(mainClass)) {
+            checkStarrocksJarOffHeapUdafClass(stmt, mainClass);
+        }
+        if (needUdafStateClass(stmt, mainClass)) {
+            checkStarrocksJarUdafStateClass(stmt, mainClass, udafStateClass);
+            checkStarrocksJarUdafClass(stmt, mainClass, udafStateClass);
+        }
         AggregateFunction.AggregateFunctionBuilder builder =
                 AggregateFunction.AggregateFunctionBuilder.createUdfBuilder(TFunctionBinaryType.SRJAR);
         builder.name(functionName).argsType(argsDef.getArgTypes()).retType(returnType.getType()).
@@ -488,6 +546,24 @@ public class CreateFunctionAnalyzer {
             checkUdfType(method, expType, method.getReturnType(), CreateFunctionStmt.RETURN_FIELD_NAME);
         }
 
+        private void checkParamUdfArrayType(Method method, Type expType, Parameter p) {
+            checkUdfArrayType(method, expType, p.getType(), p.getName());
+        }
+
+        private void checkReturnUdfArrayType(Method method, Type expType) {
+            checkUdfArrayType(method, expType, method.getReturnType(), CreateFunctionStmt.RETURN_FIELD_NAME);
+        }
+
+        // the values of a batch are passed in an array of the boxed java type
+        private void checkUdfArrayType(Method method, Type expType, Class<?> ptype, String pname) {
+            if (!ptype.isArray()) {
+                ErrorReport.reportSemanticException(ErrorCode.ERR_COMMON_ERROR,
+                        String.format("UDF class '%s' method '%s' parameter %s[%s] should be an array",
+                                clazz.getCanonicalName(), method.getName(), pname, ptype.getCanonicalName()));
+            }
+            checkUdfType(method, expType, ptype.getComponentType(), pname);
+        }
+
         private void checkUdfType(Method method, Type expType, Class<?> ptype, String pname) {
             if (!(expType instanceof ScalarType)) {
                 ErrorReport.reportSemanticException(ErrorCode.ERR_COMMON_ERROR,
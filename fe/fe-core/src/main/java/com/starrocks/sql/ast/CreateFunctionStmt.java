@@ -44,6 +44,10 @@ public class CreateFunctionStmt extends DdlStmt {
     public static final String FINALIZE_METHOD_NAME = "finalize";
     public static final String STATE_CLASS_NAME = "State";
     public static final String SERIALIZE_LENGTH_METHOD_NAME = "serializeLength";
+    public static final String STATE_SIZE_METHOD_NAME = "stateSize";
+    public static final String UPDATE_BATCH_METHOD_NAME = "updateBatch";
+    public static final String MERGE_BATCH_METHOD_NAME = "mergeBatch";
+    public static final String FINALIZE_BATCH_METHOD_NAME = "finalizeBatch";
     public static final String RETURN_FIELD_NAME = "Return";
     public static final String WINDOW_UPDATE_METHOD_NAME = "windowUpdate";
     public static final String IS_ANALYTIC_NAME = "analytic";
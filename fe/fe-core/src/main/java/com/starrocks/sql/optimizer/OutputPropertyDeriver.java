@@ -508,6 +508,9 @@ public class OutputPropertyDeriver extends PropertyDeriverBase<PhysicalPropertyS
 
     @Override
     public PhysicalPropertySet visitPhysicalJDBCScan(PhysicalJDBCScanOperator node, ExpressionContext context) {
+        if (node.isPartitionedScan()) {
+            return PhysicalPropertySet.EMPTY;
+        }
         return createGatherPropertySet();
     }
 
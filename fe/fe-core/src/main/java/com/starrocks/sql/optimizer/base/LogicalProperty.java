@@ -18,6 +18,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.starrocks.catalog.Column;
+import com.starrocks.qe.ConnectContext;
 import com.starrocks.sql.optimizer.ExpressionContext;
 import com.starrocks.sql.optimizer.Utils;
 import com.starrocks.sql.optimizer.operator.Operator;
@@ -187,7 +188,14 @@ public class LogicalProperty implements Property {
                     return OneTabletProperty.supportWithoutChangeDistribution(new ColumnRefSet(bucketColumns));
                 }
                 return OneTabletProperty.notSupport();
-            } else if (node instanceof LogicalMysqlScanOperator || node instanceof LogicalJDBCScanOperator) {
+            } else if (node instanceof LogicalJDBCScanOperator) {
+                ConnectContext connectContext = ConnectContext.get();
+                if (connectContext != null &&
+                        ((LogicalJDBCScanOperator) node).isPartitionedScan(connectContext.getSessionVariable())) {
+                    return OneTabletProperty.notSupport();
+                }
+                return OneTabletProperty.supportWithoutChangeDistribution(new ColumnRefSet());
+            } else if (node instanceof LogicalMysqlScanOperator) {
                 return OneTabletProperty.supportWithoutChangeDistribution(new ColumnRefSet());
             }
             return OneTabletProperty.notSupport();
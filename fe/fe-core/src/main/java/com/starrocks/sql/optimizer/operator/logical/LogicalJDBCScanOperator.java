@@ -18,6 +18,7 @@ import com.google.common.base.Preconditions;
 import com.starrocks.catalog.Column;
 import com.starrocks.catalog.JDBCTable;
 import com.starrocks.catalog.Table;
+import com.starrocks.qe.SessionVariable;
 import com.starrocks.sql.optimizer.operator.OperatorType;
 import com.starrocks.sql.optimizer.operator.OperatorVisitor;
 import com.starrocks.sql.optimizer.operator.Projection;
@@ -46,6 +47,16 @@ public class LogicalJDBCScanOperator extends LogicalScanOperator {
         super(OperatorType.LOGICAL_JDBC_SCAN);
     }
 
+    /**
+     * Whether the scan is split into key ranges which are read by multiple instances,
+     * the output of a partitioned scan is not gathered on one node.
+     * A scan with limit is not split, one connection is enough to return the first rows.
+     */
+    public boolean isPartitionedScan(SessionVariable sessionVariable) {
+        return sessionVariable.getJdbcScanParallelism() > 1 && !hasLimit() &&
+                ((JDBCTable) table).getCatalogName() != null;
+    }
+
     @Override
     public <R, C> R accept(OperatorVisitor<R, C> visitor, C context) {
         return visitor.visitLogicalJDBCScan(this, context);
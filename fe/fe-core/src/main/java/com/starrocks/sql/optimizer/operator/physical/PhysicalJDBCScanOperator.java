@@ -20,9 +20,18 @@ import com.starrocks.sql.optimizer.operator.OperatorType;
 import com.starrocks.sql.optimizer.operator.OperatorVisitor;
 import com.starrocks.sql.optimizer.operator.logical.LogicalJDBCScanOperator;
 
+import java.util.Objects;
+
 public class PhysicalJDBCScanOperator extends PhysicalScanOperator {
-    public PhysicalJDBCScanOperator(LogicalJDBCScanOperator scanOperator) {
+    private final boolean partitionedScan;
+
+    public PhysicalJDBCScanOperator(LogicalJDBCScanOperator scanOperator, boolean partitionedScan) {
         super(OperatorType.PHYSICAL_JDBC_SCAN, scanOperator);
+        this.partitionedScan = partitionedScan;
+    }
+
+    public boolean isPartitionedScan() {
+        return partitionedScan;
     }
 
     @Override
@@ -34,4 +43,18 @@ public class PhysicalJDBCScanOperator extends PhysicalScanOperator {
     public <R, C> R accept(OptExpressionVisitor<R, C> visitor, OptExpression optExpression, C context) {
         return visitor.visitPhysicalJDBCScan(optExpression, context);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        PhysicalJDBCScanOperator that = (PhysicalJDBCScanOperator) o;
+        return partitionedScan == that.partitionedScan;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), partitionedScan);
+    }
 }
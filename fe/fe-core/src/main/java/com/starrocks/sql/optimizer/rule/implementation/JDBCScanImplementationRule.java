@@ -34,7 +34,8 @@ public class JDBCScanImplementationRule extends ImplementationRule {
     @Override
     public List<OptExpression> transform(OptExpression input, OptimizerContext context) {
         LogicalJDBCScanOperator logical = (LogicalJDBCScanOperator) input.getOp();
-        PhysicalJDBCScanOperator physical = new PhysicalJDBCScanOperator(logical);
+        PhysicalJDBCScanOperator physical = new PhysicalJDBCScanOperator(logical,
+                logical.isPartitionedScan(context.getSessionVariable()));
         OptExpression result = new OptExpression(physical);
         return Lists.newArrayList(result);
     }
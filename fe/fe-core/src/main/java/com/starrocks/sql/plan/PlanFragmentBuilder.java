@@ -1856,9 +1856,13 @@ public class PlanFragmentBuilder {
             scanNode.computeColumnsAndFilters();
             scanNode.computeStatistics(optExpression.getStatistics());
             scanNode.setScanOptimzeOption(node.getScanOptimzeOption());
+            if (node.isPartitionedScan()) {
+                scanNode.setupScanRangeLocations(
+                        context.getConnectContext().getSessionVariable().getJdbcScanParallelism());
+            }
             context.getScanNodes().add(scanNode);
-            PlanFragment fragment =
-                    new PlanFragment(context.getNextFragmentId(), scanNode, DataPartition.UNPARTITIONED);
+            PlanFragment fragment = new PlanFragment(context.getNextFragmentId(), scanNode,
+                    node.isPartitionedScan() ? DataPartition.RANDOM : DataPartition.UNPARTITIONED);
             context.getFragments().add(fragment);
             return fragment;
         }
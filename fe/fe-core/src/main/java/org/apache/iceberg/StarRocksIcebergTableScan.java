@@ -20,10 +20,12 @@ import com.google.common.collect.Sets;
 import com.starrocks.connector.PlanMode;
 import com.starrocks.connector.exception.StarRocksConnectorException;
 import com.starrocks.connector.iceberg.AsyncIterable;
+import com.starrocks.connector.iceberg.CachedManifestFiles;
 import com.starrocks.connector.iceberg.IcebergApiConverter;
 import com.starrocks.connector.iceberg.StarRocksIcebergTableScanContext;
 import com.starrocks.connector.metadata.MetadataCollectJob;
 import com.starrocks.connector.metadata.iceberg.IcebergMetadataCollectJob;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.system.ComputeNode;
@@ -187,7 +189,8 @@ public class StarRocksIcebergTableScan
         List<ManifestFile> dataManifests = snapshot.dataManifests(io());
         scanMetrics().totalDataManifests().increment(dataManifests.size());
 
-        List<ManifestFile> matchingDataManifests = IcebergApiConverter.filterManifests(dataManifests, table(), filter());
+        List<ManifestFile> matchingDataManifests = IcebergApiConverter.filterManifests(
+                dataManifests, table(), filter(), shouldPlanWithExecutor() ? planExecutor() : null);
         int skippedDataManifestsCount = dataManifests.size() - matchingDataManifests.size();
         scanMetrics().skippedDataManifests().increment(skippedDataManifestsCount);
 
@@ -198,7 +201,8 @@ public class StarRocksIcebergTableScan
         List<ManifestFile> deleteManifests = snapshot.deleteManifests(io());
         scanMetrics().totalDeleteManifests().increment(deleteManifests.size());
 
-        List<ManifestFile> matchingDeleteManifests = IcebergApiConverter.filterManifests(deleteManifests, table(), filter());
+        List<ManifestFile> matchingDeleteManifests = IcebergApiConverter.filterManifests(
+                deleteManifests, table(), filter(), shouldPlanWithExecutor() ? planExecutor() : null);
         int skippedDeleteManifestsCount = deleteManifests.size() - matchingDeleteManifests.size();
         scanMetrics().skippedDeleteManifests().increment(skippedDeleteManifestsCount);
 
@@ -227,6 +231,7 @@ public class StarRocksIcebergTableScan
             for (ManifestFile manifestFile : deleteManifests) {
                 Set<DeleteFile> deleteFiles = deleteFileCache.getIfPresent(manifestFile.path());
                 if (deleteFiles != null && !deleteFiles.isEmpty()) {
+                    increaseManifestCacheMetrics(true);
                     scanMetrics().scannedDeleteManifests().increment();
                     int entrySize = deleteFiles.size();
                     if (filter() != null && filter() != Expressions.alwaysTrue()) {
@@ -242,7 +247,9 @@ public class StarRocksIcebergTableScan
                     }
                     matchingCachedDeleteFiles.addAll(deleteFiles);
                 } else {
-                    deleteFileCache.put(manifestFile.path(), ConcurrentHashMap.newKeySet());
+                    increaseManifestCacheMetrics(false);
+                    deleteFileCache.put(manifestFile.path(),
+                            CachedManifestFiles.forManifest(manifestFile, dataFileCacheWithMetrics));
                     deleteManifestWithoutCache.add(manifestFile);
                 }
             }
@@ -259,11 +266,14 @@ public class StarRocksIcebergTableScan
         for (ManifestFile manifestFile : dataManifests) {
             Set<DataFile> dataFiles = dataFileCache.getIfPresent(manifestFile.path());
             if (dataFiles != null && !dataFiles.isEmpty()) {
+                increaseManifestCacheMetrics(true);
                 dataManifestWithCache.add(manifestFile);
                 scanMetrics().scannedDataManifests().increment();
             } else {
+                increaseManifestCacheMetrics(false);
                 if (!onlyReadCache) {
-                    dataFileCache.put(manifestFile.path(), ConcurrentHashMap.newKeySet());
+                    dataFileCache.put(manifestFile.path(),
+                            CachedManifestFiles.forManifest(manifestFile, dataFileCacheWithMetrics));
                 }
                 dataManifestWithoutCache.add(manifestFile);
             }
@@ -282,6 +292,16 @@ public class StarRocksIcebergTableScan
         }
     }
 
+    private static void increaseManifestCacheMetrics(boolean hit) {
+        if (MetricRepo.hasInit) {
+            if (hit) {
+                MetricRepo.COUNTER_ICEBERG_MANIFEST_CACHE_HIT.increase(1L);
+            } else {
+                MetricRepo.COUNTER_ICEBERG_MANIFEST_CACHE_MISS.increase(1L);
+            }
+        }
+    }
+
     private CloseableIterable<FileScanTask> filterDataFiles(ManifestFile manifestFile) {
         CloseableIterable<DataFile> matchedDataFiles = CloseableIterable.withNoopClose(
                 dataFileCache.getIfPresent(manifestFile.path()));
@@ -348,7 +368,8 @@ public class StarRocksIcebergTableScan
     }
 
     public void refreshDataFileCache(List<ManifestFile> manifestFiles) {
-        manifestFiles.forEach(manifestFile -> dataFileCache.put(manifestFile.path(), Sets.newHashSet()));
+        manifestFiles.forEach(manifestFile -> dataFileCache.put(manifestFile.path(),
+                CachedManifestFiles.forManifest(manifestFile, dataFileCacheWithMetrics)));
         this.deleteFileIndex = DeleteFileIndex.builderFor(new ArrayList<>()).build();
 
         try (CloseableIterable<FileScanTask> fileScanTaskIterable = planFileTasks(manifestFiles, new ArrayList<>());
@@ -15,12 +15,16 @@
 
 package com.starrocks.connector;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.starrocks.common.FeConstants;
 import com.starrocks.connector.hive.HiveRemoteFileIO;
 import com.starrocks.connector.hive.MockedRemoteFileSystem;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -73,4 +77,41 @@ public class CachingRemoteFileIOTest {
         queryLevelCache.updateRemoteFiles(pathKey);
         queryLevelCache.invalidatePartition(pathKey);
     }
+
+    @Test
+    public void testWeightedCache() {
+        RemoteFileIO remoteFileIO = new RemoteFileIO() {
+            @Override
+            public Map<RemotePathKey, List<RemoteFileDesc>> getRemoteFiles(RemotePathKey pathKey) {
+                List<RemoteFileDesc> files = Lists.newArrayList();
+                for (int i = 0; i < 100; i++) {
+                    files.add(new RemoteFileDesc("00000" + i + "_0", "", 20, 0, ImmutableList.of()));
+                }
+                return ImmutableMap.of(pathKey, files);
+            }
+
+            @Override
+            public FileStatus[] getFileStatus(Path... files) {
+                return new FileStatus[0];
+            }
+        };
+        List<RemoteFileDesc> files = remoteFileIO.getRemoteFiles(RemotePathKey.of("hdfs://path", false)).values()
+                .iterator().next();
+        int weight = CachingRemoteFileIO.weigh(files);
+        Assert.assertTrue(weight > 100 * files.get(0).estimateSize());
+        Assert.assertEquals(CachingRemoteFileIO.PATH_BYTES, CachingRemoteFileIO.weigh(Lists.newArrayList()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        CachingRemoteFileIO cachingFileIO = CachingRemoteFileIO.createCatalogLevelInstance(
+                remoteFileIO, executor, 10, 10, 1000, 10L * weight);
+        List<RemotePathKey> pathKeys = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            RemotePathKey pathKey = RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/part=" + i, false);
+            Assert.assertEquals(100, cachingFileIO.getRemoteFiles(pathKey).get(pathKey).size());
+            pathKeys.add(pathKey);
+        }
+        // the cache is bounded by the bytes of the files, not by the 1000 paths.
+        Assert.assertTrue(cachingFileIO.getPresentRemoteFiles(pathKeys).size() <= 10);
+        executor.shutdown();
+    }
 }
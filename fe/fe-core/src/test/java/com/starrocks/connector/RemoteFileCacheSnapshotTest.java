@@ -0,0 +1,122 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.starrocks.connector.hive.HiveRemoteFileIO;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Map;
+
+public class RemoteFileCacheSnapshotTest {
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File snapshotFile;
+    private Map<RemotePathKey, List<RemoteFileDesc>> remoteFiles;
+
+    @Before
+    public void setUp() {
+        snapshotFile = new File(temp.getRoot(), "hive_catalog.remote_files");
+        HiveRemoteFileIO fileIO = new HiveRemoteFileIO(new Configuration());
+        RemoteFileBlockDesc blockDesc = fileIO.buildRemoteFileBlockDesc(0, 20,
+                fileIO.getReplicaHostIds(new String[] {"127.0.0.1:50010", "127.0.0.2:50010"}));
+        remoteFiles = Maps.newHashMap();
+        remoteFiles.put(RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/par=1", true), ImmutableList.of(
+                new RemoteFileDesc("000000_0", "", 20, 1000, ImmutableList.of(blockDesc)),
+                new RemoteFileDesc("sub/000001_0", "", 0, 2000, ImmutableList.of())));
+        remoteFiles.put(RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/par=2", true), ImmutableList.of());
+        remoteFiles.put(RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/par=3", true), ImmutableList.of(
+                new RemoteFileDesc("000000_0", "", 20, 1000, ImmutableList.of()).setFullPath("hdfs://full/path")));
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        RemoteFileCacheSnapshot.save(snapshotFile, remoteFiles);
+
+        // the block hosts are mapped to the ids of the file io loading the snapshot.
+        HiveRemoteFileIO fileIO = new HiveRemoteFileIO(new Configuration());
+        fileIO.getHostId("127.0.0.9:50010");
+        Map<RemotePathKey, List<RemoteFileDesc>> loaded = RemoteFileCacheSnapshot.load(snapshotFile, 3600, fileIO);
+        Assert.assertEquals(remoteFiles.keySet(), loaded.keySet());
+
+        List<RemoteFileDesc> files = loaded.get(RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/par=1", true));
+        Assert.assertEquals(2, files.size());
+        RemoteFileDesc file = files.get(0);
+        Assert.assertEquals("000000_0", file.getFileName());
+        Assert.assertEquals("", file.getCompression());
+        Assert.assertEquals(20, file.getLength());
+        Assert.assertEquals(1000, file.getModificationTime());
+        Assert.assertNull(file.getFullPath());
+        RemoteFileBlockDesc blockDesc = file.getBlockDescs().get(0);
+        Assert.assertEquals(20, blockDesc.getLength());
+        Assert.assertArrayEquals(new long[] {1, 2}, blockDesc.getReplicaHostIds());
+        Assert.assertEquals("127.0.0.2", blockDesc.getDataNodeIp(2));
+        Assert.assertEquals("sub/000001_0", files.get(1).getFileName());
+        Assert.assertTrue(files.get(1).getBlockDescs().isEmpty());
+
+        Assert.assertTrue(loaded.get(RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/par=2", true)).isEmpty());
+        Assert.assertEquals("hdfs://full/path",
+                loaded.get(RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl/par=3", true)).get(0).getFullPath());
+    }
+
+    @Test
+    public void testIgnoreUnusableSnapshot() throws IOException, InterruptedException {
+        HiveRemoteFileIO fileIO = new HiveRemoteFileIO(new Configuration());
+        Assert.assertTrue(RemoteFileCacheSnapshot.load(snapshotFile, 3600, fileIO).isEmpty());
+
+        RemoteFileCacheSnapshot.save(snapshotFile, remoteFiles);
+        Assert.assertEquals(3, RemoteFileCacheSnapshot.load(snapshotFile, -1, fileIO).size());
+        // written longer ago than the max age.
+        Thread.sleep(10);
+        Assert.assertTrue(RemoteFileCacheSnapshot.load(snapshotFile, 0, fileIO).isEmpty());
+
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "rw")) {
+            file.seek(20);
+            int value = file.read();
+            file.seek(20);
+            file.write(value ^ 0xff);
+        }
+        Assert.assertTrue(RemoteFileCacheSnapshot.load(snapshotFile, -1, fileIO).isEmpty());
+
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "rw")) {
+            file.setLength(10);
+        }
+        Assert.assertTrue(RemoteFileCacheSnapshot.load(snapshotFile, -1, fileIO).isEmpty());
+    }
+
+    @Test
+    public void testDelete() throws IOException {
+        Assert.assertFalse(RemoteFileCacheSnapshot.delete(snapshotFile));
+
+        RemoteFileCacheSnapshot.save(snapshotFile, remoteFiles);
+        // the partial file of a save which didn't finish.
+        File tmpFile = new File(snapshotFile.getPath() + ".tmp");
+        Assert.assertTrue(tmpFile.createNewFile());
+        Assert.assertTrue(RemoteFileCacheSnapshot.delete(snapshotFile));
+        Assert.assertFalse(snapshotFile.exists());
+        Assert.assertFalse(tmpFile.exists());
+    }
+}
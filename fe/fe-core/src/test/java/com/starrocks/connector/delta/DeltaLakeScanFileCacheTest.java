@@ -0,0 +1,118 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.delta;
+
+import com.starrocks.common.Pair;
+import io.delta.kernel.utils.FileStatus;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class DeltaLakeScanFileCacheTest {
+    private static final String ADD_FORMAT = "{\"add\":{\"path\":\"%s\",\"partitionValues\":{\"col_date\":\"2024-01-06\"}," +
+            "\"size\":724,\"modificationTime\":1721830614469,\"dataChange\":true," +
+            "\"stats\":\"{\\\"numRecords\\\":%d}\"}}";
+    private static final String REMOVE_FORMAT = "{\"remove\":{\"path\":\"%s\",\"deletionTimestamp\":1721830614469," +
+            "\"dataChange\":true}}";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private String tableLocation;
+    private DeltaLakeScanFileCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        tableLocation = temp.getRoot().getAbsolutePath();
+        new File(temp.getRoot(), "_delta_log").mkdirs();
+        cache = new DeltaLakeScanFileCache(new Configuration(), 3600, 1024 * 1024);
+    }
+
+    private void writeCommit(long version, String... actions) throws IOException {
+        File commitFile = new File(temp.getRoot(), String.format("_delta_log/%020d.json", version));
+        Files.write(commitFile.toPath(), String.join("\n", actions).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> plannedFiles(String... paths) {
+        LinkedHashMap<String, Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files = new LinkedHashMap<>();
+        for (String path : paths) {
+            FileStatus fileStatus = FileStatus.of(tableLocation + "/" + path, 724, 1721830614469L);
+            files.put(path, new Pair<>(new FileScanTask(fileStatus, 1, new HashMap<>()), null));
+        }
+        return files;
+    }
+
+    private static List<String> paths(List<Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files) {
+        return files.stream().map(pair -> pair.first.getFileStatus().getPath()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGetCachedVersion() {
+        Assert.assertNull(cache.get(tableLocation, "id", 1, null, false, 10));
+        cache.put(tableLocation, "id", 1, null, false, plannedFiles("a.parquet", "b.parquet"));
+
+        List<Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files = cache.get(tableLocation, "id", 1, null, false, 10);
+        Assert.assertEquals(2, files.size());
+        Assert.assertEquals(2, cache.fileCount());
+        // an older version, a recreated table or another predicate are not served from the cache.
+        Assert.assertNull(cache.get(tableLocation, "id", 0, null, false, 10));
+        Assert.assertNull(cache.get(tableLocation, "other", 1, null, false, 10));
+        Assert.assertNull(cache.get(tableLocation, "id", 1, null, true, 10));
+
+        cache.invalidateAll();
+        Assert.assertNull(cache.get(tableLocation, "id", 1, null, false, 10));
+    }
+
+    @Test
+    public void testAdvanceByCommits() throws IOException {
+        cache.put(tableLocation, "id", 1, null, false, plannedFiles("a.parquet", "b.parquet"));
+        writeCommit(2, String.format(ADD_FORMAT, "col_date=2024-01-06/c.parquet", 5));
+        writeCommit(3, String.format(REMOVE_FORMAT, "a.parquet"), String.format(ADD_FORMAT, "d.parquet", 7));
+
+        List<Pair<FileScanTask, DeltaLakeAddFileStatsSerDe>> files = cache.get(tableLocation, "id", 3, null, false, 10);
+        Assert.assertEquals(List.of(tableLocation + "/b.parquet", tableLocation + "/col_date=2024-01-06/c.parquet",
+                tableLocation + "/d.parquet"), paths(files));
+        Assert.assertEquals(5, files.get(1).first.getRecords());
+        Assert.assertEquals("2024-01-06", files.get(1).first.getPartitionValues().get("col_date"));
+
+        // the derived version replaces the cached one.
+        Assert.assertNull(cache.get(tableLocation, "id", 1, null, false, 10));
+        Assert.assertEquals(3, cache.get(tableLocation, "id", 3, null, false, 10).size());
+    }
+
+    @Test
+    public void testAdvanceFallback() throws IOException {
+        cache.put(tableLocation, "id", 1, null, false, plannedFiles("a.parquet"));
+        writeCommit(2, "{\"metaData\":{\"id\":\"id\",\"partitionColumns\":[]}}",
+                String.format(ADD_FORMAT, "b.parquet", 1));
+        Assert.assertNull(cache.get(tableLocation, "id", 2, null, false, 10));
+
+        // the commit file is missing
+        Assert.assertNull(cache.get(tableLocation, "id", 5, null, false, 10));
+        Assert.assertEquals(1, cache.get(tableLocation, "id", 1, null, false, 10).size());
+    }
+}
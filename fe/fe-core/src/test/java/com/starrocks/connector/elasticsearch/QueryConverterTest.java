@@ -145,7 +145,7 @@ public class QueryConverterTest {
         BinaryPredicate bp2 = new BinaryPredicate(BinaryType.GT, col2SlotRef, intLiteral2);
         CompoundPredicate andPredicate =
                 new CompoundPredicate(CompoundPredicate.Operator.AND, bp1, bp2);
-        Assert.assertEquals("{\"bool\":{\"must\":[{\"term\":{\"col1\":100}},{\"range\":{\"col2\":{\"gt\":200}}}]}}",
+        Assert.assertEquals("{\"bool\":{\"filter\":[{\"term\":{\"col1\":100}},{\"range\":{\"col2\":{\"gt\":200}}}]}}",
                 queryConverter.convert(andPredicate).toString());
 
         CompoundPredicate orPredicate =
@@ -280,6 +280,56 @@ public class CachingHiveMetastoreTest {
         Assert.assertEquals("100", partition.getParameters().get(TOTAL_SIZE));
     }
 
+    @Test
+    public void testWeightedPartitionCache() {
+        List<String> partitionNames = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            partitionNames.add("part1=" + i + "/part2=" + i);
+        }
+        Map<String, Partition> partitions = metastore.getPartitionsByNames("db1", "table1", partitionNames);
+        Partition partition1 = partitions.get("part1=1/part2=1");
+        Partition partition2 = partitions.get("part1=2/part2=2");
+        // the parent path and the parameters shared by the partitions are kept once.
+        Assert.assertEquals("hdfs://127.0.0.1:10000/hive.db/hive_tbl/part1=1/part2=1", partition1.getFullPath());
+        Assert.assertSame(partition1.getParameters().keySet().iterator().next(),
+                partition2.getParameters().keySet().iterator().next());
+        Assert.assertTrue(partition1.estimateSize() > 0);
+        // partitions are compared by the parts of their paths
+        Partition.Builder builder = Partition.builder().setParams(partition1.getParameters())
+                .setInputFormat(partition1.getFileFormat()).setTextFileFormatDesc(partition1.getTextFileFormatDesc())
+                .setSplittable(partition1.isSplittable());
+        Partition copy = builder.setFullPath(partition1.getFullPath()).build();
+        Assert.assertEquals(partition1, copy);
+        Assert.assertEquals(partition1.hashCode(), copy.hashCode());
+        Assert.assertNotEquals(partition1, builder.setFullPath(partition2.getFullPath()).build());
+
+        long maxBytes = partition1.estimateSize() * 20;
+        CachingHiveMetastore cachingHiveMetastore = CachingHiveMetastore.createCatalogLevelInstance(
+                metastore, executor, expireAfterWriteSec, refreshAfterWriteSec, 1000, maxBytes, false);
+        Assert.assertEquals(100, cachingHiveMetastore.getPartitionsByNames("db1", "table1", partitionNames).size());
+        Assert.assertTrue(cachingHiveMetastore.getAllCachedPartitions().size() <= 20);
+    }
+
+    @Test
+    public void testAddPartitionByEvent() {
+        CachingHiveMetastore cachingHiveMetastore = new CachingHiveMetastore(
+                metastore, executor, expireAfterWriteSec, refreshAfterWriteSec, 1000, false);
+        cachingHiveMetastore.getPartitionKeysByValue("db1", "tbl1", HivePartitionValue.ALL_PARTITION_VALUES);
+        HivePartitionValue allPartitionValue = HivePartitionValue.of(DatabaseTableName.of("db1", "tbl1"),
+                HivePartitionValue.ALL_PARTITION_VALUES);
+        Assert.assertNotNull(cachingHiveMetastore.partitionKeysCache.getIfPresent(allPartitionValue));
+
+        HivePartitionName partitionName = HivePartitionName.of("db1", "tbl1", "col1=2");
+        Partition partition = Partition.builder().setParams(new HashMap<>()).setInputFormat(ORC)
+                .setFullPath("hdfs://127.0.0.1:10000/hive.db/tbl1/col1=2").build();
+        cachingHiveMetastore.addPartitionByEvent(partitionName, partition);
+
+        // the added partition is cached without a metastore call, and the partition names are loaded again.
+        Assert.assertTrue(cachingHiveMetastore.isPartitionPresent(partitionName));
+        Assert.assertEquals(partition, cachingHiveMetastore.getPartition("db1", "tbl1", Lists.newArrayList("2")));
+        Assert.assertNull(cachingHiveMetastore.partitionKeysCache.getIfPresent(allPartitionValue));
+    }
+
     @Test
     public void testGetPartitionByNames() {
         CachingHiveMetastore cachingHiveMetastore = new CachingHiveMetastore(
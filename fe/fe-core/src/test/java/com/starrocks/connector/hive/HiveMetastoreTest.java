@@ -17,11 +17,13 @@ package com.starrocks.connector.hive;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.starrocks.catalog.Column;
 import com.starrocks.catalog.Database;
 import com.starrocks.catalog.HiveTable;
 import com.starrocks.catalog.ScalarType;
 import com.starrocks.catalog.Type;
+import com.starrocks.common.Config;
 import com.starrocks.connector.DatabaseTableName;
 import com.starrocks.connector.MetastoreType;
 import com.starrocks.connector.PartitionUtil;
@@ -176,6 +178,28 @@ public class HiveMetastoreTest {
         Assert.assertEquals("hdfs://127.0.0.1:10000/hive.db/hive_tbl/part1=3/part2=4", partition2.getFullPath());
     }
 
+    @Test
+    public void testGetPartitionByNamesInParallel() {
+        HiveMetaClient client = new MockedHiveMetaClient();
+        HiveMetastore metastore = new HiveMetastore(client, "hive_catalog", MetastoreType.HMS);
+        List<String> partitionNames = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            partitionNames.add("part1=" + i + "/part2=" + i);
+        }
+
+        int maxPartitionsPerRpc = Config.max_hive_partitions_per_rpc;
+        Config.max_hive_partitions_per_rpc = 3;
+        try {
+            Map<String, com.starrocks.connector.hive.Partition> partitions =
+                    metastore.getPartitionsByNames("db1", "table1", partitionNames);
+            Assert.assertEquals(Sets.newHashSet(partitionNames), partitions.keySet());
+            Assert.assertEquals("hdfs://127.0.0.1:10000/hive.db/hive_tbl/part1=9/part2=9",
+                    partitions.get("part1=9/part2=9").getFullPath());
+        } finally {
+            Config.max_hive_partitions_per_rpc = maxPartitionsPerRpc;
+        }
+    }
+
     @Test
     public void testGetTableStatistics() {
         HiveMetaClient client = new MockedHiveMetaClient();
@@ -19,6 +19,7 @@ import com.starrocks.common.FeConstants;
 import com.starrocks.connector.RemoteFileBlockDesc;
 import com.starrocks.connector.RemoteFileDesc;
 import com.starrocks.connector.RemotePathKey;
+import com.starrocks.connector.exception.StarRocksConnectorException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.junit.Assert;
@@ -164,4 +165,22 @@ public class HiveRemoteFileIOTest {
         Assert.assertEquals(1, fileDescs.size());
     }
 
+    @Test
+    public void testInterruptedWhileWaitingForPermit() {
+        FileSystem fs = new MockedRemoteFileSystem(HDFS_HIVE_TABLE);
+        HiveRemoteFileIO fileIO = new HiveRemoteFileIO(new Configuration());
+        fileIO.setFileSystem(fs);
+        FeConstants.runningUnitTest = true;
+        RemotePathKey pathKey = RemotePathKey.of("hdfs://127.0.0.1:10000/hive.db/hive_tbl", false);
+        Thread.currentThread().interrupt();
+        try {
+            fileIO.getRemoteFiles(pathKey);
+            Assert.fail("the listing should be interrupted");
+        } catch (StarRocksConnectorException e) {
+            Assert.assertTrue(e.getCause() instanceof InterruptedException);
+        } finally {
+            // the interrupt is kept for the caller.
+            Assert.assertTrue(Thread.interrupted());
+        }
+    }
 }
@@ -0,0 +1,144 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.hive.events;
+
+import com.google.common.collect.Lists;
+import com.starrocks.common.Config;
+import com.starrocks.connector.hive.HiveCacheUpdateProcessor;
+import com.starrocks.connector.hive.HivePartitionName;
+import mockit.Mocked;
+import mockit.Verifications;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class MetastoreEventsProcessorTest {
+    private final boolean parallelProcess = Config.enable_hms_parallel_process_evens;
+    private final List<Long> appliedEvents = Collections.synchronizedList(Lists.newArrayList());
+
+    @After
+    public void tearDown() {
+        Config.enable_hms_parallel_process_evens = parallelProcess;
+    }
+
+    // an event on a partition of db.tbl, or on the table if the partition value is null
+    private class TestEvent extends MetastoreTableEvent {
+        TestEvent(long eventId, MetastoreEventType eventType, String tblName, String partitionValue) {
+            super(createNotificationEvent(eventId, eventType, tblName), null, "hive_catalog");
+            if (partitionValue != null) {
+                hivePartitionNames.set(0, HivePartitionName.of("db", tblName, Lists.newArrayList(partitionValue)));
+            }
+        }
+
+        @Override
+        protected boolean canBeBatched(MetastoreEvent event) {
+            return true;
+        }
+
+        @Override
+        protected MetastoreEvent addToBatchEvents(MetastoreEvent event) {
+            BatchEvent<MetastoreTableEvent> batchEvent = new BatchEvent<>(this);
+            batchEvent.addToBatchEvents(event);
+            return batchEvent;
+        }
+
+        @Override
+        protected boolean existInCache() {
+            return true;
+        }
+
+        @Override
+        protected boolean isSupported() {
+            return true;
+        }
+
+        @Override
+        protected void process() {
+            appliedEvents.add(getEventId());
+        }
+    }
+
+    private static NotificationEvent createNotificationEvent(long eventId, MetastoreEventType eventType,
+                                                             String tblName) {
+        NotificationEvent event = new NotificationEvent(eventId, 0, eventType.toString(), "");
+        event.setDbName("db");
+        event.setTableName(tblName);
+        return event;
+    }
+
+    private TestEvent partitionEvent(long eventId, String partitionValue) {
+        return new TestEvent(eventId, MetastoreEventType.ALTER_PARTITION, "tbl", partitionValue);
+    }
+
+    private TestEvent tableEvent(long eventId, MetastoreEventType eventType, String tblName) {
+        return new TestEvent(eventId, eventType, tblName, null);
+    }
+
+    private int applyEvents(List<MetastoreEvent> events, HiveCacheUpdateProcessor cacheProcessor) {
+        List<MetastoreEvent> batchEvents = new MetastoreEventFactory(Lists.newArrayList()).createBatchEvents(events);
+        return new MetastoreEventsProcessor().applyEvents(batchEvents, cacheProcessor);
+    }
+
+    @Test
+    public void testApplyEventsInOrder(@Mocked HiveCacheUpdateProcessor cacheProcessor) {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Config.enable_hms_parallel_process_evens = parallel;
+            appliedEvents.clear();
+            // the event 2 on the table is applied between the events 1 and 3 on partition p1,
+            // the events 4 and 5 on partition p2 are batched, and only the last one is applied.
+            int numAppliedEvents = applyEvents(Lists.newArrayList(
+                    partitionEvent(1, "p1"),
+                    tableEvent(2, MetastoreEventType.ALTER_TABLE, "tbl"),
+                    partitionEvent(3, "p1"),
+                    partitionEvent(4, "p2"),
+                    partitionEvent(5, "p2")), cacheProcessor);
+            Assert.assertEquals(Lists.newArrayList(1L, 2L, 3L, 5L), appliedEvents);
+            Assert.assertEquals(5, numAppliedEvents);
+        }
+
+        new Verifications() {
+            {
+                cacheProcessor.setLastSyncedEventId(5);
+                times = 2;
+            }
+        };
+    }
+
+    @Test
+    public void testLastSyncedEventIdAfterDropTable(@Mocked HiveCacheUpdateProcessor cacheProcessor) {
+        Config.enable_hms_parallel_process_evens = false;
+        // the batching stops at the dropped table, the event 3 after it is not applied and is pulled again.
+        // the event 1 on the dropped table is skipped, neither of them is counted as applied.
+        int numAppliedEvents = applyEvents(Lists.newArrayList(
+                partitionEvent(1, "p1"),
+                tableEvent(2, MetastoreEventType.DROP_TABLE, "tbl"),
+                tableEvent(3, MetastoreEventType.ALTER_TABLE, "tbl2")), cacheProcessor);
+        Assert.assertEquals(Lists.newArrayList(2L), appliedEvents);
+        Assert.assertEquals(1, numAppliedEvents);
+
+        new Verifications() {
+            {
+                cacheProcessor.setLastSyncedEventId(2);
+                times = 1;
+                cacheProcessor.setLastSyncedEventId(3);
+                times = 0;
+            }
+        };
+    }
+}
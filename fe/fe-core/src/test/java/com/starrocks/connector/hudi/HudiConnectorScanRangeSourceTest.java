@@ -0,0 +1,114 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.hudi;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.starrocks.connector.RemoteFileInfo;
+import com.starrocks.connector.hive.HiveConnectorScanRangeSource;
+import com.starrocks.connector.hive.RemoteFileInputFormat;
+import com.starrocks.qe.ConnectContext;
+import com.starrocks.thrift.THdfsScanRange;
+import com.starrocks.thrift.TScanRangeLocations;
+import mockit.Deencapsulation;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+public class HudiConnectorScanRangeSourceTest {
+    private static final long MB = 1024L * 1024L;
+
+    @After
+    public void tearDown() {
+        ConnectContext.remove();
+    }
+
+    private static HudiRemoteFileDesc createFileDesc(String fileName, long length, boolean splittable) {
+        HudiRemoteFileDesc fileDesc = HudiRemoteFileDesc.createHudiRemoteFileDesc(fileName, length,
+                ImmutableList.of(), ImmutableList.of(), null);
+        fileDesc.setSplittable(splittable);
+        return fileDesc;
+    }
+
+    // the offset and length of the ranges of the file, ordered by offset
+    private static List<long[]> getRanges(HudiConnectorScanRangeSource source, RemoteFileInputFormat format,
+                                          HudiRemoteFileDesc fileDesc) {
+        RemoteFileInfo remoteFileInfo = new RemoteFileInfo(format, Lists.newArrayList(fileDesc), "hdfs://tbl/p=1");
+        remoteFileInfo.setAttachment(new HiveConnectorScanRangeSource.PartitionAttachment());
+        List<long[]> ranges = Lists.newArrayList();
+        Iterator<TScanRangeLocations> iterator = source.createScanRangeIterator(remoteFileInfo);
+        while (iterator.hasNext()) {
+            THdfsScanRange scanRange = iterator.next().getScan_range().getHdfs_scan_range();
+            Assert.assertEquals(fileDesc.getLength(), scanRange.getFile_length());
+            ranges.add(new long[] {scanRange.getOffset(), scanRange.getLength()});
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        return ranges;
+    }
+
+    @Test
+    public void testSplitBaseFiles() {
+        HudiConnectorScanRangeSource source = new HudiConnectorScanRangeSource(null, null, null);
+
+        // BE splits the parquet files below connector_huge_file_size itself.
+        List<long[]> ranges = getRanges(source, RemoteFileInputFormat.PARQUET, createFileDesc("a.parquet", 200 * MB, true));
+        Assert.assertEquals(1, ranges.size());
+        Assert.assertArrayEquals(new long[] {0, 200 * MB}, ranges.get(0));
+
+        // larger files are split by connector_huge_file_size, the last range takes the rest.
+        ranges = getRanges(source, RemoteFileInputFormat.PARQUET, createFileDesc("b.parquet", 1200 * MB, true));
+        Assert.assertEquals(2, ranges.size());
+        Assert.assertArrayEquals(new long[] {0, 512 * MB}, ranges.get(0));
+        Assert.assertArrayEquals(new long[] {512 * MB, 688 * MB}, ranges.get(1));
+
+        // files which can't be split are read as a whole.
+        ranges = getRanges(source, RemoteFileInputFormat.PARQUET, createFileDesc("c.parquet", 1200 * MB, false));
+        Assert.assertEquals(1, ranges.size());
+
+        // without split io tasks, files are split by connector_max_split_size.
+        ConnectContext context = new ConnectContext();
+        context.getSessionVariable().setEnableConnectorSplitIoTasks(false);
+        context.setThreadLocalInfo();
+        ranges = getRanges(source, RemoteFileInputFormat.PARQUET, createFileDesc("a.parquet", 200 * MB, true));
+        Assert.assertEquals(3, ranges.size());
+        Assert.assertArrayEquals(new long[] {0, 64 * MB}, ranges.get(0));
+        Assert.assertArrayEquals(new long[] {64 * MB, 64 * MB}, ranges.get(1));
+        Assert.assertArrayEquals(new long[] {128 * MB, 72 * MB}, ranges.get(2));
+    }
+
+    @Test
+    public void testJNIReaderFilesAreNotSplit() {
+        HudiConnectorScanRangeSource source = new HudiConnectorScanRangeSource(null, null, null);
+        Deencapsulation.setField(source, "forceJNIReader", true);
+        ConnectContext context = new ConnectContext();
+        context.getSessionVariable().setEnableConnectorSplitIoTasks(false);
+        context.setThreadLocalInfo();
+
+        RemoteFileInfo remoteFileInfo = new RemoteFileInfo(RemoteFileInputFormat.PARQUET,
+                Lists.newArrayList(createFileDesc("a.parquet", 200 * MB, true)), "hdfs://tbl/p=1");
+        remoteFileInfo.setAttachment(new HiveConnectorScanRangeSource.PartitionAttachment());
+        Iterator<TScanRangeLocations> iterator = source.createScanRangeIterator(remoteFileInfo);
+        Assert.assertTrue(iterator.hasNext());
+        THdfsScanRange scanRange = iterator.next().getScan_range().getHdfs_scan_range();
+        Assert.assertTrue(scanRange.isUse_hudi_jni_reader());
+        Assert.assertEquals(0, scanRange.getOffset());
+        Assert.assertEquals(200 * MB, scanRange.getLength());
+        Assert.assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.hudi;
+
+import mockit.Expectations;
+import mockit.Mocked;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
+import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
+import org.apache.hudi.common.util.Option;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HudiRemoteFileIOTest {
+    @Test
+    public void testCacheFileSystemViewPerInstant(@Mocked HoodieTimeline timeline,
+                                                  @Mocked HoodieInstant instant,
+                                                  @Mocked HoodieTableFileSystemView fsView1,
+                                                  @Mocked HoodieTableFileSystemView fsView2,
+                                                  @Mocked HoodieTableFileSystemView fsView3) {
+        new Expectations() {
+            {
+                timeline.lastInstant();
+                result = Option.of(instant);
+                instant.getTimestamp();
+                returns("20240101000000", "20240101000000", "20240102000000", "20240102000000");
+                timeline.countInstants();
+                returns(1, 1, 2, 1);
+            }
+        };
+        HudiRemoteFileIO fileIO = new HudiRemoteFileIO(new Configuration());
+        String location = "hdfs://127.0.0.1:10000/hudi_table";
+        Assert.assertSame(fsView1, fileIO.getFileSystemView(location, timeline, () -> fsView1));
+        // the same instant is served from the cache.
+        Assert.assertSame(fsView1, fileIO.getFileSystemView(location, timeline, () -> fsView2));
+        // a new instant is committed.
+        Assert.assertSame(fsView2, fileIO.getFileSystemView(location, timeline, () -> fsView2));
+        // an earlier instant is rolled back.
+        Assert.assertSame(fsView3, fileIO.getFileSystemView(location, timeline, () -> fsView3));
+    }
+}
@@ -0,0 +1,88 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.connector.iceberg;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Sets;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.expressions.Expressions;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class CachedManifestFilesTest extends TableTestBase {
+
+    @Test
+    public void testWeigh() {
+        mockedNativeTableA.newAppend().appendFile(FILE_A).appendFile(FILE_A_1).commit();
+        ManifestFile manifest = mockedNativeTableA.currentSnapshot().dataManifests(mockedNativeTableA.io()).get(0);
+
+        CachedManifestFiles<DataFile> files = CachedManifestFiles.forManifest(manifest, false);
+        Assert.assertEquals(2 * CachedManifestFiles.FILE_BYTES, CachedManifestFiles.weigh(files));
+        Assert.assertEquals(2 * CachedManifestFiles.FILE_WITH_METRICS_BYTES,
+                CachedManifestFiles.weigh(CachedManifestFiles.forManifest(manifest, true)));
+        // the weight is fixed when the entry is put, it does not change while the set is filled.
+        files.add(FILE_A);
+        files.add(FILE_A);
+        Assert.assertEquals(1, files.size());
+        Assert.assertTrue(files.contains(FILE_A));
+        Assert.assertEquals(2 * CachedManifestFiles.FILE_BYTES, CachedManifestFiles.weigh(files));
+
+        Assert.assertEquals(CachedManifestFiles.FILE_BYTES, CachedManifestFiles.weigh(Sets.newHashSet()));
+    }
+
+    @Test
+    public void testWeightedEviction() {
+        Cache<String, Set<DataFile>> cache = CacheBuilder.newBuilder()
+                .maximumWeight(10 * CachedManifestFiles.FILE_BYTES)
+                .weigher((String path, Set<DataFile> files) -> CachedManifestFiles.weigh(files))
+                .build();
+        mockedNativeTableA.newAppend().appendFile(FILE_A).commit();
+        ManifestFile manifest = mockedNativeTableA.currentSnapshot().dataManifests(mockedNativeTableA.io()).get(0);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("manifest-" + i, CachedManifestFiles.forManifest(manifest, true));
+        }
+        Assert.assertTrue(cache.size() <= 10 * CachedManifestFiles.FILE_BYTES / CachedManifestFiles.FILE_WITH_METRICS_BYTES);
+    }
+
+    @Test
+    public void testFilterManifestsInParallel() {
+        mockedNativeTableA.newAppend().appendFile(FILE_A).commit();
+        ManifestFile manifest = mockedNativeTableA.currentSnapshot().dataManifests(mockedNativeTableA.io()).get(0);
+        List<ManifestFile> manifests = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            manifests.add(manifest);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<ManifestFile> matching = IcebergApiConverter.filterManifests(
+                    manifests, mockedNativeTableA, Expressions.alwaysTrue(), executor);
+            Assert.assertEquals(manifests, matching);
+            Assert.assertEquals(IcebergApiConverter.filterManifests(manifests, mockedNativeTableA, Expressions.alwaysTrue()),
+                    matching);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.starrocks.analysis.BinaryType;
 import com.starrocks.analysis.ColumnPosition;
 import com.starrocks.analysis.NullLiteral;
@@ -1097,6 +1098,44 @@ public class IcebergMetadataTest extends TableTestBase {
         Assert.assertEquals(1, partitions.size());
     }
 
+    @Test
+    public void testGetPartitionsIncrementally() {
+        mockedNativeTableB.newAppend().appendFile(FILE_B_1).commit();
+        mockedNativeTableB.refresh();
+
+        IcebergHiveCatalog icebergHiveCatalog = new IcebergHiveCatalog(CATALOG_NAME, new Configuration(), DEFAULT_CONFIG);
+        CachingIcebergCatalog cachingIcebergCatalog = new CachingIcebergCatalog(
+                CATALOG_NAME, icebergHiveCatalog, DEFAULT_CATALOG_PROPERTIES, Executors.newSingleThreadExecutor());
+        IcebergMetadata metadata = new IcebergMetadata(CATALOG_NAME, HDFS_ENVIRONMENT, cachingIcebergCatalog,
+                Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor(), null);
+        IcebergTable icebergTable = new IcebergTable(1, "srTableName", CATALOG_NAME,
+                "resource_name", "db",
+                "table", "", Lists.newArrayList(), mockedNativeTableB, Maps.newHashMap());
+
+        List<PartitionInfo> partitions = metadata.getPartitions(icebergTable, ImmutableList.of("k2=2"));
+        Assert.assertEquals(1, partitions.size());
+        IcebergSnapshotPartitions cached = cachingIcebergCatalog.getSnapshotPartitions("db", "table", mockedNativeTableB);
+        Assert.assertEquals(mockedNativeTableB.currentSnapshot().snapshotId(), cached.getSnapshotId());
+
+        // an append is applied on the cached partitions.
+        mockedNativeTableB.newAppend().appendFile(FILE_B_2).commit();
+        mockedNativeTableB.refresh();
+        Assert.assertTrue(cached.advance(mockedNativeTableB).isPresent());
+        partitions = metadata.getPartitions(icebergTable, ImmutableList.of("k2=2", "k2=3"));
+        Assert.assertEquals(2, partitions.size());
+        Assert.assertEquals(partitions.get(0).getModifiedTime(), cached.getLastUpdatedTimes().get("k2=2").longValue());
+        Assert.assertEquals(IcebergSnapshotPartitions.load(mockedNativeTableB).getLastUpdatedTimes(),
+                cachingIcebergCatalog.getSnapshotPartitions("db", "table", mockedNativeTableB).getLastUpdatedTimes());
+
+        // removing files falls back to read the partitions table.
+        cached = cachingIcebergCatalog.getSnapshotPartitions("db", "table", mockedNativeTableB);
+        mockedNativeTableB.newDelete().deleteFile(FILE_B_1).commit();
+        mockedNativeTableB.refresh();
+        Assert.assertFalse(cached.advance(mockedNativeTableB).isPresent());
+        Assert.assertEquals(Sets.newHashSet("k2=3"), cachingIcebergCatalog.getSnapshotPartitions(
+                "db", "table", mockedNativeTableB).getLastUpdatedTimes().keySet());
+    }
+
     @Test
     public void testGetPartitionsWithExpireSnapshot() {
         mockedNativeTableB.newAppend().appendFile(FILE_B_1).commit();
@@ -23,6 +23,9 @@ import com.starrocks.catalog.JDBCTable;
 import com.starrocks.catalog.PrimitiveType;
 import com.starrocks.catalog.ScalarType;
 import com.starrocks.catalog.Table;
+import com.starrocks.common.Config;
+import com.starrocks.connector.GetRemoteFilesParams;
+import com.starrocks.connector.RemoteFileInfo;
 import com.zaxxer.hikari.HikariDataSource;
 import mockit.Expectations;
 import mockit.Mocked;
@@ -33,6 +36,7 @@ import org.junit.Test;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -198,6 +202,100 @@ public class JDBCMetadataTest {
         }
     }
 
+    @Test
+    public void testGetSplitKey(@Mocked Statement statement) throws SQLException {
+        MockResultSet primaryKeyResult = new MockResultSet("primary keys");
+        primaryKeyResult.addColumn("COLUMN_NAME", Arrays.asList("a"));
+        MockResultSet keyRangeResult = new MockResultSet("key range");
+        keyRangeResult.addColumn("MIN", Arrays.asList(1L));
+        keyRangeResult.addColumn("MAX", Arrays.asList(1000L));
+        new Expectations() {
+            {
+                preparedStatement.executeQuery();
+                result = null;
+                minTimes = 0;
+
+                connection.getMetaData().getPrimaryKeys("test", null, "tbl1");
+                result = primaryKeyResult;
+                minTimes = 0;
+
+                connection.createStatement();
+                result = statement;
+                minTimes = 0;
+
+                statement.executeQuery("SELECT MIN(`a`), MAX(`a`) FROM `test`.`tbl1`");
+                result = keyRangeResult;
+                minTimes = 0;
+            }
+        };
+        JDBCMetadata jdbcMetadata = new JDBCMetadata(properties, "catalog", dataSource);
+        Table table = jdbcMetadata.getTable("test", "tbl1");
+        List<RemoteFileInfo> fileInfos =
+                jdbcMetadata.getRemoteFiles(table, GetRemoteFilesParams.newBuilder().build());
+        Assert.assertEquals(1, fileInfos.size());
+        JDBCRemoteFileDesc splitKey = (JDBCRemoteFileDesc) fileInfos.get(0).getFiles().get(0);
+        Assert.assertEquals("a", splitKey.getSplitColumn());
+        Assert.assertEquals(1L, splitKey.getLowerBound());
+        Assert.assertEquals(1000L, splitKey.getUpperBound());
+
+        // a table without an integer primary key is not split
+        MockResultSet decimalKeyResult = new MockResultSet("primary keys");
+        decimalKeyResult.addColumn("COLUMN_NAME", Arrays.asList("b"));
+        new Expectations() {
+            {
+                connection.getMetaData().getPrimaryKeys("test", null, "tbl1");
+                result = decimalKeyResult;
+                minTimes = 0;
+            }
+        };
+        jdbcMetadata = new JDBCMetadata(properties, "catalog", dataSource);
+        Assert.assertTrue(jdbcMetadata.getRemoteFiles(table, GetRemoteFilesParams.newBuilder().build()).isEmpty());
+    }
+
+    @Test
+    public void testSplitKeyFailureNotCached(@Mocked Statement statement) throws SQLException {
+        MockResultSet primaryKeyResult = new MockResultSet("primary keys");
+        primaryKeyResult.addColumn("COLUMN_NAME", Arrays.asList("a"));
+        MockResultSet retriedPrimaryKeyResult = new MockResultSet("primary keys");
+        retriedPrimaryKeyResult.addColumn("COLUMN_NAME", Arrays.asList("a"));
+        MockResultSet keyRangeResult = new MockResultSet("key range");
+        keyRangeResult.addColumn("MIN", Arrays.asList(1L));
+        keyRangeResult.addColumn("MAX", Arrays.asList(1000L));
+        new Expectations() {
+            {
+                preparedStatement.executeQuery();
+                result = null;
+                minTimes = 0;
+
+                connection.getMetaData().getPrimaryKeys("test", null, "tbl1");
+                returns(primaryKeyResult, retriedPrimaryKeyResult);
+
+                connection.createStatement();
+                result = statement;
+                minTimes = 0;
+
+                statement.setQueryTimeout(Config.jdbc_split_key_query_timeout_sec);
+                times = 2;
+
+                statement.executeQuery("SELECT MIN(`a`), MAX(`a`) FROM `test`.`tbl1`");
+                result = new SQLException("query timeout");
+                result = keyRangeResult;
+            }
+        };
+        properties.put("jdbc_meta_cache_enable", "true");
+        JDBCMetadata jdbcMetadata = new JDBCMetadata(properties, "catalog", dataSource);
+        Table table = jdbcMetadata.getTable("test", "tbl1");
+        // the failed query doesn't split the scan
+        Assert.assertTrue(jdbcMetadata.getRemoteFiles(table, GetRemoteFilesParams.newBuilder().build()).isEmpty());
+        // and it is not cached, the next scan looks the bounds up again
+        List<RemoteFileInfo> fileInfos =
+                jdbcMetadata.getRemoteFiles(table, GetRemoteFilesParams.newBuilder().build());
+        Assert.assertEquals(1, fileInfos.size());
+        JDBCRemoteFileDesc splitKey = (JDBCRemoteFileDesc) fileInfos.get(0).getFiles().get(0);
+        Assert.assertEquals(1L, splitKey.getLowerBound());
+        Assert.assertEquals(1000L, splitKey.getUpperBound());
+    }
+
     @Test
     public void testColumnTypes() {
         JDBCMetadata jdbcMetadata = new JDBCMetadata(properties, "catalog", dataSource);
@@ -172,4 +172,24 @@ public class KuduPredicateConverterTest {
         List<KuduPredicate> result = CONVERTER.convert(op);
         Assert.assertEquals(result.size(), 0);
     }
+
+    @Test
+    public void testOrToIn() {
+        ScalarOperator eq = new BinaryPredicateOperator(BinaryType.EQ, F0, ConstantOperator.createInt(5));
+        ScalarOperator in = new InPredicateOperator(false, F0, ConstantOperator.createInt(6),
+                ConstantOperator.createInt(7));
+        ScalarOperator op = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR, eq, in);
+        List<KuduPredicate> result = CONVERTER.convert(op);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals("`f0` IN (5, 6, 7)", result.get(0).toString());
+
+        // a disjunct which can not be pushed down makes the whole disjunction not pushed down.
+        ScalarOperator like = new LikePredicateOperator(LikePredicateOperator.LikeType.LIKE, F1,
+                ConstantOperator.createVarchar("a%"));
+        op = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR, eq, like);
+        Assert.assertEquals(0, CONVERTER.convert(op).size());
+        ScalarOperator eq1 = new BinaryPredicateOperator(BinaryType.EQ, F1, ConstantOperator.createVarchar("abc"));
+        op = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR, eq, eq1);
+        Assert.assertEquals(0, CONVERTER.convert(op).size());
+    }
 }
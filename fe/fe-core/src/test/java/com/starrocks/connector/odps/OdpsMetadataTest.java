@@ -38,6 +38,7 @@ import org.mockito.Mock;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -163,6 +164,44 @@ public class OdpsMetadataTest extends MockedBase {
         Assert.assertEquals(1, remoteFileInfos.size());
     }
 
+    @Test
+    public void testGetRemoteFilesFromSplitCache() throws AnalysisException {
+        OdpsMetadata metadata = new OdpsMetadata(odps, "odps", aliyunCloudCredential, odpsProperties);
+        Table odpsTable = metadata.getTable("project", "tableName");
+        PartitionKey partitionKey =
+                PartitionKey.createPartitionKey(ImmutableList.of(new PartitionValue("a"), new PartitionValue("b")),
+                        odpsTable.getPartitionColumns());
+        GetRemoteFilesParams params = GetRemoteFilesParams.newBuilder().setFieldNames(odpsTable.getPartitionColumnNames())
+                .setPartitionKeys(ImmutableList.of(partitionKey)).build();
+        try {
+            when(table.getLastDataModifiedTime()).thenReturn(new Date(1000));
+            OdpsSplitsInfo splitsInfo = getSplitsInfo(metadata.getRemoteFiles(odpsTable, params, mockTableReadSessionBuilder));
+            // the read session is reused by the same scan until the table is written.
+            Assert.assertSame(splitsInfo,
+                    getSplitsInfo(metadata.getRemoteFiles(odpsTable, params, mockTableReadSessionBuilder)));
+            when(table.getLastDataModifiedTime()).thenReturn(new Date(2000));
+            Assert.assertNotSame(splitsInfo,
+                    getSplitsInfo(metadata.getRemoteFiles(odpsTable, params, mockTableReadSessionBuilder)));
+        } finally {
+            when(table.getLastDataModifiedTime()).thenReturn(null);
+        }
+    }
+
+    private static OdpsSplitsInfo getSplitsInfo(List<RemoteFileInfo> remoteFileInfos) {
+        return ((OdpsRemoteFileDesc) remoteFileInfos.get(0).getFiles().get(0)).getOdpsSplitsInfo();
+    }
+
+    @Test
+    public void testGetRowsPerSplit() {
+        // a large table keeps the configured row count.
+        Assert.assertEquals(1000_000L, OdpsMetadata.getRowsPerSplit(1000_000L, 100_000_000L, 8));
+        // a small table is split for every scan driver.
+        Assert.assertEquals(125_000L, OdpsMetadata.getRowsPerSplit(1000_000L, 1000_000L, 8));
+        // but not into tiny splits.
+        Assert.assertEquals(64 * 1024L, OdpsMetadata.getRowsPerSplit(1000_000L, 100_000L, 8));
+        Assert.assertEquals(1000L, OdpsMetadata.getRowsPerSplit(1000L, 100_000L, 8));
+    }
+
     @Test
     public void testGetCloudConfiguration() {
         AliyunCloudConfiguration cloudConfiguration = (AliyunCloudConfiguration) odpsMetadata.getCloudConfiguration();
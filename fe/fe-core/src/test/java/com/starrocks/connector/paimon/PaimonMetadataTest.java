@@ -48,6 +48,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReaderIterator;
 import org.apache.paimon.table.FileStoreTable;
@@ -287,6 +288,69 @@ public class PaimonMetadataTest {
         Assert.assertEquals(2, desc.getPaimonSplitsInfo().getPaimonSplits().size());
     }
 
+    @Test
+    public void testGetRemoteFilesFromSplitCache(@Mocked FileStoreTable paimonNativeTable,
+                                                 @Mocked ReadBuilder readBuilder)
+            throws Catalog.TableNotExistException {
+        new MockUp<PaimonMetadata>() {
+            @Mock
+            public long getTableCreateTime(String dbName, String tblName) {
+                return 0L;
+            }
+        };
+        new Expectations() {
+            {
+                paimonNativeCatalog.getTable((Identifier) any);
+                result = paimonNativeTable;
+                paimonNativeTable.snapshotManager().latestSnapshotId();
+                result = 1L;
+                paimonNativeTable.newReadBuilder();
+                result = readBuilder;
+                times = 1;
+                readBuilder.withFilter((List<Predicate>) any).withProjection((int[]) any).newScan().plan().splits();
+                result = splits;
+            }
+        };
+        PaimonSplitCache splitCache = new PaimonSplitCache(3600, 1024 * 1024);
+        List<String> requiredNames = Lists.newArrayList("f2", "dt");
+        for (int i = 0; i < 2; i++) {
+            // the metadata is created for every query, and the splits are planned only by the first one.
+            PaimonMetadata queryMetadata = new PaimonMetadata("paimon_catalog", new HdfsEnvironment(),
+                    paimonNativeCatalog, splitCache);
+            PaimonTable paimonTable = (PaimonTable) queryMetadata.getTable("db1", "tbl1");
+            List<RemoteFileInfo> result = queryMetadata.getRemoteFiles(paimonTable,
+                    GetRemoteFilesParams.newBuilder().setFieldNames(requiredNames).build());
+            PaimonRemoteFileDesc desc = (PaimonRemoteFileDesc) result.get(0).getFiles().get(0);
+            Assert.assertEquals(2, desc.getPaimonSplitsInfo().getPaimonSplits().size());
+        }
+        Assert.assertEquals(1, splitCache.size());
+    }
+
+    @Test
+    public void testSplitCacheSnapshot() {
+        PaimonSplitCache splitCache = new PaimonSplitCache(3600, 1024 * 1024);
+        Identifier identifier = new Identifier("db1", "tbl1");
+        List<Predicate> predicates = Lists.newArrayList();
+        List<Split> splits = Lists.newArrayList(this.splits);
+        // splits planned on another snapshot than the one read before planning are not cached.
+        splitCache.put(identifier, 2L, predicates, splits);
+        Assert.assertNull(splitCache.get(identifier, 2L, predicates));
+
+        splitCache.put(identifier, 1L, predicates, splits);
+        Assert.assertEquals(2, splitCache.get(identifier, 1L, predicates).size());
+        Assert.assertNull(splitCache.get(identifier, 3L, predicates));
+        Assert.assertNull(splitCache.get(new Identifier("db1", "tbl2"), 1L, predicates));
+
+        // the splits are cached by the predicates themselves, equal predicates built by another query hit them.
+        PredicateBuilder builder = new PredicateBuilder(RowType.of(new IntType()));
+        splitCache.put(identifier, 1L, Lists.newArrayList(builder.equal(0, 1)), splits);
+        Assert.assertEquals(2, splitCache.get(identifier, 1L, Lists.newArrayList(builder.equal(0, 1))).size());
+        Assert.assertNull(splitCache.get(identifier, 1L, Lists.newArrayList(builder.equal(0, 2))));
+
+        splitCache.invalidateAll();
+        Assert.assertNull(splitCache.get(identifier, 1L, predicates));
+    }
+
     @Test
     public void testGetCloudConfiguration() {
         CloudConfiguration cc = metadata.getCloudConfiguration();
@@ -16,26 +16,36 @@
 package com.starrocks.planner;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.starrocks.analysis.Analyzer;
 import com.starrocks.analysis.TupleDescriptor;
 import com.starrocks.analysis.TupleId;
 import com.starrocks.catalog.Column;
 import com.starrocks.catalog.EsTable;
 import com.starrocks.catalog.Type;
+import com.starrocks.common.DdlException;
+import com.starrocks.common.ExceptionChecker;
 import com.starrocks.connector.elasticsearch.EsShardPartitions;
 import com.starrocks.connector.elasticsearch.EsShardRouting;
 import com.starrocks.connector.elasticsearch.EsTestCase;
 import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.system.ComputeNode;
 import com.starrocks.system.SystemInfoService;
+import com.starrocks.thrift.TEsScanRange;
 import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TScanRangeLocations;
 import mockit.Expectations;
 import mockit.Mocked;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 public class EsScanNodeTest extends EsTestCase {
@@ -59,6 +69,7 @@ public class EsScanNodeTest extends EsTestCase {
 
                 systemInfoService.backendAndComputeNodeStream();
                 result = Stream.of(node1);
+                minTimes = 0;
             }
         };
 
@@ -95,4 +106,63 @@ public class EsScanNodeTest extends EsTestCase {
         esShardPartitions.addShardRouting(5, singleShardRouting);
         scanNode.computeShardLocations(selectedIndex);
     }
+
+    @Test
+    public void testSlicedScroll(@Mocked Analyzer analyzer) throws Exception {
+        List<ComputeNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ComputeNode node = new ComputeNode(i + 1, "127.0.0." + (i + 1), 1000);
+            node.setAlive(true);
+            nodes.add(node);
+        }
+        new Expectations() {
+            {
+                systemInfoService.backendAndComputeNodeStream();
+                result = nodes.stream();
+            }
+        };
+
+        List<Column> columns = new ArrayList<>();
+        columns.add(new Column("k1", Type.BIGINT));
+        Map<String, String> props = new HashMap<>();
+        props.put(EsTable.KEY_HOSTS, "http://127.0.0.1:8200");
+        props.put(EsTable.KEY_INDEX, "doe");
+        props.put(EsTable.KEY_TYPE, "doc");
+        props.put(EsTable.KEY_VERSION, "6.5.3");
+        props.put(EsTable.KEY_MAX_SCROLL_SLICES_PER_SHARD, "4");
+        EsTable esTable = new EsTable(1, "doe", columns, props, null);
+        Assert.assertEquals(4, esTable.maxScrollSlicesPerShard());
+
+        TupleDescriptor td = new TupleDescriptor(new TupleId(0));
+        td.setTable(esTable);
+        EsScanNode scanNode = new EsScanNode(new PlanNodeId(11), td, "EsScanNode");
+        scanNode.init(analyzer);
+
+        EsShardPartitions esShardPartitions = EsShardPartitions.findShardPartitions("doe",
+                loadJsonFromFile("data/es/test_search_shards.json"));
+        // 5 shards on 12 nodes, every shard is scanned by 3 slices.
+        List<TScanRangeLocations> scanRanges = scanNode.computeShardLocations(Lists.newArrayList(esShardPartitions));
+        Assert.assertEquals(15, scanRanges.size());
+        Map<Integer, Set<Integer>> shardToSlices = new HashMap<>();
+        for (TScanRangeLocations scanRange : scanRanges) {
+            TEsScanRange esScanRange = scanRange.getScan_range().getEs_scan_range();
+            Assert.assertEquals(3, esScanRange.getSlice_max());
+            shardToSlices.computeIfAbsent(esScanRange.getShard_id(), k -> new HashSet<>()).add(esScanRange.getSlice_id());
+        }
+        Assert.assertEquals(5, shardToSlices.size());
+        shardToSlices.values().forEach(slices -> Assert.assertEquals(Sets.newHashSet(0, 1, 2), slices));
+
+        // a scan with limit is not sliced
+        scanNode.setLimit(10);
+        scanRanges = scanNode.computeShardLocations(Lists.newArrayList(esShardPartitions));
+        Assert.assertEquals(5, scanRanges.size());
+        Assert.assertFalse(scanRanges.get(0).getScan_range().getEs_scan_range().isSetSlice_max());
+
+        // an invalid number of slices is rejected instead of falling back to one slice
+        for (String value : new String[] {"0", "-2", "four"}) {
+            props.put(EsTable.KEY_MAX_SCROLL_SLICES_PER_SHARD, value);
+            ExceptionChecker.expectThrowsWithMsg(DdlException.class, "max_scroll_slices_per_shard of ES table",
+                    () -> new EsTable(1, "doe", columns, props, null));
+        }
+    }
 }
@@ -95,6 +95,33 @@ public class IcebergScanNodeTest extends TableTestBase {
         Assert.assertEquals(TIcebergFileContent.POSITION_DELETES, deleteFile.file_content);
     }
 
+    @Test
+    public void testIncrementalScanRangeLocations() throws Exception {
+        List<Column> columns = Lists.newArrayList(new Column("k1", INT), new Column("k2", INT));
+        IcebergTable icebergTable = new IcebergTable(1, "srTableName", "iceberg_catalog", "resource_name", "iceberg_db",
+                "iceberg_table", "", columns, mockedNativeTableB, Maps.newHashMap());
+        Analyzer analyzer = new Analyzer(GlobalStateMgr.getCurrentState(), new ConnectContext());
+        DescriptorTable descTable = analyzer.getDescTbl();
+        TupleDescriptor tupleDesc = descTable.createTupleDescriptor("DestTableTuple");
+        tupleDesc.setTable(icebergTable);
+        IcebergScanNode scanNode = new IcebergScanNode(new PlanNodeId(0), tupleDesc, "IcebergScanNode", tupleDesc);
+
+        mockedNativeTableB.newAppend().appendFile(FILE_B_1).appendFile(FILE_B_2).commit();
+        mockedNativeTableB.refresh();
+
+        scanNode.setSnapshotId(Optional.of(mockedNativeTableB.currentSnapshot().snapshotId()));
+        scanNode.setupScanRangeLocations(descTable);
+
+        int numScanRanges = 0;
+        while (scanNode.hasMoreScanRanges()) {
+            List<TScanRangeLocations> result = scanNode.getScanRangeLocations(1);
+            Assert.assertEquals(1, result.size());
+            numScanRanges += result.size();
+        }
+        Assert.assertEquals(2, numScanRanges);
+        Assert.assertTrue(scanNode.getScanRangeLocations(0).isEmpty());
+    }
+
     @Test
     public void testEqualityDelete() throws UserException {
         List<Column> columns = Lists.newArrayList(new Column("id", INT), new Column("data", STRING));
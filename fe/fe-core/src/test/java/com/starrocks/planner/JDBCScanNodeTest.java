@@ -0,0 +1,42 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.planner;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class JDBCScanNodeTest {
+
+    @Test
+    public void testCreatePartitionFilters() {
+        Assert.assertEquals(Arrays.asList("`id` < 26 OR `id` IS NULL", "`id` >= 26 AND `id` < 51",
+                        "`id` >= 51 AND `id` < 76", "`id` >= 76"),
+                JDBCScanNode.createPartitionFilters("`id`", 1, 100, 4));
+
+        // no more ranges than values
+        Assert.assertEquals(Arrays.asList("id < 1 OR id IS NULL", "id >= 1"),
+                JDBCScanNode.createPartitionFilters("id", 0, 1, 8));
+
+        // the whole table is a single range
+        Assert.assertTrue(JDBCScanNode.createPartitionFilters("id", 5, 5, 8).isEmpty());
+        Assert.assertTrue(JDBCScanNode.createPartitionFilters("id", 1, 100, 1).isEmpty());
+
+        // no overflow on the bounds of bigint
+        Assert.assertEquals(Arrays.asList("id < 0 OR id IS NULL", "id >= 0"),
+                JDBCScanNode.createPartitionFilters("id", Long.MIN_VALUE, Long.MAX_VALUE, 2));
+    }
+}
@@ -156,5 +156,12 @@ public class PaimonScanNodeTest {
         scanNode.splitRawFileScanRangeLocations(rawFile, deletionFile);
         scanNode.splitScanRangeLocations(rawFile, 0, 256 * 1024 * 1024, 64 * 1024 * 1024, null);
         scanNode.addSplitScanRangeLocations(split, null, 256 * 1024 * 1024);
+
+        // the splits of a bucket planned on another snapshot are assigned by the same path.
+        DataSplit newSplit = DataSplit.builder().withSnapshot(2L).withPartition(row1.copy()).withBucket(1)
+                .withBucketPath("not used").withDataFiles(meta1.subList(0, 1)).isStreaming(false).build();
+        Assert.assertEquals(scanNode.getBucketPath(split), scanNode.getBucketPath(newSplit));
+        Assert.assertEquals(scanNode.getBucketPath(split), scanNode.getScanRangeLocations(0).get(
+                scanNode.getScanRangeLocations(0).size() - 1).getScan_range().getHdfs_scan_range().getRelative_path());
     }
 }
\ No newline at end of file
@@ -221,6 +221,71 @@ public class HDFSBackendSelectorTest {
         Assert.assertTrue(actual < variance);
     }
 
+    @Test
+    public void testHdfsScanNodeCostBasedAssignment() throws Exception {
+        SessionVariable sessionVariable = new SessionVariable();
+        sessionVariable.setEnableHdfsBackendSelectorCostBasedAssignment(true);
+        new Expectations() {
+            {
+                hdfsScanNode.getId();
+                result = scanNodeId;
+
+                hdfsScanNode.getTableName();
+                result = "hive_tbl";
+
+                hiveTable.getTableLocation();
+                result = "hdfs://dfs00/dataset/";
+
+                ConnectContext.get();
+                result = context;
+
+                context.getSessionVariable();
+                result = sessionVariable;
+            }
+        };
+
+        // skewed scan ranges: a few large ones and many small ones.
+        long largeScanRangeSize = 1000000;
+        long smallScanRangeSize = 1000;
+        List<TScanRangeLocations> locations = createScanRanges(10000, smallScanRangeSize);
+        for (int i = 0; i < 10; i++) {
+            locations.get(i).scan_range.hdfs_scan_range.setLength(largeScanRangeSize);
+        }
+        long totalSize = 10 * largeScanRangeSize + 9990 * smallScanRangeSize;
+
+        int hostNumber = 4;
+        ImmutableMap<Long, ComputeNode> computeNodes = createComputeNodes(hostNumber);
+        // node 0 is busy, so it is expected to get less bytes.
+        computeNodes.get(0L).updateResourceUsage(0, 0, 500);
+        FragmentScanRangeAssignment assignment = new FragmentScanRangeAssignment();
+        DefaultWorkerProvider workerProvider = new DefaultWorkerProvider(
+                ImmutableMap.of(),
+                computeNodes,
+                ImmutableMap.of(),
+                computeNodes,
+                true
+        );
+
+        HDFSBackendSelector selector =
+                new HDFSBackendSelector(hdfsScanNode, locations, assignment, workerProvider,
+                        false, false, false);
+        selector.computeScanRangeAssignment();
+
+        Map<Long, Long> stats = computeWorkerIdToReadBytes(assignment, scanNodeId);
+        Assert.assertEquals(hostNumber, stats.size());
+        Assert.assertEquals(totalSize, stats.values().stream().mapToLong(Long::longValue).sum());
+
+        // total weight is 0.5 + 3 * 1.0
+        double busyExpected = totalSize * 0.5 / 3.5;
+        double idleExpected = totalSize * 1.0 / 3.5;
+        for (Map.Entry<Long, Long> entry : stats.entrySet()) {
+            System.out.printf("%s -> %d bytes\n", entry.getKey(), entry.getValue());
+            double expected = entry.getKey() == 0L ? busyExpected : idleExpected;
+            Assert.assertTrue(entry.getValue() <= expected * 1.1 + largeScanRangeSize);
+        }
+        Assert.assertTrue(stats.get(0L) < (totalSize - stats.get(0L)) / (hostNumber - 1));
+    }
+
     @Test
     public void testHashRingAlgorithm() {
         SessionVariable sessionVariable = new SessionVariable();
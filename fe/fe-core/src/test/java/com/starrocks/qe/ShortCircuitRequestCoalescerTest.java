@@ -0,0 +1,118 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import com.starrocks.proto.PExecShortCircuitResult;
+import com.starrocks.rpc.PExecShortCircuitRequest;
+import com.starrocks.thrift.TNetworkAddress;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ShortCircuitRequestCoalescerTest {
+
+    private static PExecShortCircuitRequest createRequest(byte[] bytes) {
+        PExecShortCircuitRequest request = new PExecShortCircuitRequest();
+        request.setRequest(bytes);
+        return request;
+    }
+
+    @Test
+    public void testCoalesceIdenticalRequests() throws Exception {
+        ShortCircuitRequestCoalescer coalescer = new ShortCircuitRequestCoalescer();
+        TNetworkAddress address = new TNetworkAddress("127.0.0.1", 8060);
+        AtomicInteger numRpcs = new AtomicInteger();
+        CompletableFuture<PExecShortCircuitResult> rpcFuture = new CompletableFuture<>();
+
+        ShortCircuitRequestCoalescer.Lookup first = coalescer.submit(address, createRequest(new byte[] {1, 2}), true,
+                request -> {
+                    numRpcs.incrementAndGet();
+                    return rpcFuture;
+                });
+        ShortCircuitRequestCoalescer.Lookup second = coalescer.submit(address, createRequest(new byte[] {1, 2}), true,
+                request -> {
+                    numRpcs.incrementAndGet();
+                    return new CompletableFuture<>();
+                });
+        // different keys and different backends are never coalesced.
+        ShortCircuitRequestCoalescer.Lookup third = coalescer.submit(address, createRequest(new byte[] {1, 3}), true,
+                request -> {
+                    numRpcs.incrementAndGet();
+                    return new CompletableFuture<>();
+                });
+        ShortCircuitRequestCoalescer.Lookup fourth = coalescer.submit(new TNetworkAddress("127.0.0.2", 8060),
+                createRequest(new byte[] {1, 2}), true, request -> {
+                    numRpcs.incrementAndGet();
+                    return new CompletableFuture<>();
+                });
+
+        Assert.assertEquals(3, numRpcs.get());
+        Assert.assertFalse(first.isCoalesced());
+        Assert.assertTrue(second.isCoalesced());
+        Assert.assertFalse(third.isCoalesced());
+        Assert.assertFalse(fourth.isCoalesced());
+
+        PExecShortCircuitResult result = new PExecShortCircuitResult();
+        rpcFuture.complete(result);
+        Assert.assertSame(result, first.get(1, TimeUnit.SECONDS));
+        Assert.assertSame(result, second.get(1, TimeUnit.SECONDS));
+
+        first.close();
+        second.close();
+        third.close();
+        fourth.close();
+        Assert.assertEquals(0, coalescer.numInFlightRequests());
+
+        // the request is sent again once all its lookups are closed.
+        coalescer.submit(address, createRequest(new byte[] {1, 2}), true, request -> {
+            numRpcs.incrementAndGet();
+            return new CompletableFuture<>();
+        }).close();
+        Assert.assertEquals(4, numRpcs.get());
+    }
+
+    @Test
+    public void testNotCoalesce() {
+        ShortCircuitRequestCoalescer coalescer = new ShortCircuitRequestCoalescer();
+        TNetworkAddress address = new TNetworkAddress("127.0.0.1", 8060);
+        AtomicInteger numRpcs = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            ShortCircuitRequestCoalescer.Lookup lookup = coalescer.submit(address, createRequest(new byte[] {1}),
+                    false, request -> {
+                        numRpcs.incrementAndGet();
+                        return new CompletableFuture<>();
+                    });
+            Assert.assertFalse(lookup.isCoalesced());
+        }
+        Assert.assertEquals(2, numRpcs.get());
+        Assert.assertEquals(0, coalescer.numInFlightRequests());
+    }
+
+    @Test
+    public void testSendFailure() {
+        ShortCircuitRequestCoalescer coalescer = new ShortCircuitRequestCoalescer();
+        TNetworkAddress address = new TNetworkAddress("127.0.0.1", 8060);
+
+        Assert.assertThrows(RuntimeException.class, () -> coalescer.submit(address, createRequest(new byte[] {1}),
+                true, request -> {
+                    throw new RuntimeException("connection refused");
+                }));
+        Assert.assertEquals(0, coalescer.numInFlightRequests());
+    }
+}
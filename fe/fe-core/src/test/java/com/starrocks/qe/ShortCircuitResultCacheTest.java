@@ -0,0 +1,48 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ShortCircuitResultCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        ShortCircuitResultCache cache = new ShortCircuitResultCache(1024);
+        Assert.assertNull(cache.get(new byte[] {1, 2}));
+
+        cache.put(new byte[] {1, 2}, new byte[] {3});
+        Assert.assertArrayEquals(new byte[] {3}, cache.get(new byte[] {1, 2}));
+        // a request on another version is a different key.
+        Assert.assertNull(cache.get(new byte[] {1, 3}));
+
+        // an empty result is cached as well.
+        cache.put(new byte[] {1, 3}, null);
+        Assert.assertArrayEquals(new byte[0], cache.get(new byte[] {1, 3}));
+
+        cache.invalidateAll();
+        Assert.assertNull(cache.get(new byte[] {1, 2}));
+    }
+
+    @Test
+    public void testCapacity() {
+        ShortCircuitResultCache cache = new ShortCircuitResultCache(100);
+        for (int i = 0; i < 10; i++) {
+            cache.put(new byte[] {(byte) i}, new byte[40]);
+        }
+        Assert.assertTrue(cache.size() <= 2);
+    }
+}
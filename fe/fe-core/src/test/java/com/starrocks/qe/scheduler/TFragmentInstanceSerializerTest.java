@@ -0,0 +1,129 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.starrocks.rpc.ConfigurableSerDesFactory;
+import com.starrocks.thrift.InternalServiceVersion;
+import com.starrocks.thrift.TDataPartition;
+import com.starrocks.thrift.TDescriptorTable;
+import com.starrocks.thrift.TExecPlanFragmentParams;
+import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TPartitionType;
+import com.starrocks.thrift.TPlanFragment;
+import com.starrocks.thrift.TPlanFragmentDestination;
+import com.starrocks.thrift.TPlanFragmentExecParams;
+import com.starrocks.thrift.TQueryOptions;
+import com.starrocks.thrift.TScanRange;
+import com.starrocks.thrift.TScanRangeParams;
+import com.starrocks.thrift.TUniqueId;
+import org.apache.thrift.TDeserializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class TFragmentInstanceSerializerTest {
+
+    private static TExecPlanFragmentParams createRequest(int index) {
+        TExecPlanFragmentParams request = new TExecPlanFragmentParams();
+        request.setProtocol_version(InternalServiceVersion.V1);
+        request.setFragment(new TPlanFragment(new TDataPartition(TPartitionType.UNPARTITIONED)));
+        request.setDesc_tbl(new TDescriptorTable().setIs_cached(true).setTupleDescriptors(Collections.emptyList()));
+        request.setCoord(new TNetworkAddress("127.0.0.1", 9020));
+        request.setQuery_options(new TQueryOptions().setBatch_size(4096));
+        request.setIs_pipeline(true);
+        request.setFunc_version(2);
+
+        TPlanFragmentExecParams params = new TPlanFragmentExecParams();
+        params.setQuery_id(new TUniqueId(1, 2));
+        params.setUse_vectorized(true);
+        params.setNum_senders(3);
+        params.setPer_exch_num_senders(ImmutableMap.of(1, 3));
+        params.setDestinations(ImmutableList.of(
+                new TPlanFragmentDestination(new TUniqueId(1, 10))
+                        .setBrpc_server(new TNetworkAddress("127.0.0.2", 8060))));
+        request.setParams(params);
+
+        // Unique fields.
+        request.setBackend_num(index);
+        request.setPipeline_dop(index + 1);
+        params.setFragment_instance_id(new TUniqueId(1, 100 + index));
+        params.setPer_node_scan_ranges(
+                ImmutableMap.of(0, Collections.nCopies(index, new TScanRangeParams(new TScanRange()))));
+        params.setInstances_number(index + 2);
+        params.setSender_id(index);
+        if (index % 2 == 0) {
+            params.setReport_when_finish(true);
+        }
+
+        return request;
+    }
+
+    private static TExecPlanFragmentParams deserialize(byte[] bytes) throws Exception {
+        TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
+        TExecPlanFragmentParams result = new TExecPlanFragmentParams();
+        deserializer.deserialize(result, bytes);
+        return result;
+    }
+
+    @Test
+    public void testSerializeWithCommonFields() throws Exception {
+        TFragmentInstanceSerializer.SerializedFields commonFields =
+                TFragmentInstanceSerializer.serializeCommonFields(createRequest(0));
+
+        for (int i = 0; i < 4; i++) {
+            TExecPlanFragmentParams request = createRequest(i);
+            byte[] bytes = TFragmentInstanceSerializer.serialize(commonFields, request);
+            Assert.assertEquals(request, deserialize(bytes));
+
+            byte[] fullBytes = ConfigurableSerDesFactory.getTSerializer().serialize(request);
+            Assert.assertEquals(fullBytes.length, bytes.length);
+        }
+    }
+
+    @Test
+    public void testUniqueFieldsOfTemplateAreNotCached() throws Exception {
+        TExecPlanFragmentParams template = createRequest(3);
+        TFragmentInstanceSerializer.SerializedFields commonFields =
+                TFragmentInstanceSerializer.serializeCommonFields(template);
+
+        TExecPlanFragmentParams request = createRequest(1);
+        request.getParams().unsetReport_when_finish();
+        request.unsetPipeline_dop();
+
+        TExecPlanFragmentParams result = deserialize(TFragmentInstanceSerializer.serialize(commonFields, request));
+        Assert.assertEquals(request, result);
+        Assert.assertFalse(result.isSetPipeline_dop());
+        Assert.assertFalse(result.getParams().isSetReport_when_finish());
+    }
+
+    @Test
+    public void testAllFieldsAreClassified() {
+        // A field added to the thrift definition must be classified as either common or unique for each instance.
+        for (TExecPlanFragmentParams._Fields field : TExecPlanFragmentParams._Fields.values()) {
+            Assert.assertTrue("unclassified field " + field,
+                    TFragmentInstanceSerializer.COMMON_FIELDS.contains(field) ^
+                            TFragmentInstanceSerializer.UNIQUE_FIELDS.contains(field));
+        }
+        for (TPlanFragmentExecParams._Fields field : TPlanFragmentExecParams._Fields.values()) {
+            Assert.assertTrue("unclassified params field " + field,
+                    TFragmentInstanceSerializer.COMMON_PARAMS_FIELDS.contains(field) ^
+                            TFragmentInstanceSerializer.UNIQUE_PARAMS_FIELDS.contains(field));
+        }
+        Assert.assertTrue(TFragmentInstanceSerializer.hasOnlyKnownFields(createRequest(1)));
+    }
+}
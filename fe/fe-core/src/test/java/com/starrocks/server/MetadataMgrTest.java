@@ -16,6 +16,8 @@
 package com.starrocks.server;
 
 import com.google.common.collect.Lists;
+import com.starrocks.catalog.Column;
+import com.starrocks.catalog.PartitionKey;
 import com.starrocks.common.Config;
 import com.starrocks.common.DdlException;
 import com.starrocks.common.ExceptionChecker;
@@ -31,10 +33,15 @@ import com.starrocks.connector.hive.MockedHiveMetadata;
 import com.starrocks.connector.iceberg.hive.IcebergHiveCatalog;
 import com.starrocks.connector.metadata.MetadataTableName;
 import com.starrocks.connector.metadata.iceberg.LogicalIcebergMetadataTable;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.sql.analyzer.AnalyzeTestUtil;
 import com.starrocks.sql.ast.CreateTableLikeStmt;
 import com.starrocks.sql.ast.CreateTableStmt;
+import com.starrocks.sql.optimizer.OptimizerContext;
+import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
+import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
+import com.starrocks.sql.optimizer.statistics.Statistics;
 import com.starrocks.utframe.StarRocksAssert;
 import com.starrocks.utframe.UtFrameUtils;
 import mockit.Expectations;
@@ -469,4 +476,33 @@ public class MetadataMgrTest {
         Assert.assertEquals("iceberg_table$logical_iceberg_metadata", metadataTableName.getTableNameWithType());
         Assert.assertEquals("iceberg_table$logical_iceberg_metadata", metadataTableName.toString());
     }
+
+    @Test
+    public void testGetTableStatisticsMetrics(@Mocked OptimizerContext session,
+                                              @Mocked com.starrocks.catalog.Table table) {
+        MetricRepo.init();
+        MetadataMgr metadataMgr = GlobalStateMgr.getCurrentState().getMetadataMgr();
+        ConnectorMetadata connectorMetadata = new ConnectorMetadata() {
+            @Override
+            public Statistics getTableStatistics(OptimizerContext context, com.starrocks.catalog.Table remoteTable,
+                                                 Map<ColumnRefOperator, Column> columns, List<PartitionKey> partitionKeys,
+                                                 ScalarOperator predicate, long limit, TableVersionRange versionRange) {
+                return Statistics.builder().setOutputRowCount(100).build();
+            }
+        };
+        new Expectations(metadataMgr) {
+            {
+                metadataMgr.getOptionalMetadata("stats_catalog");
+                result = Optional.of(connectorMetadata);
+            }
+        };
+
+        // analyzed statistics are not available in unit tests, so they are estimated by the connector.
+        Statistics statistics = metadataMgr.getTableStatistics(session, "stats_catalog", table, new HashMap<>(),
+                Lists.newArrayList(), null);
+        Assert.assertEquals(100, statistics.getOutputRowCount(), 0.1);
+        Assert.assertEquals(1L, (long) MetricRepo.COUNTER_EXTERNAL_STATS_CONNECTOR_LOAD.getMetric("stats_catalog").getValue());
+        Assert.assertEquals(0L, (long) MetricRepo.COUNTER_EXTERNAL_STATS_CACHE_HIT.getMetric("stats_catalog").getValue());
+        Assert.assertTrue(MetricRepo.COUNTER_EXTERNAL_STATS_CONNECTOR_LOAD_LATENCY.getMetric("stats_catalog").getValue() >= 0);
+    }
 }
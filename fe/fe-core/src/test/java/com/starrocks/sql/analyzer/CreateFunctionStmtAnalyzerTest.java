@@ -167,6 +167,102 @@ public class CreateFunctionStmtAnalyzerTest {
         }
     }
 
+    // keeps its states off-heap, so it has no State class
+    public static class OffHeapAggEval {
+        public int stateSize() {
+            return 8;
+        }
+
+        public void updateBatch(long[] states, String[] columnA, String[] columnB) {
+        }
+
+        public void mergeBatch(long[] states, long[] serialized) {
+        }
+
+        public String[] finalizeBatch(long[] states) {
+            return null;
+        }
+    }
+
+    public static class WrongFinalizeBatchAggEval {
+        public int stateSize() {
+            return 8;
+        }
+
+        public void updateBatch(long[] states, String[] columnA, String[] columnB) {
+        }
+
+        public void mergeBatch(long[] states, long[] serialized) {
+        }
+
+        public String finalizeBatch(long[] states) {
+            return null;
+        }
+    }
+
+    public static class WrongUpdateBatchAggEval {
+        public int stateSize() {
+            return 8;
+        }
+
+        public void updateBatch(long[] states, Long[] columnA, String[] columnB) {
+        }
+
+        public void mergeBatch(long[] states, long[] serialized) {
+        }
+
+        public String[] finalizeBatch(long[] states) {
+            return null;
+        }
+    }
+
+    private void analyzeOffHeapUdaf(Class<?> udafClass) {
+        new MockUp<CreateFunctionAnalyzer>() {
+            @Mock
+            public String computeMd5(CreateFunctionStmt stmt) {
+                return "0xff";
+            }
+        };
+        new MockUp<CreateFunctionAnalyzer.UDFInternalClassLoader>() {
+            @Mock
+            public final Class<?> loadClass(String name, boolean resolve)
+                    throws ClassNotFoundException {
+                if (name.contains("$")) {
+                    throw new ClassNotFoundException(name);
+                }
+                return udafClass;
+            }
+        };
+        CreateFunctionStmt stmt = createStmt("symbol", "AGGREGATE");
+        new CreateFunctionAnalyzer().analyze(stmt, connectContext);
+        Assert.assertEquals("0xff", stmt.getFunction().getChecksum());
+    }
+
+    @Test
+    public void testOffHeapJUDAF() {
+        try {
+            Config.enable_udf = true;
+            analyzeOffHeapUdaf(OffHeapAggEval.class);
+        } finally {
+            Config.enable_udf = false;
+        }
+    }
+
+    @Test
+    public void testOffHeapJUDAFWrongSignature() {
+        try {
+            Config.enable_udf = true;
+            SemanticException e = Assert.assertThrows(SemanticException.class,
+                    () -> analyzeOffHeapUdaf(WrongFinalizeBatchAggEval.class));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("finalizeBatch"));
+            e = Assert.assertThrows(SemanticException.class,
+                    () -> analyzeOffHeapUdaf(WrongUpdateBatchAggEval.class));
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("updateBatch"));
+        } finally {
+            Config.enable_udf = false;
+        }
+    }
+
     public static class JUDTF {
         public String[] process(String s, String s2) {
             return null;
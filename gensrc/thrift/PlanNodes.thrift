@@ -290,6 +290,9 @@ struct TEsScanRange {
   2: required string index
   3: optional string type
   4: required i32 shard_id
+  // the shard is scanned by slice_max sliced scrolls, this range scans the one with slice_id.
+  5: optional i32 slice_id
+  6: optional i32 slice_max
 }
 
 enum TIcebergFileContent {
@@ -402,6 +405,11 @@ struct TBinlogScanRange {
   11: optional Types.TBinlogOffset offset
 }
 
+struct TJDBCScanRange {
+  // predicate on the split column selecting the rows of this range, appended to the filters of the scan node
+  1: optional string partition_filter
+}
+
 // Specification of an individual data range which is held in its entirety
 // by a storage server
 struct TScanRange {
@@ -415,6 +423,8 @@ struct TScanRange {
   20: optional THdfsScanRange hdfs_scan_range
   
   30: optional TBinlogScanRange binlog_scan_range
+
+  31: optional TJDBCScanRange jdbc_scan_range
 }
 
 struct TMySQLScanNode {
@@ -17,6 +17,7 @@ package com.starrocks.hive.reader;
 import com.starrocks.jni.connector.ColumnType;
 import com.starrocks.jni.connector.ColumnValue;
 import com.starrocks.jni.connector.ConnectorScanner;
+import com.starrocks.jni.connector.HivePrimitiveAppender;
 import com.starrocks.jni.connector.ScannerHelper;
 import com.starrocks.jni.connector.SelectedFields;
 import com.starrocks.utils.loader.ThreadContextClassLoader;
@@ -245,8 +246,7 @@ public class HiveScanner extends ConnectorScanner {
                     if (fieldData == null) {
                         appendData(i, null);
                     } else {
-                        ColumnValue fieldValue = new HiveColumnValue(fieldInspectors[i], fieldData, timeZone);
-                        appendData(i, fieldValue);
+                        appendField(i, fieldData);
                     }
                 }
             }
@@ -258,6 +258,14 @@ public class HiveScanner extends ConnectorScanner {
         }
     }
 
+    private void appendField(int i, Object fieldData) {
+        ObjectInspector inspector = fieldInspectors[i];
+        if (!HivePrimitiveAppender.append(getColumnVector(i), inspector, fieldData)) {
+            ColumnValue fieldValue = new HiveColumnValue(inspector, fieldData, timeZone);
+            appendData(i, fieldValue);
+        }
+    }
+
     private InputFormat<?, ?> createInputFormat(Configuration conf, String inputFormat) throws Exception {
         Class<?> clazz = conf.getClassByName(inputFormat);
         Class<? extends InputFormat<?, ?>> cls =
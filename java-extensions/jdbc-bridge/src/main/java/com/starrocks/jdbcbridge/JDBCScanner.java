@@ -14,6 +14,9 @@
 
 package com.starrocks.jdbcbridge;
 
+import com.starrocks.jni.connector.ColumnType;
+import com.starrocks.jni.connector.OffHeapColumnVector;
+import com.starrocks.jni.connector.OffHeapTable;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -54,6 +57,15 @@ public class JDBCScanner {
     private int resultNumRows = 0;
     ClassLoader classLoader;
 
+    // columns fetched by typed getters into off-heap vectors instead of boxed arrays,
+    // the type of a boxed column is null.
+    private ColumnType[] offHeapColumnTypes;
+    private ColumnType[] offHeapTableTypes;
+    private String[] offHeapTableFields;
+    // reused by all the chunks, reset once BE has copied a chunk.
+    private OffHeapTable offHeapTable;
+    private OffHeapColumnVector[] offHeapColumns;
+
     public JDBCScanner(String driverLocation, JDBCScanContext scanContext) {
         this.driverLocation = driverLocation;
         this.scanContext = scanContext;
@@ -93,7 +105,11 @@ public class JDBCScanner {
             statement.setFetchSize(scanContext.getStatementFetchSize());
         }
         statement.executeQuery();
-        resultSet = statement.getResultSet();
+        initResultSet(statement.getResultSet());
+    }
+
+    void initResultSet(ResultSet resultSet) throws Exception {
+        this.resultSet = resultSet;
         resultSetMetaData = resultSet.getMetaData();
         resultColumnClassNames = new ArrayList<>(resultSetMetaData.getColumnCount());
         resultChunk = new ArrayList<>(resultSetMetaData.getColumnCount());
@@ -143,6 +159,81 @@ public class JDBCScanner {
         return resultColumnClassNames;
     }
 
+    // the column class reported by the result set metadata which each off-heap type is fetched from,
+    // the values of the other classes are converted by the boxed path.
+    private static final Map<ColumnType.TypeValue, List<String>> OFF_HEAP_COLUMN_CLASSES = new HashMap<>();
+
+    static {
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.BOOLEAN, Arrays.asList("java.lang.Boolean"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.TINYINT, Arrays.asList("java.lang.Byte"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.SHORT, Arrays.asList("java.lang.Short"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.INT, Arrays.asList("java.lang.Integer"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.LONG, Arrays.asList("java.lang.Long"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.FLOAT, Arrays.asList("java.lang.Float"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.DOUBLE, Arrays.asList("java.lang.Double"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.STRING, Arrays.asList("java.lang.String"));
+        OFF_HEAP_COLUMN_CLASSES.put(ColumnType.TypeValue.BINARY, Arrays.asList("byte[]", "[B"));
+    }
+
+    // drivers whose numeric values may be of another class than the one reported by the metadata,
+    // e.g. FLOAT of oracle is reported as java.lang.Double but returned as BigDecimal.
+    private static final List<String> NUMERIC_CONVERTED_DRIVERS = Arrays.asList("oracle");
+
+    /**
+     * Fetch the given columns by typed getters into off-heap vectors, called by BE once after
+     * {@link #open()} with the intermediate types it resolved from {@link #getResultColumnClassNames()}.
+     * A column is only fetched off-heap if the type is supported and the values of the column need no
+     * conversion, the other columns are still returned as boxed arrays by {@link #getNextChunk()}.
+     *
+     * @param types comma separated types of all result columns, empty for boxed columns,
+     *              e.g. "int,,string" asks to fetch the first and the third column off-heap.
+     * @return the types of the columns which are fetched off-heap, in the same format.
+     */
+    public String setOffHeapColumnTypes(String types) {
+        String[] typeNames = types.split(",", -1);
+        int columnCount = resultColumnClassNames.size();
+        if (typeNames.length != columnCount) {
+            throw new IllegalArgumentException("expect " + columnCount + " column types, but got: " + types);
+        }
+        offHeapColumnTypes = new ColumnType[columnCount];
+        List<ColumnType> tableTypes = new ArrayList<>();
+        List<String> tableFields = new ArrayList<>();
+        String[] acceptedTypeNames = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            acceptedTypeNames[i] = "";
+            if (typeNames[i].isEmpty()) {
+                continue;
+            }
+            String field = "c" + i;
+            ColumnType type = new ColumnType(field, typeNames[i]);
+            if (canFetchOffHeap(type, resultColumnClassNames.get(i))) {
+                offHeapColumnTypes[i] = type;
+                tableTypes.add(type);
+                tableFields.add(field);
+                acceptedTypeNames[i] = typeNames[i];
+            }
+        }
+        if (tableTypes.isEmpty()) {
+            offHeapColumnTypes = null;
+        } else {
+            offHeapTableTypes = tableTypes.toArray(new ColumnType[0]);
+            offHeapTableFields = tableFields.toArray(new String[0]);
+        }
+        return String.join(",", acceptedTypeNames);
+    }
+
+    private boolean canFetchOffHeap(ColumnType type, String columnClassName) {
+        List<String> columnClasses = OFF_HEAP_COLUMN_CLASSES.get(type.getTypeValue());
+        if (columnClasses == null || !columnClasses.contains(columnClassName)) {
+            return false;
+        }
+        if (type.getTypeValue() == ColumnType.TypeValue.STRING || type.getTypeValue() == ColumnType.TypeValue.BINARY) {
+            return true;
+        }
+        String driverClassName = scanContext.getDriverClassName().toLowerCase(Locale.ROOT);
+        return NUMERIC_CONVERTED_DRIVERS.stream().noneMatch(driverClassName::contains);
+    }
+
     public boolean hasNext() throws Exception {
         return resultSet.next();
     }
@@ -152,8 +243,21 @@ public class JDBCScanner {
         int chunkSize = scanContext.getStatementFetchSize();
         int columnCount = resultSetMetaData.getColumnCount();
         resultNumRows = 0;
+        if (offHeapColumnTypes != null && offHeapTable == null) {
+            offHeapTable = new OffHeapTable(offHeapTableTypes, offHeapTableFields, chunkSize);
+            offHeapColumns = new OffHeapColumnVector[columnCount];
+            for (int i = 0, index = 0; i < columnCount; i++) {
+                if (offHeapColumnTypes[i] != null) {
+                    offHeapColumns[i] = offHeapTable.getColumnVector(index++);
+                }
+            }
+        }
         do {
             for (int i = 0; i < columnCount; i++) {
+                if (offHeapColumns != null && offHeapColumns[i] != null) {
+                    appendOffHeapValue(offHeapColumns[i], offHeapColumnTypes[i], i + 1);
+                    continue;
+                }
                 Object[] dataColumn = resultChunk.get(i);
                 Object resultObject = resultSet.getObject(i + 1);
                 // in some cases, the real java class type of result is not consistent with the type from
@@ -197,11 +301,125 @@ public class JDBCScanner {
         return resultChunk;
     }
 
+    private void appendOffHeapValue(OffHeapColumnVector column, ColumnType type, int columnIndex)
+            throws Exception {
+        switch (type.getTypeValue()) {
+            case BOOLEAN: {
+                boolean value = resultSet.getBoolean(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendBoolean(value);
+                }
+                break;
+            }
+            case TINYINT: {
+                byte value = resultSet.getByte(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendByte(value);
+                }
+                break;
+            }
+            case SHORT: {
+                short value = resultSet.getShort(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendShort(value);
+                }
+                break;
+            }
+            case INT: {
+                int value = resultSet.getInt(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendInt(value);
+                }
+                break;
+            }
+            case LONG: {
+                long value = resultSet.getLong(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendLong(value);
+                }
+                break;
+            }
+            case FLOAT: {
+                float value = resultSet.getFloat(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendFloat(value);
+                }
+                break;
+            }
+            case DOUBLE: {
+                double value = resultSet.getDouble(columnIndex);
+                if (resultSet.wasNull()) {
+                    column.appendNull();
+                } else {
+                    column.appendDouble(value);
+                }
+                break;
+            }
+            case STRING: {
+                String value = resultSet.getString(columnIndex);
+                if (value == null) {
+                    column.appendNull();
+                } else {
+                    column.appendString(value);
+                }
+                break;
+            }
+            case BINARY: {
+                byte[] value = resultSet.getBytes(columnIndex);
+                if (value == null) {
+                    column.appendNull();
+                } else {
+                    column.appendByteArray(value, 0, value.length);
+                }
+                break;
+            }
+            default:
+                // the other types are never accepted by setOffHeapColumnTypes
+                throw new IllegalStateException("Unsupported off-heap column type: " + type);
+        }
+    }
+
     public int getResultNumRows() {
         return resultNumRows;
     }
 
+    // used for cpp interface, the meta of the off-heap columns of the current chunk, see OffHeapTable
+    public long getOffHeapChunkMeta() {
+        offHeapTable.setNumRows(resultNumRows);
+        return offHeapTable.getMetaNativeAddress();
+    }
+
+    // used for cpp interface, called once the off-heap columns of the current chunk are copied,
+    // the buffers are reused by the next chunk.
+    public void releaseOffHeapChunk() {
+        if (offHeapTable != null) {
+            offHeapTable.reset();
+        }
+    }
+
+    // for test only.
+    OffHeapTable getOffHeapTable() {
+        return offHeapTable;
+    }
+
     public void close() throws Exception {
+        if (offHeapTable != null) {
+            offHeapTable.close();
+            offHeapTable = null;
+            offHeapColumns = null;
+        }
         if (resultSet != null) {
             resultSet.close();
         }
@@ -0,0 +1,201 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.jdbcbridge;
+
+import com.starrocks.jni.connector.OffHeapTable;
+import com.starrocks.utils.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+
+public class TestJDBCScanner {
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty(Platform.UT_KEY, Boolean.TRUE.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setProperty(Platform.UT_KEY, Boolean.FALSE.toString());
+    }
+
+    private static JDBCScanner createScanner(String driverClassName, int fetchSize, String[] columnClassNames,
+                                             Object[][] rows) throws Exception {
+        JDBCScanContext scanContext = new JDBCScanContext(driverClassName, "jdbc:test", "user", "password",
+                "select * from t", fetchSize, 1, 1, 600000, 30000);
+        JDBCScanner scanner = new JDBCScanner("", scanContext);
+        scanner.classLoader = TestJDBCScanner.class.getClassLoader();
+        scanner.initResultSet(createResultSet(columnClassNames, rows));
+        return scanner;
+    }
+
+    // a forward only result set over the rows, whose typed getters convert the values like the drivers do.
+    private static ResultSet createResultSet(String[] columnClassNames, Object[][] rows) {
+        ClassLoader classLoader = TestJDBCScanner.class.getClassLoader();
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(classLoader,
+                new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            return columnClassNames.length;
+                        case "getColumnClassName":
+                            return columnClassNames[(int) args[0] - 1];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        int[] cursor = {-1};
+        boolean[] wasNull = {false};
+        return (ResultSet) Proxy.newProxyInstance(classLoader, new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMetaData":
+                            return metaData;
+                        case "next":
+                            return ++cursor[0] < rows.length;
+                        case "wasNull":
+                            return wasNull[0];
+                        case "close":
+                            return null;
+                        default:
+                            break;
+                    }
+                    Object value = rows[cursor[0]][(int) args[0] - 1];
+                    wasNull[0] = value == null;
+                    switch (method.getName()) {
+                        case "getObject":
+                        case "getBytes":
+                            return value;
+                        case "getString":
+                            return value == null ? null : value.toString();
+                        case "getBoolean":
+                            return value != null && (Boolean) value;
+                        case "getByte":
+                            return value == null ? (byte) 0 : ((Number) value).byteValue();
+                        case "getShort":
+                            return value == null ? (short) 0 : ((Number) value).shortValue();
+                        case "getInt":
+                            return value == null ? 0 : ((Number) value).intValue();
+                        case "getLong":
+                            return value == null ? 0L : ((Number) value).longValue();
+                        case "getFloat":
+                            return value == null ? 0f : ((Number) value).floatValue();
+                        case "getDouble":
+                            return value == null ? 0d : ((Number) value).doubleValue();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    public void testOffHeapColumnTypes() throws Exception {
+        String[] columnClassNames = {"java.lang.Integer", "java.lang.Long", "java.lang.Double", "java.lang.String",
+                "[B", "java.math.BigDecimal", "java.lang.Integer"};
+        JDBCScanner scanner = createScanner("com.mysql.cj.jdbc.Driver", 4, columnClassNames, new Object[0][]);
+        // the last column is reported as an Integer but asked as a bigint, it keeps the boxed path.
+        Assertions.assertEquals("int,bigint,double,string,binary,,",
+                scanner.setOffHeapColumnTypes("int,bigint,double,string,binary,,bigint"));
+        scanner.close();
+
+        // unsupported types are never fetched off-heap
+        scanner = createScanner("com.mysql.cj.jdbc.Driver", 4, new String[] {"java.lang.String"}, new Object[0][]);
+        Assertions.assertEquals("", scanner.setOffHeapColumnTypes("date"));
+        scanner.close();
+    }
+
+    @Test
+    public void testConvertedNumericColumnsAreBoxed() throws Exception {
+        // FLOAT of oracle is reported as a Double, but returned as a BigDecimal.
+        Object[][] rows = {{new BigDecimal("1.5"), "a"}};
+        JDBCScanner scanner = createScanner("oracle.jdbc.driver.OracleDriver", 4,
+                new String[] {"java.lang.Double", "java.lang.String"}, rows);
+        Assertions.assertEquals(",string", scanner.setOffHeapColumnTypes("double,string"));
+
+        Assertions.assertTrue(scanner.hasNext());
+        List<Object[]> chunk = scanner.getNextChunk();
+        Assertions.assertEquals(1, scanner.getResultNumRows());
+        Assertions.assertEquals(1.5, chunk.get(0)[0]);
+        Assertions.assertEquals("a", scanner.getOffHeapTable().getColumnVector(0).getUTF8String(0));
+        scanner.close();
+    }
+
+    @Test
+    public void testFetchOffHeapColumns() throws Exception {
+        String[] columnClassNames = {"java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Integer",
+                "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.lang.String", "[B",
+                "java.math.BigDecimal"};
+        Object[][] rows = {
+                {true, (byte) 1, (short) 2, 3, 4L, 5.5f, 6.5d, "seven", "eight".getBytes(StandardCharsets.UTF_8),
+                        new BigDecimal("9.9")},
+                {null, null, null, null, null, null, null, null, null, null},
+                {false, (byte) -1, (short) -2, -3, -4L, -5.5f, -6.5d, "", new byte[0], new BigDecimal("-9.9")},
+        };
+        JDBCScanner scanner = createScanner("com.mysql.cj.jdbc.Driver", 2, columnClassNames, rows);
+        Assertions.assertEquals("boolean,tinyint,smallint,int,bigint,float,double,string,binary,",
+                scanner.setOffHeapColumnTypes("boolean,tinyint,smallint,int,bigint,float,double,string,binary,"));
+
+        Assertions.assertTrue(scanner.hasNext());
+        List<Object[]> chunk = scanner.getNextChunk();
+        Assertions.assertEquals(2, scanner.getResultNumRows());
+        OffHeapTable table = scanner.getOffHeapTable();
+        Assertions.assertTrue(table.getColumnVector(0).getBoolean(0));
+        Assertions.assertEquals(1, table.getColumnVector(1).getByte(0));
+        Assertions.assertEquals(2, table.getColumnVector(2).getShort(0));
+        Assertions.assertEquals(3, table.getColumnVector(3).getInt(0));
+        Assertions.assertEquals(4L, table.getColumnVector(4).getLong(0));
+        Assertions.assertEquals(5.5f, table.getColumnVector(5).getFloat(0));
+        Assertions.assertEquals(6.5d, table.getColumnVector(6).getDouble(0));
+        Assertions.assertEquals("seven", table.getColumnVector(7).getUTF8String(0));
+        Assertions.assertEquals("eight", table.getColumnVector(8).getUTF8String(0));
+        Assertions.assertEquals(new BigDecimal("9.9"), chunk.get(9)[0]);
+        for (int i = 0; i < 9; i++) {
+            Assertions.assertTrue(table.getColumnVector(i).isNullAt(1), "column " + i);
+        }
+        Assertions.assertNull(chunk.get(9)[1]);
+        Assertions.assertNotEquals(0, scanner.getOffHeapChunkMeta());
+        scanner.releaseOffHeapChunk();
+
+        // the next chunk reuses the buffers of the table
+        Assertions.assertTrue(scanner.hasNext());
+        chunk = scanner.getNextChunk();
+        Assertions.assertEquals(1, scanner.getResultNumRows());
+        Assertions.assertSame(table, scanner.getOffHeapTable());
+        Assertions.assertFalse(table.getColumnVector(0).getBoolean(0));
+        Assertions.assertEquals(-1, table.getColumnVector(1).getByte(0));
+        Assertions.assertEquals(-2, table.getColumnVector(2).getShort(0));
+        Assertions.assertEquals(-3, table.getColumnVector(3).getInt(0));
+        Assertions.assertEquals(-4L, table.getColumnVector(4).getLong(0));
+        Assertions.assertEquals(-5.5f, table.getColumnVector(5).getFloat(0));
+        Assertions.assertEquals(-6.5d, table.getColumnVector(6).getDouble(0));
+        Assertions.assertEquals("", table.getColumnVector(7).getUTF8String(0));
+        Assertions.assertEquals("", table.getColumnVector(8).getUTF8String(0));
+        for (int i = 0; i < 9; i++) {
+            Assertions.assertFalse(table.getColumnVector(i).isNullAt(0), "column " + i);
+        }
+        Assertions.assertEquals(new BigDecimal("-9.9"), chunk.get(9)[0]);
+        Assertions.assertFalse(scanner.hasNext());
+        scanner.releaseOffHeapChunk();
+        scanner.close();
+    }
+}
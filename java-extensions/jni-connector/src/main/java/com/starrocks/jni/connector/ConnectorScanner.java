@@ -46,6 +46,8 @@ public abstract class ConnectorScanner {
     private String[] fields;
     private ColumnType[] types;
     private int tableSize;
+    // reuses the off-heap buffers of released batches for the next batches
+    private final OffHeapMemoryPool memoryPool = new OffHeapMemoryPool();
 
     /**
      * Initialize the reader with parameters passed by the class constructor and allocate necessary resources.
@@ -63,8 +65,8 @@ public abstract class ConnectorScanner {
      * Scan original data and save it to off-heap table.
      *
      * @return The number of rows scanned.
-     * The specific implementation needs to call the {@link ConnectorScanner#appendData(int, Object)} method
-     * to save data to off-heap table.
+     * The specific implementation needs to call the {@link ConnectorScanner#appendData(int, ColumnValue)} method,
+     * or append to {@link ConnectorScanner#getColumnVector(int)} directly, to save data to off-heap table.
      * The number of rows scanned must less than or equal to {@link ConnectorScanner#tableSize}
      */
     public abstract int getNext() throws IOException;
@@ -86,6 +88,17 @@ public abstract class ConnectorScanner {
         offHeapTable.appendData(index, value);
     }
 
+    /**
+     * Get the column vector of the current chunk, only valid inside {@link ConnectorScanner#getNext()}.
+     * Scanners which can read typed values (or whole column batches) from the source should append them to the
+     * vector directly, e.g. {@link OffHeapColumnVector#appendInt(int)} or
+     * {@link OffHeapColumnVector#appendInts(int, int[], int)}, instead of wrapping every field in a
+     * {@link ColumnValue}.
+     */
+    protected OffHeapColumnVector getColumnVector(int index) {
+        return offHeapTable.getColumnVector(index);
+    }
+
     protected int getTableSize() {
         return tableSize;
     }
@@ -107,7 +120,7 @@ public abstract class ConnectorScanner {
     }
 
     private void initOffHeapTable() {
-        offHeapTable = new OffHeapTable(types, fields, tableSize);
+        offHeapTable = new OffHeapTable(types, fields, tableSize, memoryPool);
     }
 
     private long finishOffHeapTable(int numRows) {
@@ -124,4 +137,25 @@ public abstract class ConnectorScanner {
             offHeapTable.close();
         }
     }
+
+    /**
+     * Free the off-heap memory retained for the next batches, called by BE after {@link ConnectorScanner#close()}.
+     */
+    public void releaseOffHeapMemoryPool() {
+        memoryPool.close();
+    }
+
+    /**
+     * Off-heap bytes allocated from the system by this scanner.
+     */
+    public long getOffHeapAllocatedBytes() {
+        return memoryPool.getAllocatedBytes();
+    }
+
+    /**
+     * Off-heap bytes reused from the released batches of this scanner.
+     */
+    public long getOffHeapReusedBytes() {
+        return memoryPool.getReusedBytes();
+    }
 }
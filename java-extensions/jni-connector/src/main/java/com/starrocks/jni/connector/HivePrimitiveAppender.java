@@ -0,0 +1,73 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.jni.connector;
+
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.BooleanObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.ByteObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.DoubleObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.FloatObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.IntObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.LongObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.ShortObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.StringObjectInspector;
+import org.apache.hadoop.io.Text;
+
+// Appends the hive serde fields of the hive and hudi scanners. The hive classes are provided by
+// the reader which loads this class, so only call it from readers which bundle hive serde.
+public class HivePrimitiveAppender {
+    /**
+     * Appends primitive values directly, and strings from the reusable text of the reader,
+     * without boxing them and wrapping them in a column value.
+     *
+     * @return false if the field is not such a primitive, and the caller needs to append it as a column value.
+     */
+    public static boolean append(OffHeapColumnVector vector, ObjectInspector inspector, Object fieldData) {
+        if (!(inspector instanceof PrimitiveObjectInspector)) {
+            return false;
+        }
+        switch (((PrimitiveObjectInspector) inspector).getPrimitiveCategory()) {
+            case BOOLEAN:
+                vector.appendBoolean(((BooleanObjectInspector) inspector).get(fieldData));
+                return true;
+            case BYTE:
+                vector.appendByte(((ByteObjectInspector) inspector).get(fieldData));
+                return true;
+            case SHORT:
+                vector.appendShort(((ShortObjectInspector) inspector).get(fieldData));
+                return true;
+            case INT:
+                vector.appendInt(((IntObjectInspector) inspector).get(fieldData));
+                return true;
+            case LONG:
+                vector.appendLong(((LongObjectInspector) inspector).get(fieldData));
+                return true;
+            case FLOAT:
+                vector.appendFloat(((FloatObjectInspector) inspector).get(fieldData));
+                return true;
+            case DOUBLE:
+                vector.appendDouble(((DoubleObjectInspector) inspector).get(fieldData));
+                return true;
+            case STRING: {
+                Text text = ((StringObjectInspector) inspector).getPrimitiveWritableObject(fieldData);
+                vector.appendByteArray(text.getBytes(), 0, text.getLength());
+                return true;
+            }
+            default:
+                return false;
+        }
+    }
+}
@@ -65,12 +65,20 @@ public class OffHeapColumnVector {
 
     private OffHeapColumnVector[] childColumns;
 
+    // allocates the off-heap buffers if not null, shared with the child columns.
+    private final OffHeapMemoryPool memoryPool;
+
     // Only for test，record the size of the NULL indicator
     private int nullsLength = 0;
 
     public OffHeapColumnVector(int capacity, ColumnType type) {
+        this(capacity, type, null);
+    }
+
+    public OffHeapColumnVector(int capacity, ColumnType type, OffHeapMemoryPool memoryPool) {
         this.capacity = capacity;
         this.type = type;
+        this.memoryPool = memoryPool;
         this.nulls = 0;
         this.data = 0;
         this.offsetData = 0;
@@ -103,14 +111,30 @@ public class OffHeapColumnVector {
             }
             childColumns = null;
         }
-        Platform.freeMemory(nulls);
-        Platform.freeMemory(data);
-        Platform.freeMemory(offsetData);
+        int typeSize = type.getPrimitiveTypeValueSize();
+        freeMemory(nulls, capacity);
+        freeMemory(data, typeSize == -1 ? 0 : (long) capacity * typeSize);
+        freeMemory(offsetData, (capacity + 1) * 4L);
         nulls = 0;
         data = 0;
         offsetData = 0;
     }
 
+    private long reallocateMemory(long address, long oldSize, long newSize) {
+        if (memoryPool != null) {
+            return memoryPool.reallocate(address, oldSize, newSize);
+        }
+        return Platform.reallocateMemory(address, oldSize, newSize);
+    }
+
+    private void freeMemory(long address, long size) {
+        if (memoryPool != null) {
+            memoryPool.free(address, size);
+        } else {
+            Platform.freeMemory(address);
+        }
+    }
+
     private void throwUnsupportedException(int requiredCapacity, Throwable cause) {
         String message = "Cannot reserve additional contiguous bytes in the vectorized vector (" +
                 (requiredCapacity >= 0 ? "requested " + requiredCapacity + " bytes" : "integer overflow).");
@@ -142,9 +166,9 @@ public class OffHeapColumnVector {
         if (type.isUnknown()) {
             // don't do anything.
         } else if (typeSize != -1) {
-            this.data = Platform.reallocateMemory(data, oldCapacity * typeSize, newCapacity * typeSize);
+            this.data = reallocateMemory(data, (long) oldCapacity * typeSize, (long) newCapacity * typeSize);
         } else if (type.isByteStorageType()) {
-            this.offsetData = Platform.reallocateMemory(offsetData, oldOffsetSize, newOffsetSize);
+            this.offsetData = reallocateMemory(offsetData, oldOffsetSize, newOffsetSize);
             // Just create a new object at the first time, otherwise the data will be lost during expansion,
             // and because the OFFSET record is continuous, the new offset address starts from 0 during the 
             // expansion, which will cause the offset records to be negatively numbered. After being passed
@@ -157,24 +181,24 @@ public class OffHeapColumnVector {
                 int childCapacity = newCapacity * DEFAULT_STRING_LENGTH;
                 this.childColumns = new OffHeapColumnVector[1];
                 this.childColumns[0] = new OffHeapColumnVector(childCapacity, new ColumnType(type.name + "#data",
-                        ColumnType.TypeValue.BYTE));
+                        ColumnType.TypeValue.BYTE), memoryPool);
             }
         } else if (type.isArray() || type.isMap() || type.isStruct()) {
             if (type.isArray() || type.isMap()) {
-                this.offsetData = Platform.reallocateMemory(offsetData, oldOffsetSize, newOffsetSize);
+                this.offsetData = reallocateMemory(offsetData, oldOffsetSize, newOffsetSize);
             }
             // Same as the above
             if (this.childColumns == null) {
                 int size = type.childTypes.size();
                 this.childColumns = new OffHeapColumnVector[size];
                 for (int i = 0; i < size; i++) {
-                    this.childColumns[i] = new OffHeapColumnVector(newCapacity, type.childTypes.get(i));
+                    this.childColumns[i] = new OffHeapColumnVector(newCapacity, type.childTypes.get(i), memoryPool);
                 }
             }
         } else {
             throw new RuntimeException("Unhandled type: " + type);
         }
-        this.nulls = Platform.reallocateMemory(nulls, oldCapacity, newCapacity);
+        this.nulls = reallocateMemory(nulls, oldCapacity, newCapacity);
         Platform.setMemory(nulls + oldCapacity, (byte) 0, newCapacity - oldCapacity);
         capacity = newCapacity;
         this.nullsLength = capacity;
@@ -185,7 +209,7 @@ public class OffHeapColumnVector {
         }
     }
 
-    private void reset() {
+    void reset() {
         if (childColumns != null) {
             for (OffHeapColumnVector c : childColumns) {
                 c.reset();
@@ -238,7 +262,36 @@ public class OffHeapColumnVector {
         return elementsAppended++;
     }
 
-    private void putNull(int rowId) {
+    /**
+     * Append {@code count} nulls to a fixed length or byte storage column.
+     */
+    public int appendNulls(int count) {
+        if (type.isArray() || type.isMap() || type.isStruct()) {
+            int result = elementsAppended;
+            for (int i = 0; i < count; i++) {
+                appendNull();
+            }
+            return result;
+        }
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.setMemory(nulls + elementsAppended, (byte) 1, count);
+        numNulls += count;
+        if (offsetData != 0) {
+            int offset = getArrayOffset(elementsAppended);
+            for (int i = 0; i < count; i++) {
+                putArrayOffset(elementsAppended + i, offset, 0);
+            }
+        }
+        elementsAppended += count;
+        return result;
+    }
+
+    /**
+     * Mark a row which has already been appended as null, used together with the bulk append methods,
+     * which copy the values of null rows as well.
+     */
+    public void putNull(int rowId) {
         Platform.putByte(null, nulls + rowId, (byte) 1);
         ++numNulls;
     }
@@ -367,6 +420,76 @@ public class OffHeapColumnVector {
         return new BigDecimal(value, type.getScale());
     }
 
+    public int appendBooleans(int count, boolean[] src, int srcIndex) {
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        // boolean arrays are stored as one byte of 0 or 1 per element, the same as the off-heap layout.
+        Platform.copyMemory(src, Platform.BOOLEAN_ARRAY_OFFSET + srcIndex, null, data + elementsAppended, count);
+        elementsAppended += count;
+        return result;
+    }
+
+    public int appendShorts(int count, short[] src, int srcIndex) {
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.copyMemory(src, Platform.SHORT_ARRAY_OFFSET + srcIndex * 2L, null, data + elementsAppended * 2L,
+                count * 2L);
+        elementsAppended += count;
+        return result;
+    }
+
+    public int appendInts(int count, int[] src, int srcIndex) {
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.copyMemory(src, Platform.INT_ARRAY_OFFSET + srcIndex * 4L, null, data + elementsAppended * 4L,
+                count * 4L);
+        elementsAppended += count;
+        return result;
+    }
+
+    public int appendLongs(int count, long[] src, int srcIndex) {
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.copyMemory(src, Platform.LONG_ARRAY_OFFSET + srcIndex * 8L, null, data + elementsAppended * 8L,
+                count * 8L);
+        elementsAppended += count;
+        return result;
+    }
+
+    public int appendFloats(int count, float[] src, int srcIndex) {
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.copyMemory(src, Platform.FLOAT_ARRAY_OFFSET + srcIndex * 4L, null, data + elementsAppended * 4L,
+                count * 4L);
+        elementsAppended += count;
+        return result;
+    }
+
+    public int appendDoubles(int count, double[] src, int srcIndex) {
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.copyMemory(src, Platform.DOUBLE_ARRAY_OFFSET + srcIndex * 8L, null, data + elementsAppended * 8L,
+                count * 8L);
+        elementsAppended += count;
+        return result;
+    }
+
+    /**
+     * Append {@code count} values of a fixed length column from native memory, e.g. the data buffer of an
+     * arrow vector. The values must have the same byte width and little-endian layout as this column.
+     */
+    public int appendValues(int count, long srcAddress) {
+        int typeSize = type.getPrimitiveTypeValueSize();
+        if (typeSize == -1) {
+            throw new UnsupportedOperationException("Can not bulk copy values of type: " + type.getTypeValue());
+        }
+        reserve(elementsAppended + count);
+        int result = elementsAppended;
+        Platform.copyMemory(null, srcAddress, null, data + (long) elementsAppended * typeSize, (long) count * typeSize);
+        elementsAppended += count;
+        return result;
+    }
+
     private void putBytes(int rowId, int count, byte[] src, int srcIndex) {
         Platform.copyMemory(src, Platform.BYTE_ARRAY_OFFSET + srcIndex, null, data + rowId, count);
     }
@@ -377,7 +500,11 @@ public class OffHeapColumnVector {
         return array;
     }
 
-    private int appendBytes(int length, byte[] src, int offset) {
+    /**
+     * Append {@code length} bytes as {@code length} rows of a TINYINT column, or to the data of a byte storage
+     * column.
+     */
+    public int appendBytes(int length, byte[] src, int offset) {
         reserve(elementsAppended + length);
         int result = elementsAppended;
         putBytes(elementsAppended, length, src, offset);
@@ -394,13 +521,28 @@ public class OffHeapColumnVector {
         return appendByteArray(binary, 0, binary.length);
     }
 
-    private int appendByteArray(byte[] value, int offset, int length) {
+    /**
+     * Append a slice of a byte array as one row of a STRING or BINARY column, so that readers can pass
+     * reusable buffers (e.g. hadoop Text) without copying them into a new array first.
+     */
+    public int appendByteArray(byte[] value, int offset, int length) {
         int copiedOffset = arrayData().appendBytes(length, value, offset);
         reserve(elementsAppended + 1);
         putArrayOffset(elementsAppended, copiedOffset, length);
         return elementsAppended++;
     }
 
+    /**
+     * Append {@code length} bytes of native memory as one row of a STRING or BINARY column,
+     * e.g. a value in the data buffer of an arrow variable width vector.
+     */
+    public int appendByteArray(long srcAddress, int length) {
+        int copiedOffset = arrayData().appendValues(length, srcAddress);
+        reserve(elementsAppended + 1);
+        putArrayOffset(elementsAppended, copiedOffset, length);
+        return elementsAppended++;
+    }
+
     private void putArrayOffset(int rowId, int offset, int length) {
         Platform.putInt(null, offsetData + 4L * rowId, offset);
         Platform.putInt(null, offsetData + 4L * (rowId + 1), offset + length);
@@ -0,0 +1,152 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.jni.connector;
+
+import com.starrocks.utils.Platform;
+
+import java.util.ArrayDeque;
+
+/**
+ * A size-class pool of off-heap memory blocks used by the column vectors of one scanner.
+ * <p>
+ * Every batch of a scanner allocates the same columns with roughly the same sizes, so the blocks freed
+ * when BE releases a batch are kept in per size-class free lists and handed out again for the next batch,
+ * instead of going through malloc/free for every buffer and every growth step.
+ * Block sizes are rounded up to a power of two, so growing a buffer within its size class costs nothing.
+ * <p>
+ * The pool is owned by a single scanner and is not thread safe. The retained blocks are freed
+ * by {@link OffHeapMemoryPool#close()} when the scanner is closed, so the memory is allocated and freed
+ * in the same query and BE memory accounting stays balanced.
+ */
+public class OffHeapMemoryPool {
+    private static final int MIN_SIZE_CLASS_SHIFT = 8;
+    // blocks larger than 64MB are not pooled.
+    private static final int MAX_SIZE_CLASS_SHIFT = 26;
+
+    private final ArrayDeque<Long>[] freeBlocks;
+    private final long maxRetainedBytes;
+
+    private long retainedBytes = 0;
+    private long allocatedBytes = 0;
+    private long reusedBytes = 0;
+
+    public OffHeapMemoryPool() {
+        this(1L << 30);
+    }
+
+    @SuppressWarnings("unchecked")
+    public OffHeapMemoryPool(long maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.freeBlocks = new ArrayDeque[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1];
+        for (int i = 0; i < freeBlocks.length; i++) {
+            freeBlocks[i] = new ArrayDeque<>();
+        }
+    }
+
+    // returns -1 if the size is not pooled.
+    private static int sizeClass(long size) {
+        if (size <= (1L << MIN_SIZE_CLASS_SHIFT)) {
+            return 0;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(size - 1);
+        return shift > MAX_SIZE_CLASS_SHIFT ? -1 : shift - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    private static long blockSize(int sizeClass) {
+        return 1L << (sizeClass + MIN_SIZE_CLASS_SHIFT);
+    }
+
+    public long allocate(long size) {
+        int sizeClass = sizeClass(size);
+        if (sizeClass < 0) {
+            allocatedBytes += size;
+            return Platform.allocateMemory(size);
+        }
+        long blockSize = blockSize(sizeClass);
+        Long address = freeBlocks[sizeClass].pollLast();
+        if (address != null) {
+            retainedBytes -= blockSize;
+            reusedBytes += blockSize;
+            return address;
+        }
+        allocatedBytes += blockSize;
+        return Platform.allocateMemory(blockSize);
+    }
+
+    /**
+     * Grow or shrink a block, the first {@code oldSize} bytes are kept.
+     * The address can be 0 if nothing is allocated yet.
+     */
+    public long reallocate(long address, long oldSize, long newSize) {
+        if (address == 0) {
+            return allocate(newSize);
+        }
+        int oldClass = sizeClass(oldSize);
+        if (oldClass >= 0 && oldClass == sizeClass(newSize)) {
+            return address;
+        }
+        long newAddress = allocate(newSize);
+        Platform.copyMemory(null, address, null, newAddress, Math.min(oldSize, newSize));
+        free(address, oldSize);
+        return newAddress;
+    }
+
+    /**
+     * Return a block to the pool, {@code size} must be the size the block was allocated or reallocated with.
+     */
+    public void free(long address, long size) {
+        if (address == 0) {
+            return;
+        }
+        int sizeClass = sizeClass(size);
+        if (sizeClass < 0 || retainedBytes + blockSize(sizeClass) > maxRetainedBytes) {
+            Platform.freeMemory(address);
+            return;
+        }
+        freeBlocks[sizeClass].addLast(address);
+        retainedBytes += blockSize(sizeClass);
+    }
+
+    /**
+     * Free all the retained blocks, the pool can still be used afterwards.
+     */
+    public void close() {
+        for (ArrayDeque<Long> blocks : freeBlocks) {
+            for (Long address : blocks) {
+                Platform.freeMemory(address);
+            }
+            blocks.clear();
+        }
+        retainedBytes = 0;
+    }
+
+    /**
+     * Bytes allocated from the system, including the blocks which have been freed since.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Bytes handed out from the free lists instead of being allocated from the system.
+     */
+    public long getReusedBytes() {
+        return reusedBytes;
+    }
+
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+}
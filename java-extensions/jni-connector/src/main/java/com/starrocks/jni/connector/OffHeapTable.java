@@ -78,16 +78,20 @@ public class OffHeapTable {
     public boolean[] released;
 
     public OffHeapTable(ColumnType[] types, String[] fields, int capacity) {
+        this(types, fields, capacity, null);
+    }
+
+    public OffHeapTable(ColumnType[] types, String[] fields, int capacity, OffHeapMemoryPool memoryPool) {
         this.fields = fields;
         this.vectors = new OffHeapColumnVector[types.length];
         this.released = new boolean[types.length];
         int metaSize = 0;
         for (int i = 0; i < types.length; i++) {
-            vectors[i] = new OffHeapColumnVector(capacity, types[i]);
+            vectors[i] = new OffHeapColumnVector(capacity, types[i], memoryPool);
             metaSize += types[i].computeColumnSize();
             released[i] = false;
         }
-        this.meta = new OffHeapColumnVector(metaSize, new ColumnType("#meta", ColumnType.TypeValue.LONG));
+        this.meta = new OffHeapColumnVector(metaSize, new ColumnType("#meta", ColumnType.TypeValue.LONG), memoryPool);
         this.numRows = 0;
     }
 
@@ -95,6 +99,10 @@ public class OffHeapTable {
         vectors[fieldId].appendValue(o);
     }
 
+    public OffHeapColumnVector getColumnVector(int fieldId) {
+        return vectors[fieldId];
+    }
+
     public void releaseOffHeapColumnVector(int fieldId) {
         if (!released[fieldId]) {
             vectors[fieldId].close();
@@ -118,6 +126,17 @@ public class OffHeapTable {
         return meta.valuesNativeAddress();
     }
 
+    /**
+     * Reset the table to append the next batch of rows into the buffers already allocated.
+     */
+    public void reset() {
+        for (OffHeapColumnVector vector : vectors) {
+            vector.reset();
+        }
+        meta.reset();
+        numRows = 0;
+    }
+
     public void close() {
         for (int i = 0; i < vectors.length; i++) {
             releaseOffHeapColumnVector(i);
@@ -0,0 +1,113 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+import com.starrocks.jni.connector.ColumnType;
+import com.starrocks.jni.connector.OffHeapColumnVector;
+import com.starrocks.utils.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class TestOffHeapColumnVector {
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty(Platform.UT_KEY, Boolean.TRUE.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setProperty(Platform.UT_KEY, Boolean.FALSE.toString());
+    }
+
+    @Test
+    public void testBulkAppendFixedLength() {
+        OffHeapColumnVector ints = new OffHeapColumnVector(2, new ColumnType("c0", ColumnType.TypeValue.INT));
+        ints.appendInt(1);
+        // exceeds the initial capacity
+        Assertions.assertEquals(1, ints.appendInts(3, new int[] {0, 2, 3, 4}, 1));
+        ints.putNull(2);
+        Assertions.assertEquals(4, ints.appendNulls(2));
+        Assertions.assertEquals(6, ints.appendInt(7));
+
+        Assertions.assertEquals(1, ints.getInt(0));
+        Assertions.assertEquals(2, ints.getInt(1));
+        Assertions.assertTrue(ints.isNullAt(2));
+        Assertions.assertEquals(4, ints.getInt(3));
+        Assertions.assertTrue(ints.isNullAt(4));
+        Assertions.assertTrue(ints.isNullAt(5));
+        Assertions.assertFalse(ints.isNullAt(6));
+        Assertions.assertEquals(7, ints.getInt(6));
+        ints.close();
+
+        OffHeapColumnVector longs = new OffHeapColumnVector(4, new ColumnType("c1", ColumnType.TypeValue.LONG));
+        longs.appendLongs(2, new long[] {Long.MIN_VALUE, Long.MAX_VALUE}, 0);
+        Assertions.assertEquals(Long.MIN_VALUE, longs.getLong(0));
+        Assertions.assertEquals(Long.MAX_VALUE, longs.getLong(1));
+        longs.close();
+
+        OffHeapColumnVector doubles = new OffHeapColumnVector(4, new ColumnType("c2", ColumnType.TypeValue.DOUBLE));
+        doubles.appendDoubles(2, new double[] {1.5, -2.5}, 0);
+        Assertions.assertEquals(1.5, doubles.getDouble(0));
+        Assertions.assertEquals(-2.5, doubles.getDouble(1));
+        doubles.close();
+
+        OffHeapColumnVector booleans = new OffHeapColumnVector(4, new ColumnType("c3", ColumnType.TypeValue.BOOLEAN));
+        booleans.appendBooleans(3, new boolean[] {true, false, true}, 0);
+        Assertions.assertTrue(booleans.getBoolean(0));
+        Assertions.assertFalse(booleans.getBoolean(1));
+        Assertions.assertTrue(booleans.getBoolean(2));
+        booleans.close();
+    }
+
+    @Test
+    public void testAppendValuesFromNativeMemory() {
+        long address = Platform.allocateMemory(3 * 4L);
+        try {
+            for (int i = 0; i < 3; i++) {
+                Platform.putInt(null, address + i * 4L, i * 10);
+            }
+            OffHeapColumnVector ints = new OffHeapColumnVector(2, new ColumnType("c0", ColumnType.TypeValue.INT));
+            ints.appendValues(3, address);
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(i * 10, ints.getInt(i));
+            }
+            ints.close();
+        } finally {
+            Platform.freeMemory(address);
+        }
+
+        OffHeapColumnVector strings = new OffHeapColumnVector(2, new ColumnType("c1", ColumnType.TypeValue.STRING));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> strings.appendValues(1, 0));
+        strings.close();
+    }
+
+    @Test
+    public void testAppendByteSlices() {
+        OffHeapColumnVector strings = new OffHeapColumnVector(2, new ColumnType("c0", ColumnType.TypeValue.STRING));
+        byte[] buffer = "hello world".getBytes(StandardCharsets.UTF_8);
+        strings.appendByteArray(buffer, 0, 5);
+        strings.appendNulls(2);
+        strings.appendByteArray(buffer, 6, 5);
+
+        Assertions.assertEquals("hello", strings.getUTF8String(0));
+        Assertions.assertNull(strings.getUTF8String(1));
+        Assertions.assertNull(strings.getUTF8String(2));
+        Assertions.assertEquals("world", strings.getUTF8String(3));
+        strings.close();
+    }
+}
@@ -0,0 +1,99 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+import com.starrocks.jni.connector.ColumnType;
+import com.starrocks.jni.connector.OffHeapMemoryPool;
+import com.starrocks.jni.connector.OffHeapTable;
+import com.starrocks.utils.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestOffHeapMemoryPool {
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty(Platform.UT_KEY, Boolean.TRUE.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setProperty(Platform.UT_KEY, Boolean.FALSE.toString());
+    }
+
+    @Test
+    public void testReuseBlocks() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool();
+        long address = pool.allocate(1000);
+        Assertions.assertEquals(1024, pool.getAllocatedBytes());
+        pool.free(address, 1000);
+        Assertions.assertEquals(1024, pool.getRetainedBytes());
+
+        // same size class
+        Assertions.assertEquals(address, pool.allocate(600));
+        Assertions.assertEquals(1024, pool.getReusedBytes());
+        Assertions.assertEquals(0, pool.getRetainedBytes());
+
+        // growing within the size class keeps the block
+        Assertions.assertEquals(address, pool.reallocate(address, 600, 1024));
+        Platform.putLong(null, address, 42L);
+        long grown = pool.reallocate(address, 1024, 4096);
+        Assertions.assertEquals(42L, Platform.getLong(null, grown));
+        Assertions.assertEquals(1024, pool.getRetainedBytes());
+
+        pool.free(grown, 4096);
+        pool.close();
+        Assertions.assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testMaxRetainedBytes() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool(2048);
+        long a = pool.allocate(1024);
+        long b = pool.allocate(1024);
+        long c = pool.allocate(1024);
+        pool.free(a, 1024);
+        pool.free(b, 1024);
+        pool.free(c, 1024);
+        Assertions.assertEquals(2048, pool.getRetainedBytes());
+        pool.close();
+    }
+
+    @Test
+    public void testReuseAcrossTables() {
+        OffHeapMemoryPool pool = new OffHeapMemoryPool();
+        ColumnType[] types = new ColumnType[] {new ColumnType("c0", ColumnType.TypeValue.INT),
+                new ColumnType("c1", ColumnType.TypeValue.STRING)};
+        String[] fields = new String[] {"c0", "c1"};
+
+        for (int batch = 0; batch < 3; batch++) {
+            OffHeapTable table = new OffHeapTable(types, fields, 4096, pool);
+            for (int i = 0; i < 4096; i++) {
+                table.getColumnVector(0).appendInt(i);
+                table.getColumnVector(1).appendString("value" + i);
+            }
+            Assertions.assertEquals(4095, table.getColumnVector(0).getInt(4095));
+            Assertions.assertEquals("value4095", table.getColumnVector(1).getUTF8String(4095));
+            table.close();
+        }
+        long allocatedBytes = pool.getAllocatedBytes();
+        Assertions.assertTrue(pool.getReusedBytes() > allocatedBytes);
+
+        OffHeapTable table = new OffHeapTable(types, fields, 4096, pool);
+        table.close();
+        Assertions.assertEquals(allocatedBytes, pool.getAllocatedBytes());
+        pool.close();
+    }
+}
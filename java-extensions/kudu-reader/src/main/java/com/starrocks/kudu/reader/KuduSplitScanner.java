@@ -16,6 +16,7 @@ package com.starrocks.kudu.reader;
 
 import com.starrocks.jni.connector.ColumnType;
 import com.starrocks.jni.connector.ConnectorScanner;
+import com.starrocks.jni.connector.OffHeapColumnVector;
 import com.starrocks.jni.connector.ScannerHelper;
 import com.starrocks.utils.loader.ThreadContextClassLoader;
 import org.apache.kudu.ColumnSchema;
@@ -30,6 +31,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,6 +45,7 @@ public class KuduSplitScanner extends ConnectorScanner {
     private KuduScanner scanner;
     private final String[] requiredFields;
     private ColumnType[] requiredTypes;
+    private Type[] logicalTypes;
     private KuduScannerIterator iterator;
     private final int fetchSize;
     private final ClassLoader classLoader;
@@ -55,10 +58,9 @@ public class KuduSplitScanner extends ConnectorScanner {
         this.classLoader = this.getClass().getClassLoader();
     }
 
-    private void parseRequiredTypes() {
-        Schema schema = scanner.getProjectionSchema();
+    private void parseRequiredTypes(Schema schema) {
         requiredTypes = new ColumnType[requiredFields.length];
-        Type[] logicalTypes = new Type[requiredFields.length];
+        logicalTypes = new Type[requiredFields.length];
         for (int i = 0; i < requiredFields.length; i++) {
             int index = schema.getColumnIndex(requiredFields[i]);
             if (index == -1) {
@@ -73,6 +75,14 @@ public class KuduSplitScanner extends ConnectorScanner {
         }
     }
 
+    // package-private for tests
+    void initOffHeapTable(Schema schema) {
+        parseRequiredTypes(schema);
+        LOG.info("init off-heap table writer with requiredFields: {}, requiredTypes: {}, fetchSize: {}",
+                Arrays.toString(requiredFields), Arrays.toString(requiredTypes), fetchSize);
+        initOffHeapTableWriter(requiredTypes, requiredFields, fetchSize);
+    }
+
     @Override
     public void open() throws IOException {
         try (ThreadContextClassLoader ignored = new ThreadContextClassLoader(classLoader)) {
@@ -82,10 +92,7 @@ public class KuduSplitScanner extends ConnectorScanner {
             scanner = KuduScanToken.deserializeIntoScanner(token, client);
             LOG.info("Open kudu scanner with projection schema: {}", scanner.getProjectionSchema());
             iterator = scanner.iterator();
-            parseRequiredTypes();
-            LOG.info("init off-heap table writer with requiredFields: {}, requiredTypes: {}, fetchSize: {}",
-                    Arrays.toString(requiredFields), Arrays.toString(requiredTypes), fetchSize);
-            initOffHeapTableWriter(requiredTypes, requiredFields, fetchSize);
+            initOffHeapTable(scanner.getProjectionSchema());
         } catch (Exception e) {
             close();
             String msg = "Failed to open the kudu reader.";
@@ -117,12 +124,7 @@ public class KuduSplitScanner extends ConnectorScanner {
                     break;
                 }
                 for (int i = 0; i < requiredFields.length; i++) {
-                    if (row.isNull(i)) {
-                        appendData(i, null);
-                    } else {
-                        KuduColumnValue fieldValue = new KuduColumnValue(row, i);
-                        appendData(i, fieldValue);
-                    }
+                    appendField(row, i);
                 }
                 numRows++;
             }
@@ -135,6 +137,65 @@ public class KuduSplitScanner extends ConnectorScanner {
         }
     }
 
+    // package-private for tests
+    void appendField(RowResult row, int i) {
+        if (row.isNull(i)) {
+            appendData(i, null);
+            return;
+        }
+        // append primitive values directly, without wrapping them in a column value.
+        OffHeapColumnVector vector = getColumnVector(i);
+        switch (logicalTypes[i]) {
+            case BOOL:
+                vector.appendBoolean(row.getBoolean(i));
+                break;
+            case INT8:
+                vector.appendByte(row.getByte(i));
+                break;
+            case INT16:
+                vector.appendShort(row.getShort(i));
+                break;
+            case INT32:
+                vector.appendInt(row.getInt(i));
+                break;
+            case INT64:
+                vector.appendLong(row.getLong(i));
+                break;
+            case FLOAT:
+                vector.appendFloat(row.getFloat(i));
+                break;
+            case DOUBLE:
+                vector.appendDouble(row.getDouble(i));
+                break;
+            case STRING:
+            case VARCHAR:
+                vector.appendString(row.getString(i));
+                break;
+            case BINARY:
+                // copy the bytes in the row data of the scanner, getBinary only accepts binary columns.
+                ByteBuffer value = row.getBinary(i);
+                if (value.hasArray()) {
+                    vector.appendByteArray(value.array(), value.arrayOffset() + value.position(), value.remaining());
+                } else {
+                    byte[] bytes = new byte[value.remaining()];
+                    value.get(bytes);
+                    vector.appendBinary(bytes);
+                }
+                break;
+            case DATE:
+                vector.appendDate(row.getDate(i).toLocalDate());
+                break;
+            case UNIXTIME_MICROS:
+                vector.appendDateTime(row.getTimestamp(i).toLocalDateTime());
+                break;
+            case DECIMAL:
+                vector.appendDecimal(row.getDecimal(i));
+                break;
+            default:
+                appendData(i, new KuduColumnValue(row, i));
+        }
+    }
+
     public String toString() {
         return "scanner: "
                 + scanner
@@ -0,0 +1,96 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.kudu.reader;
+
+import com.starrocks.jni.connector.OffHeapTable;
+import com.starrocks.utils.Platform;
+import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.ColumnTypeAttributes;
+import org.apache.kudu.Schema;
+import org.apache.kudu.Type;
+import org.apache.kudu.client.RowResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestKuduSplitScannerAppendField {
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty(Platform.UT_KEY, Boolean.TRUE.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setProperty(Platform.UT_KEY, Boolean.FALSE.toString());
+    }
+
+    // getBinary of the kudu client only accepts binary columns, like a row result of a real scanner.
+    private static RowResult mockRow(String string, String varchar, ByteBuffer binary) {
+        RowResult row = mock(RowResult.class);
+        when(row.isNull(0)).thenReturn(string == null);
+        when(row.getString(0)).thenReturn(string);
+        when(row.getBinary(0)).thenThrow(new IllegalArgumentException("c0 is not BINARY"));
+        when(row.getString(1)).thenReturn(varchar);
+        when(row.getBinary(1)).thenThrow(new IllegalArgumentException("c1 is not BINARY"));
+        when(row.getBinary(2)).thenReturn(binary);
+        when(row.getString(2)).thenThrow(new IllegalArgumentException("c2 is not STRING or VARCHAR"));
+        return row;
+    }
+
+    @Test
+    public void testAppendStringAndBinaryFields() {
+        Schema schema = new Schema(Arrays.asList(
+                new ColumnSchema.ColumnSchemaBuilder("c0", Type.STRING).nullable(true).build(),
+                new ColumnSchema.ColumnSchemaBuilder("c1", Type.VARCHAR).typeAttributes(
+                        new ColumnTypeAttributes.ColumnTypeAttributesBuilder().length(10).build()).build(),
+                new ColumnSchema.ColumnSchemaBuilder("c2", Type.BINARY).build()));
+        Map<String, String> params = new HashMap<>();
+        params.put("required_fields", "c0,c1,c2");
+        KuduSplitScanner scanner = new KuduSplitScanner(4, params);
+        scanner.initOffHeapTable(schema);
+
+        byte[] bytes = "xbinaryx".getBytes(StandardCharsets.UTF_8);
+        RowResult[] rows = {
+                // the bytes of a binary value are copied from the position of the buffer
+                mockRow("string", "varchar", ByteBuffer.wrap(bytes, 1, 6)),
+                mockRow(null, "", ByteBuffer.wrap(bytes, 0, 0).slice()),
+        };
+        for (RowResult row : rows) {
+            for (int i = 0; i < 3; i++) {
+                scanner.appendField(row, i);
+            }
+        }
+
+        OffHeapTable table = scanner.getOffHeapTable();
+        Assertions.assertEquals("string", table.getColumnVector(0).getUTF8String(0));
+        Assertions.assertEquals("varchar", table.getColumnVector(1).getUTF8String(0));
+        Assertions.assertEquals("binary", table.getColumnVector(2).getUTF8String(0));
+        Assertions.assertTrue(table.getColumnVector(0).isNullAt(1));
+        Assertions.assertEquals("", table.getColumnVector(1).getUTF8String(1));
+        Assertions.assertEquals("", table.getColumnVector(2).getUTF8String(1));
+        table.close();
+    }
+}
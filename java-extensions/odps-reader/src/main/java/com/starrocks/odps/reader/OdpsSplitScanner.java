@@ -32,8 +32,11 @@ import com.aliyun.odps.table.read.split.impl.RowRangeInputSplit;
 import com.aliyun.odps.utils.StringUtils;
 import com.starrocks.jni.connector.ColumnType;
 import com.starrocks.jni.connector.ConnectorScanner;
+import com.starrocks.jni.connector.OffHeapColumnVector;
 import com.starrocks.jni.connector.ScannerHelper;
 import com.starrocks.utils.loader.ThreadContextClassLoader;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.types.pojo.Field;
@@ -175,6 +178,9 @@ public class OdpsSplitScanner extends ConnectorScanner {
                 for (int rowId = 0; rowId < fieldVectors.size(); rowId++) {
                     String filedName = fields.get(rowId).getName();
                     int fieldIndex = nameIndexMap.get(filedName);
+                    if (appendVector(fieldVectors.get(rowId), fieldIndex, vectorSchemaRoot.getRowCount())) {
+                        continue;
+                    }
                     for (int index = 0; index < vectorSchemaRoot.getRowCount(); index++) {
                         Object data =
                                 OdpsTypeUtils.getData(columnAccessors[rowId], requireColumns[fieldIndex].getTypeInfo(),
@@ -217,6 +223,53 @@ public class OdpsSplitScanner extends ConnectorScanner {
         return sb.toString();
     }
 
+    /**
+     * Copy the values of an arrow vector into the off-heap column directly, without materializing
+     * every value as a java object.
+     *
+     * @return false if the type is not supported, the values need to be appended one by one.
+     */
+    private boolean appendVector(FieldVector vector, int fieldIndex, int numRows) {
+        OffHeapColumnVector column = getColumnVector(fieldIndex);
+        switch (requireColumns[fieldIndex].getTypeInfo().getOdpsType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE: {
+                int start = column.appendValues(numRows, ((BaseFixedWidthVector) vector).getDataBufferAddress());
+                if (vector.getNullCount() > 0) {
+                    for (int i = 0; i < numRows; i++) {
+                        if (vector.isNull(i)) {
+                            column.putNull(start + i);
+                        }
+                    }
+                }
+                return true;
+            }
+            // char type need to trim tail spaces, so it is not copied directly.
+            case STRING:
+            case VARCHAR:
+            case JSON:
+            case BINARY: {
+                BaseVariableWidthVector variableWidthVector = (BaseVariableWidthVector) vector;
+                long dataAddress = variableWidthVector.getDataBufferAddress();
+                for (int i = 0; i < numRows; i++) {
+                    if (variableWidthVector.isNull(i)) {
+                        column.appendNull();
+                    } else {
+                        column.appendByteArray(dataAddress + variableWidthVector.getStartOffset(i),
+                                variableWidthVector.getValueLength(i));
+                    }
+                }
+                return true;
+            }
+            default:
+                return false;
+        }
+    }
+
     private static Object deserialize(String serializedString) throws IOException, ClassNotFoundException {
         byte[] serializedBytes = Base64.getDecoder().decode(serializedString);
         ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(serializedBytes);
@@ -17,6 +17,7 @@ package com.starrocks.paimon.reader;
 import com.starrocks.jni.connector.ColumnType;
 import com.starrocks.jni.connector.ColumnValue;
 import com.starrocks.jni.connector.ConnectorScanner;
+import com.starrocks.jni.connector.OffHeapColumnVector;
 import com.starrocks.jni.connector.ScannerHelper;
 import com.starrocks.jni.connector.SelectedFields;
 import com.starrocks.utils.loader.ThreadContextClassLoader;
@@ -145,13 +146,7 @@ public class PaimonSplitScanner extends ConnectorScanner {
                     break;
                 }
                 for (int i = 0; i < requiredFields.length; i++) {
-                    Object fieldData = InternalRowUtils.get(row, i, logicalTypes[i]);
-                    if (fieldData == null) {
-                        appendData(i, null);
-                    } else {
-                        ColumnValue fieldValue = new PaimonColumnValue(fieldData, logicalTypes[i], timeZone);
-                        appendData(i, fieldValue);
-                    }
+                    appendField(row, i);
                 }
                 numRows++;
             }
@@ -165,6 +160,49 @@ public class PaimonSplitScanner extends ConnectorScanner {
 
     }
 
+    private void appendField(InternalRow row, int i) {
+        if (row.isNullAt(i)) {
+            appendData(i, null);
+            return;
+        }
+        // append primitive values directly, without boxing them and wrapping them in a column value.
+        OffHeapColumnVector vector = getColumnVector(i);
+        switch (logicalTypes[i].getTypeRoot()) {
+            case BOOLEAN:
+                vector.appendBoolean(row.getBoolean(i));
+                break;
+            case TINYINT:
+                vector.appendByte(row.getByte(i));
+                break;
+            case SMALLINT:
+                vector.appendShort(row.getShort(i));
+                break;
+            case INTEGER:
+                vector.appendInt(row.getInt(i));
+                break;
+            case BIGINT:
+                vector.appendLong(row.getLong(i));
+                break;
+            case FLOAT:
+                vector.appendFloat(row.getFloat(i));
+                break;
+            case DOUBLE:
+                vector.appendDouble(row.getDouble(i));
+                break;
+            case CHAR:
+            case VARCHAR: {
+                byte[] bytes = row.getString(i).toBytes();
+                vector.appendByteArray(bytes, 0, bytes.length);
+                break;
+            }
+            default: {
+                Object fieldData = InternalRowUtils.get(row, i, logicalTypes[i]);
+                ColumnValue fieldValue = new PaimonColumnValue(fieldData, logicalTypes[i], timeZone);
+                appendData(i, fieldValue);
+            }
+        }
+    }
+
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("splitInfo: ");
@@ -45,6 +45,8 @@ import static org.objectweb.asm.Opcodes.V1_8;
 public class CallStubGenerator {
     // generate call stub name
     public static final String CLAZZ_NAME = "com/starrocks/udf/gen/CallStub";
+    // a UDF may have both the batch call stub and the vectorized call stub in the same class loader
+    public static final String VECTORIZED_CLAZZ_NAME = "com/starrocks/udf/gen/VectorizedCallStub";
     public static final String GEN_KEYWORD = "com.starrocks.udf.gen";
 
     // generate batch update
@@ -298,4 +300,124 @@ public class CallStubGenerator {
         return generator.getByteCode();
     }
 
+    // vectorized evaluate, the arguments and the result are primitive arrays of num_rows elements
+    //    public class VectorizedCallStub {
+    //        public static long[] batchCallV(int rows, UDF obj, int[] var1, long[] var2) throws Exception {
+    //            return obj.evaluateBatch(var1, var2);
+    //        }
+    //    }
+    private static class VectorizedCallEvaluateGenerator {
+        VectorizedCallEvaluateGenerator(Class<?> clazz, Method evaluateBatch) {
+            this.udfClazz = clazz;
+            this.udfEvaluateBatch = evaluateBatch;
+        }
+
+        private final ClassWriter writer = new ClassWriter(0);
+
+        private void declareCallStubClazz() {
+            writer.visit(V1_8, ACC_PUBLIC, VECTORIZED_CLAZZ_NAME, null, "java/lang/Object", null);
+        }
+
+        private static void checkPrimitiveArray(Class<?> type) {
+            if (!type.isArray() || !type.getComponentType().isPrimitive() || type.getComponentType() == char.class) {
+                throw new UnsupportedOperationException("Unsupported vectorized Type:" + type.getTypeName());
+            }
+        }
+
+        private void checkEvaluateSignature() {
+            final Method evaluate = UDFClassAnalyzer.getMethodObject("evaluate", udfClazz);
+            if (evaluate == null) {
+                throw new UnsupportedOperationException("Not Found Method: evaluate");
+            }
+            final Class<?>[] params = udfEvaluateBatch.getParameterTypes();
+            final Class<?>[] boxedParams = evaluate.getParameterTypes();
+            if (params.length != boxedParams.length) {
+                throw new UnsupportedOperationException(
+                        udfEvaluateBatch.getName() + " should have the same number of arguments as evaluate");
+            }
+            for (int i = 0; i < params.length; i++) {
+                checkPrimitiveArray(params[i]);
+                if (params[i].getComponentType() != unbox(boxedParams[i])) {
+                    throw new UnsupportedOperationException("argument " + i + " of " + udfEvaluateBatch.getName() +
+                            " doesn't match evaluate: " + params[i].getTypeName());
+                }
+            }
+            final Class<?> returnType = udfEvaluateBatch.getReturnType();
+            checkPrimitiveArray(returnType);
+            if (returnType.getComponentType() != unbox(evaluate.getReturnType())) {
+                throw new UnsupportedOperationException("return type of " + udfEvaluateBatch.getName() +
+                        " doesn't match evaluate: " + returnType.getTypeName());
+            }
+        }
+
+        private static Class<?> unbox(Class<?> type) {
+            if (type == Boolean.class) {
+                return boolean.class;
+            } else if (type == Byte.class) {
+                return byte.class;
+            } else if (type == Short.class) {
+                return short.class;
+            } else if (type == Integer.class) {
+                return int.class;
+            } else if (type == Long.class) {
+                return long.class;
+            } else if (type == Float.class) {
+                return float.class;
+            } else if (type == Double.class) {
+                return double.class;
+            }
+            throw new UnsupportedOperationException("Unsupported vectorized Type:" + type.getTypeName());
+        }
+
+        private void genBatchEvaluate() {
+            checkEvaluateSignature();
+            final Class<?>[] parameters = udfEvaluateBatch.getParameterTypes();
+            StringBuilder desc = new StringBuilder("(");
+            desc.append("I");
+            desc.append(Type.getDescriptor(udfClazz));
+            for (Class<?> parameter : parameters) {
+                desc.append(Type.getDescriptor(parameter));
+            }
+            desc.append(")");
+            desc.append(Type.getDescriptor(udfEvaluateBatch.getReturnType()));
+
+            final MethodVisitor batchCall =
+                    writer.visitMethod(ACC_PUBLIC + ACC_STATIC, "batchCallV", desc.toString(), null,
+                            new String[] {"java/lang/Exception"});
+
+            batchCall.visitCode();
+            // local var0: rows
+            // local var1: UDF handle
+            // local var2...varn: input arrays
+            batchCall.visitVarInsn(ALOAD, 1);
+            int padding = 2;
+            for (int i = 0; i < parameters.length; i++) {
+                batchCall.visitVarInsn(ALOAD, i + padding);
+            }
+            batchCall.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(udfClazz), udfEvaluateBatch.getName(),
+                    Type.getMethodDescriptor(udfEvaluateBatch), false);
+            batchCall.visitInsn(ARETURN);
+            batchCall.visitMaxs(parameters.length + 1, parameters.length + padding);
+            batchCall.visitEnd();
+        }
+
+        private void finish() {
+            writer.visitEnd();
+        }
+
+        private byte[] getByteCode() {
+            return writer.toByteArray();
+        }
+
+        private final Class<?> udfClazz;
+        private final Method udfEvaluateBatch;
+    }
+
+    public static byte[] generateScalarVectorizedCallStub(Class<?> clazz, Method method) {
+        final VectorizedCallEvaluateGenerator generator = new VectorizedCallEvaluateGenerator(clazz, method);
+        generator.declareCallStubClazz();
+        generator.genBatchEvaluate();
+        generator.finish();
+        return generator.getByteCode();
+    }
 }
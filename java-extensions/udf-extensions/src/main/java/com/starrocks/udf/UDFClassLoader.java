@@ -31,6 +31,7 @@ public class UDFClassLoader extends URLClassLoader {
     private Map<String, Class<?>> genClazzMap = new HashMap<>();
     private static final int SINGLE_BATCH_UPDATE = 1;
     private static final int BATCH_EVALUATE = 2;
+    private static final int BATCH_EVALUATE_VECTORIZED = 3;
 
     public UDFClassLoader(String udfPath) throws IOException {
         super(new URL[] {new URL("file://" + udfPath)});
@@ -63,6 +64,8 @@ public class UDFClassLoader extends URLClassLoader {
             bytes = CallStubGenerator.generateCallStubV(clazz, method);
         } else if (genType == BATCH_EVALUATE) {
             bytes = CallStubGenerator.generateScalarCallStub(clazz, method);
+        } else if (genType == BATCH_EVALUATE_VECTORIZED) {
+            bytes = CallStubGenerator.generateScalarVectorizedCallStub(clazz, method);
         } else {
             throw new UnsupportedOperationException("Unsupported generate stub type:" + genType);
         }
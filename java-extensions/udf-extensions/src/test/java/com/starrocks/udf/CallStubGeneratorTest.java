@@ -156,4 +156,53 @@ public class CallStubGeneratorTest {
             Assertions.assertEquals(expects[i], res[i]);
         }
     }
+
+    public static class VectorizedAdd {
+        public Long evaluate(Integer v1, Long v2) {
+            return v1 + v2;
+        }
+
+        public long[] evaluateBatch(int[] v1, long[] v2) {
+            long[] res = new long[v1.length];
+            for (int i = 0; i < v1.length; i++) {
+                res[i] = v1[i] + v2[i];
+            }
+            return res;
+        }
+
+        public long[] evaluateMismatch(long[] v1, long[] v2) {
+            return v1;
+        }
+    }
+
+    @Test
+    public void testScalarVectorizedCallStub()
+            throws NoSuchMethodException, ClassNotFoundException, InvocationTargetException, IllegalAccessException {
+        Class<?> clazz = VectorizedAdd.class;
+        final String genClassName = CallStubGenerator.VECTORIZED_CLAZZ_NAME.replace("/", ".");
+        Method m = clazz.getMethod("evaluateBatch", int[].class, long[].class);
+        final byte[] updates =
+                CallStubGenerator.generateScalarVectorizedCallStub(clazz, m);
+
+        ClassLoader classLoader = new TestClassLoader(genClassName, updates);
+        final Class<?> stubClazz = classLoader.loadClass(genClassName);
+        Method batchCall = getFirstMethod(stubClazz, "batchCallV");
+
+        int testSize = 1000;
+        int[] inputs1 = new int[testSize];
+        long[] inputs2 = new long[testSize];
+        for (int i = 0; i < testSize; i++) {
+            inputs1[i] = i;
+            inputs2[i] = Integer.MAX_VALUE;
+        }
+
+        final long[] res = (long[]) batchCall.invoke(null, testSize, new VectorizedAdd(), inputs1, inputs2);
+        for (int i = 0; i < testSize; i++) {
+            Assertions.assertEquals(i + (long) Integer.MAX_VALUE, res[i]);
+        }
+
+        Method mismatch = clazz.getMethod("evaluateMismatch", long[].class, long[].class);
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> CallStubGenerator.generateScalarVectorizedCallStub(clazz, mismatch));
+    }
 }
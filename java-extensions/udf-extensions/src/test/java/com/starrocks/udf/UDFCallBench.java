@@ -0,0 +1,119 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.udf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+// Compare the row-boxed call stub with the vectorized call stub of a scalar UDF.
+// The input columns are read from direct buffers like BE passes them, the result is left in the java array.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UDFCallBench {
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(UDFCallBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    public static class AddUDF {
+        public Long evaluate(Integer v1, Long v2) {
+            return v1 + v2;
+        }
+
+        public long[] evaluateBatch(int[] v1, long[] v2) {
+            long[] res = new long[v1.length];
+            for (int i = 0; i < v1.length; i++) {
+                res[i] = v1[i] + v2[i];
+            }
+            return res;
+        }
+    }
+
+    @Param({"4096"})
+    private int numRows;
+
+    private final AddUDF udf = new AddUDF();
+    private ByteBuffer intColumn;
+    private ByteBuffer longColumn;
+    private Method boxedCall;
+    private Method vectorizedCall;
+
+    private static Method loadStub(String clazzName, byte[] bytes) throws Exception {
+        final String genClassName = clazzName.replace("/", ".");
+        ClassLoader classLoader = new CallStubGeneratorTest.TestClassLoader(genClassName, bytes);
+        for (Method method : classLoader.loadClass(genClassName).getDeclaredMethods()) {
+            if (method.getName().equals("batchCallV")) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException("batchCallV");
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        intColumn = ByteBuffer.allocateDirect(numRows * 4).order(ByteOrder.LITTLE_ENDIAN);
+        longColumn = ByteBuffer.allocateDirect(numRows * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < numRows; i++) {
+            intColumn.putInt(i * 4, i);
+            longColumn.putLong(i * 8, i * 3L);
+        }
+        Method evaluate = AddUDF.class.getMethod("evaluate", Integer.class, Long.class);
+        boxedCall = loadStub(CallStubGenerator.CLAZZ_NAME,
+                CallStubGenerator.generateScalarCallStub(AddUDF.class, evaluate));
+        Method evaluateBatch = AddUDF.class.getMethod("evaluateBatch", int[].class, long[].class);
+        vectorizedCall = loadStub(CallStubGenerator.VECTORIZED_CLAZZ_NAME,
+                CallStubGenerator.generateScalarVectorizedCallStub(AddUDF.class, evaluateBatch));
+    }
+
+    @Benchmark
+    public Object rowBoxed() throws Exception {
+        Object[] v1 = UDFHelper.createBoxedArray(UDFHelper.TYPE_INT, numRows, false, intColumn.duplicate());
+        Object[] v2 = UDFHelper.createBoxedArray(UDFHelper.TYPE_BIGINT, numRows, false, longColumn.duplicate());
+        return boxedCall.invoke(null, numRows, udf, v1, v2);
+    }
+
+    @Benchmark
+    public Object vectorized() throws Exception {
+        int[] v1 = new int[numRows];
+        intColumn.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(v1);
+        long[] v2 = new long[numRows];
+        longColumn.duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(v2);
+        return vectorizedCall.invoke(null, numRows, udf, v1, v2);
+    }
+}